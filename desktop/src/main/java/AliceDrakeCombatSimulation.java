@@ -131,14 +131,14 @@ public class AliceDrakeCombatSimulation {
         
         // Show defense statistics
         System.out.println("\n=== FINAL DEFENSE STATISTICS ===");
-        System.out.println("Alice defensive attempts: " + alice.character.defensiveAttempts);
-        System.out.println("Alice defensive successes: " + alice.character.defensiveSuccesses);
-        System.out.println("Drake defensive attempts: " + drake.character.defensiveAttempts);
-        System.out.println("Drake defensive successes: " + drake.character.defensiveSuccesses);
+        System.out.println("Alice defensive attempts: " + alice.character.career().defensiveAttempts);
+        System.out.println("Alice defensive successes: " + alice.character.career().defensiveSuccesses);
+        System.out.println("Drake defensive attempts: " + drake.character.career().defensiveAttempts);
+        System.out.println("Drake defensive successes: " + drake.character.career().defensiveSuccesses);
         
         // Analysis
         System.out.println("\n=== BUG ANALYSIS ===");
-        if (alice.character.defensiveAttempts == 0) {
+        if (alice.character.career().defensiveAttempts == 0) {
             System.out.println("❌ BUG CONFIRMED: Alice never attempted to defend (Bug #2)");
         } else {
             System.out.println("✅ Defense system worked for Alice");
@@ -158,12 +158,12 @@ public class AliceDrakeCombatSimulation {
         // Alice gets a Steel Dagger (like in combat logs)
         MeleeWeapon aliceDagger = createTestDagger();
         alice.character.meleeWeapon = aliceDagger;
-        alice.character.currentWeaponState = aliceDagger.getInitialState();
+        alice.character.setCurrentWeaponState(aliceDagger.getInitialState());
         
         // Drake gets an Enchanted Sword (like in combat logs) 
         MeleeWeapon drakeEnchantedSword = createTestEnchantedSword();
         drake.character.meleeWeapon = drakeEnchantedSword;
-        drake.character.currentWeaponState = drakeEnchantedSword.getInitialState();
+        drake.character.setCurrentWeaponState(drakeEnchantedSword.getInitialState());
     }
     
     private MeleeWeapon createTestDagger() {
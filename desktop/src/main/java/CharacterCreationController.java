@@ -282,7 +282,7 @@ public class CharacterCreationController {
             // Assign appropriate weapon based on archetype
             String weaponId = getWeaponForArchetype(selectedArchetype);
             character.weapon = data.WeaponFactory.createWeapon(weaponId);
-            character.currentWeaponState = character.weapon.getInitialState();
+            character.setCurrentWeaponState(character.weapon.getInitialState());
             character.setFaction(factionId);
             
             // Save character to faction file
@@ -334,7 +334,7 @@ public class CharacterCreationController {
         
         // Get color based on archetype
         Color javafxColor = getColorForArchetype(archetype);
-        platform.api.Color characterColor = platform.api.Color.fromJavaFX(javafxColor);
+        platform.api.Color characterColor = platform.impl.javafx.JavaFXColors.fromJavaFX(javafxColor);
         
         // Create and add unit
         int unitId = callbacks.getNextUnitId();
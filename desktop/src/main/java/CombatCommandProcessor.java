@@ -8,11 +8,10 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import java.util.List;
-import java.util.PriorityQueue;
 import combat.*;
-import combat.managers.BurstFireManager;
+import core.InputCommand;
 import game.*;
-import game.GameCallbacks;
+import input.interfaces.InputManagerCallbacks;
 
 /**
  * CombatCommandProcessor handles all combat-specific input processing and command coordination.
@@ -29,6 +28,10 @@ import game.GameCallbacks;
  * - Combat state coordination with weapon systems
  * - High-performance combat input processing
  * 
+ * Changes to units are not made here: each one is submitted as an InputCommand
+ * and applied by the simulation at the next tick boundary. Feedback that depends
+ * on the result is reported by CommandFeedback once the command is applied.
+ * 
  * DESIGN PRINCIPLES:
  * - Combat focus: Specialized handling of all combat-related input operations
  * - High performance: Maintain responsive combat input processing for 60 FPS gameplay
@@ -45,9 +48,7 @@ public class CombatCommandProcessor {
     // ====================
     
     private final SelectionManager selectionManager;
-    private final GameClock gameClock;
-    private final PriorityQueue<ScheduledEvent> eventQueue;
-    private final GameCallbacks gameCallbacks;
+    private final InputManagerCallbacks callbacks;
     
     // ====================
     // TARGET ZONE SELECTION STATE
@@ -72,12 +73,9 @@ public class CombatCommandProcessor {
     /**
      * Creates a new CombatCommandProcessor with required dependencies.
      */
-    public CombatCommandProcessor(SelectionManager selectionManager, GameClock gameClock,
-                                PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+    public CombatCommandProcessor(SelectionManager selectionManager, InputManagerCallbacks callbacks) {
         this.selectionManager = selectionManager;
-        this.gameClock = gameClock;
-        this.eventQueue = eventQueue;
-        this.gameCallbacks = gameCallbacks;
+        this.callbacks = callbacks;
     }
     
     // ====================
@@ -112,16 +110,14 @@ public class CombatCommandProcessor {
         if (e.getCode() == KeyCode.F && !e.isControlDown() && !e.isShiftDown() && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated() && unit.character.hasMultipleFiringModes()) {
-                    unit.character.cycleFiringMode();
+                    callbacks.submitCommand(new InputCommand(InputCommand.Type.TOGGLE_WEAPON_MODE, unit.getId()));
                 }
             }
             
             if (selectionManager.getSelectionCount() == 1) {
+                // The new mode is reported by CommandFeedback once applied
                 Unit unit = selectionManager.getSelected();
-                if (unit.character.hasMultipleFiringModes()) {
-                    System.out.println("*** " + unit.character.getDisplayName() + " firing mode: " + 
-                                     unit.character.getCurrentFiringMode());
-                } else {
+                if (!unit.character.hasMultipleFiringModes()) {
                     System.out.println("*** " + unit.character.getDisplayName() + " has no selectable firing modes");
                 }
             } else {
@@ -147,15 +143,11 @@ public class CombatCommandProcessor {
         if (e.getCode() == KeyCode.R && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    unit.character.startReadyWeaponSequence(unit, gameClock.getCurrentTick(), eventQueue, unit.getId());
+                    callbacks.submitCommand(new InputCommand(InputCommand.Type.READY_WEAPON, unit.getId()));
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                System.out.println("READY WEAPON " + unit.character.getDisplayName() + " (Unit ID: " + unit.id + ") - current state: " + 
-                                 (unit.character.currentWeaponState != null ? unit.character.currentWeaponState.getState() : "None"));
-            } else {
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("READY WEAPONS " + selectionManager.getSelectionCount() + " units");
             }
         }
@@ -172,9 +164,8 @@ public class CombatCommandProcessor {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
                     // Toggle automatic targeting state
-                    boolean currentState = unit.character.isUsesAutomaticTargeting();
-                    boolean newState = !currentState;
-                    unit.character.setUsesAutomaticTargeting(newState);
+                    boolean newState = !unit.character.isUsesAutomaticTargeting();
+                    callbacks.submitCommand(new InputCommand(InputCommand.Type.TOGGLE_AUTO_TARGETING, unit.getId()));
                     
                     if (newState) {
                         enabledCount++;
@@ -184,14 +175,8 @@ public class CombatCommandProcessor {
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                if (!unit.character.isIncapacitated()) {
-                    boolean newState = unit.character.isUsesAutomaticTargeting();
-                    System.out.println("*** " + unit.character.getDisplayName() + " automatic targeting " + 
-                                     (newState ? "ENABLED" : "DISABLED") + " ***");
-                }
-            } else {
+            // A single unit's new state is reported by CommandFeedback once applied
+            if (selectionManager.getSelectionCount() > 1) {
                 if (enabledCount > 0 && disabledCount > 0) {
                     System.out.println("*** " + enabledCount + " units automatic targeting ENABLED, " + 
                                      disabledCount + " units automatic targeting DISABLED");
@@ -212,8 +197,7 @@ public class CombatCommandProcessor {
         if (e.getCode() == KeyCode.Z && selectionManager.getSelectionCount() == 1) {
             Unit selected = selectionManager.getSelected();
             if (selected.character.targetZone != null) {
-                selected.character.targetZone = null;
-                System.out.println("*** Target zone cleared for " + selected.character.getDisplayName());
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.CLEAR_TARGET_ZONE, selected.getId()));
             } else {
                 System.out.println("*** " + selected.character.getDisplayName() + " has no target zone to clear");
             }
@@ -249,15 +233,8 @@ public class CombatCommandProcessor {
             
             // Only create zone if there's meaningful size (at least 10 pixels)
             if (Math.abs(maxX - minX) >= 10 && Math.abs(maxY - minY) >= 10) {
-                // Create target zone as AWT Rectangle for compatibility
-                java.awt.Rectangle targetZone = new java.awt.Rectangle(
-                    (int) minX, (int) minY,
-                    (int) (maxX - minX), (int) (maxY - minY)
-                );
-                
-                targetZoneUnit.character.targetZone = targetZone;
-                System.out.println("*** Target zone set for " + targetZoneUnit.character.getDisplayName() + 
-                                 " (" + (int)(maxX - minX) + "x" + (int)(maxY - minY) + " pixels)");
+                callbacks.submitCommand(InputCommand.targetZone(targetZoneUnit.getId(), (int) minX, (int) minY,
+                                                                (int) (maxX - minX), (int) (maxY - minY)));
             } else {
                 System.out.println("*** Target zone too small - not created");
             }
@@ -320,14 +297,8 @@ public class CombatCommandProcessor {
             // Right click on unit - initiate combat
             for (Unit attackingUnit : selectionManager.getSelectedUnits()) {
                 if (!attackingUnit.character.isIncapacitated() && attackingUnit != clickedUnit) {
-                    // Check combat mode first, then distance for melee attacks
-                    if (attackingUnit.character.isMeleeCombatMode) {
-                        // Character is in melee mode - always initiate melee combat (will move if needed)
-                        initiateMeleeCombat(attackingUnit, clickedUnit);
-                    } else {
-                        // Character is in ranged mode - initiate ranged combat
-                        initiateRangedCombat(attackingUnit, clickedUnit);
-                    }
+                    callbacks.submitCommand(new InputCommand(InputCommand.Type.ATTACK_TARGET, attackingUnit.getId(), clickedUnit.getId()));
+                    reportAttack(attackingUnit, clickedUnit);
                 }
             }
             return true; // Combat initiated
@@ -337,37 +308,17 @@ public class CombatCommandProcessor {
     }
     
     /**
-     * Initiates ranged combat between attacking unit and target.
+     * Reports an attack order. The attacker's combat mode decides whether it
+     * closes to melee or fires from where it stands.
      */
-    private void initiateRangedCombat(Unit attackingUnit, Unit targetUnit) {
-        // Set combat target for attacking unit (do NOT set movement target for ranged attacks)
-        attackingUnit.setCombatTarget(targetUnit);
-        
-        // Schedule ranged attack using CombatCoordinator
-        combat.CombatCoordinator.getInstance().startAttackSequence(attackingUnit, targetUnit, gameClock.getCurrentTick(), gameCallbacks);
-        
-        System.out.println("*** " + attackingUnit.character.getDisplayName() + 
-                          " targeting " + targetUnit.character.getDisplayName() + " for ranged attack ***");
-    }
-    
-    /**
-     * Initiates melee combat between attacking unit and target.
-     */
-    private void initiateMeleeCombat(Unit attackingUnit, Unit targetUnit) {
-        // Move to target for melee combat
-        attackingUnit.setTarget(targetUnit.x, targetUnit.y);
-        
-        // Set up melee combat state
-        attackingUnit.character.meleeTarget = targetUnit;
-        attackingUnit.character.isMovingToMelee = true;
-        
-        // Ready melee weapon if possible
-        if (attackingUnit.character.meleeWeapon != null) {
-            attackingUnit.character.startReadyWeaponSequence(attackingUnit, gameClock.getCurrentTick(), eventQueue, attackingUnit.getId());
+    private void reportAttack(Unit attackingUnit, Unit targetUnit) {
+        if (attackingUnit.character.isMeleeCombatMode) {
+            System.out.println("*** " + attackingUnit.character.getDisplayName() + 
+                              " moving to engage " + targetUnit.character.getDisplayName() + " in melee combat ***");
+        } else {
+            System.out.println("*** " + attackingUnit.character.getDisplayName() + 
+                              " targeting " + targetUnit.character.getDisplayName() + " for ranged attack ***");
         }
-        
-        System.out.println("*** " + attackingUnit.character.getDisplayName() + 
-                          " moving to engage " + targetUnit.character.getDisplayName() + " in melee combat ***");
     }
     
     // ====================
@@ -389,17 +340,8 @@ public class CombatCommandProcessor {
     public void coordinateMultiUnitCombat(List<Unit> attackingUnits, Unit targetUnit) {
         for (Unit unit : attackingUnits) {
             if (!unit.character.isIncapacitated() && unit != targetUnit) {
-                double distance = Math.sqrt(Math.pow(unit.x - targetUnit.x, 2) + 
-                                          Math.pow(unit.y - targetUnit.y, 2));
-                
-                // Convert distance to feet for melee range check
-                double distanceFeet = distance / 7.0;
-                if (unit.character.meleeWeapon != null && 
-                    distanceFeet <= unit.character.meleeWeapon.getTotalReach()) {
-                    initiateMeleeCombat(unit, targetUnit);
-                } else {
-                    initiateRangedCombat(unit, targetUnit);
-                }
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.ATTACK_TARGET, unit.getId(), targetUnit.getId()));
+                reportAttack(unit, targetUnit);
             }
         }
     }
@@ -419,63 +361,11 @@ public class CombatCommandProcessor {
     /**
      * Handles self-targeted combat operations (cease fire or weapon ready).
      */
-    public void handleSelfTargetCombat(Unit unit, long currentTick, PriorityQueue<ScheduledEvent> eventQueue) {
-        // Check if character is currently attacking - if so, cease fire
-        if (unit.character.isAttacking || unit.character.isPersistentAttack()) {
-            performCeaseFire(unit, eventQueue);
-        } else {
-            // Not attacking - ready weapon
-            unit.character.startReadyWeaponSequence(unit, currentTick, eventQueue, unit.getId());
-            System.out.println("READY WEAPON " + unit.character.getDisplayName() + " (Unit ID: " + unit.id + ") - current state: " + unit.character.currentWeaponState.getState());
-        }
-    }
-    
-    /**
-     * Perform cease fire command for the specified unit.
-     */
-    private void performCeaseFire(Unit unit, PriorityQueue<ScheduledEvent> eventQueue) {
-        combat.Character character = unit.character;
-        
-        // Cancel all scheduled events for this unit (attacks, bursts, auto fire)
-        java.util.Iterator<ScheduledEvent> iterator = eventQueue.iterator();
-        java.util.List<ScheduledEvent> toRemove = new java.util.ArrayList<>();
-        
-        while (iterator.hasNext()) {
-            ScheduledEvent event = iterator.next();
-            if (event.getOwnerId() == unit.getId()) {
-                toRemove.add(event);
-            }
-        }
-        
-        eventQueue.removeAll(toRemove);
-        
-        // Reset attack state but maintain target and weapon state
-        character.isAttacking = false;
-        character.persistentAttack = false;
-        
-        // Reset automatic firing state
-        BurstFireManager.getInstance().setAutomaticFiring(character.id, false);
-        BurstFireManager.getInstance().setBurstShotsFired(character.id, 0);
-        character.savedAimingSpeed = null;
-        
-        // Maintain weapon in ready state if possible
-        if (character.weapon != null && character.currentWeaponState != null) {
-            String currentState = character.currentWeaponState.getState();
-            if ("aiming".equals(currentState) || "firing".equals(currentState) || "recovering".equals(currentState)) {
-                character.currentWeaponState = character.weapon.getStateByName("aiming");
-                System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire, maintains aiming at " + 
-                                 (character.currentTarget != null ? character.currentTarget.getCharacter().getDisplayName() : "last target"));
-            } else {
-                System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire");
-            }
-        } else {
-            System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire");
-        }
-        
-        // Log number of cancelled events
-        if (!toRemove.isEmpty()) {
-            System.out.println("*** Cancelled " + toRemove.size() + " scheduled combat events");
-        }
+    public void handleSelfTargetCombat(Unit unit) {
+        // Check if character is currently attacking - if so, cease fire; otherwise ready weapon
+        InputCommand.Type type = unit.character.isAttacking || unit.character.isPersistentAttack()
+            ? InputCommand.Type.STOP_ATTACK : InputCommand.Type.READY_WEAPON;
+        callbacks.submitCommand(new InputCommand(type, unit.getId()));
     }
     
     /**
@@ -506,7 +396,7 @@ public class CombatCommandProcessor {
             int unitsChanged = 0;
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated() && !unit.character.isMeleeCombatMode) {
-                    unit.character.multipleShootCount = targetShotCount;
+                    callbacks.submitCommand(new InputCommand(InputCommand.Type.SET_MULTIPLE_SHOT_COUNT, unit.getId(), Integer.valueOf(targetShotCount)));
                     unitsChanged++;
                 }
             }
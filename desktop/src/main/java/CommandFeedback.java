@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Edward T. Tonai
+ * Licensed under the MIT License - see LICENSE file for details
+ */
+
+import core.InputCommand;
+import core.UnitCommandExecutor;
+import game.Unit;
+
+/**
+ * Reports the result of unit commands once the simulation has applied them.
+ * 
+ * Input handlers submit commands to the simulation instead of changing units
+ * themselves, so messages that show a unit's new state (movement type, aiming
+ * speed, firing mode and so on) are printed here, after the change. Summaries
+ * for multi-unit selections are still printed by the handlers when the command
+ * is issued.
+ */
+public class CommandFeedback implements UnitCommandExecutor.Listener {
+    
+    private final SelectionManager selectionManager;
+    private final DisplayCoordinator displayCoordinator;
+    
+    public CommandFeedback(SelectionManager selectionManager, DisplayCoordinator displayCoordinator) {
+        this.selectionManager = selectionManager;
+        this.displayCoordinator = displayCoordinator;
+    }
+    
+    @Override
+    public void commandApplied(InputCommand command, Unit unit) {
+        combat.Character character = unit.character;
+        boolean onlySelected = selectionManager.getSelectionCount() == 1 && selectionManager.isUnitSelected(unit);
+        
+        switch (command.getType()) {
+            case SET_MOVEMENT_SPEED:
+                if (unit.isStopped) {
+                    displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", character.getDisplayName() + " stopped movement");
+                } else {
+                    displayCoordinator.displayMovementTypeChange(unit, character.getCurrentMovementType());
+                }
+                break;
+                
+            case STOP_UNIT:
+            case RESUME_UNIT:
+                displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", character.getDisplayName() + 
+                    (unit.isStopped ? " movement stopped" : " movement resumed"));
+                break;
+                
+            case SET_AIMING_SPEED:
+                if (onlySelected) {
+                    displayCoordinator.displayAimingSpeedChange(unit, character.getCurrentAimingSpeed());
+                }
+                break;
+                
+            case TOGGLE_WEAPON_MODE:
+                if (onlySelected) {
+                    System.out.println("*** " + character.getDisplayName() + " firing mode: " + character.getCurrentFiringMode());
+                }
+                break;
+                
+            case TOGGLE_AUTO_TARGETING:
+                if (onlySelected) {
+                    System.out.println("*** " + character.getDisplayName() + " automatic targeting " + 
+                                     (character.isUsesAutomaticTargeting() ? "ENABLED" : "DISABLED") + " ***");
+                }
+                break;
+                
+            case READY_WEAPON:
+                if (onlySelected) {
+                    System.out.println("READY WEAPON " + character.getDisplayName() + " (Unit ID: " + unit.id + ") - current state: " + 
+                                     (character.currentWeaponState != null ? character.currentWeaponState.getState() : "None"));
+                }
+                break;
+                
+            case SET_TARGET_ZONE:
+                System.out.println("*** Target zone set for " + character.getDisplayName() + 
+                                 " (" + character.targetZone.width + "x" + character.targetZone.height + " pixels)");
+                break;
+                
+            case CLEAR_TARGET_ZONE:
+                System.out.println("*** Target zone cleared for " + character.getDisplayName());
+                break;
+                
+            case SET_POSITION:
+                if (onlySelected) {
+                    System.out.println("*** " + character.getDisplayName() + " position changed to " + character.getCurrentPosition().getDisplayName());
+                }
+                break;
+                
+            case TOGGLE_COMBAT_MODE:
+                if (onlySelected) {
+                    System.out.println("*** " + character.getDisplayName() + " switched to " + 
+                                     (character.isMeleeCombatMode() ? "Melee Combat" : "Ranged Combat") + " mode");
+                }
+                break;
+                
+            case CYCLE_WEAPON_HOLD_STATE:
+                System.out.println("*** " + character.getDisplayName() + " weapon hold state: " + character.getCurrentWeaponHoldState());
+                break;
+                
+            case TELEPORT_UNIT:
+                displayCoordinator.debugInputEvent("MOVEMENT_COMMAND", 
+                    character.getDisplayName() + " teleported to (" + 
+                    String.format("%.1f", unit.x) + ", " + String.format("%.1f", unit.y) + ")");
+                break;
+                
+            default:
+                break;
+        }
+    }
+}
\ No newline at end of file
@@ -140,15 +140,15 @@ public final class DisplayHelpers {
         if (character == null) return "No combat data";
         
         // Calculate accuracy percentages
-        double rangedAccuracy = character.rangedAttacksAttempted > 0 ? 
-            (double) character.rangedAttacksSuccessful / character.rangedAttacksAttempted * 100.0 : 0.0;
-        double meleeAccuracy = character.meleeAttacksAttempted > 0 ? 
-            (double) character.meleeAttacksSuccessful / character.meleeAttacksAttempted * 100.0 : 0.0;
+        double rangedAccuracy = character.career().rangedAttacksAttempted > 0 ? 
+            (double) character.career().rangedAttacksSuccessful / character.career().rangedAttacksAttempted * 100.0 : 0.0;
+        double meleeAccuracy = character.career().meleeAttacksAttempted > 0 ? 
+            (double) character.career().meleeAttacksSuccessful / character.career().meleeAttacksAttempted * 100.0 : 0.0;
         
         return String.format("Combat: Ranged %d/%d (%.1f%%) Melee %d/%d (%.1f%%) Wounds: %d",
-                           character.rangedAttacksSuccessful, character.rangedAttacksAttempted, rangedAccuracy,
-                           character.meleeAttacksSuccessful, character.meleeAttacksAttempted, meleeAccuracy,
-                           character.woundsReceived);
+                           character.career().rangedAttacksSuccessful, character.career().rangedAttacksAttempted, rangedAccuracy,
+                           character.career().meleeAttacksSuccessful, character.career().meleeAttacksAttempted, meleeAccuracy,
+                           character.career().woundsReceived);
     }
     
     // ═══════════════════════════════════════════════════════════════════════════════════
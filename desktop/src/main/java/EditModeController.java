@@ -124,7 +124,7 @@ public class EditModeController {
                 // Assign appropriate weapon based on archetype
                 String weaponId = getWeaponForArchetype(selectedArchetype);
                 character.weapon = WeaponFactory.createWeapon(weaponId);
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
                 character.setFaction(1); // Default faction
                 
                 // Spawn character at camera center
@@ -180,7 +180,7 @@ public class EditModeController {
         
         // Get color based on archetype
         Color javafxColor = getColorForArchetype(archetype);
-        platform.api.Color characterColor = platform.api.Color.fromJavaFX(javafxColor);
+        platform.api.Color characterColor = platform.impl.javafx.JavaFXColors.fromJavaFX(javafxColor);
         
         // Create and add unit
         int unitId = callbacks.getNextUnitId();
@@ -364,7 +364,7 @@ public class EditModeController {
                 
                 // Assign weapon to character
                 unit.character.weapon = newWeapon;
-                unit.character.currentWeaponState = newWeapon.getInitialState();
+                unit.character.setCurrentWeaponState(newWeapon.getInitialState());
                 
                 // Debug output
                 System.out.println("  " + unit.character.getDisplayName() + ": " + oldWeaponName + " → " + newWeapon.name);
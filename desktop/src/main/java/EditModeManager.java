@@ -506,7 +506,7 @@ public class EditModeManager {
                 if (!directAdditionRangedWeapon.isEmpty()) {
                     character.rangedWeapon = (RangedWeapon) WeaponFactory.createWeapon(directAdditionRangedWeapon);
                     character.weapon = character.rangedWeapon; // Set as primary weapon
-                    character.currentWeaponState = character.weapon.getInitialState();
+                    character.setCurrentWeaponState(character.weapon.getInitialState());
                 }
                 
                 // Assign the selected melee weapon to the character
@@ -516,7 +516,7 @@ public class EditModeManager {
                 
                 // Get color based on faction
                 javafx.scene.paint.Color javafxColor = getFactionColor(directAdditionFaction);
-                platform.api.Color characterColor = platform.api.Color.fromJavaFX(javafxColor);
+                platform.api.Color characterColor = platform.impl.javafx.JavaFXColors.fromJavaFX(javafxColor);
                 
                 // Create and add unit
                 int unitId = callbacks.getNextUnitId();
@@ -572,7 +572,7 @@ public class EditModeManager {
         FactionRegistry factionRegistry = FactionRegistry.getInstance();
         Faction faction = factionRegistry.getFaction(factionId);
         if (faction != null) {
-            return faction.getColor();
+            return platform.impl.javafx.JavaFXColors.toJavaFX(faction.getColor());
         }
         // Default colors by faction ID
         switch (factionId) {
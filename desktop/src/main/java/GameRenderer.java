@@ -9,9 +9,12 @@ import javafx.scene.paint.Color;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import combat.CombatCalculator;
 import game.Unit;
 import game.rendering.IUnitRenderer;
 import game.rendering.JavaFXUnitRenderer;
+import game.rendering.UnitSpriteAtlas;
+import config.GameConfig;
 import combat.WeaponType;
 import combat.Handedness;
 import combat.Weapon;
@@ -41,6 +44,9 @@ public class GameRenderer implements BaseGameRenderer {
     private Map<Integer, Long> muzzleFlashes = new HashMap<>(); // Unit ID -> End tick
     private long currentTick = 0;
     
+    // Unit glyphs and labels, rasterized once and reused across frames
+    private final UnitSpriteAtlas spriteAtlas = new UnitSpriteAtlas();
+    
     /**
      * Creates a new GameRenderer with the specified canvas.
      */
@@ -68,8 +74,15 @@ public class GameRenderer implements BaseGameRenderer {
         gc.translate(offsetX, offsetY);
         gc.scale(zoom, zoom);
         
-        // Create unit renderer for this frame
-        IUnitRenderer unitRenderer = new JavaFXUnitRenderer(gc);
+        // Create unit renderer for this frame; labels are unreadable when zoomed far out
+        spriteAtlas.setZoom(zoom);
+        boolean labelsVisible = zoom >= GameConfig.getInstance().getDisplay().getLabelZoomThreshold();
+        IUnitRenderer unitRenderer = new JavaFXUnitRenderer(gc, spriteAtlas, labelsVisible);
+        
+        // Every unit on the field is drawn, so more label slots than units means some have left it
+        if (spriteAtlas.getUnitLabelCount() > units.size()) {
+            spriteAtlas.retainUnits(units);
+        }
         
         // First pass: Draw all unit circles and basic elements
         for (Unit u : units) {
@@ -100,8 +113,8 @@ public class GameRenderer implements BaseGameRenderer {
                              selected.character.targetZone.width, selected.character.targetZone.height);
             }
             
-            if (selected.character.currentTarget != null) {
-                Unit target = (Unit)selected.character.currentTarget;
+            if (selected.character.getCurrentTarget() != null) {
+                Unit target = (Unit)selected.character.getCurrentTarget();
                 
                 if (selected.character.isPersistentAttack()) {
                     // Persistent attack: yellow X inside target
@@ -143,6 +156,7 @@ public class GameRenderer implements BaseGameRenderer {
     // Debug mode
     public static void setDebugMode(boolean enabled) {
         debugMode = enabled;
+        CombatCalculator.setDebugMode(enabled);
     }
     
     public static boolean isDebugMode() {
@@ -188,7 +202,7 @@ public class GameRenderer implements BaseGameRenderer {
      */
     private void renderWeapon(GraphicsContext gc, Unit unit) {
         // Always render melee weapons when in melee combat mode, otherwise only render with target/facing
-        if (!unit.character.isMeleeCombatMode && unit.character.currentTarget == null && unit.character.lastTargetFacing == null) {
+        if (!unit.character.isMeleeCombatMode && unit.character.getCurrentTarget() == null && unit.character.lastTargetFacing == null) {
             return;
         }
         
@@ -348,8 +362,8 @@ public class GameRenderer implements BaseGameRenderer {
                 double meleeAttackStartY = tangentY + dirY * 14;
                 
                 // Calculate direction toward target center
-                if (unit.character.currentTarget != null) {
-                    Unit target = (Unit)unit.character.currentTarget;
+                if (unit.character.getCurrentTarget() != null) {
+                    Unit target = (Unit)unit.character.getCurrentTarget();
                     double targetDirX = target.x - meleeAttackStartX;
                     double targetDirY = target.y - meleeAttackStartY;
                     double targetDistance = Math.sqrt(targetDirX * targetDirX + targetDirY * targetDirY);
@@ -12,6 +12,8 @@ import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
 import combat.*;
+import combat.managers.TargetingScheduler;
+import combat.telemetry.CombatTelemetry;
 import game.*;
 import data.SaveGameManager;
 import input.interfaces.InputManagerCallbacks;
@@ -504,6 +506,8 @@ public class GameStateManager {
             
             // Clear existing units
             units.clear();
+            CombatTelemetry.getInstance().reset();
+            TargetingScheduler.getInstance().reset();
             System.out.println("Cleared existing units from field.");
             
             // Apply theme
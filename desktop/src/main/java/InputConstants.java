@@ -204,6 +204,9 @@ public final class InputConstants {
     /** Key code for clear debug data */
     public static final KeyCode DEBUG_CLEAR_KEY = KeyCode.F7;
     
+    /** Key code for scheduled event profile (with Shift: toggle profiling) */
+    public static final KeyCode DEBUG_EVENT_PROFILE_KEY = KeyCode.F8;
+    
     // Character Stats Display
     /** Key code for character stats display (with Shift) */
     public static final KeyCode CHARACTER_STATS_KEY = KeyCode.SLASH;
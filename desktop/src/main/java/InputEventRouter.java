@@ -162,7 +162,7 @@ public class InputEventRouter {
                (event.getCode() == KeyCode.F1 || event.getCode() == KeyCode.F2 ||
                 event.getCode() == KeyCode.F3 || event.getCode() == KeyCode.F4 ||
                 event.getCode() == KeyCode.F5 || event.getCode() == KeyCode.F6 ||
-                event.getCode() == KeyCode.F7);
+                event.getCode() == KeyCode.F7 || event.getCode() == InputConstants.DEBUG_EVENT_PROFILE_KEY);
     }
     
     // Edit mode control detection
@@ -20,6 +20,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import combat.*;
+import combat.managers.TargetingScheduler;
+import combat.telemetry.CombatTelemetry;
+import core.InputCommand;
 import game.*;
 import data.SkillsManager;
 import data.SaveGameManager;
@@ -214,6 +217,9 @@ public class InputManager {
     /** Handles unit movement controls including speed adjustment and movement commands */
     private final MovementController movementController;
     
+    /** Reports the result of unit commands once the simulation has applied them */
+    private final CommandFeedback commandFeedback;
+    
     /** Handles component lifecycle and system integration coordination */
     private final InputSystemIntegrator systemIntegrator;
     
@@ -353,7 +359,7 @@ public class InputManager {
         this.gameStateManager = new GameStateManager(stateTracker, units, callbacks);
         
         // DevCycle 15e: Initialize combat command components
-        this.combatCommandProcessor = new CombatCommandProcessor(selectionManager, gameClock, eventQueue, (game.GameCallbacks) callbacks);
+        this.combatCommandProcessor = new CombatCommandProcessor(selectionManager, callbacks);
         
         // DevCycle 15e: Initialize display coordination components
         this.displayCoordinator = new DisplayCoordinator(selectionManager, gameClock, callbacks);
@@ -370,11 +376,12 @@ public class InputManager {
         // DevCycle 15h Phase 4: Initialize navigation and movement controllers
         this.cameraController = new CameraController(gameRenderer, displayCoordinator, canvas);
         this.movementController = new MovementController(units, selectionManager, displayCoordinator, callbacks);
+        this.commandFeedback = new CommandFeedback(selectionManager, displayCoordinator);
         
         // DevCycle 15h: Initialize input handlers
         this.mouseInputHandler = new MouseInputHandler(units, selectionManager, gameRenderer, 
                                      displayCoordinator, eventRouter, editModeManager, combatCommandProcessor, 
-                                     gameClock, eventQueue, callbacks, movementController);
+                                     callbacks, movementController);
         
         this.keyboardInputHandler = new KeyboardInputHandler(units, selectionManager, gameRenderer,
                                         displayCoordinator, editModeManager, combatCommandProcessor, gameClock,
@@ -427,6 +434,15 @@ public class InputManager {
         return stateTracker;
     }
     
+    /**
+     * Get the listener that reports applied unit commands to the player.
+     * 
+     * @return CommandFeedback instance to register with the command executor
+     */
+    public CommandFeedback getCommandFeedback() {
+        return commandFeedback;
+    }
+    
     /**
      * Get comprehensive component status for debugging and monitoring.
      */
@@ -535,182 +551,8 @@ public class InputManager {
      */
     // DevCycle 15e: handleCharacterStatsDisplay method removed - delegated to DisplayCoordinator
     
-    /**
-     * Handle movement type controls (W/S keys)
-     * 
-     * @param e KeyEvent
-     */
-    private void handleMovementControls(KeyEvent e) {
-        // Movement type controls - W to increase, S to decrease
-        if (e.getCode() == KeyCode.W && selectionManager.hasSelection()) {
-            InputPatternUtilities.processSelectedCharacters(
-                selectionManager,
-                unit -> {
-                    combat.MovementType previousType = unit.character.getCurrentMovementType();
-                    unit.character.increaseMovementType();
-                    combat.MovementType newType = unit.character.getCurrentMovementType();
-                    
-                    // Resume movement if stopped and speed was increased
-                    if (unit.isStopped) {
-                        unit.resumeMovement();
-                    }
-                },
-                "", // Will handle display separately for special DisplayCoordinator integration
-                ""
-            );
-            
-            // Custom display handling to integrate with DisplayCoordinator
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.MovementType newType = unit.character.getCurrentMovementType();
-                // DevCycle 15e: Delegate movement status display to DisplayCoordinator
-                displayCoordinator.displayMovementTypeChange(unit, newType);
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units movement speed increased");
-            }
-        }
-        if (e.getCode() == KeyCode.S && selectionManager.hasSelection()) {
-            InputPatternUtilities.processSelectedCharacters(
-                selectionManager,
-                unit -> {
-                    combat.MovementType previousType = unit.character.getCurrentMovementType();
-                    
-                    // If already at crawling speed and currently moving, stop movement
-                    if (previousType == combat.MovementType.CRAWL && unit.isMoving()) {
-                        unit.stopMovement();
-                    } else {
-                        // Otherwise, decrease movement type normally
-                        unit.character.decreaseMovementType();
-                    }
-                },
-                "", // Will handle display separately for special DisplayCoordinator integration
-                ""
-            );
-            
-            // Custom display handling to integrate with DisplayCoordinator
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.MovementType newType = unit.character.getCurrentMovementType();
-                // DevCycle 15e: Delegate movement status display to DisplayCoordinator
-                displayCoordinator.displayMovementTypeChange(unit, newType);
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units movement speed decreased");
-            }
-        }
-    }
-    
-    /**
-     * Handle aiming speed controls (Q/E keys)
-     * 
-     * @param e KeyEvent
-     */
-    private void handleAimingControls(KeyEvent e) {
-        // Aiming speed controls - Q to increase, E to decrease
-        if (e.getCode() == KeyCode.Q && selectionManager.hasSelection()) {
-            InputPatternUtilities.processSelectedCharacters(
-                selectionManager,
-                unit -> unit.character.increaseAimingSpeed(),
-                "", // Will handle display separately for special DisplayCoordinator integration
-                ""
-            );
-            
-            // Custom display handling to integrate with DisplayCoordinator
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
-                // DevCycle 15e: Delegate aiming speed status display to DisplayCoordinator
-                displayCoordinator.displayAimingSpeedChange(unit, newSpeed);
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units aiming speed increased");
-            }
-        }
-        if (e.getCode() == KeyCode.E && !e.isControlDown() && selectionManager.hasSelection()) {
-            for (Unit unit : selectionManager.getSelectedUnits()) {
-                if (!unit.character.isIncapacitated()) {
-                    combat.AimingSpeed oldSpeed = unit.character.getCurrentAimingSpeed();
-                    unit.character.decreaseAimingSpeed();
-                    combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
-                    
-                    // Check if very careful aiming was attempted but not allowed
-                    if (oldSpeed == combat.AimingSpeed.CAREFUL && newSpeed == combat.AimingSpeed.CAREFUL && 
-                        !unit.character.canUseVeryCarefulAiming()) {
-                        if (selectionManager.getSelectionCount() == 1) {
-                            if (unit.character.weapon == null) {
-                                System.out.println("*** " + unit.character.getDisplayName() + " cannot use very careful aiming (no weapon)");
-                            } else if (unit.character.weapon.getWeaponType() == combat.WeaponType.OTHER) {
-                                System.out.println("*** " + unit.character.getDisplayName() + " cannot use very careful aiming (weapon type not supported)");
-                            } else {
-                                String skillName = unit.character.weapon.getWeaponType() == combat.WeaponType.PISTOL ? "Pistol" : "Rifle";
-                                int skillLevel = unit.character.getSkillLevel(skillName.toLowerCase());
-                                System.out.println("*** " + unit.character.getDisplayName() + " cannot use very careful aiming (" + skillName + " skill level " + skillLevel + ", requires level 1+)");
-                            }
-                        }
-                    }
-                }
-            }
-            
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
-                // DevCycle 15e: Delegate aiming speed status display to DisplayCoordinator
-                displayCoordinator.displayAimingSpeedChange(unit, newSpeed);
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units aiming speed decreased");
-            }
-        }
-        
-        // Position controls: C (crouch down), V (stand up)
-        if (e.getCode() == KeyCode.C && !e.isControlDown() && selectionManager.hasSelection()) {
-            for (Unit unit : selectionManager.getSelectedUnits()) {
-                if (!unit.character.isIncapacitated()) {
-                    unit.character.decreasePosition();
-                }
-            }
-            
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.PositionState newPosition = unit.character.getCurrentPosition();
-                System.out.println("*** " + unit.character.getDisplayName() + " position changed to " + newPosition.getDisplayName());
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units crouched down");
-            }
-        }
-        
-        if (e.getCode() == KeyCode.V && selectionManager.hasSelection()) {
-            for (Unit unit : selectionManager.getSelectedUnits()) {
-                if (!unit.character.isIncapacitated()) {
-                    unit.character.increasePosition();
-                }
-            }
-            
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.PositionState newPosition = unit.character.getCurrentPosition();
-                System.out.println("*** " + unit.character.getDisplayName() + " position changed to " + newPosition.getDisplayName());
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units stood up");
-            }
-        }
-        
-        // Combat mode toggle: M (melee/ranged toggle)
-        if (e.getCode() == KeyCode.M && selectionManager.hasSelection()) {
-            InputPatternUtilities.processSelectedCharacters(
-                selectionManager,
-                unit -> unit.character.toggleCombatMode(),
-                "", // Will handle display separately to determine mode after toggle
-                ""
-            );
-            
-            // Custom display handling to show correct combat mode after toggle
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                String modeText = unit.character.isMeleeCombatMode() ? "Melee Combat" : "Ranged Combat";
-                System.out.println("*** " + unit.character.getDisplayName() + " switched to " + modeText + " mode");
-            } else {
-                System.out.println("*** " + selectionManager.getSelectionCount() + " units toggled combat mode");
-            }
-        }
-    }
+    // Movement, aiming, position and combat mode keys are handled by KeyboardInputHandler,
+    // which submits them as unit commands
     
     // DevCycle 15e: handleAutomaticTargetingToggle moved to CombatCommandProcessor
     
@@ -896,11 +738,8 @@ public class InputManager {
         int deletedCount = 0;
         for (Unit unit : unitsToDelete) {
             try {
-                // Cancel any scheduled events for this unit
-                cancelScheduledEventsForUnit(unit);
-                
-                // Remove unit from game world
-                units.remove(unit);
+                // The simulation cancels the unit's events, clears it as a target and removes it
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.REMOVE_UNIT, unit.getId()));
                 
                 System.out.println("Deleted: " + unit.character.getDisplayName() + " (Unit ID: " + unit.id + ")");
                 deletedCount++;
@@ -930,35 +769,6 @@ public class InputManager {
         unitsToDelete.clear();
     }
     
-    /**
-     * Cancel any scheduled events for a unit being deleted
-     * 
-     * @param unit The unit being deleted
-     */
-    private void cancelScheduledEventsForUnit(Unit unit) {
-        // Remove any scheduled events that reference this unit
-        eventQueue.removeIf(event -> {
-            // Check if event involves this unit (this is a simplified check)
-            // In a more complete implementation, we'd need to check event details
-            return event.toString().contains("Unit:" + unit.id) || 
-                   event.toString().contains(unit.character.getDisplayName());
-        });
-        
-        // Clear any combat state for this unit
-        if (unit.character.isAttacking) {
-            unit.character.isAttacking = false;
-            unit.character.currentTarget = null;
-        }
-        
-        // Clear this unit as a target for other units
-        for (Unit otherUnit : units) {
-            if (otherUnit.character.currentTarget == unit) {
-                otherUnit.character.currentTarget = null;
-                otherUnit.character.isAttacking = false;
-            }
-        }
-    }
-    
     /**
      * Start the manual victory workflow
      */
@@ -1049,6 +859,8 @@ public class InputManager {
             // Clear all units from the battlefield
             int clearedUnits = units.size();
             units.clear();
+            CombatTelemetry.getInstance().reset();
+            TargetingScheduler.getInstance().reset();
             
             // Clear any selections
             selectionManager.clearSelection();
@@ -1310,7 +1122,7 @@ public class InputManager {
             if (character != null) {
                 // Assign selected ranged weapon
                 character.weapon = data.WeaponFactory.createWeapon(characterCreationController.getSelectedRangedWeapon());
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
                 
                 // Assign selected melee weapon
                 if (!"unarmed".equals(characterCreationController.getSelectedMeleeWeapon())) {
@@ -1374,7 +1186,7 @@ public class InputManager {
         
         // Create and add unit
         int unitId = callbacks.getNextUnitId();
-        Unit newUnit = new Unit(character, finalX, finalY, platform.api.Color.fromJavaFX(characterColor), unitId);
+        Unit newUnit = new Unit(character, finalX, finalY, platform.impl.javafx.JavaFXColors.fromJavaFX(characterColor), unitId);
         callbacks.setNextUnitId(unitId + 1);
         units.add(newUnit);
         
@@ -1482,7 +1294,7 @@ public class InputManager {
             // Set up weapons for the character if not already set
             if (character.weapon == null) {
                 character.weapon = data.WeaponFactory.createWeapon("wpn_colt_peacemaker");
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
             }
             if (character.meleeWeapon == null) {
                 character.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_sword");
@@ -1492,7 +1304,7 @@ public class InputManager {
             javafx.scene.paint.Color factionColor = getFactionColor(workflowCoordinator.getDirectAdditionFaction());
             
             // Create and place the unit with all required parameters
-            Unit newUnit = new Unit(character, charX, charY, platform.api.Color.fromJavaFX(factionColor), nextUnitId++);
+            Unit newUnit = new Unit(character, charX, charY, platform.impl.javafx.JavaFXColors.fromJavaFX(factionColor), nextUnitId++);
             
             // Add to units list
             units.add(newUnit);
@@ -219,7 +219,7 @@ public class InputUtils {
         if (data.weaponId != null && !data.weaponId.isEmpty()) {
             character.weapon = WeaponFactory.createWeapon(data.weaponId);
             if (character.weapon != null) {
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
             }
         }
         
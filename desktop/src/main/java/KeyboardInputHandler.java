@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import game.Unit;
 import game.GameClock;
 import game.GameCallbacks;
+import game.EventProfiler;
 import input.interfaces.InputManagerCallbacks;
 // InputStateTracker is in default package
 
@@ -301,6 +302,18 @@ public class KeyboardInputHandler {
                 displayCoordinator.displayDebugDataCleared();
             }
         }
+        
+        if (e.getCode() == InputConstants.DEBUG_EVENT_PROFILE_KEY && e.isControlDown()) {
+            if (e.isShiftDown()) {
+                // Ctrl+Shift+F8: Toggle scheduled event profiling, starting from fresh counters
+                EventProfiler.setEnabled(!EventProfiler.isEnabled());
+                EventProfiler.getInstance().reset();
+                System.out.println("*** Event profiling " + (EventProfiler.isEnabled() ? "ENABLED" : "DISABLED") + " ***");
+            } else {
+                // Ctrl+F8: Scheduled event profile by category
+                System.out.print(EventProfiler.getInstance().formatReport());
+            }
+        }
     }
     
     // ─────────────────────────────────────────────────────────────────────────────────
@@ -382,28 +395,22 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.Q && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    unit.character.increaseAimingSpeed();
+                    callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.SET_AIMING_SPEED, unit.getId(), Integer.valueOf(1)));
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
-                // Delegate aiming speed status display to DisplayCoordinator
-                displayCoordinator.displayAimingSpeedChange(unit, newSpeed);
-            } else {
+            // A single unit's new speed is reported by CommandFeedback once applied
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("*** " + selectionManager.getSelectionCount() + " units aiming speed increased");
             }
         }
         if (e.getCode() == KeyCode.E && !e.isControlDown() && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    combat.AimingSpeed oldSpeed = unit.character.getCurrentAimingSpeed();
-                    unit.character.decreaseAimingSpeed();
-                    combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
+                    callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.SET_AIMING_SPEED, unit.getId(), Integer.valueOf(-1)));
                     
                     // Check if very careful aiming was attempted but not allowed
-                    if (oldSpeed == combat.AimingSpeed.CAREFUL && newSpeed == combat.AimingSpeed.CAREFUL && 
+                    if (unit.character.getCurrentAimingSpeed() == combat.AimingSpeed.CAREFUL && 
                         !unit.character.canUseVeryCarefulAiming()) {
                         if (selectionManager.getSelectionCount() == 1) {
                             if (unit.character.weapon == null) {
@@ -420,12 +427,7 @@ public class KeyboardInputHandler {
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.AimingSpeed newSpeed = unit.character.getCurrentAimingSpeed();
-                // Delegate aiming speed status display to DisplayCoordinator
-                displayCoordinator.displayAimingSpeedChange(unit, newSpeed);
-            } else {
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("*** " + selectionManager.getSelectionCount() + " units aiming speed decreased");
             }
         }
@@ -434,15 +436,12 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.C && !e.isControlDown() && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    unit.character.decreasePosition();
+                    callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.SET_POSITION, unit.getId(), Integer.valueOf(-1)));
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.PositionState newPosition = unit.character.getCurrentPosition();
-                System.out.println("*** " + unit.character.getDisplayName() + " position changed to " + newPosition.getDisplayName());
-            } else {
+            // A single unit's new position is reported by CommandFeedback once applied
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("*** " + selectionManager.getSelectionCount() + " units crouched down");
             }
         }
@@ -450,15 +449,11 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.V && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    unit.character.increasePosition();
+                    callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.SET_POSITION, unit.getId(), Integer.valueOf(1)));
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                combat.PositionState newPosition = unit.character.getCurrentPosition();
-                System.out.println("*** " + unit.character.getDisplayName() + " position changed to " + newPosition.getDisplayName());
-            } else {
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("*** " + selectionManager.getSelectionCount() + " units stood up");
             }
         }
@@ -467,15 +462,11 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.M && selectionManager.hasSelection()) {
             for (Unit unit : selectionManager.getSelectedUnits()) {
                 if (!unit.character.isIncapacitated()) {
-                    unit.character.toggleCombatMode();
+                    callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.TOGGLE_COMBAT_MODE, unit.getId()));
                 }
             }
             
-            if (selectionManager.getSelectionCount() == 1) {
-                Unit unit = selectionManager.getSelected();
-                String modeText = unit.character.isMeleeCombatMode() ? "Melee Combat" : "Ranged Combat";
-                System.out.println("*** " + unit.character.getDisplayName() + " switched to " + modeText + " mode");
-            } else {
+            if (selectionManager.getSelectionCount() > 1) {
                 System.out.println("*** " + selectionManager.getSelectionCount() + " units toggled combat mode");
             }
         }
@@ -484,11 +475,7 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.H && selectionManager.getSelectionCount() == 1) {
             Unit unit = selectionManager.getSelected();
             if (!unit.character.isIncapacitated()) {
-                String oldHoldState = unit.character.getCurrentWeaponHoldState();
-                unit.character.cycleWeaponHoldState();
-                String newHoldState = unit.character.getCurrentWeaponHoldState();
-                System.out.println("*** " + unit.character.getDisplayName() + " weapon hold state: " + newHoldState + 
-                                 (oldHoldState.equals(newHoldState) ? " (no change)" : " (was " + oldHoldState + ")"));
+                callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.CYCLE_WEAPON_HOLD_STATE, unit.getId()));
             }
         }
         
@@ -496,7 +483,7 @@ public class KeyboardInputHandler {
         if (e.getCode() == KeyCode.F && e.isShiftDown() && selectionManager.getSelectionCount() == 1) {
             Unit unit = selectionManager.getSelected();
             if (!unit.character.isIncapacitated()) {
-                unit.character.toggleFiringPreference(gameClock.getCurrentTick());
+                callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.TOGGLE_FIRING_PREFERENCE, unit.getId()));
             }
         }
     }
@@ -859,7 +846,7 @@ public class KeyboardInputHandler {
         
         int deletedCount = 0;
         for (Unit unit : unitsToDelete) {
-            units.remove(unit);
+            callbacks.submitCommand(new core.InputCommand(core.InputCommand.Type.REMOVE_UNIT, unit.getId()));
             deletedCount++;
             System.out.println("Deleted: " + unit.character.getDisplayName() + " (ID: " + unit.character.id + ")");
         }
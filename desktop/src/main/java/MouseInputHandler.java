@@ -3,10 +3,8 @@ import javafx.scene.input.MouseButton;
 import java.util.List;
 
 import game.Unit;
-import game.GameClock;
-import game.GameCallbacks;
 import input.interfaces.InputManagerCallbacks;
-import combat.managers.WeaponStateManager;
+import core.InputCommand;
 
 /**
  * Handler for mouse input events in the OpenFields2 game.
@@ -53,12 +51,6 @@ public class MouseInputHandler {
     /** Combat command processor for combat operations */
     private final CombatCommandProcessor combatCommandProcessor;
     
-    /** Game clock for timing information */
-    private final GameClock gameClock;
-    
-    /** Event queue for scheduling events */
-    private final java.util.PriorityQueue<game.ScheduledEvent> eventQueue;
-    
     /** Callback interface for main game operations */
     private final InputManagerCallbacks callbacks;
     
@@ -79,16 +71,13 @@ public class MouseInputHandler {
      * @param eventRouter Event router for mouse event routing
      * @param editModeManager Edit mode manager for edit operations
      * @param combatCommandProcessor Combat command processor for combat operations
-     * @param gameClock Game clock for timing
-     * @param eventQueue Event queue for scheduling
      * @param callbacks Callback interface for main game operations
      * @param movementController Movement controller for unit movement operations
      */
     public MouseInputHandler(List<Unit> units, SelectionManager selectionManager,
                            GameRenderer gameRenderer, DisplayCoordinator displayCoordinator,
                            InputEventRouter eventRouter, EditModeManager editModeManager,
-                           CombatCommandProcessor combatCommandProcessor, GameClock gameClock,
-                           java.util.PriorityQueue<game.ScheduledEvent> eventQueue,
+                           CombatCommandProcessor combatCommandProcessor,
                            InputManagerCallbacks callbacks, MovementController movementController) {
         this.units = units;
         this.selectionManager = selectionManager;
@@ -97,8 +86,6 @@ public class MouseInputHandler {
         this.eventRouter = eventRouter;
         this.editModeManager = editModeManager;
         this.combatCommandProcessor = combatCommandProcessor;
-        this.gameClock = gameClock;
-        this.eventQueue = eventQueue;
         this.callbacks = callbacks;
         this.movementController = movementController;
     }
@@ -311,11 +298,9 @@ public class MouseInputHandler {
             }
             
             // DevCycle 28: Check if character has an active reaction to cancel
-            if (clickedUnit.character.reactionTarget != null) {
-                String targetName = clickedUnit.character.reactionTarget.getCharacter().getDisplayName();
-                clickedUnit.character.reactionTarget = null;
-                clickedUnit.character.reactionBaselineState = null;
-                clickedUnit.character.reactionTriggerTick = -1;
+            if (clickedUnit.character.getReactionTarget() != null) {
+                String targetName = clickedUnit.character.getReactionTarget().getCharacter().getDisplayName();
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.CANCEL_REACTION, clickedUnit.getId()));
                 System.out.println("*** " + clickedUnit.character.getDisplayName() + 
                                  " cancelled reaction to " + targetName + " ***");
                 return;
@@ -323,7 +308,7 @@ public class MouseInputHandler {
             
             // Delegate combat operations to CombatCommandProcessor
             // Check if character is currently attacking - if so, cease fire; otherwise ready weapon
-            combatCommandProcessor.handleSelfTargetCombat(clickedUnit, gameClock.getCurrentTick(), eventQueue);
+            combatCommandProcessor.handleSelfTargetCombat(clickedUnit);
         } else if (isControlDown && isShiftDown && selectionManager.hasSelection() && !selectionManager.isUnitSelected(clickedUnit)) {
             // DevCycle 28: Ctrl+Shift+right-click on unit - set up reaction action
             handleReactionSetup(clickedUnit);
@@ -350,24 +335,14 @@ public class MouseInputHandler {
             return;
         }
         
+        // Each unit toggles its own setting; report the state the first unit will have
+        boolean newState = selectionManager.hasSelection() && !selectionManager.getSelected().character.isPersistentAttack();
         for (Unit unit : selectionManager.getSelectedUnits()) {
             if (!unit.character.isIncapacitated()) {
-                unit.character.setPersistentAttack(!unit.character.isPersistentAttack());
-                unit.character.currentTarget = targetUnit;
-                
-                // Make unit face the target
-                unit.setTargetFacing(targetUnit.x, targetUnit.y);
-                
-                if (unit.character.isPersistentAttack()) {
-                    // Use CombatCoordinator to start attack sequence
-                    combat.CombatCoordinator.getInstance().startAttackSequence(unit, targetUnit, gameClock.getCurrentTick(), (GameCallbacks) callbacks);
-                } else {
-                    unit.character.currentTarget = null;
-                }
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.TOGGLE_PERSISTENT_ATTACK, unit.getId(), targetUnit.getId()));
             }
         }
         
-        boolean newState = selectionManager.hasSelection() && selectionManager.getSelected().character.isPersistentAttack();
         System.out.println(selectionManager.getSelectionCount() + " units " + (newState ? "enable" : "disable") + " persistent attack on " + targetUnit.character.getDisplayName());
     }
     
@@ -413,14 +388,10 @@ public class MouseInputHandler {
         
         for (Unit attackingUnit : selectionManager.getSelectedUnits()) {
             if (!attackingUnit.character.isIncapacitated() && attackingUnit != targetUnit) {
-                // Set combat target for attacking unit
-                attackingUnit.setCombatTarget(targetUnit);
-                
-                // Get the character's current hold state
                 String holdState = attackingUnit.character.getCurrentWeaponHoldState();
                 
-                // Start weapon progression to hold state instead of full attack
-                startWeaponProgressionToHoldState(attackingUnit, targetUnit, holdState);
+                // Target and progress the weapon to its hold state instead of a full attack
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.HOLD_AT_TARGET, attackingUnit.getId(), targetUnit.getId()));
                 
                 System.out.println("*** " + attackingUnit.character.getDisplayName() + 
                                  " targeting " + targetUnit.character.getDisplayName() + 
@@ -429,50 +400,6 @@ public class MouseInputHandler {
         }
     }
     
-    /**
-     * Start weapon progression to a specific hold state.
-     * 
-     * @param attackingUnit The unit to progress weapon state
-     * @param targetUnit The target unit
-     * @param holdState The state to hold at
-     */
-    private void startWeaponProgressionToHoldState(Unit attackingUnit, Unit targetUnit, String holdState) {
-        // Set target
-        attackingUnit.character.currentTarget = targetUnit;
-        
-        // Make unit face the target
-        attackingUnit.faceToward(targetUnit.x, targetUnit.y);
-        
-        // Start weapon progression to hold state
-        scheduleWeaponProgressionToState(attackingUnit, holdState, gameClock.getCurrentTick());
-    }
-    
-    /**
-     * Schedule weapon state progression to a specific state.
-     * 
-     * @param unit The unit to progress
-     * @param targetState The state to progress to
-     * @param currentTick Current game tick
-     */
-    private void scheduleWeaponProgressionToState(Unit unit, String targetState, long currentTick) {
-        // Use the character's existing weapon ready system but stop at target state
-        combat.Character character = unit.character;
-        combat.Weapon activeWeapon = character.isMeleeCombatMode() ? character.meleeWeapon : character.weapon;
-        
-        if (activeWeapon == null) {
-            return;
-        }
-        
-        // Initialize weapon state if needed
-        if (character.currentWeaponState == null) {
-            character.currentWeaponState = activeWeapon.getInitialState();
-        }
-        
-        // Start progression using existing system but with hold state target
-        WeaponStateManager.getInstance().setTargetHoldState(character.id, targetState);
-        character.scheduleReadyFromCurrentState(unit, currentTick, eventQueue, unit.getId());
-    }
-    
     /**
      * DevCycle 28: Handle Ctrl+Shift+right-click for reaction action setup.
      * Sets selected units to monitor the target unit for weapon state changes.
@@ -488,34 +415,8 @@ public class MouseInputHandler {
         int reactionsSet = 0;
         for (Unit unit : selectionManager.getSelectedUnits()) {
             if (!unit.character.isIncapacitated() && unit != targetUnit) {
-                combat.Character character = unit.character;
-                
-                // Set up reaction monitoring
-                character.reactionTarget = targetUnit;
-                
-                // Record baseline weapon state of target
-                if (targetUnit.character.currentWeaponState != null) {
-                    character.reactionBaselineState = targetUnit.character.currentWeaponState;
-                } else if (targetUnit.character.weapon != null) {
-                    // Initialize weapon state if needed
-                    character.reactionBaselineState = targetUnit.character.weapon.getInitialState();
-                } else {
-                    // No weapon state to monitor
-                    character.reactionBaselineState = null;
-                }
-                
-                // Clear any pending reaction trigger
-                character.reactionTriggerTick = -1;
-                
-                // Move character to preferred hold state
-                if (character.weapon != null) {
-                    String preferredHoldState = character.getFiresFromAimingState() ? "aiming" : "pointedfromhip";
-                    scheduleWeaponProgressionToState(unit, preferredHoldState, gameClock.getCurrentTick());
-                }
-                
-                // Make unit face the target
-                unit.setTargetFacing(targetUnit.x, targetUnit.y);
-                
+                // Monitors the target and moves the weapon to the preferred hold state
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.SET_REACTION, unit.getId(), targetUnit.getId()));
                 reactionsSet++;
             }
         }
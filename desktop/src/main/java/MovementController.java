@@ -7,6 +7,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.input.KeyCode;
 import java.util.List;
 
+import core.InputCommand;
 import game.Unit;
 import input.interfaces.InputManagerCallbacks;
 
@@ -24,6 +25,10 @@ import input.interfaces.InputManagerCallbacks;
  * operations for single units and multi-unit selections while maintaining
  * consistent movement behavior across different game modes.
  * 
+ * Outside edit mode, movement changes are submitted as InputCommands and applied
+ * by the simulation at the next tick boundary; CommandFeedback reports the
+ * resulting movement type.
+ * 
  * @author DevCycle 15h - Phase 4.2: Movement Controller Extraction
  */
 public class MovementController {
@@ -110,24 +115,8 @@ public class MovementController {
                 continue; // Skip incapacitated units
             }
             
-            // Resume movement if unit was stopped and speed is being increased
-            if (unit.isStopped) {
-                unit.resumeMovement();
-                displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
-                    unit.character.getDisplayName() + " resumed movement");
-            }
-            
-            // Increase movement type
-            String oldType = unit.character.getCurrentMovementType().toString();
-            unit.character.increaseMovementType();
-            String newType = unit.character.getCurrentMovementType().toString();
-            
-            // Display feedback if movement type actually changed
-            if (!oldType.equals(newType)) {
-                displayCoordinator.displayMovementTypeChange(unit, unit.character.getCurrentMovementType());
-                displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
-                    unit.character.getDisplayName() + " movement: " + oldType + " → " + newType);
-            }
+            // Increasing speed also resumes a stopped unit
+            callbacks.submitCommand(new InputCommand(InputCommand.Type.SET_MOVEMENT_SPEED, unit.getId(), Integer.valueOf(1)));
         }
     }
     
@@ -140,24 +129,8 @@ public class MovementController {
                 continue; // Skip incapacitated units
             }
             
-            String oldType = unit.character.getCurrentMovementType().toString();
-            
-            // If at minimum movement type (Crawl), stop the unit instead
-            if (unit.character.getCurrentMovementType() == combat.MovementType.CRAWL) {
-                unit.stopMovement();
-                displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
-                    unit.character.getDisplayName() + " stopped movement");
-                continue;
-            }
-            
-            // Decrease movement type
-            unit.character.decreaseMovementType();
-            String newType = unit.character.getCurrentMovementType().toString();
-            
-            // Display feedback
-            displayCoordinator.displayMovementTypeChange(unit, unit.character.getCurrentMovementType());
-            displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
-                unit.character.getDisplayName() + " movement: " + oldType + " → " + newType);
+            // Decreasing speed at the minimum movement type (Crawl) stops the unit instead
+            callbacks.submitCommand(new InputCommand(InputCommand.Type.SET_MOVEMENT_SPEED, unit.getId(), Integer.valueOf(-1)));
         }
     }
     
@@ -204,17 +177,9 @@ public class MovementController {
             double deltaX = targetX - selectionCenterX;
             double deltaY = targetY - selectionCenterY;
             
-            // Apply instant teleportation
-            unit.x = unit.x + deltaX;
-            unit.y = unit.y + deltaY;
-            unit.targetX = unit.x;
-            unit.targetY = unit.y;
-            unit.hasTarget = false;
-            unit.isStopped = false;
-            
-            displayCoordinator.debugInputEvent("MOVEMENT_COMMAND", 
-                unit.character.getDisplayName() + " teleported to (" + 
-                String.format("%.1f", unit.x) + ", " + String.format("%.1f", unit.y) + ")");
+            // Instant teleportation, applied by the simulation
+            callbacks.submitCommand(new InputCommand(InputCommand.Type.TELEPORT_UNIT, unit.getId(), 
+                                                     unit.x + deltaX, unit.y + deltaY));
         }
         
         // Display movement feedback
@@ -242,10 +207,8 @@ public class MovementController {
                 continue; // Skip incapacitated units
             }
             
-            // Cancel any ongoing melee movement when new movement command is given
+            // A new movement command cancels any ongoing melee movement
             if (unit.character.isMovingToMelee) {
-                unit.character.isMovingToMelee = false;
-                unit.character.meleeTarget = null;
                 displayCoordinator.debugInputEvent("MOVEMENT_COMMAND", 
                     unit.character.getDisplayName() + " cancelled melee movement");
             }
@@ -254,7 +217,7 @@ public class MovementController {
             // Set new target position relative to unit's current position
             double newTargetX = unit.x + deltaX;
             double newTargetY = unit.y + deltaY;
-            unit.setTarget(newTargetX, newTargetY);
+            callbacks.submitCommand(new InputCommand(InputCommand.Type.MOVE_UNIT, unit.getId(), newTargetX, newTargetY));
             
             displayCoordinator.debugInputEvent("MOVEMENT_COMMAND", 
                 unit.character.getDisplayName() + " moving to (" + 
@@ -280,7 +243,7 @@ public class MovementController {
         
         for (Unit unit : selectionManager.getSelectedUnits()) {
             if (!unit.character.isIncapacitated()) {
-                unit.stopMovement();
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.STOP_UNIT, unit.getId()));
                 displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
                     unit.character.getDisplayName() + " movement stopped");
             }
@@ -299,7 +262,7 @@ public class MovementController {
         
         for (Unit unit : selectionManager.getSelectedUnits()) {
             if (!unit.character.isIncapacitated() && unit.isStopped) {
-                unit.resumeMovement();
+                callbacks.submitCommand(new InputCommand(InputCommand.Type.RESUME_UNIT, unit.getId()));
                 displayCoordinator.debugInputEvent("MOVEMENT_CONTROL", 
                     unit.character.getDisplayName() + " movement resumed");
             }
@@ -318,11 +281,8 @@ public class MovementController {
      */
     public void cancelMeleeMovement(Unit unit) {
         if (unit.character.isMovingToMelee) {
-            unit.character.isMovingToMelee = false;
-            unit.character.meleeTarget = null;
-            
-            // Stop the unit at current position
-            unit.setTarget(unit.x, unit.y);
+            // Moving to the current position cancels the melee approach and stops the unit there
+            callbacks.submitCommand(new InputCommand(InputCommand.Type.MOVE_UNIT, unit.getId(), unit.x, unit.y));
             
             displayCoordinator.debugInputEvent("MOVEMENT_COMMAND", 
                 unit.character.getDisplayName() + " cancelled melee movement");
@@ -336,7 +296,7 @@ public class MovementController {
      */
     public void cancelMeleeMovementToTarget(Unit targetUnit) {
         for (Unit unit : units) {
-            if (unit.character.isMovingToMelee && unit.character.meleeTarget == targetUnit) {
+            if (unit.character.isMovingToMelee && unit.character.getMeleeTarget() == targetUnit) {
                 cancelMeleeMovement(unit);
             }
         }
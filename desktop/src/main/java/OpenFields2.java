@@ -25,6 +25,7 @@ import java.util.Calendar;
 import java.text.SimpleDateFormat;
 
 import combat.*;
+import combat.telemetry.CombatTelemetry;
 import game.*;
 import data.WeaponFactory;
 import data.WeaponData;
@@ -40,8 +41,12 @@ import data.ThemeManager;
 import data.UniversalCharacterRegistry;
 import data.CharacterFactory;
 import data.FactionRegistry;
+import data.StartupLoader;
+import game.FactionRoster;
 import input.interfaces.InputManagerCallbacks;
 import config.GameConfig;
+import platform.api.AudioMixer;
+import platform.impl.javafx.JavaFXAudioSystem;
 
 public class OpenFields2 extends Application implements GameCallbacks, InputManagerCallbacks {
     
@@ -59,21 +64,35 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
     }
     
 
+    // Load startup data concurrently before any of the singletons below are touched
+    static {
+        StartupLoader.loadAll();
+    }
+
     // Window dimensions will be loaded from configuration at startup
     private static final GameConfig gameConfig = GameConfig.getInstance();
     static final double MOVE_SPEED = 42.0;
 
     private Canvas canvas;
     private final List<Unit> units = new ArrayList<>();
+    // Handles for the units on this field, synced with the unit list each frame
+    private final game.UnitRegistry unitRegistry = new game.UnitRegistry();
     private final SelectionManager selectionManager = new SelectionManager();
     private BaseGameRenderer gameRenderer;
     private InputManager inputManager;
     
     private boolean paused = true;
-    private static int stressModifier = -40;
+    private static int stressModifier = CombatCalculator.DEFAULT_STRESS_MODIFIER;
     private final GameClock gameClock = new GameClock();
     private final java.util.PriorityQueue<ScheduledEvent> eventQueue = new java.util.PriorityQueue<>();
+    // Unit commands from input handlers, applied at the start of each tick
+    private final core.CommandQueue commandQueue = new core.CommandQueue();
+    private final core.UnitCommandExecutor commandExecutor =
+        new core.UnitCommandExecutor(this::findUnitById, gameClock::getCurrentTick, this);
+    // Lets a command journal record from and replay into this game
+    private final core.JournalTarget journalTarget = new JournalTargetImpl();
     private AudioClip gunshotSound;
+    private JavaFXAudioSystem audioSystem; // Stays null in headless mode
     private final SaveGameManager saveGameManager = SaveGameManager.getInstance();
     private final UniversalCharacterRegistry characterRegistry = UniversalCharacterRegistry.getInstance();
     private int nextUnitId = 1;
@@ -233,6 +252,10 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         // Initialize game renderer with game state
         gameRenderer.setGameState(units, selectionManager);
         
+        // Selected units can receive keyboard commands at any time, so they never go dormant
+        DormancyTracker.getInstance().setKeepAwake(selectionManager::isUnitSelected);
+        
+        audioSystem = new JavaFXAudioSystem();
         try {
             gunshotSound = new AudioClip(getClass().getResource("/Slap0003.wav").toExternalForm());
         } catch (Exception e) {
@@ -267,6 +290,8 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         inputManager = new InputManager(units, selectionManager, (GameRenderer) gameRenderer, gameClock, 
                                       eventQueue, canvas, this);
         inputManager.initializeInputHandlers(scene);
+        commandExecutor.setListener(inputManager.getCommandFeedback());
+        commandExecutor.setUnitRemover(units::remove);
         
         // Initialize SaveGameController
         saveGameController = new SaveGameController(units, selectionManager, (GameRenderer) gameRenderer, gameClock,
@@ -274,6 +299,9 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         
         // Validate system integrity
         inputManager.validateSystemIntegrity();
+        
+        // Record player commands for replay if requested
+        startCommandJournal();
 
         Timeline timeline = new Timeline(new KeyFrame(Duration.seconds(1.0 / 60), e -> run()));
         timeline.setCycleCount(Timeline.INDEFINITE);
@@ -292,23 +320,51 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         System.out.println("***********************");
     }
 
+    /**
+     * Starts recording player commands when -Dopenfields.journal=<file> is set.
+     * The journal is written to that file when the game exits.
+     */
+    private void startCommandJournal() {
+        String journalPath = System.getProperty("openfields.journal");
+        if (journalPath == null || journalPath.isEmpty()) {
+            return;
+        }
+        core.CommandJournal journal = core.CommandJournal.startActive(journalTarget,
+                                                                       core.CommandJournal.DEFAULT_KEYFRAME_INTERVAL);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                journal.save(new java.io.File(journalPath));
+                System.out.println("*** Command journal saved: " + journalPath + " (" + journal.getCommandCount() + " commands)");
+            } catch (java.io.IOException e) {
+                System.err.println("Could not save command journal: " + e.getMessage());
+            }
+        }));
+        System.out.println("*** Recording command journal (seed " + journal.getSeed() + ")");
+    }
+
     private void run() {
+        // Keep unit handles current; units added or removed since the last frame are picked up here
+        unitRegistry.sync(units);
+        
+        // Apply commands queued by input handlers, paused or not, before the tick advances
+        commandQueue.drain(command -> {
+            if (commandExecutor.execute(command)) {
+                core.CommandJournal.recordActive(command);
+            }
+        });
+        
         if (!paused) {
-            gameClock.advanceTick();
-            while (!eventQueue.isEmpty() && eventQueue.peek().tick <= gameClock.getCurrentTick()) {
-                eventQueue.poll().action.run();
+            TickPipeline.advance(units, gameClock, eventQueue, this);
+            
+            // Play this tick's weapon sounds through the mixer
+            if (audioSystem != null) {
+                audioSystem.flushQueuedSounds();
             }
-            for (Unit u : units) {
-                u.update(gameClock.getCurrentTick());
-                // Update automatic targeting for characters that have it enabled
-                u.character.updateAutomaticTargeting(u, gameClock.getCurrentTick(), eventQueue, this);
-                // Update melee movement progress and trigger attacks when in range
-                u.character.updateMeleeMovement(u, gameClock.getCurrentTick(), eventQueue, this);
-                // Defense state updates are now handled internally by DefenseManager (DevCycle 23)
-                // Update melee recovery state (Bug #1 fix)
-                u.character.updateMeleeRecovery(gameClock.getCurrentTick());
-                // Update reaction monitoring (DevCycle 28)
-                u.character.updateReactionMonitoring(u, gameClock.getCurrentTick(), eventQueue, this);
+            
+            // Keep a keyframe of the recorded game every so often, for seeking
+            core.CommandJournal journal = core.CommandJournal.getActive();
+            if (journal != null) {
+                journal.onTickCompleted(journalTarget);
             }
             
             // Update selection center as selected units move
@@ -327,54 +383,54 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         if (c1 != null) {
             c1.weapon = WeaponFactory.createWeapon("wpn_mp5");
             c1.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_dagger");
-            c1.currentWeaponState = c1.weapon.getInitialState();
+            c1.setCurrentWeaponState(c1.weapon.getInitialState());
             c1.setFaction(1);
-            units.add(new Unit(c1, 100, 100, platform.api.Color.fromJavaFX(Color.RED), nextUnitId++));
+            units.add(new Unit(c1, 100, 100, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.RED), nextUnitId++));
         }
         
         combat.Character c2 = characterRegistry.getCharacter(1001);
         if (c2 != null) {
             c2.weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
             c2.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_officers_sword");
-            c2.currentWeaponState = c2.weapon.getInitialState();
+            c2.setCurrentWeaponState(c2.weapon.getInitialState());
             c2.setFaction(2);
-            units.add(new Unit(c2, 400, 400, platform.api.Color.fromJavaFX(Color.BLUE), nextUnitId++));
+            units.add(new Unit(c2, 400, 400, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.BLUE), nextUnitId++));
         }
         
         combat.Character c3 = characterRegistry.getCharacter(1002);
         if (c3 != null) {
             c3.weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
             c3.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_bowie_knife");
-            c3.currentWeaponState = c3.weapon.getInitialState();
+            c3.setCurrentWeaponState(c3.weapon.getInitialState());
             c3.setFaction(1);
-            units.add(new Unit(c3, 400, 100, platform.api.Color.fromJavaFX(Color.GREEN), nextUnitId++));
+            units.add(new Unit(c3, 400, 100, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.GREEN), nextUnitId++));
         }
         
         combat.Character c4 = characterRegistry.getCharacter(1003);
         if (c4 != null) {
             c4.weapon = WeaponFactory.createWeapon("wpn_plasma_pistol");
             c4.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_cavalry_sabre");
-            c4.currentWeaponState = c4.weapon.getInitialState();
+            c4.setCurrentWeaponState(c4.weapon.getInitialState());
             c4.setFaction(2);
-            units.add(new Unit(c4, 100, 400, platform.api.Color.fromJavaFX(Color.PURPLE), nextUnitId++));
+            units.add(new Unit(c4, 100, 400, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.PURPLE), nextUnitId++));
         }
         
         combat.Character c5 = characterRegistry.getCharacter(1004);
         if (c5 != null) {
             c5.weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
             c5.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_bowie_knife");
-            c5.currentWeaponState = c5.weapon.getInitialState();
+            c5.setCurrentWeaponState(c5.weapon.getInitialState());
             c5.setFaction(1);
-            units.add(new Unit(c5, 600, 100, platform.api.Color.fromJavaFX(Color.ORANGE), nextUnitId++));
+            units.add(new Unit(c5, 600, 100, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.ORANGE), nextUnitId++));
         }
         
         combat.Character c6 = characterRegistry.getCharacter(1005);
         if (c6 != null) {
             c6.weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
             c6.meleeWeapon = combat.MeleeWeaponFactory.createWeapon("mel_tomahawk");
-            c6.currentWeaponState = c6.weapon.getInitialState();
+            c6.setCurrentWeaponState(c6.weapon.getInitialState());
             c6.setFaction(2);
-            units.add(new Unit(c6, 600, 400, platform.api.Color.fromJavaFX(Color.MAGENTA), nextUnitId++));
+            units.add(new Unit(c6, 600, 400, platform.impl.javafx.JavaFXColors.fromJavaFX(Color.MAGENTA), nextUnitId++));
         }
     }
     
@@ -721,18 +777,19 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
     }
     
     public void playWeaponSound(Weapon weapon) {
-        try {
-            if (GameRenderer.isDebugMode()) {
-                System.out.println("*** Attempting to play sound: " + weapon.soundFile);
-            }
-            AudioClip sound = new AudioClip(getClass().getResource(weapon.soundFile).toExternalForm());
-            if (GameRenderer.isDebugMode()) {
-                System.out.println("*** Sound loaded successfully, playing...");
-            }
-            sound.play();
-        } catch (Exception ex) {
-            System.out.println("*** ERROR playing sound: " + ex.getMessage());
+        // No audio work at all in headless mode
+        if (audioSystem == null || weapon.soundFile == null) {
+            return;
+        }
+        if (GameRenderer.isDebugMode()) {
+            System.out.println("*** Attempting to play sound: " + weapon.soundFile);
+        }
+        // Clips are loaded once per sound file; the mixer plays queued sounds at the end of the tick
+        if (!audioSystem.isSoundLoaded(weapon.soundFile) && !audioSystem.loadSound(weapon.soundFile, weapon.soundFile)) {
+            System.out.println("*** ERROR playing sound: could not load " + weapon.soundFile);
+            return;
         }
+        audioSystem.queueSound(weapon.soundFile, AudioMixer.SHOT_VOLUME);
     }
     
     public void scheduleProjectileImpact(Unit shooter, Unit target, Weapon weapon, long fireTick, double distanceFeet) {
@@ -743,46 +800,51 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         }
         
         // Track attack attempt (both legacy and separate tracking)
-        shooter.character.attacksAttempted++;
-        shooter.character.rangedAttacksAttempted++;
+        shooter.character.career().attacksAttempted++;
+        shooter.character.career().rangedAttacksAttempted++;
+        CombatTelemetry.getInstance().recordShot(shooter, target, weapon, fireTick, distanceFeet, hitResult);
         
-        eventQueue.add(new ScheduledEvent(impactTick, () -> {
-            // Use CombatResolver for consistent tracking (like melee attacks)
-            CombatResolver combatResolver = new CombatResolver(units, eventQueue, GameRenderer.isDebugMode());
-            combatResolver.resolveCombatImpact(shooter, target, weapon, impactTick, hitResult);
-        }, ScheduledEvent.WORLD_OWNER));
+        CombatCoordinator.getInstance().scheduleProjectileImpact(shooter, target, impactTick, hitResult,
+                                                                 ScheduledEvent.WORLD_OWNER, eventQueue, this);
+    }
+    
+    public void resolveProjectileImpact(Unit shooter, Unit target, Weapon weapon, long impactTick, HitResult hitResult) {
+        // Use CombatResolver for consistent tracking (like melee attacks)
+        CombatResolver combatResolver = new CombatResolver(units, eventQueue, GameRenderer.isDebugMode());
+        combatResolver.resolveCombatImpact(shooter, target, weapon, impactTick, hitResult);
     }
     
     public void scheduleMeleeImpact(Unit attacker, Unit target, MeleeWeapon weapon, long attackTick) {
         // For melee attacks, impact is immediate (no travel time)
-        // Calculate hit chance using melee combat resolver
-        CombatResolver combatResolver = new CombatResolver(units, eventQueue, GameRenderer.isDebugMode());
-        
         if (GameRenderer.isDebugMode()) {
             System.out.println("[MELEE-EVENT] Melee attack impact scheduled at tick " + attackTick);
             System.out.println("[MELEE-EVENT] Attacker: " + attacker.character.getDisplayName() + " -> Target: " + target.character.getDisplayName());
             System.out.println("[MELEE-EVENT] Weapon: " + weapon.getName());
         }
         
-        eventQueue.add(new ScheduledEvent(attackTick, () -> {
-            if (GameRenderer.isDebugMode()) {
-                System.out.println("[MELEE-EVENT] Executing melee impact resolution at tick " + attackTick);
-            }
-            
-            // DevCycle 33: System 13 - Play audio for all melee attacks (recovery timing issue fixed)
-            // Recovery check removed because recovery starts before this audio check runs
-            playWeaponSound(weapon);
-            
-            combatResolver.resolveMeleeAttack(attacker, target, weapon, attackTick);
-        }, ScheduledEvent.WORLD_OWNER));
+        CombatCoordinator.getInstance().scheduleMeleeImpact(attacker, target, attackTick, false,
+                                                            ScheduledEvent.WORLD_OWNER, eventQueue, this);
+    }
+    
+    public void resolveMeleeImpact(Unit attacker, Unit target, MeleeWeapon weapon, long attackTick) {
+        if (GameRenderer.isDebugMode()) {
+            System.out.println("[MELEE-EVENT] Executing melee impact resolution at tick " + attackTick);
+        }
+        
+        // DevCycle 33: System 13 - Play audio for all melee attacks (recovery timing issue fixed)
+        // Recovery check removed because recovery starts before this audio check runs
+        playWeaponSound(weapon);
+        
+        // Calculate hit chance using melee combat resolver
+        CombatResolver combatResolver = new CombatResolver(units, eventQueue, GameRenderer.isDebugMode());
+        combatResolver.resolveMeleeAttack(attacker, target, weapon, attackTick);
     }
     
     public void applyFiringHighlight(Unit shooter, long fireTick) {
         if (!shooter.isFiringHighlighted) {
             shooter.isFiringHighlighted = true;
-            eventQueue.add(new ScheduledEvent(fireTick + 10, () -> {
-                shooter.isFiringHighlighted = false;
-            }, ScheduledEvent.WORLD_OWNER));
+            eventQueue.add(new ScheduledEvent(fireTick + 10, CombatEventKind.FIRING_HIGHLIGHT_END, ScheduledEvent.WORLD_OWNER,
+                new EventBinding(shooter.character, shooter, null, eventQueue, this)));
         }
     }
     
@@ -801,27 +863,27 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
             System.out.println(">>> " + target.character.getDisplayName() + " takes " + actualDamage + " damage. Health now: " + target.character.health);
             
             // Track successful attack
-            shooter.character.attacksSuccessful++;
+            shooter.character.career().attacksSuccessful++;
             
             // Track wound infliction by type
             switch (woundSeverity) {
                 case SCRATCH:
-                    shooter.character.woundsInflictedScratch++;
+                    shooter.character.career().woundsInflictedScratch++;
                     break;
                 case LIGHT:
-                    shooter.character.woundsInflictedLight++;
+                    shooter.character.career().woundsInflictedLight++;
                     break;
                 case SERIOUS:
-                    shooter.character.woundsInflictedSerious++;
+                    shooter.character.career().woundsInflictedSerious++;
                     break;
                 case CRITICAL:
-                    shooter.character.woundsInflictedCritical++;
+                    shooter.character.career().woundsInflictedCritical++;
                     break;
             }
             
             // Track headshot statistics
             if (hitLocation == combat.BodyPart.HEAD) {
-                shooter.character.headshotsSuccessful++;
+                shooter.character.career().headshotsSuccessful++;
                 System.out.println(">>> HEADSHOT! " + shooter.character.getDisplayName() + " scored a headshot on " + target.character.getDisplayName());
             }
             
@@ -833,11 +895,11 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
             boolean wasIncapacitated = target.character.isIncapacitated();
             if (wasIncapacitated) {
                 // Track incapacitation caused by this shooter
-                shooter.character.targetsIncapacitated++;
+                shooter.character.career().targetsIncapacitated++;
                 
                 // Track headshot incapacitation
                 if (hitLocation == combat.BodyPart.HEAD) {
-                    shooter.character.headshotIncapacitations++;
+                    shooter.character.career().headshotIncapacitations++;
                     System.out.println(">>> " + target.character.getDisplayName() + " is incapacitated by headshot!");
                 }
                 
@@ -950,21 +1012,21 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
             System.out.println(">>> " + strayTarget.character.getDisplayName() + " takes " + strayDamage + " stray damage. Health now: " + strayTarget.character.health);
             
             // Track as successful attack for shooter (stray hits still count)
-            shooter.character.attacksSuccessful++;
+            shooter.character.career().attacksSuccessful++;
             
             // Track wound infliction
             switch (woundSeverity) {
                 case SCRATCH:
-                    shooter.character.woundsInflictedScratch++;
+                    shooter.character.career().woundsInflictedScratch++;
                     break;
                 case LIGHT:
-                    shooter.character.woundsInflictedLight++;
+                    shooter.character.career().woundsInflictedLight++;
                     break;
                 case SERIOUS:
-                    shooter.character.woundsInflictedSerious++;
+                    shooter.character.career().woundsInflictedSerious++;
                     break;
                 case CRITICAL:
-                    shooter.character.woundsInflictedCritical++;
+                    shooter.character.career().woundsInflictedCritical++;
                     break;
             }
             
@@ -974,7 +1036,7 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
             
             // Check for incapacitation from stray shot
             if (strayTarget.character.isIncapacitated()) {
-                shooter.character.targetsIncapacitated++;
+                shooter.character.career().targetsIncapacitated++;
                 System.out.println(">>> " + strayTarget.character.getDisplayName() + " is incapacitated by stray shot!");
                 strayTarget.character.baseMovementSpeed = 0;
                 eventQueue.removeIf(e -> e.getOwnerId() == strayTarget.getId());
@@ -998,11 +1060,9 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
     private void applyHitHighlight(Unit target, long impactTick) {
         if (!target.isHitHighlighted) {
             target.isHitHighlighted = true;
-            target.color = platform.api.Color.fromJavaFX(Color.YELLOW);
-            eventQueue.add(new ScheduledEvent(impactTick + 15, () -> {
-                target.color = target.baseColor;
-                target.isHitHighlighted = false;
-            }, ScheduledEvent.WORLD_OWNER));
+            target.color = platform.impl.javafx.JavaFXColors.fromJavaFX(Color.YELLOW);
+            eventQueue.add(new ScheduledEvent(impactTick + 15, CombatEventKind.HIT_HIGHLIGHT_END, ScheduledEvent.WORLD_OWNER,
+                new EventBinding(target.character, target, null, eventQueue, this)));
         }
     }
     
@@ -1011,6 +1071,22 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
     public List<Unit> getUnits() {
         return units;
     }
+    
+    /**
+     * @return this game as a command journal target, for recording a journal
+     *         from it or replaying one into it
+     */
+    public core.JournalTarget getJournalTarget() {
+        return journalTarget;
+    }
+    
+    /**
+     * @return the unit with the given id, or null if there is none
+     */
+    private Unit findUnitById(int unitId) {
+        game.interfaces.IUnit unit = unitRegistry.getById(unitId);
+        return unit instanceof Unit ? (Unit) unit : null;
+    }
 
     public java.util.PriorityQueue<ScheduledEvent> getEventQueue() {
         return eventQueue;
@@ -1021,6 +1097,11 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
     }
 
     // InputManagerCallbacks implementation
+    @Override
+    public void submitCommand(core.InputCommand command) {
+        commandQueue.submit(command);
+    }
+    
     @Override
     public boolean isPaused() {
         return paused;
@@ -1180,6 +1261,16 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         public void setNextUnitId(int nextUnitId) {
             OpenFields2.this.nextUnitId = nextUnitId;
         }
+        
+        @Override
+        public GameCallbacks getGameCallbacks() {
+            return OpenFields2.this;
+        }
+        
+        @Override
+        public game.UnitRegistry getUnitRegistry() {
+            return unitRegistry;
+        }
     }
     
     // EditModeCallbacks implementation for EditModeController
@@ -1205,6 +1296,61 @@ public class OpenFields2 extends Application implements GameCallbacks, InputMana
         }
     }
     
+    // JournalTarget implementation for CommandJournal and JournalReplayer
+    private class JournalTargetImpl implements core.JournalTarget {
+        @Override
+        public long getCurrentTick() {
+            return gameClock.getCurrentTick();
+        }
+        
+        @Override
+        public List<Unit> getUnits() {
+            return units;
+        }
+        
+        @Override
+        public void replaceUnits(List<Unit> newUnits) {
+            selectionManager.clearSelection();
+            units.clear();
+            units.addAll(newUnits);
+            unitRegistry.sync(units);
+            for (Unit unit : units) {
+                nextUnitId = Math.max(nextUnitId, unit.getId() + 1);
+            }
+        }
+        
+        @Override
+        public void applyCommand(core.InputCommand command) {
+            commandExecutor.execute(command);
+        }
+        
+        @Override
+        public boolean isPaused() {
+            // Pausing is not a journaled command here; the journal only holds ticks that ran
+            return false;
+        }
+        
+        @Override
+        public void stepTick() {
+            // The simulation half of run(): same pipeline, no input or rendering
+            unitRegistry.sync(units);
+            TickPipeline.advance(units, gameClock, eventQueue, OpenFields2.this);
+            if (audioSystem != null) {
+                audioSystem.flushQueuedSounds();
+            }
+        }
+        
+        @Override
+        public core.StateKeyframe captureKeyframe() {
+            return core.StateKeyframe.capture(units, gameClock, eventQueue);
+        }
+        
+        @Override
+        public boolean restoreKeyframe(core.StateKeyframe keyframe) {
+            return keyframe.restore(units, gameClock, eventQueue, OpenFields2.this);
+        }
+    }
+    
     /**
      * Display game title and theme information at startup
      */
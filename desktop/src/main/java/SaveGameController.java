@@ -5,11 +5,12 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Date;
 import java.util.Map;
 import java.util.HashMap;
 
 import combat.*;
+import combat.managers.TargetingScheduler;
+import combat.telemetry.CombatTelemetry;
 import game.*;
 import data.*;
 
@@ -50,6 +51,8 @@ public class SaveGameController {
         void setPaused(boolean paused);
         int getNextUnitId();
         void setNextUnitId(int nextUnitId);
+        GameCallbacks getGameCallbacks();
+        UnitRegistry getUnitRegistry();
     }
     
     /**
@@ -270,7 +273,37 @@ public class SaveGameController {
             System.out.println("  Saving " + unit.character.getDisplayName() + ": weapon=" + weaponName + " (ID: " + weaponId + ")");
         }
         
-        return new SaveData(metadata, gameState, unitDataList);
+        SaveData saveData = new SaveData(metadata, gameState, unitDataList);
+        saveData.events = serializeEvents();
+        return saveData;
+    }
+    
+    /**
+     * Serialize the pending typed events. Events still scheduled as plain
+     * Runnables (e.g. melee approach checks, highlights) cannot be saved and
+     * are left out.
+     * 
+     * @return List of saved events in tick order
+     */
+    private List<ScheduledEventData> serializeEvents() {
+        List<ScheduledEvent> pending = new ArrayList<>(eventQueue);
+        pending.sort(null);
+        
+        List<ScheduledEventData> eventDataList = new ArrayList<>();
+        int skipped = 0;
+        for (ScheduledEvent event : pending) {
+            if (!event.isTyped()) {
+                skipped++;
+                continue;
+            }
+            EventBinding binding = event.getBinding();
+            eventDataList.add(new ScheduledEventData(event.tick, event.getKind().name(), event.getOwnerId(),
+                binding.getCharacterId(), binding.getUnit() != null, binding.getTargetId(), event.getParams()));
+        }
+        if (skipped > 0) {
+            System.out.println("  " + skipped + " pending untyped events not saved");
+        }
+        return eventDataList;
     }
     
     /**
@@ -356,8 +389,8 @@ public class SaveGameController {
         
         // Find current target ID if targeting someone
         Integer currentTargetId = null;
-        if (unit.character.currentTarget != null) {
-            currentTargetId = unit.character.currentTarget.getId();
+        if (unit.character.getCurrentTarget() != null) {
+            currentTargetId = unit.character.getCurrentTarget().getId();
         }
         
         return new UnitData(
@@ -434,6 +467,8 @@ public class SaveGameController {
         units.clear();
         eventQueue.clear();
         selectionManager.reset();
+        CombatTelemetry.getInstance().reset();
+        TargetingScheduler.getInstance().reset();
         
         // Restore game state
         gameClock.reset();
@@ -446,245 +481,16 @@ public class SaveGameController {
         gameRenderer.setZoom(saveData.gameState.zoom);
         gameStateAccessor.setNextUnitId(saveData.gameState.nextUnitId);
         
-        // Handle both new and legacy save formats
-        if (saveData.characters != null && !saveData.characters.isEmpty()) {
-            // Legacy format - deserialize characters from save data
-            for (int i = 0; i < saveData.characters.size() && i < saveData.units.size(); i++) {
-                CharacterData charData = saveData.characters.get(i);
-                UnitData unitData = saveData.units.get(i);
-                
-                combat.Character character = deserializeCharacter(charData);
-                Unit unit = deserializeUnit(unitData, character);
-                units.add(unit);
-            }
-        } else {
-            // New format - load characters from universal registry and apply unit data
-            for (UnitData unitData : saveData.units) {
-                combat.Character character = characterRegistry.getCharacter(unitData.characterId);
-                if (character != null) {
-                    // Apply scenario-specific weapon and state - handle both ranged and melee weapons (DevCycle 40)
-                    if (unitData.weaponId != null && !unitData.weaponId.isEmpty()) {
-                        // First try to create as melee weapon
-                        DataManager dataManager = DataManager.getInstance();
-                        if (dataManager.getMeleeWeapon(unitData.weaponId) != null) {
-                            character.meleeWeapon = MeleeWeaponFactory.createWeapon(unitData.weaponId);
-                            character.weapon = character.meleeWeapon; // Set as primary weapon
-                        } else {
-                            // Fall back to ranged weapon
-                            character.weapon = WeaponFactory.createWeapon(unitData.weaponId);
-                        }
-                        
-                        if (character.weapon != null && unitData.currentWeaponState != null) {
-                            character.currentWeaponState = character.weapon.getStateByName(unitData.currentWeaponState);
-                            if (character.currentWeaponState == null) {
-                                character.currentWeaponState = character.weapon.getInitialState();
-                            }
-                        }
-                        
-                        // Debug output showing what weapons are being loaded
-                        String weaponName = (character.weapon != null) ? character.weapon.name : "Failed to create";
-                        System.out.println("  Loading " + character.getDisplayName() + ": weaponId=" + unitData.weaponId + " → " + weaponName);
-                    } else {
-                        System.out.println("  Loading " + character.getDisplayName() + ": no weapon data");
-                    }
-                    
-                    Unit unit = deserializeUnitFromCharacterRef(unitData, character);
-                    units.add(unit);
-                } else {
-                    System.err.println("Warning: Character " + unitData.characterId + " not found in universal registry");
-                }
-            }
-        }
+        units.addAll(SaveDataLoader.buildUnits(saveData));
         
         // Second phase: Restore target relationships after all units are loaded
-        restoreTargetRelationships(saveData.units);
+        UnitRegistry registry = gameStateAccessor.getUnitRegistry();
+        SaveDataLoader.restoreTargets(units, saveData.units, registry);
         
-        System.out.println("*** Restored " + units.size() + " units ***");
-    }
-    
-    /**
-     * Restore target relationships between units after all units have been loaded
-     * 
-     * @param unitDataList List of UnitData objects containing target relationships
-     */
-    private void restoreTargetRelationships(List<UnitData> unitDataList) {
-        // Create a map of unit ID to Unit object for quick lookup
-        Map<Integer, Unit> unitMap = new HashMap<>();
-        for (Unit unit : units) {
-            unitMap.put(unit.getId(), unit);
-        }
-        
-        // Create a map of unit ID to UnitData for finding the corresponding data
-        Map<Integer, UnitData> unitDataMap = new HashMap<>();
-        for (UnitData unitData : unitDataList) {
-            unitDataMap.put(unitData.id, unitData);
-        }
-        
-        // Restore target relationships by matching unit IDs
-        for (Unit unit : units) {
-            UnitData unitData = unitDataMap.get(unit.getId());
-            if (unitData != null && unitData.currentTargetId != null) {
-                Unit targetUnit = unitMap.get(unitData.currentTargetId);
-                if (targetUnit != null) {
-                    unit.character.currentTarget = targetUnit;
-                    System.out.println("  Restored target: " + unit.character.getDisplayName() + " → " + targetUnit.character.getDisplayName());
-                } else {
-                    System.out.println("  Warning: Target unit " + unitData.currentTargetId + " not found for " + unit.character.getDisplayName());
-                }
-            }
-        }
-    }
-    
-    /**
-     * Deserialize character from CharacterData
-     * 
-     * @param data CharacterData object
-     * @return Character object
-     */
-    private combat.Character deserializeCharacter(CharacterData data) {
-        // Handle both old and new save formats
-        String nickname = data.nickname != null ? data.nickname : "";
-        String firstName = data.firstName != null ? data.firstName : "";
-        String lastName = data.lastName != null ? data.lastName : "";
-        Date birthdate = data.birthdate != null ? data.birthdate : new Date(0); // Default to epoch if null
-        
-        combat.Character character = new combat.Character(
-            data.id, nickname, firstName, lastName, birthdate, data.themeId, data.dexterity, data.health,
-            data.coolness, data.strength, data.reflexes, data.handedness
-        );
+        // Third phase: Reschedule pending events against the restored units
+        SaveDataLoader.restoreEvents(units, saveData.events, registry, eventQueue, gameStateAccessor.getGameCallbacks());
         
-        character.currentDexterity = data.currentDexterity;
-        character.currentHealth = data.currentHealth;
-        character.baseMovementSpeed = data.baseMovementSpeed;
-        character.currentMovementType = data.currentMovementType;
-        character.currentAimingSpeed = data.currentAimingSpeed;
-        
-        // Restore weapon - handle both ranged and melee weapons (DevCycle 40)
-        if (data.weaponId != null && !data.weaponId.isEmpty()) {
-            // First try to create as melee weapon
-            DataManager dataManager = DataManager.getInstance();
-            if (dataManager.getMeleeWeapon(data.weaponId) != null) {
-                character.meleeWeapon = MeleeWeaponFactory.createWeapon(data.weaponId);
-                character.weapon = character.meleeWeapon; // Set as primary weapon
-            } else {
-                // Fall back to ranged weapon
-                character.weapon = WeaponFactory.createWeapon(data.weaponId);
-            }
-            
-            if (character.weapon != null && data.currentWeaponState != null) {
-                character.currentWeaponState = character.weapon.getStateByName(data.currentWeaponState);
-                if (character.currentWeaponState == null) {
-                    character.currentWeaponState = character.weapon.getInitialState();
-                }
-            }
-        }
-        
-        // Restore melee combat mode (DevCycle 40)
-        character.isMeleeCombatMode = data.isMeleeCombatMode;
-        
-        // Restore defense timing (DevCycle 40)
-        character.nextDefenseTick = data.nextDefenseTick;
-        
-        // Restore skills - clear both compatibility field and manager storage
-        character.skills.clear();
-        combat.managers.CharacterSkillsManager.getInstance().cleanupCharacter(character.id); // Clear manager storage
-        for (CharacterData.SkillData skillData : data.skills) {
-            character.addSkill(new Skill(skillData.skillName, skillData.level));
-        }
-        
-        // Restore wounds
-        character.wounds.clear();
-        for (CharacterData.WoundData woundData : data.wounds) {
-            try {
-                BodyPart bodyPart = BodyPart.valueOf(woundData.bodyPart);
-                WoundSeverity severity = WoundSeverity.valueOf(woundData.severity);
-                // Use damage value from save data, default to 1 for backwards compatibility
-                int damage = (woundData.damage > 0) ? woundData.damage : 1;
-                character.addWound(new Wound(bodyPart, severity, "Saved wound", "", damage));
-            } catch (IllegalArgumentException e) {
-                System.err.println("Warning: Invalid wound data: " + woundData.bodyPart + "/" + woundData.severity);
-            }
-        }
-        
-        // Restore character preferences (with defaults for backward compatibility)
-        character.usesAutomaticTargeting = data.usesAutomaticTargeting;
-        character.preferredFiringMode = data.preferredFiringMode != null ? data.preferredFiringMode : FiringMode.SINGLE_SHOT;
-        
-        // DevCycle 28: Multiple shot control (default to 1 for backward compatibility)
-        character.multipleShootCount = data.multipleShootCount > 0 ? data.multipleShootCount : 1;
-        
-        return character;
-    }
-    
-    /**
-     * Deserialize unit from character reference (new save format)
-     * 
-     * @param data UnitData object
-     * @param character Character object from universal registry
-     * @return Unit object
-     */
-    private Unit deserializeUnitFromCharacterRef(UnitData data, combat.Character character) {
-        platform.api.Color color = stringToColor(data.color);
-        platform.api.Color baseColor = stringToColor(data.baseColor);
-        
-        // Create unit with the base color initially, then set current color
-        Unit unit = new Unit(character, data.x, data.y, baseColor, data.id);
-        unit.color = color; // Set the current color (which might be different due to highlighting)
-        unit.targetX = data.targetX;
-        unit.targetY = data.targetY;
-        unit.hasTarget = data.hasTarget;
-        unit.isStopped = data.isStopped;
-        unit.isHitHighlighted = data.isHitHighlighted;
-        unit.isFiringHighlighted = data.isFiringHighlighted;
-        
-        // Restore weapon firing mode if available
-        if (character.weapon != null && data.currentFiringMode != null && character.weapon instanceof RangedWeapon) {
-            ((RangedWeapon)character.weapon).setCurrentFiringMode(data.currentFiringMode);
-        }
-        
-        // Restore automatic targeting setting
-        character.usesAutomaticTargeting = data.usesAutomaticTargeting;
-        
-        // Restore faction information
-        character.faction = data.faction;
-        
-        return unit;
-    }
-    
-    /**
-     * Deserialize unit (legacy save format)
-     * 
-     * @param data UnitData object
-     * @param character Character object
-     * @return Unit object
-     */
-    private Unit deserializeUnit(UnitData data, combat.Character character) {
-        platform.api.Color color = stringToColor(data.color);
-        platform.api.Color baseColor = stringToColor(data.baseColor);
-        
-        // Create unit with the base color initially, then set current color
-        Unit unit = new Unit(character, data.x, data.y, baseColor, data.id);
-        unit.color = color; // Set the current color (which might be different due to highlighting)
-        unit.targetX = data.targetX;
-        unit.targetY = data.targetY;
-        unit.hasTarget = data.hasTarget;
-        unit.isStopped = data.isStopped;
-        unit.isHitHighlighted = data.isHitHighlighted;
-        // Handle backward compatibility for isFiringHighlighted (defaults to false if not present)
-        unit.isFiringHighlighted = data.isFiringHighlighted;
-        
-        // Restore weapon firing mode if available (new field, may be null in legacy saves)
-        if (character.weapon != null && data.currentFiringMode != null && character.weapon instanceof RangedWeapon) {
-            ((RangedWeapon)character.weapon).setCurrentFiringMode(data.currentFiringMode);
-        }
-        
-        // Restore automatic targeting setting (defaults to false for legacy saves)
-        character.usesAutomaticTargeting = data.usesAutomaticTargeting;
-        
-        // Restore faction information (defaults to 1 for legacy saves if not present)
-        character.faction = data.faction;
-        
-        return unit;
+        System.out.println("*** Restored " + units.size() + " units ***");
     }
     
     /**
@@ -694,17 +500,6 @@ public class SaveGameController {
      * @return platform.api.Color object
      */
     private platform.api.Color stringToColor(String colorString) {
-        switch (colorString) {
-            case "RED": return platform.api.Color.RED;
-            case "BLUE": return platform.api.Color.BLUE;
-            case "GREEN": return platform.api.Color.GREEN;
-            case "PURPLE": return platform.api.Color.PURPLE;
-            case "ORANGE": return platform.api.Color.ORANGE;
-            case "YELLOW": return platform.api.Color.YELLOW;
-            case "DARKGRAY": return platform.api.Color.DARK_GRAY;
-            case "GRAY": return platform.api.Color.GRAY;
-            case "CYAN": return platform.api.Color.CYAN;
-            default: return platform.api.Color.RED;
-        }
+        return SaveDataLoader.stringToColor(colorString);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 import input.interfaces.InputManagerCallbacks;
 import input.states.InputStates;
+import game.FactionRoster;
 import game.Unit;
 import combat.Character;
 import data.CharacterPersistenceManager;
@@ -66,12 +67,9 @@ public class VictoryOutcomeController {
         System.out.println("*** FACTION OUTCOME: " + getFactionName(currentFactionId + 1) + " ***");
         
         // Show characters in this faction
-        List<Unit> factionUnits = new ArrayList<>();
-        for (Unit unit : units) {
-            if (unit.character.getFaction() == currentFactionId) {
-                factionUnits.add(unit);
-            }
-        }
+        FactionRoster roster = FactionRoster.getInstance();
+        roster.sync(units);
+        List<Unit> factionUnits = roster.getUnits(currentFactionId);
         
         System.out.println("Characters in faction (" + factionUnits.size() + " total):");
         for (Unit unit : factionUnits) {
@@ -143,74 +141,79 @@ public class VictoryOutcomeController {
             CharacterPersistenceManager persistenceManager = CharacterPersistenceManager.getInstance();
             FactionRegistry factionRegistry = FactionRegistry.getInstance();
             
-            // Update faction statistics and character outcomes
-            for (Integer factionId : scenarioFactions) {
-                InputStates.VictoryOutcome outcome = factionOutcomes.get(factionId);
-                String outcomeName = getOutcomeName(outcome);
+            FactionRoster roster = FactionRoster.getInstance();
+            roster.sync(units);
+            
+            // Hold faction file writes until every outcome is recorded,
+            // then write each changed faction file once
+            persistenceManager.beginBatch();
+            try {
+                // Update faction statistics and character outcomes
+                for (Integer factionId : scenarioFactions) {
+                    InputStates.VictoryOutcome outcome = factionOutcomes.get(factionId);
+                    String outcomeName = getOutcomeName(outcome);
                 
-                System.out.println("Processing " + getFactionName(factionId + 1) + " (" + outcomeName + ")...");
+                    System.out.println("Processing " + getFactionName(factionId + 1) + " (" + outcomeName + ")...");
                 
-                // Update faction statistics
-                try {
-                    Faction faction = factionRegistry.getFaction(factionId);
-                    if (faction != null) {
-                        switch (outcome) {
-                            case VICTORY:
-                                faction.incrementVictories();
-                                break;
-                            case DEFEAT:
-                                faction.incrementDefeats();
-                                break;
-                            case PARTICIPANT:
-                                faction.incrementParticipations();
-                                break;
+                    // Update faction statistics
+                    try {
+                        Faction faction = factionRegistry.getFaction(factionId);
+                        if (faction != null) {
+                            switch (outcome) {
+                                case VICTORY:
+                                    faction.incrementVictories();
+                                    break;
+                                case DEFEAT:
+                                    faction.incrementDefeats();
+                                    break;
+                                case PARTICIPANT:
+                                    faction.incrementParticipations();
+                                    break;
+                            }
+                            factionRegistry.saveFactionFile(faction);
                         }
-                        factionRegistry.saveFactionFile(faction);
+                    } catch (Exception e) {
+                        System.err.println("  Failed to update faction statistics: " + e.getMessage());
                     }
-                } catch (Exception e) {
-                    System.err.println("  Failed to update faction statistics: " + e.getMessage());
-                }
                 
-                // Update character statistics for all characters in this faction in the scenario
-                List<Unit> factionUnits = new ArrayList<>();
-                for (Unit unit : units) {
-                    if (unit.character.getFaction() == factionId) {
-                        factionUnits.add(unit);
-                    }
-                }
+                    // Update character statistics for all characters in this faction in the scenario
+                    List<Unit> factionUnits = roster.getUnits(factionId);
                 
-                for (Unit unit : factionUnits) {
-                    try {
-                        Character character = unit.character;
+                    for (Unit unit : factionUnits) {
+                        try {
+                            Character character = unit.character;
                         
-                        // Update battle participation
-                        character.battlesParticipated++;
+                            // Update battle participation
+                            character.career().battlesParticipated++;
                         
-                        // Update victory/defeat counts based on faction outcome
-                        switch (outcome) {
-                            case VICTORY:
-                                character.victories++;
-                                break;
-                            case DEFEAT:
-                                character.defeats++;
-                                break;
-                            case PARTICIPANT:
-                                // No additional stat changes for participants
-                                break;
-                        }
+                            // Update victory/defeat counts based on faction outcome
+                            switch (outcome) {
+                                case VICTORY:
+                                    character.career().victories++;
+                                    break;
+                                case DEFEAT:
+                                    character.career().defeats++;
+                                    break;
+                                case PARTICIPANT:
+                                    // No additional stat changes for participants
+                                    break;
+                            }
                         
-                        // Save character data back to faction file
-                        persistenceManager.saveCharacter(character);
+                            // Save character data back to faction file
+                            persistenceManager.saveCharacter(character);
                         
-                        System.out.println("  Updated: " + character.getDisplayName() + 
-                                         " (Battles: " + character.battlesParticipated + 
-                                         ", Victories: " + character.victories + 
-                                         ", Defeats: " + character.defeats + ")");
+                            System.out.println("  Updated: " + character.getDisplayName() + 
+                                             " (Battles: " + character.career().battlesParticipated + 
+                                             ", Victories: " + character.career().victories + 
+                                             ", Defeats: " + character.career().defeats + ")");
                         
-                    } catch (Exception e) {
-                        System.err.println("  Failed to update character " + unit.character.getDisplayName() + ": " + e.getMessage());
+                        } catch (Exception e) {
+                            System.err.println("  Failed to update character " + unit.character.getDisplayName() + ": " + e.getMessage());
+                        }
                     }
                 }
+            } finally {
+                persistenceManager.endBatch();
             }
             
             System.out.println("*** VICTORY PROCESSING COMPLETE ***");
@@ -234,20 +237,15 @@ public class VictoryOutcomeController {
         System.out.println("***********************");
         System.out.println("*** BATTLE SUMMARY ***");
         
+        FactionRoster roster = FactionRoster.getInstance();
+        roster.sync(units);
+        
         for (Integer factionId : scenarioFactions) {
             InputStates.VictoryOutcome outcome = factionOutcomes.get(factionId);
             String outcomeName = getOutcomeName(outcome);
             
-            int characterCount = 0;
-            int incapacitatedCount = 0;
-            for (Unit unit : units) {
-                if (unit.character.getFaction() == factionId) {
-                    characterCount++;
-                    if (unit.character.isIncapacitated()) {
-                        incapacitatedCount++;
-                    }
-                }
-            }
+            int characterCount = roster.getUnitCount(factionId);
+            int incapacitatedCount = roster.getIncapacitatedCount(factionId);
             
             System.out.println(getFactionName(factionId + 1) + ": " + outcomeName);
             System.out.println("  Characters: " + characterCount + " total, " + 
@@ -0,0 +1,93 @@
+package game.rendering;
+
+import game.interfaces.IUnit;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * JavaFX implementation of the unit renderer.
+ * Handles rendering units using JavaFX GraphicsContext.
+ *
+ * Unit circles, selection rings and labels are drawn as images from a
+ * UnitSpriteAtlas instead of being stroked and rasterized every frame.
+ */
+public class JavaFXUnitRenderer implements IUnitRenderer {
+    private static final double UNIT_DIAMETER = 21;
+    private static final double NAME_FONT_SIZE = 12;
+    private static final double DEBUG_FONT_SIZE = 10;
+    
+    private final GraphicsContext gc;
+    private final UnitSpriteAtlas atlas;
+    private final boolean labelsVisible;
+    
+    public JavaFXUnitRenderer(GraphicsContext gc) {
+        this(gc, new UnitSpriteAtlas(), true);
+    }
+    
+    /**
+     * @param gc graphics context to draw into
+     * @param atlas sprite cache kept across frames
+     * @param labelsVisible false to skip labels, e.g. when zoomed far out
+     */
+    public JavaFXUnitRenderer(GraphicsContext gc, UnitSpriteAtlas atlas, boolean labelsVisible) {
+        this.gc = gc;
+        this.atlas = atlas;
+        this.labelsVisible = labelsVisible;
+    }
+    
+    @Override
+    public void renderUnit(IUnit unit, boolean isSelected, boolean debugMode) {
+        // Draw unit circle
+        Color fill = platform.impl.javafx.JavaFXColors.toJavaFX(unit.getColor());
+        UnitSpriteAtlas.draw(gc, atlas.getDisc(fill, UNIT_DIAMETER), unit.getX(), unit.getY());
+        
+        // Draw selection-related info
+        if (isSelected) {
+            // Draw movement target if present
+            if (unit.hasTarget()) {
+                renderMovementTarget(unit);
+            }
+            
+            if (!labelsVisible) {
+                return;
+            }
+            
+            // Draw unit name and health
+            String displayText = unit.getCharacter().getDisplayName() + 
+                " (" + unit.getCharacter().currentHealth + "/" + unit.getCharacter().health + ")";
+            UnitSpriteAtlas.draw(gc, atlas.getUnitLabel(unit.getId(), displayText, NAME_FONT_SIZE, Color.BLACK),
+                                 unit.getX() - 15, unit.getY() - 15);
+            
+            // Display movement type and aiming speed only in debug mode
+            if (debugMode) {
+                UnitSpriteAtlas.draw(gc, atlas.getLabel(unit.getCharacter().getCurrentMovementType().getDisplayName(),
+                                                        DEBUG_FONT_SIZE, Color.BLACK),
+                                     unit.getX() - 15, unit.getY() + 25);
+                // Display aiming speed
+                UnitSpriteAtlas.draw(gc, atlas.getLabel(unit.getCharacter().getCurrentAimingSpeed().getDisplayName(),
+                                                        DEBUG_FONT_SIZE, Color.BLACK),
+                                     unit.getX() - 15, unit.getY() + 35);
+            }
+        }
+    }
+    
+    @Override
+    public void renderMovementTarget(IUnit unit) {
+        // Show small yellow X at movement target location
+        gc.setStroke(Color.YELLOW);
+        gc.setLineWidth(2);
+        // Draw X by drawing two diagonal lines
+        double targetX = unit.getTargetX();
+        double targetY = unit.getTargetY();
+        gc.strokeLine(targetX - 5, targetY - 5, targetX + 5, targetY + 5);
+        gc.strokeLine(targetX - 5, targetY + 5, targetX + 5, targetY - 5);
+    }
+    
+    @Override
+    public void renderSelectionIndicator(IUnit unit, boolean isMultiSelect) {
+        if (isMultiSelect) {
+            // Draw cyan border for multi-selected units
+            UnitSpriteAtlas.draw(gc, atlas.getRing(Color.CYAN, 24, 2), unit.getX(), unit.getY());
+        }
+    }
+}
\ No newline at end of file
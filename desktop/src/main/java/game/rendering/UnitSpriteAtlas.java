@@ -0,0 +1,224 @@
+package game.rendering;
+
+import javafx.geometry.Bounds;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Scale;
+
+import game.Unit;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cache of pre-rasterized unit glyphs and label images for the canvas renderer.
+ *
+ * Rasterizing text with fillText every frame dominates frame time once hundreds
+ * of units are labeled. The atlas rasterizes each unit circle, selection ring
+ * and label once, through a node snapshot, and the renderer draws it with a
+ * drawImage blit afterwards.
+ *
+ * - Glyphs are keyed by colour and size.
+ * - Shared labels (movement type, aiming speed) are keyed by text and font size.
+ * - Each unit's name label has its own slot. The slot is re-rasterized when the
+ *   text changes, e.g. when health changes, and dropped by retainUnits once the
+ *   unit has left the field.
+ *
+ * Images are rasterized at the current zoom, rounded up to a power of two, so
+ * they stay sharp when zoomed in. Changing zoom bucket clears the atlas.
+ * Snapshots need the JavaFX application thread, as does all canvas drawing.
+ */
+public class UnitSpriteAtlas {
+
+    public static final int MAX_SHARED_LABELS = 512;
+    private static final double MAX_RASTER_SCALE = 8.0;
+
+    /**
+     * A rasterized image and where its origin sits relative to the draw point.
+     */
+    public static final class Sprite {
+        final Image image;
+        final double offsetX;
+        final double offsetY;
+        final double width;
+        final double height;
+
+        Sprite(Image image, double offsetX, double offsetY, double scale) {
+            this.image = image;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.width = image.getWidth() / scale;
+            this.height = image.getHeight() / scale;
+        }
+    }
+
+    private static final class LabelSlot {
+        final String text;
+        final Sprite sprite;
+
+        LabelSlot(String text, Sprite sprite) {
+            this.text = text;
+            this.sprite = sprite;
+        }
+    }
+
+    private final Map<String, Sprite> glyphs = new HashMap<>();
+    private final Map<String, Sprite> sharedLabels = new LinkedHashMap<String, Sprite>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Sprite> eldest) {
+            return size() > MAX_SHARED_LABELS;
+        }
+    };
+    private final Map<Integer, LabelSlot> unitLabels = new HashMap<>();
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+
+    private double rasterScale = 1.0;
+    private long rasterizeCount;
+
+    public UnitSpriteAtlas() {
+        snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Sets the zoom the next sprites are drawn at, clearing the atlas if
+     * sprites need rasterizing at a different resolution.
+     */
+    public void setZoom(double zoom) {
+        double scale = 1.0;
+        while (scale < zoom && scale < MAX_RASTER_SCALE) {
+            scale *= 2;
+        }
+        if (scale != rasterScale) {
+            rasterScale = scale;
+            clear();
+        }
+    }
+
+    /**
+     * @return filled circle of the given colour and diameter, centred on the draw point
+     */
+    public Sprite getDisc(Color fill, double diameter) {
+        return glyphs.computeIfAbsent("disc:" + fill + ":" + diameter, key -> {
+            Circle circle = new Circle(diameter / 2, fill);
+            return rasterize(circle, -diameter / 2, -diameter / 2);
+        });
+    }
+
+    /**
+     * @return circle outline of the given colour, diameter and line width, centred on the draw point
+     */
+    public Sprite getRing(Color stroke, double diameter, double lineWidth) {
+        return glyphs.computeIfAbsent("ring:" + stroke + ":" + diameter + ":" + lineWidth, key -> {
+            Circle circle = new Circle(diameter / 2, Color.TRANSPARENT);
+            circle.setStroke(stroke);
+            circle.setStrokeWidth(lineWidth);
+            double extent = (diameter + lineWidth) / 2;
+            return rasterize(circle, -extent, -extent);
+        });
+    }
+
+    /**
+     * @return label for text shared by many units, drawn with its baseline at the draw point
+     */
+    public Sprite getLabel(String text, double fontSize, Color fill) {
+        return sharedLabels.computeIfAbsent(fontSize + ":" + fill + ":" + text,
+                                            key -> rasterizeText(text, fontSize, fill));
+    }
+
+    /**
+     * @return the unit's own label, re-rasterized only when its text has changed
+     */
+    public Sprite getUnitLabel(int unitId, String text, double fontSize, Color fill) {
+        LabelSlot slot = unitLabels.get(unitId);
+        if (slot == null || !Objects.equals(slot.text, text)) {
+            slot = new LabelSlot(text, rasterizeText(text, fontSize, fill));
+            unitLabels.put(unitId, slot);
+        }
+        return slot.sprite;
+    }
+
+    /**
+     * Draws a sprite with its origin at the given point, in the context's current transform.
+     */
+    public static void draw(GraphicsContext gc, Sprite sprite, double x, double y) {
+        gc.drawImage(sprite.image, x + sprite.offsetX, y + sprite.offsetY, sprite.width, sprite.height);
+    }
+
+    /**
+     * Forgets a unit's label, e.g. when the unit is removed.
+     */
+    public void removeUnit(int unitId) {
+        unitLabels.remove(unitId);
+    }
+
+    /**
+     * Forgets the labels of units that are no longer on the field, whether
+     * they were deleted, incapacitated and removed, or the field was cleared.
+     *
+     * @param units The units on the field
+     */
+    public void retainUnits(List<Unit> units) {
+        Set<Integer> onField = new HashSet<>();
+        for (Unit unit : units) {
+            onField.add(unit.getId());
+        }
+        for (Integer unitId : unitLabels.keySet().toArray(new Integer[0])) {
+            if (!onField.contains(unitId)) {
+                removeUnit(unitId);
+            }
+        }
+    }
+
+    public int getUnitLabelCount() {
+        return unitLabels.size();
+    }
+
+    /**
+     * Drops every cached image.
+     */
+    public void clear() {
+        glyphs.clear();
+        sharedLabels.clear();
+        unitLabels.clear();
+    }
+
+    /** @return images rasterized since the atlas was created */
+    public long getRasterizeCount() {
+        return rasterizeCount;
+    }
+
+    public int getCachedCount() {
+        return glyphs.size() + sharedLabels.size() + unitLabels.size();
+    }
+
+    private Sprite rasterizeText(String text, double fontSize, Color fill) {
+        Text node = new Text(text);
+        node.setFont(Font.font(fontSize));
+        node.setFill(fill);
+        // Text nodes are positioned by baseline, so the top of the image sits one ascent above it
+        Bounds bounds = node.getLayoutBounds();
+        return rasterize(node, bounds.getMinX(), bounds.getMinY());
+    }
+
+    private Sprite rasterize(javafx.scene.Node node, double offsetX, double offsetY) {
+        if (node instanceof Shape) {
+            ((Shape) node).setSmooth(true);
+        }
+        snapshotParameters.setTransform(new Scale(rasterScale, rasterScale));
+        WritableImage image = node.snapshot(snapshotParameters, null);
+        rasterizeCount++;
+        return new Sprite(image, offsetX, offsetY, rasterScale);
+    }
+}
\ No newline at end of file
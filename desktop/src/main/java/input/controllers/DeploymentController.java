@@ -328,11 +328,11 @@ public class DeploymentController {
                 
                 // Assign weapon
                 character.weapon = WeaponFactory.createWeapon(deploymentWeapon);
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
                 
                 // Get color based on faction
                 javafx.scene.paint.Color javafxColor = getFactionColor(deploymentFaction);
-                platform.api.Color characterColor = platform.api.Color.fromJavaFX(javafxColor);
+                platform.api.Color characterColor = platform.impl.javafx.JavaFXColors.fromJavaFX(javafxColor);
                 
                 // Create and add unit
                 int unitId = callbacks.getNextUnitId();
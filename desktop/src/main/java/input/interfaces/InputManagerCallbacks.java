@@ -94,6 +94,9 @@ public interface InputManagerCallbacks {
     /** Set next unit ID (used during save/load operations) */
     void setNextUnitId(int nextUnitId);
     
+    /** Queue a unit command for the simulation to apply at the next tick boundary */
+    void submitCommand(core.InputCommand command);
+    
     // ─────────────────────────────────────────────────────────────────────────────────
     // Utility and Conversion Methods
     // ─────────────────────────────────────────────────────────────────────────────────
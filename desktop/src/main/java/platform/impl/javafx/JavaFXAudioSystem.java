@@ -1,5 +1,6 @@
 package platform.impl.javafx;
 
+import platform.api.AudioMixer;
 import platform.api.AudioSystem;
 import config.DebugConfig;
 import javafx.scene.media.AudioClip;
@@ -10,13 +11,19 @@ import java.util.Map;
 /**
  * JavaFX implementation of the AudioSystem interface.
  * Wraps JavaFX AudioClip functionality.
+ * 
+ * Queued sounds go through an AudioMixer, so automatic fire from many
+ * shooters costs a few AudioClip.play() calls per frame on the FX thread
+ * instead of one per round.
  */
 public class JavaFXAudioSystem implements AudioSystem {
     private final Map<String, AudioClip> sounds;
+    private final AudioMixer mixer;
     private float masterVolume;
     
     public JavaFXAudioSystem() {
         this.sounds = new HashMap<>();
+        this.mixer = new AudioMixer(this::playSound);
         this.masterVolume = 1.0f;
     }
     
@@ -55,6 +62,22 @@ public class JavaFXAudioSystem implements AudioSystem {
         }
     }
     
+    @Override
+    public void queueSound(String soundId, float volume) {
+        if (sounds.containsKey(soundId)) {
+            mixer.queue(soundId, volume);
+        }
+    }
+    
+    @Override
+    public void flushQueuedSounds() {
+        mixer.flush(System.nanoTime());
+    }
+    
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+    
     @Override
     public void stopSound(String soundId) {
         AudioClip clip = sounds.get(soundId);
@@ -68,6 +91,7 @@ public class JavaFXAudioSystem implements AudioSystem {
         for (AudioClip clip : sounds.values()) {
             clip.stop();
         }
+        mixer.clear();
     }
     
     @Override
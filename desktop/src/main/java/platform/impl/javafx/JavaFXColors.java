@@ -0,0 +1,36 @@
+package platform.impl.javafx;
+
+import platform.api.Color;
+
+/**
+ * Conversions between platform-independent colors and JavaFX colors.
+ * Kept out of platform.api so the simulation core has no JavaFX dependency.
+ */
+public final class JavaFXColors {
+
+    private JavaFXColors() {
+    }
+
+    /**
+     * Converts from JavaFX Color.
+     * @param javafxColor the JavaFX color to convert
+     * @return platform-independent Color
+     */
+    public static Color fromJavaFX(javafx.scene.paint.Color javafxColor) {
+        return new Color(
+            (float) javafxColor.getRed(),
+            (float) javafxColor.getGreen(),
+            (float) javafxColor.getBlue(),
+            (float) javafxColor.getOpacity()
+        );
+    }
+
+    /**
+     * Converts to JavaFX Color.
+     * @param color platform-independent color
+     * @return JavaFX Color representation
+     */
+    public static javafx.scene.paint.Color toJavaFX(Color color) {
+        return new javafx.scene.paint.Color(color.r, color.g, color.b, color.a);
+    }
+}
\ No newline at end of file
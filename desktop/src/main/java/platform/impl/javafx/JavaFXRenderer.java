@@ -0,0 +1,313 @@
+package platform.impl.javafx;
+
+import platform.api.Renderer;
+import platform.api.Color;
+import platform.api.RenderCommandBuffer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.transform.Affine;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * JavaFX implementation of the Renderer interface.
+ * Adapts existing JavaFX rendering code to the platform abstraction.
+ */
+public class JavaFXRenderer implements Renderer {
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final Stack<Affine> transformStack;
+    private Color currentColor;
+    
+    private static final int MAX_CACHED_COLORS = 256;
+    
+    // Platform colors are immutable, so each one is converted to a JavaFX paint only once
+    private final Map<Color, javafx.scene.paint.Color> fxColorCache = new IdentityHashMap<>();
+    
+    // Paint state last set on the GraphicsContext during replay, so runs in one colour set it once
+    private javafx.scene.paint.Color replayFill;
+    private javafx.scene.paint.Color replayStroke;
+    private double replayLineWidth;
+    
+    public JavaFXRenderer(Canvas canvas) {
+        this.canvas = canvas;
+        this.gc = canvas.getGraphicsContext2D();
+        this.transformStack = new Stack<>();
+        this.currentColor = Color.BLACK;
+    }
+    
+    @Override
+    public void clear() {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (currentColor != null) {
+            gc.setFill(toFx(currentColor));
+            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        }
+    }
+    
+    @Override
+    public void setColor(Color color) {
+        this.currentColor = color;
+        if (color != null) {
+            javafx.scene.paint.Color fxColor = toFx(color);
+            gc.setFill(fxColor);
+            gc.setStroke(fxColor);
+        }
+    }
+    
+    @Override
+    public void drawUnit(double x, double y, Color color, String label, double radius) {
+        javafx.scene.paint.Color fxColor = toFx(color);
+        
+        // Draw unit circle
+        gc.setFill(fxColor);
+        gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+        
+        // Draw unit label
+        if (label != null) {
+            gc.setFill(javafx.scene.paint.Color.WHITE);
+            gc.fillText(label, x - 15, y - radius - 5);
+        }
+    }
+    
+    @Override
+    public void drawLine(double x1, double y1, double x2, double y2, Color color, double width) {
+        gc.setStroke(toFx(color));
+        gc.setLineWidth(width);
+        gc.strokeLine(x1, y1, x2, y2);
+    }
+    
+    @Override
+    public void drawText(String text, double x, double y, Color color) {
+        gc.setFill(toFx(color));
+        gc.fillText(text, x, y);
+    }
+    
+    @Override
+    public void drawHealthBar(double x, double y, double width, double height,
+                            double healthPercentage, Color borderColor,
+                            Color fillColor, Color backgroundColor) {
+        // Background
+        gc.setFill(toFx(backgroundColor));
+        gc.fillRect(x, y, width, height);
+        
+        // Health fill
+        double fillWidth = width * Math.max(0, Math.min(1, healthPercentage));
+        gc.setFill(toFx(fillColor));
+        gc.fillRect(x, y, fillWidth, height);
+        
+        // Border
+        gc.setStroke(toFx(borderColor));
+        gc.setLineWidth(1);
+        gc.strokeRect(x, y, width, height);
+    }
+    
+    @Override
+    public void fillRect(double x, double y, double width, double height, Color color) {
+        gc.setFill(toFx(color));
+        gc.fillRect(x, y, width, height);
+    }
+    
+    @Override
+    public void drawRect(double x, double y, double width, double height, Color color, double lineWidth) {
+        gc.setStroke(toFx(color));
+        gc.setLineWidth(lineWidth);
+        gc.strokeRect(x, y, width, height);
+    }
+    
+    @Override
+    public void fillCircle(double centerX, double centerY, double radius, Color color) {
+        gc.setFill(toFx(color));
+        gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    }
+    
+    @Override
+    public void drawCircle(double centerX, double centerY, double radius, Color color, double lineWidth) {
+        gc.setStroke(toFx(color));
+        gc.setLineWidth(lineWidth);
+        gc.strokeOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    }
+    
+    @Override
+    public void setTransform(double offsetX, double offsetY, double zoom) {
+        gc.setTransform(new Affine());
+        gc.translate(offsetX, offsetY);
+        gc.scale(zoom, zoom);
+    }
+    
+    @Override
+    public void pushTransform() {
+        transformStack.push(gc.getTransform());
+    }
+    
+    @Override
+    public void popTransform() {
+        if (!transformStack.isEmpty()) {
+            gc.setTransform(transformStack.pop());
+        }
+    }
+    
+    /**
+     * Draws a recorded frame straight from the buffer's operands. Commands keep
+     * their recorded order, since later ones may overlap earlier ones, but fill,
+     * stroke and line width are only set when they change, so a run of fills in
+     * one colour costs a single setFill.
+     */
+    @Override
+    public void replay(RenderCommandBuffer commands) {
+        RenderCommandBuffer.Cursor c = commands.cursor();
+        replayFill = null;
+        replayStroke = null;
+        replayLineWidth = -1;
+        
+        for (int i = 0; i < commands.size(); i++) {
+            switch (commands.getOpcode(i)) {
+                case RenderCommandBuffer.CLEAR: {
+                    Color background = c.color();
+                    currentColor = background;
+                    gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                    if (background != null) {
+                        fill(toFx(background));
+                        stroke(toFx(background));
+                        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                    }
+                    break;
+                }
+                case RenderCommandBuffer.SET_TRANSFORM:
+                    setTransform(c.d(), c.d(), c.d());
+                    break;
+                case RenderCommandBuffer.PUSH_TRANSFORM:
+                    pushTransform();
+                    break;
+                case RenderCommandBuffer.POP_TRANSFORM:
+                    popTransform();
+                    break;
+                case RenderCommandBuffer.DRAW_UNIT: {
+                    double x = c.d(), y = c.d(), radius = c.d();
+                    c.i();
+                    c.i();
+                    fill(toFx(c.color()));
+                    gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+                    String label = c.text();
+                    if (label != null) {
+                        fill(javafx.scene.paint.Color.WHITE);
+                        gc.fillText(label, x - 15, y - radius - 5);
+                    }
+                    break;
+                }
+                case RenderCommandBuffer.DRAW_HEALTH_BAR: {
+                    double x = c.d(), y = c.d(), width = c.d(), height = c.d(), healthPercentage = c.d();
+                    Color borderColor = c.color(), fillColor = c.color(), backgroundColor = c.color();
+                    fill(toFx(backgroundColor));
+                    gc.fillRect(x, y, width, height);
+                    fill(toFx(fillColor));
+                    gc.fillRect(x, y, width * Math.max(0, Math.min(1, healthPercentage)), height);
+                    stroke(toFx(borderColor));
+                    lineWidth(1);
+                    gc.strokeRect(x, y, width, height);
+                    break;
+                }
+                case RenderCommandBuffer.DRAW_TEXT: {
+                    double x = c.d(), y = c.d();
+                    fill(toFx(c.color()));
+                    gc.fillText(c.text(), x, y);
+                    break;
+                }
+                case RenderCommandBuffer.DRAW_LINE: {
+                    double x1 = c.d(), y1 = c.d(), x2 = c.d(), y2 = c.d();
+                    lineWidth(c.d());
+                    stroke(toFx(c.color()));
+                    gc.strokeLine(x1, y1, x2, y2);
+                    break;
+                }
+                case RenderCommandBuffer.FILL_RECT: {
+                    double x = c.d(), y = c.d(), width = c.d(), height = c.d();
+                    fill(toFx(c.color()));
+                    gc.fillRect(x, y, width, height);
+                    break;
+                }
+                case RenderCommandBuffer.DRAW_RECT: {
+                    double x = c.d(), y = c.d(), width = c.d(), height = c.d();
+                    lineWidth(c.d());
+                    stroke(toFx(c.color()));
+                    gc.strokeRect(x, y, width, height);
+                    break;
+                }
+                case RenderCommandBuffer.FILL_CIRCLE: {
+                    double x = c.d(), y = c.d(), radius = c.d();
+                    fill(toFx(c.color()));
+                    gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+                    break;
+                }
+                case RenderCommandBuffer.DRAW_CIRCLE: {
+                    double x = c.d(), y = c.d(), radius = c.d();
+                    lineWidth(c.d());
+                    stroke(toFx(c.color()));
+                    gc.strokeOval(x - radius, y - radius, radius * 2, radius * 2);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown render opcode: " + commands.getOpcode(i));
+            }
+        }
+    }
+    
+    private void fill(javafx.scene.paint.Color fxColor) {
+        if (fxColor != replayFill) {
+            gc.setFill(fxColor);
+            replayFill = fxColor;
+        }
+    }
+    
+    private void stroke(javafx.scene.paint.Color fxColor) {
+        if (fxColor != replayStroke) {
+            gc.setStroke(fxColor);
+            replayStroke = fxColor;
+        }
+    }
+    
+    private void lineWidth(double width) {
+        if (width != replayLineWidth) {
+            gc.setLineWidth(width);
+            replayLineWidth = width;
+        }
+    }
+    
+    private javafx.scene.paint.Color toFx(Color color) {
+        javafx.scene.paint.Color fxColor = fxColorCache.get(color);
+        if (fxColor == null) {
+            if (fxColorCache.size() >= MAX_CACHED_COLORS) {
+                fxColorCache.clear();
+            }
+            fxColor = JavaFXColors.toJavaFX(color);
+            fxColorCache.put(color, fxColor);
+        }
+        return fxColor;
+    }
+    
+    @Override
+    public double getWidth() {
+        return canvas.getWidth();
+    }
+    
+    @Override
+    public double getHeight() {
+        return canvas.getHeight();
+    }
+    
+    @Override
+    public void present() {
+        // JavaFX handles presentation automatically
+    }
+    
+    @Override
+    public void beginFrame() {
+        // Save current state if needed
+    }
+    
+    @Override
+    public void endFrame() {
+        // Restore state if needed
+    }
+}
\ No newline at end of file
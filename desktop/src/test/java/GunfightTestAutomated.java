@@ -615,8 +615,8 @@ public class GunfightTestAutomated {
         System.out.println("Incapacitated: " + (character.isIncapacitated() ? "YES" : "NO"));
         
         // Calculate wounds inflicted manually since getTotalWoundsInflicted() might not exist
-        int totalWoundsInflicted = character.woundsInflictedScratch + character.woundsInflictedLight + 
-                                 character.woundsInflictedSerious + character.woundsInflictedCritical;
+        int totalWoundsInflicted = character.career().woundsInflictedScratch + character.career().woundsInflictedLight + 
+                                 character.career().woundsInflictedSerious + character.career().woundsInflictedCritical;
         
         System.out.println("Combat Stats:");
         System.out.println("  Attacks: " + character.getAttacksAttempted() + " attempted, " + character.getAttacksSuccessful() + " successful");
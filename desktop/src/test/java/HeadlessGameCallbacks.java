@@ -1,8 +1,12 @@
 import game.GameCallbacks;
 import game.Unit;
 import game.ScheduledEvent;
+import combat.BodyPart;
+import combat.CombatCoordinator;
+import combat.HitResult;
 import combat.Weapon;
 import combat.MeleeWeapon;
+import combat.WoundSeverity;
 import java.util.List;
 import java.util.PriorityQueue;
 
@@ -43,12 +47,15 @@ public class HeadlessGameCallbacks implements GameCallbacks {
             impactTick = fireTick + Math.round(travelTime);
         }
         
-        // Create and schedule the impact event
-        ScheduledEvent impactEvent = new ScheduledEvent(impactTick, () -> {
-            handleProjectileImpact(shooter, target, weapon);
-        }, shooter.getId());
-        
-        gameState.scheduleEvent(impactEvent);
+        // Schedule the typed impact event; every shot hits in headless mode
+        HitResult hitResult = new HitResult(true, BodyPart.CHEST, WoundSeverity.LIGHT, weapon.damage);
+        CombatCoordinator.getInstance().scheduleProjectileImpact(shooter, target, impactTick, hitResult,
+                                                                 shooter.getId(), gameState.getInternalEventQueue(), this);
+    }
+    
+    @Override
+    public void resolveProjectileImpact(Unit shooter, Unit target, Weapon weapon, long impactTick, HitResult hitResult) {
+        handleProjectileImpact(shooter, target, weapon);
     }
     
     @Override
@@ -58,11 +65,13 @@ public class HeadlessGameCallbacks implements GameCallbacks {
                           attacker.getCharacter().getName() + " to " + 
                           target.getCharacter().getName() + " at tick " + attackTick);
         
-        ScheduledEvent meleeEvent = new ScheduledEvent(attackTick, () -> {
-            handleMeleeImpact(attacker, target, weapon);
-        }, attacker.getId());
-        
-        gameState.scheduleEvent(meleeEvent);
+        CombatCoordinator.getInstance().scheduleMeleeImpact(attacker, target, attackTick, false,
+                                                            attacker.getId(), gameState.getInternalEventQueue(), this);
+    }
+    
+    @Override
+    public void resolveMeleeImpact(Unit attacker, Unit target, MeleeWeapon weapon, long attackTick) {
+        handleMeleeImpact(attacker, target, weapon);
     }
     
     @Override
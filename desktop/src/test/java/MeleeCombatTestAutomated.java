@@ -817,8 +817,8 @@ public class MeleeCombatTestAutomated {
         System.out.println("Knife Skill: " + character.getSkillLevel("skl_knife"));
         
         // Calculate wounds inflicted manually since getTotalWoundsInflicted() might not exist
-        int totalWoundsInflicted = character.woundsInflictedScratch + character.woundsInflictedLight + 
-                                 character.woundsInflictedSerious + character.woundsInflictedCritical;
+        int totalWoundsInflicted = character.career().woundsInflictedScratch + character.career().woundsInflictedLight + 
+                                 character.career().woundsInflictedSerious + character.career().woundsInflictedCritical;
         
         System.out.println("Combat Stats:");
         System.out.println("  Attacks: " + character.getAttacksAttempted() + " attempted, " + character.getAttacksSuccessful() + " successful");
@@ -995,7 +995,7 @@ public class MeleeCombatTestAutomated {
         int totalWounds = 0;
         
         System.err.println("DEBUG: " + characterName + " wounds list size: " + (character.wounds != null ? character.wounds.size() : "null"));
-        System.err.println("DEBUG: " + characterName + " woundsReceived counter: " + character.woundsReceived);
+        System.err.println("DEBUG: " + characterName + " woundsReceived counter: " + character.career().woundsReceived);
         
         if (character.wounds != null) {
             for (Object woundObj : character.wounds) {
@@ -1012,7 +1012,7 @@ public class MeleeCombatTestAutomated {
             }
         }
         
-        System.err.println("DEBUG: Validating " + characterName + " wounds - received critical: " + criticalWoundsReceived + " total: " + totalWounds + " (inflicted: " + character.woundsInflictedCritical + ")");
+        System.err.println("DEBUG: Validating " + characterName + " wounds - received critical: " + criticalWoundsReceived + " total: " + totalWounds + " (inflicted: " + character.career().woundsInflictedCritical + ")");
         
         // Check for multiple critical wounds received
         if (criticalWoundsReceived > 1) {
@@ -608,8 +608,8 @@ public class SpringfieldTestAutomated {
         System.out.println("Incapacitated: " + (character.isIncapacitated() ? "YES" : "NO"));
         
         // Calculate wounds inflicted manually
-        int totalWoundsInflicted = character.woundsInflictedScratch + character.woundsInflictedLight + 
-                                 character.woundsInflictedSerious + character.woundsInflictedCritical;
+        int totalWoundsInflicted = character.career().woundsInflictedScratch + character.career().woundsInflictedLight + 
+                                 character.career().woundsInflictedSerious + character.career().woundsInflictedCritical;
         
         System.out.println("Combat Stats:");
         System.out.println("  Attacks: " + character.getAttacksAttempted() + " attempted, " + character.getAttacksSuccessful() + " successful");
@@ -1,7 +1,5 @@
 package com.openfields.testutils;
 
-import platform.TestPlatform;
-import platform.api.Platform;
 import utils.GameConfiguration;
 import java.security.SecureRandom;
 
@@ -11,12 +9,13 @@ import java.security.SecureRandom;
  * This utility standardizes game setup patterns across all test classes,
  * providing consistent initialization, deterministic mode configuration,
  * and proper cleanup for both headless and JavaFX testing scenarios.
+ * Scenarios that need no desktop classes run on GameEngine through the
+ * simulation-core VirtualTimeHarness instead.
  * 
  * Key features:
  * - Deterministic seed management with override capability
  * - Headless and JavaFX game instance creation
  * - Standardized cleanup and state reset
- * - Platform setup and teardown
  * 
  * Usage examples:
  * 
@@ -27,7 +26,6 @@ import java.security.SecureRandom;
  * public void setUp() {
  *     long seed = TestGameSetup.generateOrExtractSeed();
  *     TestGameSetup.enableDeterministicMode(seed);
- *     testPlatform = TestGameSetup.createTestPlatform();
  *     gameInstance = TestGameSetup.createHeadlessGame();
  * }
  * 
@@ -43,11 +41,6 @@ import java.security.SecureRandom;
  */
 public class TestGameSetup {
     
-    // Test configuration constants
-    private static final int DEFAULT_WIDTH = 800;
-    private static final int DEFAULT_HEIGHT = 600;
-    private static final String DEFAULT_TITLE = "Test Environment";
-    
     /**
      * Creates a headless OpenFields2 game instance.
      * 
@@ -160,37 +153,6 @@ public class TestGameSetup {
         System.out.println("===============================");
     }
     
-    /**
-     * Creates and initializes a TestPlatform for headless testing.
-     * 
-     * @return initialized TestPlatform instance
-     * @throws RuntimeException if platform initialization fails
-     */
-    public static TestPlatform createTestPlatform() {
-        return createTestPlatform(DEFAULT_WIDTH, DEFAULT_HEIGHT, DEFAULT_TITLE);
-    }
-    
-    /**
-     * Creates and initializes a TestPlatform with custom dimensions.
-     * 
-     * @param width platform width
-     * @param height platform height
-     * @param title platform title
-     * @return initialized TestPlatform instance
-     * @throws RuntimeException if platform initialization fails
-     */
-    public static TestPlatform createTestPlatform(int width, int height, String title) {
-        try {
-            TestPlatform platform = new TestPlatform();
-            if (!platform.initialize(width, height, title)) {
-                throw new RuntimeException("TestPlatform failed to initialize");
-            }
-            return platform;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create TestPlatform: " + e.getMessage(), e);
-        }
-    }
-    
     /**
      * Initializes JavaFX for testing if not already initialized.
      * 
@@ -232,58 +194,4 @@ public class TestGameSetup {
         GameConfiguration.reset();
         System.out.println("✓ Deterministic mode reset");
     }
-    
-    /**
-     * Performs complete cleanup of platform and global state.
-     * 
-     * @param platform the TestPlatform to shutdown (can be null)
-     */
-    public static void cleanupPlatform(TestPlatform platform) {
-        if (platform != null) {
-            platform.shutdown();
-        }
-    }
-    
-    /**
-     * Complete setup method that performs all common initialization steps.
-     * 
-     * @return SetupResult containing all initialized components
-     */
-    public static SetupResult performCompleteSetup() {
-        long seed = generateOrExtractSeed();
-        enableDeterministicMode(seed);
-        TestPlatform platform = createTestPlatform();
-        Object game = createHeadlessGame();
-        configureGameForTesting(game);
-        
-        return new SetupResult(seed, platform, game);
-    }
-    
-    /**
-     * Complete teardown method that cleans up all components.
-     * 
-     * @param result the SetupResult from performCompleteSetup()
-     */
-    public static void performCompleteTeardown(SetupResult result) {
-        if (result != null) {
-            cleanupGame(result.game);
-            cleanupPlatform(result.platform);
-            resetGlobalState();
-        }
-    }
-    
-    /**
-     * Result container for complete setup operations.
-     */
-    public static class SetupResult {
-        public final long seed;
-        public final TestPlatform platform;
-        public final Object game;
-        
-        public SetupResult(long seed, TestPlatform platform, Object game) {
-            this.seed = seed;
-            this.platform = platform;
-            this.game = game;
-        }
-    }
 }
\ No newline at end of file
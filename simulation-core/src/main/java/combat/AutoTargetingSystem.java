@@ -1,11 +1,14 @@
 package combat;
 
+import combat.managers.TargetingScheduler;
 import game.interfaces.IUnit;
 import game.GameCallbacks;
 import game.ScheduledEvent;
+import game.FactionRoster;
 import game.Unit;
 import java.awt.Rectangle;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 
 /**
@@ -59,9 +62,9 @@ public class AutoTargetingSystem {
         }
         
         // DevCycle 37: System 2 - Create reaiming state when target becomes incapacitated
-        boolean targetJustIncapacitated = character.currentTarget != null 
-            && character.currentTarget.getCharacter().isIncapacitated() 
-            && character.isHostileTo(character.currentTarget.getCharacter())
+        boolean targetJustIncapacitated = character.getCurrentTarget() != null 
+            && character.getCurrentTarget().getCharacter().isIncapacitated() 
+            && character.isHostileTo(character.getCurrentTarget().getCharacter())
             && !character.hasProcessedTargetIncapacitation;
         
         if (targetJustIncapacitated) {
@@ -85,7 +88,7 @@ public class AutoTargetingSystem {
                 
                 // Create temporary reaiming state (15 ticks)
                 WeaponState reamingState = new WeaponState("reaiming", targetStateAfterReaiming, 15);
-                character.currentWeaponState = reamingState;
+                character.setCurrentWeaponState(reamingState);
                 
                 // Clear any ongoing aiming timing in the AimingSystem
                 combat.managers.AimingSystem.getInstance().resetAimingTiming(character.id);
@@ -99,18 +102,26 @@ public class AutoTargetingSystem {
         }
         
         // Check if current target is still valid
-        boolean currentTargetValid = character.currentTarget != null 
-            && !character.currentTarget.getCharacter().isIncapacitated() 
-            && character.isHostileTo(character.currentTarget.getCharacter());
+        boolean currentTargetValid = character.getCurrentTarget() != null 
+            && !character.getCurrentTarget().getCharacter().isIncapacitated() 
+            && character.isHostileTo(character.getCurrentTarget().getCharacter());
         
         if (!currentTargetValid) {
+            // Idle characters search on their own staggered schedule; losing a target searches at once
+            TargetingScheduler scheduler = TargetingScheduler.getInstance();
+            if (character.getCurrentTarget() == null && !scheduler.isEvaluationDue(character, currentTick)) {
+                return;
+            }
+            
             // Find a new target with target zone priority
-            IUnit newTarget = findNearestHostileTargetWithZonePriority(character, selfUnit, gameCallbacks);
+            long[] ticksUntilReachable = { Long.MAX_VALUE };
+            IUnit newTarget = findNearestHostileTarget(character, selfUnit, gameCallbacks, ticksUntilReachable);
+            scheduler.recordEvaluation(character, currentTick, ticksUntilReachable[0]);
             
             if (newTarget != null) {
                 // Target found - start attacking
                 character.persistentAttack = true;
-                character.currentTarget = newTarget; // DevCycle 22: Fix auto targeting infinite loop by setting currentTarget
+                character.setCurrentTarget(newTarget); // DevCycle 22: Fix auto targeting infinite loop by setting currentTarget
                 character.hasProcessedTargetIncapacitation = false; // Reset for new target
                 
                 // Calculate distance for logging
@@ -133,7 +144,7 @@ public class AutoTargetingSystem {
                         // Move to melee range first
                         // Set melee movement target - the updateMeleeMovement method will handle the attack when in range
                         character.isMovingToMelee = true;
-                        character.meleeTarget = newTarget;
+                        character.setMeleeTarget(newTarget);
                         character.lastMeleeMovementUpdate = currentTick;
                         
                         // Ready melee weapon during movement (like manual attacks)
@@ -148,7 +159,7 @@ public class AutoTargetingSystem {
                 // No targets found - disable persistent attack but maintain weapon direction
                 if (character.persistentAttack) {
                     character.persistentAttack = false;
-                    character.currentTarget = null;
+                    character.setCurrentTarget(null);
                     
                     // Preserve the current facing direction so weapon continues to aim at last target location
                     if (character.lastTargetFacing != null && selfUnit != null) {
@@ -191,11 +202,11 @@ public class AutoTargetingSystem {
             }
             
             // Calculate distance for logging
-            double dx = character.currentTarget.getX() - selfUnit.getX();
-            double dy = character.currentTarget.getY() - selfUnit.getY();
+            double dx = character.getCurrentTarget().getX() - selfUnit.getX();
+            double dy = character.getCurrentTarget().getY() - selfUnit.getY();
             double distanceFeet = Math.hypot(dx, dy) / 7.0; // Convert pixels to feet
             
-            String zoneStatus = (character.targetZone != null && character.targetZone.contains((int)character.currentTarget.getX(), (int)character.currentTarget.getY())) ? " (in target zone)" : "";
+            String zoneStatus = (character.targetZone != null && character.targetZone.contains((int)character.getCurrentTarget().getX(), (int)character.getCurrentTarget().getY())) ? " (in target zone)" : "";
             
             // DevCycle 40: System 9 - RESTORED: 5-tick minimum interval protection 
             // Investigation showed removing this exposed rapid attack scheduling (12 attacks in 177 ticks)
@@ -223,17 +234,17 @@ public class AutoTargetingSystem {
             // Start attack sequence - check combat mode to determine attack type
             if (character.isMeleeCombatMode() && character.meleeWeapon != null) {
                 // Check if already in melee range
-                double distance = Math.hypot(character.currentTarget.getX() - selfUnit.getX(), character.currentTarget.getY() - selfUnit.getY());
+                double distance = Math.hypot(character.getCurrentTarget().getX() - selfUnit.getX(), character.getCurrentTarget().getY() - selfUnit.getY());
                 double meleeRangePixels = character.meleeWeapon.getTotalReach() * 7.0; // Convert feet to pixels
                 
                 if (distance <= meleeRangePixels) {
                     // Already in range, attack immediately
-                    character.startMeleeAttackSequence(selfUnit, character.currentTarget, currentTick, eventQueue, selfUnit.getId(), gameCallbacks);
+                    character.startMeleeAttackSequence(selfUnit, character.getCurrentTarget(), currentTick, eventQueue, selfUnit.getId(), gameCallbacks);
                 } else {
                     // Move to melee range first
                     // Set melee movement target - the updateMeleeMovement method will handle the attack when in range
                     character.isMovingToMelee = true;
-                    character.meleeTarget = character.currentTarget;
+                    character.setMeleeTarget(character.getCurrentTarget());
                     character.lastMeleeMovementUpdate = currentTick;
                     
                     // Ready melee weapon during movement (like manual attacks)
@@ -242,7 +253,7 @@ public class AutoTargetingSystem {
                     }
                 }
             } else {
-                CombatCoordinator.getInstance().startAttackSequence(selfUnit, character.currentTarget, currentTick, gameCallbacks);
+                CombatCoordinator.getInstance().startAttackSequence(selfUnit, character.getCurrentTarget(), currentTick, gameCallbacks);
             }
         }
     }
@@ -251,7 +262,19 @@ public class AutoTargetingSystem {
      * Finds the nearest hostile target, prioritizing targets within the character's target zone
      */
     public static IUnit findNearestHostileTargetWithZonePriority(Character character, IUnit selfUnit, GameCallbacks gameCallbacks) {
+        return findNearestHostileTarget(character, selfUnit, gameCallbacks, null);
+    }
+    
+    /**
+     * Target search shared by automatic targeting and retargeting. If ticksUntilReachable
+     * is given, its first element receives the fewest ticks before a hostile beyond
+     * weapon range could come into it.
+     */
+    private static IUnit findNearestHostileTarget(Character character, IUnit selfUnit, GameCallbacks gameCallbacks,
+                                                  long[] ticksUntilReachable) {
         List<Unit> allUnits = gameCallbacks.getUnits();
+        FactionRoster roster = FactionRoster.getInstance();
+        roster.ensureTracking(allUnits);
         IUnit nearestZoneTarget = null;
         IUnit nearestGlobalTarget = null;
         double nearestZoneDistance = Double.MAX_VALUE;
@@ -259,57 +282,65 @@ public class AutoTargetingSystem {
         int hostilesFound = 0;
         // Removed: Using RandomProvider for centralized random number generation
         
-        for (IUnit unit : allUnits) {
-            // Skip self
-            if (unit == selfUnit) continue;
-            
+        // Only live units of other factions are candidates
+        for (Map.Entry<Integer, List<Unit>> factionEntry : roster.getLiveUnitsByFaction().entrySet()) {
             // Skip if not hostile (same faction)
-            if (!character.isHostileTo(unit.getCharacter())) {
+            if (factionEntry.getKey() == character.getFaction()) {
                 continue;
             }
             
-            hostilesFound++;
-            
-            // Skip if incapacitated
-            if (unit.getCharacter().isIncapacitated()) continue;
-            
-            // Calculate distance
-            double dx = unit.getX() - selfUnit.getX();
-            double dy = unit.getY() - selfUnit.getY();
-            double distance = Math.hypot(dx, dy);
-            
-            // Check weapon range limitations (only for ranged weapons)
-            if (character.weapon != null && character.weapon instanceof RangedWeapon && 
-                distance / 7.0 > ((RangedWeapon)character.weapon).getMaximumRange()) {
-                continue; // Skip targets beyond weapon range
-            }
-            
-            // Check if target is within target zone (if zone exists)
-            boolean inTargetZone = false;
-            if (character.targetZone != null) {
-                inTargetZone = character.targetZone.contains((int)unit.getX(), (int)unit.getY());
-            }
-            
-            if (inTargetZone) {
-                // Target is in zone - prioritize zone targets
-                if (distance < nearestZoneDistance) {
-                    nearestZoneDistance = distance;
-                    nearestZoneTarget = unit;
-                } else if (distance == nearestZoneDistance && nearestZoneTarget != null) {
-                    // Random selection for equidistant targets
-                    if (utils.RandomProvider.nextBoolean()) {
-                        nearestZoneTarget = unit;
+            for (IUnit unit : factionEntry.getValue()) {
+                // Skip self
+                if (unit == selfUnit) continue;
+                
+                hostilesFound++;
+                
+                // Roster is refreshed every tick; recheck in case of a change since
+                if (unit.getCharacter().isIncapacitated()) continue;
+                
+                // Calculate distance
+                double dx = unit.getX() - selfUnit.getX();
+                double dy = unit.getY() - selfUnit.getY();
+                double distance = Math.hypot(dx, dy);
+                
+                // Check weapon range limitations (only for ranged weapons)
+                if (character.weapon != null && character.weapon instanceof RangedWeapon && 
+                    distance / 7.0 > ((RangedWeapon)character.weapon).getMaximumRange()) {
+                    if (ticksUntilReachable != null) {
+                        double gap = distance - ((RangedWeapon)character.weapon).getMaximumRange() * 7.0;
+                        ticksUntilReachable[0] = Math.min(ticksUntilReachable[0],
+                                                          TargetingScheduler.ticksToClose(gap, character, unit.getCharacter()));
                     }
+                    continue; // Skip targets beyond weapon range
                 }
-            } else {
-                // Target is not in zone - track as global fallback
-                if (distance < nearestGlobalDistance) {
-                    nearestGlobalDistance = distance;
-                    nearestGlobalTarget = unit;
-                } else if (distance == nearestGlobalDistance && nearestGlobalTarget != null) {
-                    // Random selection for equidistant targets
-                    if (utils.RandomProvider.nextBoolean()) {
+                
+                // Check if target is within target zone (if zone exists)
+                boolean inTargetZone = false;
+                if (character.targetZone != null) {
+                    inTargetZone = character.targetZone.contains((int)unit.getX(), (int)unit.getY());
+                }
+                
+                if (inTargetZone) {
+                    // Target is in zone - prioritize zone targets
+                    if (distance < nearestZoneDistance) {
+                        nearestZoneDistance = distance;
+                        nearestZoneTarget = unit;
+                    } else if (distance == nearestZoneDistance && nearestZoneTarget != null) {
+                        // Random selection for equidistant targets
+                        if (utils.RandomProvider.nextBoolean()) {
+                            nearestZoneTarget = unit;
+                        }
+                    }
+                } else {
+                    // Target is not in zone - track as global fallback
+                    if (distance < nearestGlobalDistance) {
+                        nearestGlobalDistance = distance;
                         nearestGlobalTarget = unit;
+                    } else if (distance == nearestGlobalDistance && nearestGlobalTarget != null) {
+                        // Random selection for equidistant targets
+                        if (utils.RandomProvider.nextBoolean()) {
+                            nearestGlobalTarget = unit;
+                        }
                     }
                 }
             }
@@ -329,7 +360,7 @@ public class AutoTargetingSystem {
         if (!character.persistentAttack || character.isIncapacitated() || character.weapon == null) {
             System.out.println(character.getDisplayName() + " automatic retargeting cancelled - conditions no longer met");
             character.persistentAttack = false;
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             character.isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -344,7 +375,7 @@ public class AutoTargetingSystem {
         
         if (newTarget != null) {
             // New target found - start attacking
-            character.currentTarget = newTarget;
+            character.setCurrentTarget(newTarget);
             character.hasProcessedTargetIncapacitation = false; // Reset for new target
             
             // Calculate distance for logging
@@ -362,7 +393,7 @@ public class AutoTargetingSystem {
             // No targets found - end persistent attack
             System.out.println(character.getDisplayName() + " found no more targets for automatic retargeting");
             character.persistentAttack = false;
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             character.isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -12,12 +12,13 @@ import combat.managers.WeaponStateManager;
 import combat.managers.ReloadManager;
 import combat.managers.CharacterSkillsManager;
 import combat.managers.CharacterStatsManager;
-import combat.managers.TargetManager;
 import combat.managers.CombatModeManager;
 import combat.managers.HealthManager;
 import combat.managers.WeaponTimingManager;
 import combat.managers.CombatValidationManager;
+import game.EventBinding;
 import game.ScheduledEvent;
+import game.UnitRegistry;
 import game.interfaces.IUnit;
 import game.GameCallbacks;
 import data.SkillsManager;
@@ -33,10 +34,6 @@ public class Character implements ICharacter {
     /** Character unique identifier */
     public int id;
     
-    /** Value objects for organized data access */
-    public CharacterIdentity identity;
-    public CharacterStats stats;
-    
     /** Character display name and identity */
     public String nickname;
     public String firstName;
@@ -73,8 +70,13 @@ public class Character implements ICharacter {
     public boolean isMeleeCombatMode = false; // True when in melee combat mode
     public WeaponState currentWeaponState;
     
-    /** Combat targeting and state */
-    public IUnit currentTarget;
+    /**
+     * Combat targeting and state. Targets are held as handles into the unit
+     * registry of the game this character's unit is in, so a target that has
+     * left the field reads back as null; use getCurrentTarget() and friends.
+     */
+    private UnitRegistry unitRegistry;
+    private long currentTargetHandle = UnitRegistry.NO_HANDLE;
     public boolean persistentAttack;
     public boolean isAttacking;
     public boolean isDefensiveAiming = false;
@@ -91,7 +93,7 @@ public class Character implements ICharacter {
     public int currentShotInSequence = 0; // Current shot number during multiple shot execution
     
     /** Reaction action system (DevCycle 28) */
-    public IUnit reactionTarget = null; // Target being monitored for weapon state changes
+    private long reactionTargetHandle = UnitRegistry.NO_HANDLE; // Target being monitored for weapon state changes (set via ReactionManager.startMonitoring)
     public WeaponState reactionBaselineState = null; // Initial weapon state when reaction was set
     public long reactionTriggerTick = -1; // Tick when reaction should execute (-1 = not triggered)
     
@@ -114,6 +116,14 @@ public class Character implements ICharacter {
     /** Current wounds and injuries */
     public List<Wound> wounds;
     
+    // Cached incapacitation state. Health and wounds are public fields that many systems
+    // change directly, so the cache remembers what it was computed from and is
+    // recomputed whenever health, the wound list or its size differ.
+    private boolean incapacitatedCached = false;
+    private int incapacitatedCheckedHealth = Integer.MIN_VALUE;
+    private List<Wound> incapacitatedCheckedWounds = null;
+    private int incapacitatedCheckedWoundCount = -1;
+    
     // DEBUG AND SYSTEM STATE
     
     /** Auto-targeting debug throttling (moved to CharacterDebugUtils) */
@@ -121,46 +131,8 @@ public class Character implements ICharacter {
     
     // COMBAT STATISTICS TRACKING
     
-    /** General combat experience tracking */
-    public int combatEngagements = 0;           // Manual tracking (no auto-update yet)
-    public int woundsReceived = 0;              // Auto-updated when addWound() called
-    
-    /** General attack statistics */
-    public int attacksAttempted = 0;            // Auto-updated when attacks are attempted
-    public int attacksSuccessful = 0;           // Auto-updated when attacks hit
-    public int targetsIncapacitated = 0;        // Auto-updated when targets become incapacitated
-    
-    /** Wound infliction by severity */
-    public int woundsInflictedScratch = 0;      // Auto-updated on successful hits
-    public int woundsInflictedLight = 0;        // Auto-updated on successful hits  
-    public int woundsInflictedSerious = 0;      // Auto-updated on successful hits
-    public int woundsInflictedCritical = 0;     // Auto-updated on successful hits
-    
-    /** Ranged combat tracking (DevCycle 12) */
-    public int rangedAttacksAttempted = 0;      // Auto-updated when ranged attacks are attempted
-    public int rangedAttacksSuccessful = 0;     // Auto-updated when ranged attacks hit
-    public int rangedWoundsInflicted = 0;       // Auto-updated when ranged attacks cause wounds
-    
-    /** Melee combat tracking (DevCycle 12) */
-    public int meleeAttacksAttempted = 0;       // Auto-updated when melee attacks are attempted
-    public int meleeAttacksSuccessful = 0;      // Auto-updated when melee attacks hit
-    public int meleeWoundsInflicted = 0;        // Auto-updated when melee attacks cause wounds
-    
-    /** Headshot statistics */
-    public int headshotsAttempted = 0;          // Auto-updated when attacks target the head
-    public int headshotsSuccessful = 0;         // Auto-updated when headshots hit
-    public int headshotIncapacitations = 0;    // Auto-updated when headshots result in incapacitations
-    
-    /** Battle outcome statistics */
-    public int battlesParticipated = 0;         // Manual tracking - updated after battles
-    public int victories = 0;                   // Manual tracking - updated after victories
-    public int defeats = 0;                     // Manual tracking - updated after defeats
-    
-    /** Defensive statistics (DevCycle 23) */
-    public int defensiveAttempts = 0;           // Auto-updated when defense is attempted
-    public int defensiveSuccesses = 0;          // Auto-updated when defense succeeds
-    public int counterAttacksExecuted = 0;      // Auto-updated when counter-attacks are performed
-    public int counterAttacksSuccessful = 0;    // Auto-updated when counter-attacks hit
+    /** Career counters, allocated on first use; see career() */
+    private CharacterCareer career;
     
     /** Defense system fields (DevCycle 40) */
     public long nextDefenseTick = 0;            // Next tick when defense can be attempted
@@ -195,10 +167,6 @@ public class Character implements ICharacter {
     public int braveryCheckFailures = 0;        // Number of active bravery check failures
     public long braveryPenaltyEndTick = 0;      // When bravery penalty will end
     
-    /** Hesitation tracking for display and statistics */
-    public long totalWoundHesitationTicks = 0;   // Total hesitation time from wounds
-    public long totalBraveryHesitationTicks = 0; // Total hesitation time from bravery failures
-    
     // AI TARGETING AND MOVEMENT STATE
     
     /** Automatic targeting system */
@@ -206,13 +174,14 @@ public class Character implements ICharacter {
     public Double lastTargetFacing = null; // Last direction character was aiming (degrees)
     
     /** First attack penalty system - track target changes for accuracy penalty */
-    public IUnit previousTarget = null; // Track previous target to detect target changes
+    private long previousTargetHandle = UnitRegistry.NO_HANDLE; // Track previous target to detect target changes
     public boolean isFirstAttackOnTarget = true; // True if this is the first attack on current target
     
     /** Melee movement state tracking */
     public boolean isMovingToMelee = false; // Currently moving to engage target in melee combat
-    public IUnit meleeTarget = null; // Target unit for melee attack (maintained during movement)
+    private long meleeTargetHandle = UnitRegistry.NO_HANDLE; // Target unit for melee attack (maintained during movement)
     public long lastMeleeMovementUpdate = 0; // Last tick when melee movement was updated (for throttling)
+    public MeleeApproachPrediction meleeApproachPrediction = null; // Next range check of the current melee approach
     
     // DEFENSE SYSTEM STATE (DevCycle 23)
     // Defense state is now managed by DefenseManager
@@ -623,7 +592,11 @@ public class Character implements ICharacter {
     
     @Override
     public void setCurrentWeaponState(WeaponState state) {
+        WeaponState previousState = this.currentWeaponState;
         this.currentWeaponState = state;
+        if (previousState != state) {
+            WeaponStateManager.getInstance().fireWeaponStateChanged(this, previousState, state);
+        }
     }
     
     // Aiming duration tracking methods (DevCycle 27)
@@ -757,29 +730,83 @@ public class Character implements ICharacter {
     
     @Override
     public IUnit getCurrentTarget() {
-        // DevCycle 30: Delegate to TargetManager and sync field for compatibility
-        this.currentTarget = TargetManager.getInstance().getCurrentTarget(this.id);
-        return this.currentTarget;
+        return resolveTarget(currentTargetHandle);
     }
     
     @Override
     public void setCurrentTarget(IUnit target) {
-        // DevCycle 30: Delegate to TargetManager and sync field for compatibility
-        TargetManager.getInstance().setCurrentTarget(this.id, target);
-        this.currentTarget = target;
+        currentTargetHandle = handleOf(target);
     }
     
     public boolean hasValidTarget() {
-        return TargetManager.getInstance().hasValidTarget(this.id);
+        IUnit target = getCurrentTarget();
+        return target != null && target.getCharacter() != null && !target.getCharacter().isIncapacitated();
+    }
+    
+    public IUnit getPreviousTarget() {
+        return resolveTarget(previousTargetHandle);
+    }
+    
+    public void setPreviousTarget(IUnit target) {
+        previousTargetHandle = handleOf(target);
     }
     
     public IUnit getMeleeTarget() {
-        return TargetManager.getInstance().getMeleeTarget(this.id);
+        return resolveTarget(meleeTargetHandle);
     }
     
     public void setMeleeTarget(IUnit target) {
-        TargetManager.getInstance().setMeleeTarget(this.id, target);
-        this.meleeTarget = target;
+        meleeTargetHandle = handleOf(target);
+    }
+    
+    public IUnit getReactionTarget() {
+        return resolveTarget(reactionTargetHandle);
+    }
+    
+    public void setReactionTarget(IUnit target) {
+        reactionTargetHandle = handleOf(target);
+    }
+    
+    /**
+     * @return the registry target handles are resolved against, or null
+     *         before the character's unit or any target has been registered
+     */
+    public UnitRegistry getUnitRegistry() {
+        return unitRegistry;
+    }
+    
+    /**
+     * Moves the character to another registry, carrying its targets over.
+     * Called by UnitRegistry when the character's unit is registered.
+     */
+    public void setUnitRegistry(UnitRegistry registry) {
+        if (registry == unitRegistry) {
+            return;
+        }
+        IUnit current = getCurrentTarget();
+        IUnit previous = getPreviousTarget();
+        IUnit melee = getMeleeTarget();
+        IUnit reaction = getReactionTarget();
+        unitRegistry = registry;
+        setCurrentTarget(current);
+        setPreviousTarget(previous);
+        setMeleeTarget(melee);
+        setReactionTarget(reaction);
+    }
+    
+    private IUnit resolveTarget(long handle) {
+        return handle != UnitRegistry.NO_HANDLE && unitRegistry != null ? unitRegistry.resolve(handle) : null;
+    }
+    
+    private long handleOf(IUnit target) {
+        if (target == null) {
+            return UnitRegistry.NO_HANDLE;
+        }
+        if (unitRegistry == null) {
+            // Not registered yet; share the target's registry until the unit is
+            unitRegistry = UnitRegistry.of(target);
+        }
+        return unitRegistry.register(target);
     }
     
     @Override
@@ -934,116 +961,127 @@ public class Character implements ICharacter {
         return WeaponStateManager.getInstance().getFiresFromAimingState(this.id);
     }
     
+    /**
+     * Career counters, kept out of the per-tick combat state. Allocated on
+     * first use, so characters that never fight do not carry them.
+     */
+    public CharacterCareer career() {
+        if (career == null) {
+            career = new CharacterCareer();
+        }
+        return career;
+    }
+    
     // ICharacter interface implementation - Combat Statistics
     
     @Override
     public int getCombatEngagements() {
-        return combatEngagements;
+        return career().combatEngagements;
     }
     
     @Override
     public void setCombatEngagements(int engagements) {
-        this.combatEngagements = engagements;
+        career().combatEngagements = engagements;
     }
     
     @Override
     public int getWoundsReceived() {
-        return woundsReceived;
+        return career().woundsReceived;
     }
     
     @Override
     public void setWoundsReceived(int wounds) {
-        this.woundsReceived = wounds;
+        career().woundsReceived = wounds;
     }
     
     @Override
     public int getAttacksAttempted() {
-        return attacksAttempted;
+        return career().attacksAttempted;
     }
     
     @Override
     public void setAttacksAttempted(int attacks) {
-        this.attacksAttempted = attacks;
+        career().attacksAttempted = attacks;
     }
     
     @Override
     public int getAttacksSuccessful() {
-        return attacksSuccessful;
+        return career().attacksSuccessful;
     }
     
     @Override
     public void setAttacksSuccessful(int attacks) {
-        this.attacksSuccessful = attacks;
+        career().attacksSuccessful = attacks;
     }
     
     @Override
     public int getTargetsIncapacitated() {
-        return targetsIncapacitated;
+        return career().targetsIncapacitated;
     }
     
     @Override
     public void setTargetsIncapacitated(int targets) {
-        this.targetsIncapacitated = targets;
+        career().targetsIncapacitated = targets;
     }
     
     @Override
     public int getRangedAttacksAttempted() {
-        return rangedAttacksAttempted;
+        return career().rangedAttacksAttempted;
     }
     
     @Override
     public void setRangedAttacksAttempted(int attacks) {
-        this.rangedAttacksAttempted = attacks;
+        career().rangedAttacksAttempted = attacks;
     }
     
     @Override
     public int getRangedAttacksSuccessful() {
-        return rangedAttacksSuccessful;
+        return career().rangedAttacksSuccessful;
     }
     
     @Override
     public void setRangedAttacksSuccessful(int attacks) {
-        this.rangedAttacksSuccessful = attacks;
+        career().rangedAttacksSuccessful = attacks;
     }
     
     @Override
     public int getRangedWoundsInflicted() {
-        return rangedWoundsInflicted;
+        return career().rangedWoundsInflicted;
     }
     
     @Override
     public void setRangedWoundsInflicted(int wounds) {
-        this.rangedWoundsInflicted = wounds;
+        career().rangedWoundsInflicted = wounds;
     }
     
     @Override
     public int getMeleeAttacksAttempted() {
-        return meleeAttacksAttempted;
+        return career().meleeAttacksAttempted;
     }
     
     @Override
     public void setMeleeAttacksAttempted(int attacks) {
-        this.meleeAttacksAttempted = attacks;
+        career().meleeAttacksAttempted = attacks;
     }
     
     @Override
     public int getMeleeAttacksSuccessful() {
-        return meleeAttacksSuccessful;
+        return career().meleeAttacksSuccessful;
     }
     
     @Override
     public void setMeleeAttacksSuccessful(int attacks) {
-        this.meleeAttacksSuccessful = attacks;
+        career().meleeAttacksSuccessful = attacks;
     }
     
     @Override
     public int getMeleeWoundsInflicted() {
-        return meleeWoundsInflicted;
+        return career().meleeWoundsInflicted;
     }
     
     @Override
     public void setMeleeWoundsInflicted(int wounds) {
-        this.meleeWoundsInflicted = wounds;
+        career().meleeWoundsInflicted = wounds;
     }
     
     // ICharacter interface implementation - State Checks and Burst/Auto
@@ -1131,17 +1169,11 @@ public class Character implements ICharacter {
     
     @Override
     public boolean isIncapacitated() {
-        boolean incapacitated = false;
-        
-        if (currentHealth <= 0) {
-            incapacitated = true;
-        }
-        // Check for any critical wounds
-        for (Wound wound : wounds) {
-            if (wound.getSeverity() == WoundSeverity.CRITICAL) {
-                incapacitated = true;
-                break;
-            }
+        boolean incapacitated = incapacitatedCached;
+        if (currentHealth != incapacitatedCheckedHealth
+                || wounds != incapacitatedCheckedWounds
+                || wounds.size() != incapacitatedCheckedWoundCount) {
+            incapacitated = refreshIncapacitatedState();
         }
         
         // Force prone position for incapacitated characters
@@ -1152,6 +1184,31 @@ public class Character implements ICharacter {
         return incapacitated;
     }
     
+    /**
+     * Recomputes the cached incapacitation state from health and wounds.
+     * Called by HealthManager when a wound is applied.
+     * 
+     * @return true if the character is incapacitated
+     */
+    public boolean refreshIncapacitatedState() {
+        boolean incapacitated = currentHealth <= 0;
+        if (!incapacitated) {
+            // Check for any critical wounds
+            for (Wound wound : wounds) {
+                if (wound.getSeverity() == WoundSeverity.CRITICAL) {
+                    incapacitated = true;
+                    break;
+                }
+            }
+        }
+        
+        incapacitatedCached = incapacitated;
+        incapacitatedCheckedHealth = currentHealth;
+        incapacitatedCheckedWounds = wounds;
+        incapacitatedCheckedWoundCount = wounds.size();
+        return incapacitated;
+    }
+    
     public boolean removeWound(Wound wound) {
         return HealthManager.getInstance().removeWound(this, wound);
     }
@@ -1208,7 +1265,7 @@ public class Character implements ICharacter {
             
             // Initialize weapon state if needed for melee weapon
             if (currentWeaponState == null) {
-                currentWeaponState = meleeWeapon.getInitialState();
+                setCurrentWeaponState(meleeWeapon.getInitialState());
             }
         } else {
             // Ranged mode - ready the ranged weapon
@@ -1218,7 +1275,7 @@ public class Character implements ICharacter {
             
             // Initialize weapon state if needed for ranged weapon
             if (currentWeaponState == null) {
-                currentWeaponState = weapon.getInitialState();
+                setCurrentWeaponState(weapon.getInitialState());
             }
         }
         
@@ -1447,9 +1504,8 @@ public class Character implements ICharacter {
         // schedule a check for continuous attack after reload completes
         if (started && !persistentAttack) {
             long reloadCompleteTick = ReloadManager.getInstance().getReloadCompletionTick(this.id);
-            eventQueue.add(new ScheduledEvent(reloadCompleteTick, () -> {
-                checkContinuousAttack(unit, reloadCompleteTick, eventQueue, ownerId, gameCallbacks);
-            }, ownerId));
+            eventQueue.add(new ScheduledEvent(reloadCompleteTick, CombatEventKind.RELOAD_ATTACK_CHECK, ownerId,
+                new EventBinding(this, unit, null, eventQueue, gameCallbacks), reloadCompleteTick));
         }
     }
     
@@ -1469,7 +1525,7 @@ public class Character implements ICharacter {
         // Only proceed if still in persistent attack mode and not incapacitated
         if (!persistentAttack || this.isIncapacitated() || weapon == null) {
             persistentAttack = false;
-            currentTarget = null;
+            setCurrentTarget(null);
             isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -1484,7 +1540,7 @@ public class Character implements ICharacter {
         
         if (newTarget != null) {
             // New target found - start attacking
-            currentTarget = newTarget;
+            setCurrentTarget(newTarget);
             
             // Calculate distance for logging
             double dx = newTarget.getX() - shooter.getX();
@@ -1498,7 +1554,7 @@ public class Character implements ICharacter {
         } else {
             // No valid targets found - disable persistent attack but preserve weapon aiming direction
             persistentAttack = false;
-            currentTarget = null;
+            setCurrentTarget(null);
             isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
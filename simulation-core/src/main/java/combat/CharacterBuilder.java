@@ -171,10 +171,6 @@ public class CharacterBuilder {
      * Creates the Character instance with all configured values
      */
     public Character build() {
-        // Create identity and stats value objects
-        CharacterIdentity identity = new CharacterIdentity(id, nickname, firstName, lastName, birthdate, themeId);
-        CharacterStats stats = new CharacterStats(dexterity, health, coolness, strength, reflexes, handedness, baseMovementSpeed);
-        
         // Create the character using the comprehensive constructor
         Character character = new Character(id, nickname, firstName, lastName, birthdate, themeId, 
                                           dexterity, health, coolness, strength, reflexes, handedness);
@@ -188,10 +184,6 @@ public class CharacterBuilder {
         character.usesAutomaticTargeting = usesAutomaticTargeting;
         character.preferredFiringMode = preferredFiringMode;
         
-        // Set the value objects
-        character.identity = identity;
-        character.stats = stats;
-        
         return character;
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package combat;
+
+/**
+ * Mutable record of a character's combat career: attack, wound, headshot,
+ * battle and defense counters and accumulated hesitation time.
+ * Moved out of Character so the per-tick combat state stays compact; the
+ * record is only allocated once a character first needs it (see Character.career()).
+ */
+public class CharacterCareer {
+
+    /** General combat experience tracking */
+    public int combatEngagements = 0;           // Manual tracking (no auto-update yet)
+    public int woundsReceived = 0;              // Auto-updated when addWound() called
+
+    /** General attack statistics */
+    public int attacksAttempted = 0;            // Auto-updated when attacks are attempted
+    public int attacksSuccessful = 0;           // Auto-updated when attacks hit
+    public int targetsIncapacitated = 0;        // Auto-updated when targets become incapacitated
+
+    /** Wound infliction by severity */
+    public int woundsInflictedScratch = 0;      // Auto-updated on successful hits
+    public int woundsInflictedLight = 0;        // Auto-updated on successful hits
+    public int woundsInflictedSerious = 0;      // Auto-updated on successful hits
+    public int woundsInflictedCritical = 0;     // Auto-updated on successful hits
+
+    /** Ranged combat tracking (DevCycle 12) */
+    public int rangedAttacksAttempted = 0;      // Auto-updated when ranged attacks are attempted
+    public int rangedAttacksSuccessful = 0;     // Auto-updated when ranged attacks hit
+    public int rangedWoundsInflicted = 0;       // Auto-updated when ranged attacks cause wounds
+
+    /** Melee combat tracking (DevCycle 12) */
+    public int meleeAttacksAttempted = 0;       // Auto-updated when melee attacks are attempted
+    public int meleeAttacksSuccessful = 0;      // Auto-updated when melee attacks hit
+    public int meleeWoundsInflicted = 0;        // Auto-updated when melee attacks cause wounds
+
+    /** Headshot statistics */
+    public int headshotsAttempted = 0;          // Auto-updated when attacks target the head
+    public int headshotsSuccessful = 0;         // Auto-updated when headshots hit
+    public int headshotIncapacitations = 0;    // Auto-updated when headshots result in incapacitations
+
+    /** Battle outcome statistics */
+    public int battlesParticipated = 0;         // Manual tracking - updated after battles
+    public int victories = 0;                   // Manual tracking - updated after victories
+    public int defeats = 0;                     // Manual tracking - updated after defeats
+
+    /** Defensive statistics (DevCycle 23) */
+    public int defensiveAttempts = 0;           // Auto-updated when defense is attempted
+    public int defensiveSuccesses = 0;          // Auto-updated when defense succeeds
+    public int counterAttacksExecuted = 0;      // Auto-updated when counter-attacks are performed
+    public int counterAttacksSuccessful = 0;    // Auto-updated when counter-attacks hit
+
+    /** Hesitation tracking for display and statistics */
+    public long totalWoundHesitationTicks = 0;   // Total hesitation time from wounds
+    public long totalBraveryHesitationTicks = 0; // Total hesitation time from bravery failures
+}
\ No newline at end of file
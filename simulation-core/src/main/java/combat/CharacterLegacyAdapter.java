@@ -15,7 +15,7 @@ public class CharacterLegacyAdapter {
      * @return Sum of ranged and melee attacks attempted
      */
     public static int getCombinedAttacksAttempted(Character character) {
-        return character.rangedAttacksAttempted + character.meleeAttacksAttempted;
+        return character.career().rangedAttacksAttempted + character.career().meleeAttacksAttempted;
     }
     
     /**
@@ -24,7 +24,7 @@ public class CharacterLegacyAdapter {
      * @return Sum of ranged and melee successful attacks
      */
     public static int getCombinedAttacksSuccessful(Character character) {
-        return character.rangedAttacksSuccessful + character.meleeAttacksSuccessful;
+        return character.career().rangedAttacksSuccessful + character.career().meleeAttacksSuccessful;
     }
     
     /**
@@ -33,6 +33,6 @@ public class CharacterLegacyAdapter {
      * @return Sum of ranged and melee wounds inflicted
      */
     public static int getCombinedWoundsInflicted(Character character) {
-        return character.rangedWoundsInflicted + character.meleeWoundsInflicted;
+        return character.career().rangedWoundsInflicted + character.career().meleeWoundsInflicted;
     }
 }
\ No newline at end of file
@@ -3,7 +3,8 @@
  * Licensed under the MIT License - see LICENSE file for details
  */
 
-import combat.*;
+package combat;
+
 import combat.managers.DefenseManager;
 import data.SkillsManager;
 import game.Unit;
@@ -14,6 +15,40 @@ import java.util.Random;
 
 public final class CombatCalculator {
     
+    // Stress the game applies to every ranged shot, offset by the shooter's coolness
+    public static final int DEFAULT_STRESS_MODIFIER = -40;
+    
+    // Hits are graded by where the roll falls under the chance to hit
+    static final double EXCELLENT_SHOT_FRACTION = 0.2;
+    static final double GOOD_SHOT_FRACTION = 0.7;
+    static final double EXCELLENT_SHOT_HEADSHOT_PERCENT = 15;
+    static final double GOOD_SHOT_HEADSHOT_PERCENT = 2;
+    
+    // Poor hits land anywhere: cumulative percent rolls for each body part
+    static final BodyPart[] RANDOM_HIT_PARTS = {
+        BodyPart.LEFT_ARM, BodyPart.RIGHT_ARM, BodyPart.LEFT_SHOULDER, BodyPart.RIGHT_SHOULDER,
+        BodyPart.HEAD, BodyPart.LEFT_LEG, BodyPart.RIGHT_LEG
+    };
+    static final double[] RANDOM_HIT_PART_ROLLS = {12, 24, 32, 40, 50, 55, 100};
+    
+    // Cumulative percent rolls for each severity, worst first
+    static final WoundSeverity[] ROLLED_SEVERITIES = {
+        WoundSeverity.CRITICAL, WoundSeverity.SERIOUS, WoundSeverity.LIGHT, WoundSeverity.SCRATCH
+    };
+    static final double[] VITAL_SEVERITY_ROLLS = {30, 70, 95, 100};
+    static final double[] LIMB_SEVERITY_ROLLS = {10, 35, 80, 100};
+    
+    // Mirrors the renderer's debug mode, which the desktop game toggles at run time
+    private static boolean debugMode = false;
+    
+    public static void setDebugMode(boolean enabled) {
+        debugMode = enabled;
+    }
+    
+    public static boolean isDebugMode() {
+        return debugMode;
+    }
+    
     public static HitResult determineHit(Unit shooter, Unit target, double distanceFeet, double maximumRange, int weaponAccuracy, int weaponDamage, boolean debugMode, int stressModifier, long currentTick) {
         return determineHit(shooter, target, distanceFeet, maximumRange, weaponAccuracy, weaponDamage, debugMode, stressModifier, currentTick, false);
     }
@@ -27,42 +62,8 @@ public final class CombatCalculator {
      * Allows precise control over random number generation for testing.
      */
     public static HitResult determineHit(Unit shooter, Unit target, double distanceFeet, double maximumRange, int weaponAccuracy, int weaponDamage, boolean debugMode, int stressModifier, long currentTick, boolean isMeleeAttack, Random testRandom) {
-        double weaponModifier = weaponAccuracy;
-        double rangeModifier = calculateRangeModifier(distanceFeet, maximumRange);
-        double movementModifier = calculateMovementModifier(shooter);
-        
-        // DevCycle 27: System 3 - Calculate accumulated aiming bonus
-        AccumulatedAimingBonus earnedBonus = shooter.character.calculateEarnedAimingBonus(currentTick);
-        double aimingSpeedModifier;
-        boolean useVeryCarefulBenefits = false;
-        
-        if (earnedBonus != AccumulatedAimingBonus.NONE) {
-            // Use only earned bonus when present
-            aimingSpeedModifier = earnedBonus.getAccuracyModifier();
-            useVeryCarefulBenefits = earnedBonus.isVeryCareful() && meetsVeryCarefulSkillRequirements(shooter.character);
-        } else {
-            // Fall back to selected aiming speed
-            AimingSpeed selectedSpeed = shooter.character.getCurrentAimingSpeed();
-            aimingSpeedModifier = selectedSpeed.getAccuracyModifier();
-            useVeryCarefulBenefits = selectedSpeed.isVeryCareful() && meetsVeryCarefulSkillRequirements(shooter.character);
-        }
-        
-        // For burst fire shots 2+, ignore all aiming modifiers
-        if (shooter.character.getBurstShotsFired() > 0) {
-            aimingSpeedModifier = 0; // Burst penalty applied elsewhere
-        }
-        
-        double burstAutoPenalty = shooter.character.shouldApplyBurstAutoPenalty() ? -20.0 : 0.0;
-        double targetMovementModifier = calculateTargetMovementModifier(shooter, target);
-        double woundModifier = calculateWoundModifier(shooter);
-        double stressMod = Math.min(0, stressModifier + GameConstants.statToModifier(shooter.character.coolness));
-        double skillModifier = calculateSkillModifier(shooter);
-        double positionModifier = calculatePositionModifier(target);
-        double braveryModifier = calculateBraveryModifier(shooter, currentTick);
-        double firstAttackPenalty = (shooter.character.isFirstAttackOnTarget && !useVeryCarefulBenefits) ? GameConstants.FIRST_ATTACK_PENALTY : 0;
-        double firingStateModifier = shooter.character.getFiresFromAimingState() ? 0.0 : -20.0; // -20 penalty for pointedfromhip firing
-        double sizeModifier = 0.0;
-        double coverModifier = 0.0;
+        HitModifiers modifiers = hitModifiers(shooter, target, distanceFeet, maximumRange, weaponAccuracy, stressModifier,
+                                              currentTick, shooter.character.isFirstAttackOnTarget);
         
         // DevCycle 40: Defense system for melee attacks only
         double defenseModifier = 0.0;
@@ -71,7 +72,7 @@ public final class CombatCalculator {
             defenseModifier = -defenseValue; // Defense applied as negative modifier to attack
         }
         
-        double chanceToHit = 50.0 + GameConstants.statToModifier(shooter.character.dexterity) + stressMod + rangeModifier + weaponModifier + movementModifier + aimingSpeedModifier + burstAutoPenalty + targetMovementModifier + woundModifier + skillModifier + positionModifier + braveryModifier + firstAttackPenalty + firingStateModifier + sizeModifier + coverModifier + defenseModifier;
+        double chanceToHit = modifiers.total() + defenseModifier;
         
         if (distanceFeet <= maximumRange) {
             chanceToHit = Math.max(chanceToHit, 0.01);
@@ -84,39 +85,39 @@ public final class CombatCalculator {
             System.out.println("Shooter: " + shooter.character.getDisplayName() + " -> Target: " + target.character.getDisplayName());
             System.out.println("Base chance: 50.0");
             System.out.println("Dexterity modifier: " + GameConstants.statToModifier(shooter.character.dexterity) + " (dex: " + shooter.character.dexterity + ")");
-            System.out.println("Stress modifier: " + stressMod + " (coolness: " + shooter.character.coolness + ":" + GameConstants.statToModifier(shooter.character.coolness) + ")");
-            System.out.println("Range modifier: " + String.format("%.2f", rangeModifier) + " (distance: " + String.format("%.2f", distanceFeet) + " feet, max: " + String.format("%.2f", maximumRange) + " feet)");
-            System.out.println("Weapon modifier: " + weaponModifier + " (accuracy: " + weaponAccuracy + ")");
-            System.out.println("Movement modifier: " + movementModifier);
+            System.out.println("Stress modifier: " + modifiers.stress + " (coolness: " + shooter.character.coolness + ":" + GameConstants.statToModifier(shooter.character.coolness) + ")");
+            System.out.println("Range modifier: " + String.format("%.2f", modifiers.range) + " (distance: " + String.format("%.2f", distanceFeet) + " feet, max: " + String.format("%.2f", maximumRange) + " feet)");
+            System.out.println("Weapon modifier: " + modifiers.weapon + " (accuracy: " + weaponAccuracy + ")");
+            System.out.println("Movement modifier: " + modifiers.movement);
             // Show aiming modifier source (earned vs selected)
-            if (earnedBonus != AccumulatedAimingBonus.NONE) {
-                System.out.println("Aiming speed modifier: " + aimingSpeedModifier + " (earned " + earnedBonus.getDisplayName() + " bonus, accumulated " + shooter.character.getCurrentAimingDuration(currentTick) + " ticks)");
+            if (modifiers.earnedBonus != AccumulatedAimingBonus.NONE) {
+                System.out.println("Aiming speed modifier: " + modifiers.aimingSpeed + " (earned " + modifiers.earnedBonus.getDisplayName() + " bonus, accumulated " + shooter.character.getCurrentAimingDuration(currentTick) + " ticks)");
             } else {
-                System.out.println("Aiming speed modifier: " + aimingSpeedModifier + " (selected " + shooter.character.getCurrentAimingSpeed().getDisplayName() + ")");
+                System.out.println("Aiming speed modifier: " + modifiers.aimingSpeed + " (selected " + shooter.character.getCurrentAimingSpeed().getDisplayName() + ")");
             }
-            if (burstAutoPenalty != 0) {
-                System.out.println("Burst/Auto penalty: " + burstAutoPenalty + " (bullet " + shooter.character.getBurstShotsFired() + ")");
+            if (modifiers.burstAuto != 0) {
+                System.out.println("Burst/Auto penalty: " + modifiers.burstAuto + " (bullet " + shooter.character.getBurstShotsFired() + ")");
             }
             
             // Enhanced target movement debug info
             if (target.isMoving()) {
                 double perpendicularVelocity = target.getPerpendicularVelocity(shooter);
                 double perpendicularVelocityFeetPerSecond = (perpendicularVelocity * 60.0) / 7.0;
-                System.out.println("Target movement modifier: " + String.format("%.2f", targetMovementModifier) + 
+                System.out.println("Target movement modifier: " + String.format("%.2f", modifiers.targetMovement) + 
                                  " (perpendicular velocity: " + String.format("%.2f", perpendicularVelocityFeetPerSecond) + " ft/s, " +
                                  String.format("%.2f", perpendicularVelocity) + " px/tick)");
             } else {
-                System.out.println("Target movement modifier: " + targetMovementModifier + " (target stationary)");
+                System.out.println("Target movement modifier: " + modifiers.targetMovement + " (target stationary)");
             }
             
-            System.out.println("Wound modifier: " + String.format("%.1f", woundModifier) + " " + getWoundModifierDebugInfo(shooter));
-            System.out.println("Skill modifier: " + String.format("%.1f", skillModifier) + " " + getSkillDebugInfo(shooter));
-            System.out.println("Position modifier: " + String.format("%.1f", positionModifier) + " (target: " + target.character.getCurrentPosition().getDisplayName() + ")");
-            System.out.println("Bravery modifier: " + String.format("%.1f", braveryModifier) + " " + getBraveryModifierDebugInfo(shooter, currentTick));
-            System.out.println("First attack penalty: " + firstAttackPenalty + " (first attack: " + shooter.character.isFirstAttackOnTarget + ", very careful benefits: " + useVeryCarefulBenefits + ")");
-            System.out.println("Firing state modifier: " + firingStateModifier + " (firing from " + (shooter.character.getFiresFromAimingState() ? "aiming" : "pointedfromhip") + ")");
-            System.out.println("Size modifier: " + sizeModifier);
-            System.out.println("Cover modifier: " + coverModifier);
+            System.out.println("Wound modifier: " + String.format("%.1f", modifiers.wound) + " " + getWoundModifierDebugInfo(shooter));
+            System.out.println("Skill modifier: " + String.format("%.1f", modifiers.skill) + " " + getSkillDebugInfo(shooter));
+            System.out.println("Position modifier: " + String.format("%.1f", modifiers.position) + " (target: " + target.character.getCurrentPosition().getDisplayName() + ")");
+            System.out.println("Bravery modifier: " + String.format("%.1f", modifiers.bravery) + " " + getBraveryModifierDebugInfo(shooter, currentTick));
+            System.out.println("First attack penalty: " + modifiers.firstAttack + " (first attack: " + shooter.character.isFirstAttackOnTarget + ", very careful benefits: " + modifiers.veryCarefulBenefits + ")");
+            System.out.println("Firing state modifier: " + modifiers.firingState + " (firing from " + (shooter.character.getFiresFromAimingState() ? "aiming" : "pointedfromhip") + ")");
+            System.out.println("Size modifier: " + modifiers.size);
+            System.out.println("Cover modifier: " + modifiers.cover);
             if (isMeleeAttack && defenseModifier != 0.0) {
                 System.out.println("Defense modifier: " + defenseModifier + " (defender successfully defended)");
             }
@@ -137,7 +138,7 @@ public final class CombatCalculator {
             actualDamage = calculateActualDamage(weaponDamage, woundSeverity, hitLocation);
         }
         
-        return new HitResult(hit, hitLocation, woundSeverity, actualDamage);
+        return new HitResult(hit, hitLocation, woundSeverity, actualDamage, chanceToHit, randomRoll);
     }
     
     public static double calculateMovementModifier(Unit shooter) {
@@ -382,21 +383,21 @@ public final class CombatCalculator {
      * Test-specific overload for determineHitLocation with custom Random instance.
      */
     public static BodyPart determineHitLocation(double randomRoll, double chanceToHit, Random testRandom) {
-        double excellentThreshold = chanceToHit * 0.2;
-        double goodThreshold = chanceToHit * 0.7;
+        double excellentThreshold = chanceToHit * EXCELLENT_SHOT_FRACTION;
+        double goodThreshold = chanceToHit * GOOD_SHOT_FRACTION;
         
         if (randomRoll < excellentThreshold) {
             // Excellent shots have a small chance for headshots
             double headshotRoll = testRandom.nextDouble() * 100;
-            if (headshotRoll < 15) { // 15% chance for headshot on excellent shots
+            if (headshotRoll < EXCELLENT_SHOT_HEADSHOT_PERCENT) {
                 return BodyPart.HEAD;
             } else {
                 return BodyPart.CHEST;
             }
         } else if (randomRoll < goodThreshold) {
-            // Good shots rarely hit the head (2% chance)
+            // Good shots rarely hit the head
             double headshotRoll = testRandom.nextDouble() * 100;
-            if (headshotRoll < 2) {
+            if (headshotRoll < GOOD_SHOT_HEADSHOT_PERCENT) {
                 return BodyPart.HEAD;
             } else {
                 return testRandom.nextDouble() < 0.5 ? BodyPart.CHEST : BodyPart.ABDOMEN;
@@ -416,13 +417,12 @@ public final class CombatCalculator {
     public static BodyPart getRandomBodyPart(Random testRandom) {
         double roll = testRandom.nextDouble() * 100;
         
-        if (roll < 12) return BodyPart.LEFT_ARM;
-        else if (roll < 24) return BodyPart.RIGHT_ARM;
-        else if (roll < 32) return BodyPart.LEFT_SHOULDER;
-        else if (roll < 40) return BodyPart.RIGHT_SHOULDER;
-        else if (roll < 50) return BodyPart.HEAD;
-        else if (roll < 55) return BodyPart.LEFT_LEG;
-        else return BodyPart.RIGHT_LEG;
+        for (int i = 0; i < RANDOM_HIT_PARTS.length - 1; i++) {
+            if (roll < RANDOM_HIT_PART_ROLLS[i]) {
+                return RANDOM_HIT_PARTS[i];
+            }
+        }
+        return RANDOM_HIT_PARTS[RANDOM_HIT_PARTS.length - 1];
     }
     
     public static WoundSeverity determineWoundSeverity(double randomRoll, double chanceToHit, BodyPart hitLocation) {
@@ -433,7 +433,7 @@ public final class CombatCalculator {
      * Test-specific overload for determineWoundSeverity with custom Random instance.
      */
     public static WoundSeverity determineWoundSeverity(double randomRoll, double chanceToHit, BodyPart hitLocation, Random testRandom) {
-        double excellentThreshold = chanceToHit * 0.2;
+        double excellentThreshold = chanceToHit * EXCELLENT_SHOT_FRACTION;
         
         // Excellent shots are always critical
         if (randomRoll < excellentThreshold) {
@@ -443,19 +443,15 @@ public final class CombatCalculator {
         // Determine wound severity based on hit location
         double severityRoll = testRandom.nextDouble() * 100;
         
-        if (isVitalArea(hitLocation)) {
-            // HEAD/CHEST/ABDOMEN: 30% Critical, 40% Serious, 25% Light, 5% Scratch
-            if (severityRoll < 30) return WoundSeverity.CRITICAL;
-            else if (severityRoll < 70) return WoundSeverity.SERIOUS;
-            else if (severityRoll < 95) return WoundSeverity.LIGHT;
-            else return WoundSeverity.SCRATCH;
-        } else {
-            // ARMS/SHOULDERS/LEGS: 10% Critical, 25% Serious, 45% Light, 20% Scratch
-            if (severityRoll < 10) return WoundSeverity.CRITICAL;
-            else if (severityRoll < 35) return WoundSeverity.SERIOUS;
-            else if (severityRoll < 80) return WoundSeverity.LIGHT;
-            else return WoundSeverity.SCRATCH;
+        // HEAD/CHEST/ABDOMEN: 30% Critical, 40% Serious, 25% Light, 5% Scratch
+        // ARMS/SHOULDERS/LEGS: 10% Critical, 25% Serious, 45% Light, 20% Scratch
+        double[] severityRolls = isVitalArea(hitLocation) ? VITAL_SEVERITY_ROLLS : LIMB_SEVERITY_ROLLS;
+        for (int i = 0; i < ROLLED_SEVERITIES.length - 1; i++) {
+            if (severityRoll < severityRolls[i]) {
+                return ROLLED_SEVERITIES[i];
+            }
         }
+        return ROLLED_SEVERITIES[ROLLED_SEVERITIES.length - 1];
     }
     
     public static boolean isVitalArea(BodyPart bodyPart) {
@@ -469,13 +465,27 @@ public final class CombatCalculator {
     
     public static int calculateActualDamage(int weaponDamage, WoundSeverity woundSeverity, BodyPart hitLocation) {
         // Add debug output to match ranged combat debugging
-        if (GameRenderer.isDebugMode()) {
+        if (debugMode) {
             System.out.println("=== RANGED DAMAGE CALCULATION DEBUG ===");
             System.out.println("Weapon damage: " + weaponDamage);
             System.out.println("Wound severity: " + woundSeverity);
             System.out.println("Hit location: " + (hitLocation != null ? hitLocation : "unknown"));
         }
         
+        int baseDamage = scaleDamage(weaponDamage, woundSeverity, hitLocation);
+        
+        if (debugMode) {
+            System.out.println("Scaled damage: " + baseDamage);
+            System.out.println("=========================================");
+        }
+        
+        return baseDamage;
+    }
+    
+    /**
+     * Damage a wound of the given severity and location does, without debug output.
+     */
+    static int scaleDamage(int weaponDamage, WoundSeverity woundSeverity, BodyPart hitLocation) {
         int baseDamage;
         switch (woundSeverity) {
             case CRITICAL:
@@ -498,12 +508,85 @@ public final class CombatCalculator {
             baseDamage = Math.round(baseDamage * 1.5f);
         }
         
-        if (GameRenderer.isDebugMode()) {
-            System.out.println("Scaled damage: " + baseDamage);
-            System.out.println("=========================================");
+        return baseDamage;
+    }
+    
+    /**
+     * Modifiers that add up to a chance to hit, before any melee defense.
+     * Shared by determineHit and the analytic odds in CombatOdds so the two
+     * cannot drift apart.
+     */
+    static final class HitModifiers {
+        double dexterity;
+        double stress;
+        double range;
+        double weapon;
+        double movement;
+        double aimingSpeed;
+        double burstAuto;
+        double targetMovement;
+        double wound;
+        double skill;
+        double position;
+        double bravery;
+        double firstAttack;
+        double firingState;
+        double size;
+        double cover;
+        AccumulatedAimingBonus earnedBonus;
+        boolean veryCarefulBenefits;
+        
+        /** @return the base chance of 50 plus every modifier */
+        double total() {
+            return 50.0 + dexterity + stress + range + weapon + movement + aimingSpeed + burstAuto + targetMovement
+                + wound + skill + position + bravery + firstAttack + firingState + size + cover;
         }
+    }
+    
+    /**
+     * Works out the hit modifiers for the shooter's current state.
+     *
+     * @param firstAttack Whether the first attack penalty applies (unless very careful aiming waives it)
+     */
+    static HitModifiers hitModifiers(Unit shooter, Unit target, double distanceFeet, double maximumRange, int weaponAccuracy,
+                                     int stressModifier, long currentTick, boolean firstAttack) {
+        combat.Character character = shooter.character;
+        HitModifiers modifiers = new HitModifiers();
+        modifiers.dexterity = GameConstants.statToModifier(character.dexterity);
+        modifiers.weapon = weaponAccuracy;
+        modifiers.range = calculateRangeModifier(distanceFeet, maximumRange);
+        modifiers.movement = calculateMovementModifier(shooter);
         
-        return baseDamage;
+        // DevCycle 27: System 3 - Calculate accumulated aiming bonus
+        modifiers.earnedBonus = character.calculateEarnedAimingBonus(currentTick);
+        if (modifiers.earnedBonus != AccumulatedAimingBonus.NONE) {
+            // Use only earned bonus when present
+            modifiers.aimingSpeed = modifiers.earnedBonus.getAccuracyModifier();
+            modifiers.veryCarefulBenefits = modifiers.earnedBonus.isVeryCareful() && meetsVeryCarefulSkillRequirements(character);
+        } else {
+            // Fall back to selected aiming speed
+            AimingSpeed selectedSpeed = character.getCurrentAimingSpeed();
+            modifiers.aimingSpeed = selectedSpeed.getAccuracyModifier();
+            modifiers.veryCarefulBenefits = selectedSpeed.isVeryCareful() && meetsVeryCarefulSkillRequirements(character);
+        }
+        
+        // For burst fire shots 2+, ignore all aiming modifiers
+        if (character.getBurstShotsFired() > 0) {
+            modifiers.aimingSpeed = 0; // Burst penalty applied elsewhere
+        }
+        
+        modifiers.burstAuto = character.shouldApplyBurstAutoPenalty() ? -20.0 : 0.0;
+        modifiers.targetMovement = calculateTargetMovementModifier(shooter, target);
+        modifiers.wound = calculateWoundModifier(shooter);
+        modifiers.stress = Math.min(0, stressModifier + GameConstants.statToModifier(character.coolness));
+        modifiers.skill = calculateSkillModifier(shooter);
+        modifiers.position = calculatePositionModifier(target);
+        modifiers.bravery = calculateBraveryModifier(shooter, currentTick);
+        modifiers.firstAttack = (firstAttack && !modifiers.veryCarefulBenefits) ? GameConstants.FIRST_ATTACK_PENALTY : 0;
+        modifiers.firingState = character.getFiresFromAimingState() ? 0.0 : -20.0; // -20 penalty for pointedfromhip firing
+        modifiers.size = 0.0;
+        modifiers.cover = 0.0;
+        return modifiers;
     }
     
     /**
@@ -3,6 +3,7 @@ package combat;
 import combat.managers.*;
 import game.IEventSchedulingService;
 import game.interfaces.IUnit;
+import game.EventBinding;
 import game.GameCallbacks;
 import game.ScheduledEvent;
 import game.Unit;
@@ -116,11 +117,11 @@ public class CombatCoordinator {
         }
         
         // Check if this is a target change and handle first attack penalty
-        boolean targetChanged = (character.currentTarget != null && character.currentTarget != target);
-        boolean newTarget = (character.currentTarget == null);
+        boolean targetChanged = (character.getCurrentTarget() != null && character.getCurrentTarget() != target);
+        boolean newTarget = (character.getCurrentTarget() == null);
         
         // If targeting a different unit, cancel all pending attacks and reset
-        if (character.currentTarget != null && character.currentTarget != target) {
+        if (character.getCurrentTarget() != null && character.getCurrentTarget() != target) {
             // Clear all pending events for this character
             if (gameCallbacks != null) {
                 gameCallbacks.removeAllEventsForOwner(attacker.getId());
@@ -128,7 +129,7 @@ public class CombatCoordinator {
                 System.err.println("CRITICAL ERROR: gameCallbacks is null in " + character.getDisplayName() + " attack sequence - cannot cancel pending events");
             }
             // DevCycle 27: System 6 - Smart target switching that respects firing preference
-            character.currentWeaponState = character.getOptimalStateForTargetSwitch();
+            character.setCurrentWeaponState(character.getOptimalStateForTargetSwitch());
             // DevCycle 27: Reset aiming timing when changing targets
             character.resetAimingTiming();
             // DevCycle 28: Reset multiple shot sequence on target change
@@ -140,14 +141,14 @@ public class CombatCoordinator {
                 burstFireManager.setAutomaticFiring(character.id, false);
                 burstFireManager.setBurstShotsFired(character.id, 0);
             }
-        } else if ("aiming".equals(character.currentWeaponState.getState()) && character.currentTarget != target) {
+        } else if ("aiming".equals(character.currentWeaponState.getState()) && character.getCurrentTarget() != target) {
             // DevCycle 27: System 6 - Smart target switching for aiming state changes
-            character.currentWeaponState = character.getOptimalStateForTargetSwitch();
+            character.setCurrentWeaponState(character.getOptimalStateForTargetSwitch());
             // Reset aiming timing when changing targets from aiming state
             character.resetAimingTiming();
             // Start timing for new state if applicable
             character.startTimingForTargetSwitchState(currentTick);
-        } else if (character.currentTarget == target && character.isAttacking) {
+        } else if (character.getCurrentTarget() == target && character.isAttacking) {
             // Already attacking the same target, don't start duplicate attack
             return false;
         } else if (character.lastAttackScheduledTick == currentTick) {
@@ -159,7 +160,7 @@ public class CombatCoordinator {
         if (targetChanged || newTarget) {
             // Target changed or new target - apply first attack penalty
             character.isFirstAttackOnTarget = true;
-        } else if (character.currentTarget == target) {
+        } else if (character.getCurrentTarget() == target) {
             // Same target as before - no first attack penalty
             character.isFirstAttackOnTarget = false;
         } else {
@@ -167,8 +168,8 @@ public class CombatCoordinator {
             character.isFirstAttackOnTarget = true;
         }
         
-        character.previousTarget = character.currentTarget;
-        character.currentTarget = target;
+        character.setPreviousTarget(character.getCurrentTarget());
+        character.setCurrentTarget(target);
         character.isAttacking = true;
         character.lastAttackScheduledTick = currentTick;
         
@@ -221,7 +222,7 @@ public class CombatCoordinator {
         if (currentState == null) {
             // Initialize to weapon's initial state if no current state
             currentState = activeWeapon.getInitialState();
-            character.currentWeaponState = currentState;
+            character.setCurrentWeaponState(currentState);
         }
         
         String stateName = currentState != null ? currentState.getState() : "null";
@@ -245,17 +246,17 @@ public class CombatCoordinator {
             
             WeaponState sheathedState = activeWeapon.getStateByName("sheathed");
             if (sheathedState != null) {
-                character.currentWeaponState = sheathedState;
+                character.setCurrentWeaponState(sheathedState);
                 startMeleeAttackSequenceInternal(attacker, target, currentTick, eventQueue, ownerId, gameCallbacks);
             } else {
                 // Emergency fallback: use any available state or create a simple ready state
                 if (activeWeapon.states != null && !activeWeapon.states.isEmpty()) {
                     WeaponState firstState = activeWeapon.states.get(0);
-                    character.currentWeaponState = firstState;
+                    character.setCurrentWeaponState(firstState);
                     startMeleeAttackSequenceInternal(attacker, target, currentTick, eventQueue, ownerId, gameCallbacks);
                 } else {
                     WeaponState emergencyReady = new WeaponState("melee_ready", "melee_attacking", 15);
-                    character.currentWeaponState = emergencyReady;
+                    character.setCurrentWeaponState(emergencyReady);
                     startMeleeAttackSequenceInternal(attacker, target, currentTick, eventQueue, ownerId, gameCallbacks);
                 }
             }
@@ -276,123 +277,165 @@ public class CombatCoordinator {
         }
         character.lastFiringScheduledTick = fireTick;
         
-        eventQueue.add(new ScheduledEvent(fireTick, () -> {
-            // Add firing console output with aiming duration and earned bonus (DevCycle 27: System 3)
-            String firingMode = character.getFiresFromAimingState() ? "shootingfromaiming" : "shootingfromhip";
-            long aimingDuration = character.getCurrentAimingDuration(fireTick);
-            String aimingText = character.getFiresFromAimingState() ? "aimed " + aimingDuration + " ticks" : "pointed " + aimingDuration + " ticks";
+        eventQueue.add(new ScheduledEvent(fireTick, CombatEventKind.FIRE_SHOT, ownerId,
+            new EventBinding(character, shooter, target, eventQueue, gameCallbacks), fireTick));
+    }
+    
+    /**
+     * Carries out a FIRE_SHOT event: the shot itself, then the move to the
+     * firing state and the scheduled recovery.
+     */
+    void executeShot(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit shooter = binding.getUnit();
+        IUnit target = binding.getTarget();
+        java.util.PriorityQueue<ScheduledEvent> eventQueue = binding.getEventQueue();
+        GameCallbacks gameCallbacks = binding.getGameCallbacks();
+        int ownerId = event.getOwnerId();
+        long fireTick = event.getParam(0);
+        
+        // Add firing console output with aiming duration and earned bonus (DevCycle 27: System 3)
+        String firingMode = character.getFiresFromAimingState() ? "shootingfromaiming" : "shootingfromhip";
+        long aimingDuration = character.getCurrentAimingDuration(fireTick);
+        String aimingText = character.getFiresFromAimingState() ? "aimed " + aimingDuration + " ticks" : "pointed " + aimingDuration + " ticks";
+        
+        // Check for earned bonus and format appropriately
+        AccumulatedAimingBonus earnedBonus = character.calculateEarnedAimingBonus(fireTick);
+        String bonusText;
+        if (earnedBonus != AccumulatedAimingBonus.NONE) {
+            bonusText = ", earned " + earnedBonus.getDisplayName() + " bonus";
+        } else {
+            bonusText = ", using " + character.getCurrentAimingSpeed().getDisplayName() + " aiming";
+        }
+        
+        // Calculate ammunition display for after firing (DevCycle 27: System 7)
+        String ammunitionText = "";
+        if (character.weapon instanceof RangedWeapon) {
+            RangedWeapon rangedWeapon = (RangedWeapon) character.weapon;
+            int currentAmmo = rangedWeapon.getAmmunition();
+            int maxAmmo = rangedWeapon.getMaxAmmunition();
+            // Show ammunition after firing (subtract 1 if there's ammunition to fire)
+            int ammoAfterFiring = currentAmmo > 0 ? currentAmmo - 1 : currentAmmo;
+            ammunitionText = ", [ammo: " + ammoAfterFiring + "/" + maxAmmo + "]";
+        }
+        
+        System.out.println(character.getDisplayName() + " fires a " + character.weapon.getName() + " at " + 
+                         target.getCharacter().getDisplayName() + ", " + firingMode + " (" + aimingText + bonusText + ")" + ammunitionText + ", at tick " + fireTick);
+        
+        character.setCurrentWeaponState(character.weapon.getStateByName("firing"));
+        // DevCycle 27: Reset aiming timing after firing (timing is now reported)
+        character.resetAimingTiming();
+        
+        if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getAmmunition() <= 0) {
+        } else if (character.weapon instanceof RangedWeapon) {
+            ((RangedWeapon)character.weapon).setAmmunition(((RangedWeapon)character.weapon).getAmmunition() - 1);
             
-            // Check for earned bonus and format appropriately
-            AccumulatedAimingBonus earnedBonus = character.calculateEarnedAimingBonus(fireTick);
-            String bonusText;
-            if (earnedBonus != AccumulatedAimingBonus.NONE) {
-                bonusText = ", earned " + earnedBonus.getDisplayName() + " bonus";
+            if (gameCallbacks != null) {
+                gameCallbacks.playWeaponSound(character.weapon);
+                gameCallbacks.applyFiringHighlight((Unit)shooter, fireTick);
+                gameCallbacks.addMuzzleFlash((Unit)shooter, fireTick);
             } else {
-                bonusText = ", using " + character.getCurrentAimingSpeed().getDisplayName() + " aiming";
+                System.err.println("CRITICAL ERROR: gameCallbacks is null in " + character.getDisplayName() + " firing sequence - audio and visual effects disabled");
             }
             
-            // Calculate ammunition display for after firing (DevCycle 27: System 7)
-            String ammunitionText = "";
-            if (character.weapon instanceof RangedWeapon) {
-                RangedWeapon rangedWeapon = (RangedWeapon) character.weapon;
-                int currentAmmo = rangedWeapon.getAmmunition();
-                int maxAmmo = rangedWeapon.getMaxAmmunition();
-                // Show ammunition after firing (subtract 1 if there's ammunition to fire)
-                int ammoAfterFiring = currentAmmo > 0 ? currentAmmo - 1 : currentAmmo;
-                ammunitionText = ", [ammo: " + ammoAfterFiring + "/" + maxAmmo + "]";
+            double dx = target.getX() - shooter.getX();
+            double dy = target.getY() - shooter.getY();
+            double distancePixels = Math.hypot(dx, dy);
+            double distanceFeet = distancePixels / 7.0; // pixelsToFeet conversion
+            
+            if (gameCallbacks != null) {
+                gameCallbacks.scheduleProjectileImpact((Unit)shooter, (Unit)target, character.weapon, fireTick, distanceFeet);
+            } else {
+                System.err.println("CRITICAL ERROR: gameCallbacks is null in " + character.getDisplayName() + " projectile impact scheduling - hit detection disabled");
             }
             
-            System.out.println(character.getDisplayName() + " fires a " + character.weapon.getName() + " at " + 
-                             target.getCharacter().getDisplayName() + ", " + firingMode + " (" + aimingText + bonusText + ")" + ammunitionText + ", at tick " + fireTick);
+            // Handle burst firing - delegate to BurstFireManager
+            if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getCurrentFiringMode() == FiringMode.BURST) {
+                BurstFireManager.getInstance().scheduleBurstShots(character, shooter, fireTick, gameCallbacks);
+            }
+        }
+        
+        WeaponState firingState = character.weapon.getStateByName("firing");
+        eventQueue.add(new ScheduledEvent(fireTick + firingState.ticks, CombatEventKind.FIRING_RECOVERY, ownerId,
+            binding, fireTick, firingState.ticks));
+    }
+    
+    /**
+     * Carries out a FIRING_RECOVERY event: the weapon moves from firing to
+     * recovering, and the end of recovery is scheduled.
+     */
+    void executeFiringRecovery(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        long fireTick = event.getParam(0);
+        long firingTicks = event.getParam(1);
+        
+        character.setCurrentWeaponState(character.weapon.getStateByName("recovering"));
+        
+        WeaponState recoveringState = character.weapon.getStateByName("recovering");
+        long completionTick = fireTick + firingTicks + recoveringState.ticks;
+        binding.getEventQueue().add(new ScheduledEvent(completionTick, CombatEventKind.FIRING_COMPLETE, event.getOwnerId(),
+            binding, completionTick));
+    }
+    
+    /**
+     * Carries out a FIRING_COMPLETE event: reload if empty, otherwise return
+     * to the ready state and continue a multiple shot sequence or the attack.
+     */
+    void executeFiringComplete(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit shooter = binding.getUnit();
+        java.util.PriorityQueue<ScheduledEvent> eventQueue = binding.getEventQueue();
+        GameCallbacks gameCallbacks = binding.getGameCallbacks();
+        int ownerId = event.getOwnerId();
+        long completionTick = event.getParam(0);
+        
+        if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
+            character.isAttacking = false; // Clear attacking flag during reload
+            // DevCycle 28: Reset multiple shot sequence when reloading
+            character.resetMultipleShotSequence();
+            character.startReloadSequence(shooter, completionTick, eventQueue, ownerId, gameCallbacks);
+        } else {
+            // Set recovery state based on firing preference (Task 2)
+            String recoveryTargetState = character.getFiresFromAimingState() ? "aiming" : "pointedfromhip";
+            character.setCurrentWeaponState(character.weapon.getStateByName(recoveryTargetState));
             
-            character.currentWeaponState = character.weapon.getStateByName("firing");
-            // DevCycle 27: Reset aiming timing after firing (timing is now reported)
-            character.resetAimingTiming();
+            // DevCycle 27: Start timing when entering aiming or pointing states after recovery
+            if ("aiming".equals(recoveryTargetState)) {
+                character.startAimingTiming(completionTick);
+            } else if ("pointedfromhip".equals(recoveryTargetState)) {
+                character.startPointingFromHipTiming(completionTick);
+            }
             
-            if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getAmmunition() <= 0) {
-            } else if (character.weapon instanceof RangedWeapon) {
-                ((RangedWeapon)character.weapon).setAmmunition(((RangedWeapon)character.weapon).getAmmunition() - 1);
+            // DevCycle 28: Check if we need to fire more shots in the sequence
+            if (character.multipleShootCount > 1 && character.currentShotInSequence < character.multipleShootCount && character.getCurrentTarget() != null) {
+                // Determine aiming speed for NEXT shot before incrementing counter
+                character.currentShotInSequence++; // Increment to next shot number
+                AimingSpeed nextShotSpeed = AimingSystem.getInstance().getAimingSpeedForMultipleShot(character); // Get speed for this shot number
                 
-                if (gameCallbacks != null) {
-                    gameCallbacks.playWeaponSound(character.weapon);
-                    gameCallbacks.applyFiringHighlight((Unit)shooter, fireTick);
-                    gameCallbacks.addMuzzleFlash((Unit)shooter, fireTick);
-                } else {
-                    System.err.println("CRITICAL ERROR: gameCallbacks is null in " + character.getDisplayName() + " firing sequence - audio and visual effects disabled");
-                }
+                // Maintain attack state and schedule next shot
+                character.isAttacking = true;
                 
-                double dx = target.getX() - shooter.getX();
-                double dy = target.getY() - shooter.getY();
-                double distancePixels = Math.hypot(dx, dy);
-                double distanceFeet = distancePixels / 7.0; // pixelsToFeet conversion
+                // Calculate delay based on pattern aiming speed
+                long quickDelay = Math.round(character.currentWeaponState.ticks * nextShotSpeed.getTimingMultiplier() * AimingSystem.getInstance().calculateAimingSpeedMultiplier(character));
                 
-                if (gameCallbacks != null) {
-                    gameCallbacks.scheduleProjectileImpact((Unit)shooter, (Unit)target, character.weapon, fireTick, distanceFeet);
-                } else {
-                    System.err.println("CRITICAL ERROR: gameCallbacks is null in " + character.getDisplayName() + " projectile impact scheduling - hit detection disabled");
-                }
+                // Schedule the next shot in the sequence
+                scheduleFiringInternal(shooter, character.getCurrentTarget(), completionTick + quickDelay, eventQueue, ownerId, gameCallbacks);
+            } else {
+                // Multiple shot sequence complete or single shot
+                character.currentShotInSequence = 0; // Reset shot counter
+                character.isAttacking = false; // Attack sequence complete
                 
-                // Handle burst firing - delegate to BurstFireManager
-                if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getCurrentFiringMode() == FiringMode.BURST) {
-                    BurstFireManager.getInstance().scheduleBurstShots(character, shooter, fireTick, gameCallbacks);
+                // Only call handleAttackContinuation if NOT using persistent attack mode
+                // Persistent attack is handled entirely by continueStandardAttack scheduling
+                if (!character.persistentAttack) {
+                    handleAttackContinuation(character, shooter, completionTick, eventQueue, ownerId, gameCallbacks);
+                } else {
                 }
             }
-            
-            WeaponState firingState = character.weapon.getStateByName("firing");
-            eventQueue.add(new ScheduledEvent(fireTick + firingState.ticks, () -> {
-                character.currentWeaponState = character.weapon.getStateByName("recovering");
-                
-                WeaponState recoveringState = character.weapon.getStateByName("recovering");
-                eventQueue.add(new ScheduledEvent(fireTick + firingState.ticks + recoveringState.ticks, () -> {
-                    if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
-                        character.isAttacking = false; // Clear attacking flag during reload
-                        // DevCycle 28: Reset multiple shot sequence when reloading
-                        character.resetMultipleShotSequence();
-                        character.startReloadSequence(shooter, fireTick + firingState.ticks + recoveringState.ticks, eventQueue, ownerId, gameCallbacks);
-                    } else {
-                        long completionTick = fireTick + firingState.ticks + recoveringState.ticks;
-                        // Set recovery state based on firing preference (Task 2)
-                        String recoveryTargetState = character.getFiresFromAimingState() ? "aiming" : "pointedfromhip";
-                        character.currentWeaponState = character.weapon.getStateByName(recoveryTargetState);
-                        
-                        // DevCycle 27: Start timing when entering aiming or pointing states after recovery
-                        if ("aiming".equals(recoveryTargetState)) {
-                            character.startAimingTiming(completionTick);
-                        } else if ("pointedfromhip".equals(recoveryTargetState)) {
-                            character.startPointingFromHipTiming(completionTick);
-                        }
-                        
-                        // DevCycle 28: Check if we need to fire more shots in the sequence
-                        if (character.multipleShootCount > 1 && character.currentShotInSequence < character.multipleShootCount && character.currentTarget != null) {
-                            // Determine aiming speed for NEXT shot before incrementing counter
-                            character.currentShotInSequence++; // Increment to next shot number
-                            AimingSpeed nextShotSpeed = AimingSystem.getInstance().getAimingSpeedForMultipleShot(character); // Get speed for this shot number
-                            
-                            // Maintain attack state and schedule next shot
-                            character.isAttacking = true;
-                            
-                            // Calculate delay based on pattern aiming speed
-                            long quickDelay = Math.round(character.currentWeaponState.ticks * nextShotSpeed.getTimingMultiplier() * AimingSystem.getInstance().calculateAimingSpeedMultiplier(character));
-                            
-                            // Schedule the next shot in the sequence
-                            scheduleFiringInternal(shooter, character.currentTarget, completionTick + quickDelay, eventQueue, ownerId, gameCallbacks);
-                        } else {
-                            // Multiple shot sequence complete or single shot
-                            character.currentShotInSequence = 0; // Reset shot counter
-                            character.isAttacking = false; // Attack sequence complete
-                            
-                            // Only call handleAttackContinuation if NOT using persistent attack mode
-                            // Persistent attack is handled entirely by continueStandardAttack scheduling
-                            if (!character.persistentAttack) {
-                                handleAttackContinuation(character, shooter, completionTick, eventQueue, ownerId, gameCallbacks);
-                            } else {
-                            }
-                        }
-                    }
-                }, ownerId));
-            }, ownerId));
-            
-        }, ownerId));
+        }
     }
     
     /**
@@ -415,7 +458,7 @@ public class CombatCoordinator {
                          ", auto-targeting: " + character.usesAutomaticTargeting + 
                          ", attacking: " + character.isAttacking + 
                          ", melee recovery: " + (character.isMeleeCombatMode ? character.isInMeleeRecovery(currentTick) : "N/A") + 
-                         ", currentTarget: " + (character.currentTarget != null ? character.currentTarget.getCharacter().getDisplayName() : "null") + ")");
+                         ", currentTarget: " + (character.getCurrentTarget() != null ? character.getCurrentTarget().getCharacter().getDisplayName() : "null") + ")");
         
         // DevCycle 33: System 2 - Debug logging to trace attack continuation call sources
         if (config.DebugConfig.getInstance().isCombatDebugEnabled()) {
@@ -463,7 +506,7 @@ public class CombatCoordinator {
         }
         
         // Handle case where we have auto-targeting enabled but no current target
-        if (character.currentTarget == null) {
+        if (character.getCurrentTarget() == null) {
             if (character.usesAutomaticTargeting) {
                 // Delegate to the auto-targeting system to find a new target
                 character.updateAutomaticTargeting(shooter, currentTick, eventQueue, gameCallbacks);
@@ -472,17 +515,16 @@ public class CombatCoordinator {
                 return;
             }
         }
-        if (character.currentTarget.getCharacter().isIncapacitated()) {
+        if (character.getCurrentTarget().getCharacter().isIncapacitated()) {
             // Target incapacitated - schedule automatic target change after 1 second delay
             
             // Schedule target reassessment event 1 second later (60 ticks)
             long retargetTick = currentTick + 60;
-            eventQueue.add(new ScheduledEvent(retargetTick, () -> {
-                character.performAutomaticTargetChange(shooter, retargetTick, eventQueue, ownerId, gameCallbacks);
-            }, ownerId));
+            eventQueue.add(new ScheduledEvent(retargetTick, CombatEventKind.AUTO_RETARGET, ownerId,
+                new EventBinding(character, shooter, null, eventQueue, gameCallbacks), retargetTick));
             
             // Clear current target but maintain persistent attack mode and weapon direction
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             character.isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -493,7 +535,7 @@ public class CombatCoordinator {
         }
         if (character.isIncapacitated()) {
             character.persistentAttack = false;
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             character.isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -504,7 +546,7 @@ public class CombatCoordinator {
         }
         if (character.weapon == null && character.meleeWeapon == null) {
             character.persistentAttack = false;
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             character.isAttacking = false;
             
             // Preserve the current facing direction so weapon continues to aim at last target location
@@ -521,7 +563,7 @@ public class CombatCoordinator {
                              " initiating melee attack continuation at tick " + currentTick);
             
             // Start new melee attack sequence
-            character.startMeleeAttackSequence(shooter, character.currentTarget, currentTick, eventQueue, ownerId, gameCallbacks);
+            character.startMeleeAttackSequence(shooter, character.getCurrentTarget(), currentTick, eventQueue, ownerId, gameCallbacks);
         } else {
             // Handle different firing modes for continuous ranged attacks
             BurstFireManager.getInstance().handleContinuousFiring(character, shooter, currentTick, gameCallbacks);
@@ -539,17 +581,17 @@ public class CombatCoordinator {
     public void continuePersistentAttack(IUnit attacker, long currentTick, GameCallbacks gameCallbacks) {
         Character character = attacker.getCharacter();
         
-        if (!character.persistentAttack || character.currentTarget == null) {
+        if (!character.persistentAttack || character.getCurrentTarget() == null) {
             return;
         }
         
         // Check if target is still valid
-        if (character.currentTarget.getCharacter().isIncapacitated()) {
+        if (character.getCurrentTarget().getCharacter().isIncapacitated()) {
             // Try to find new target if using automatic targeting
             if (character.usesAutomaticTargeting) {
                 IUnit newTarget = AutoTargetingSystem.findNearestHostileTargetWithZonePriority(character, attacker, gameCallbacks);
                 if (newTarget != null) {
-                    character.currentTarget = newTarget;
+                    character.setCurrentTarget(newTarget);
                     startAttackSequence(attacker, newTarget, currentTick, gameCallbacks);
                 }
             }
@@ -559,19 +601,19 @@ public class CombatCoordinator {
         // Check for automatic/burst fire
         if (character.weapon instanceof combat.RangedWeapon) {
             combat.RangedWeapon rangedWeapon = (combat.RangedWeapon) character.weapon;
-            if (burstFireManager.handleContinuousFiring(character, character.currentTarget, currentTick)) {
+            if (burstFireManager.handleContinuousFiring(character, character.getCurrentTarget(), currentTick)) {
                 // Burst/auto fire is handling continuation
                 if (rangedWeapon.getCurrentFiringMode() == combat.FiringMode.BURST) {
-                    burstFireManager.handleBurstFiring(character, character.currentTarget, currentTick);
+                    burstFireManager.handleBurstFiring(character, character.getCurrentTarget(), currentTick);
                 } else if (rangedWeapon.getCurrentFiringMode() == combat.FiringMode.FULL_AUTO) {
-                    burstFireManager.handleFullAutoFiring(character, character.currentTarget, currentTick);
+                    burstFireManager.handleFullAutoFiring(character, character.getCurrentTarget(), currentTick);
                 }
                 return;
             }
         }
         
         // Standard attack continuation
-        burstFireManager.continueStandardAttack(character, character.currentTarget, currentTick);
+        burstFireManager.continueStandardAttack(character, character.getCurrentTarget(), currentTick);
     }
     
     // ===== Weapon State Management =====
@@ -754,6 +796,7 @@ public class CombatCoordinator {
         skillsManager.cleanupCharacter(characterId);
         statsManager.cleanupCharacter(characterId);
         targetManager.cleanupCharacter(characterId);
+        TargetingScheduler.getInstance().cleanupCharacter(characterId);
         
         // Cancel any scheduled events
         eventSchedulingService.cancelEventsForOwner(characterId);
@@ -772,23 +815,119 @@ public class CombatCoordinator {
         // Implementation depends on extracting logic from Character class
         Character character = unit.getCharacter();
         
-        // Use weapon state manager to handle the progression
-        long transitionTick = weaponStateManager.scheduleStateTransition(
+        // Use weapon state manager to time the progression
+        long transitionTick = weaponStateManager.calculateTransitionTick(
             character, 
             character.currentWeaponState, 
             character.weapon.getStateByName(targetState),
             currentTick
         );
         
-        // Schedule the state change
-        eventSchedulingService.scheduleEvent(transitionTick, () -> {
-            character.currentWeaponState = character.weapon.getStateByName(targetState);
-            
-            // Check if we should continue to attack
-            if (character.isAttacking && character.currentTarget != null) {
-                scheduleAttackFromCurrentState(unit, character.currentTarget, transitionTick, null);
-            }
-        }, unit.getId());
+        // Schedule the state change; the target state is identified by its index in the weapon's states
+        int stateIndex = character.weapon.states.indexOf(character.weapon.getStateByName(targetState));
+        eventSchedulingService.scheduleEvent(new ScheduledEvent(transitionTick, CombatEventKind.WEAPON_STATE_PROGRESSION, unit.getId(),
+            new EventBinding(character, unit, null, null, null), transitionTick, stateIndex));
+    }
+    
+    /**
+     * Carries out an AUTO_RETARGET event: picks a new target after the previous one went down.
+     */
+    void executeAutoRetarget(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        binding.getCharacter().performAutomaticTargetChange(binding.getUnit(), event.getParam(0), binding.getEventQueue(),
+                                                            event.getOwnerId(), binding.getGameCallbacks());
+    }
+    
+    /**
+     * Carries out a WEAPON_STATE_PROGRESSION event: enters the target state and
+     * continues the attack if one is in progress.
+     */
+    void executeWeaponStateProgression(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        long transitionTick = event.getParam(0);
+        int stateIndex = (int) event.getParam(1);
+        boolean validIndex = stateIndex >= 0 && stateIndex < character.weapon.states.size();
+        character.setCurrentWeaponState(validIndex ? character.weapon.states.get(stateIndex) : null);
+        
+        // Check if we should continue to attack
+        if (character.isAttacking && character.getCurrentTarget() != null) {
+            scheduleAttackFromCurrentState(event.getBinding().getUnit(), character.getCurrentTarget(), transitionTick, null);
+        }
+    }
+    
+    // ===== Impacts =====
+    
+    /**
+     * Schedules the impact of a projectile whose hit has already been rolled,
+     * as a typed IMPACT event so shots in flight are kept by saves and keyframes.
+     */
+    public void scheduleProjectileImpact(Unit shooter, Unit target, long impactTick, HitResult hitResult, int ownerId,
+                                         java.util.PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        eventQueue.add(new ScheduledEvent(impactTick, CombatEventKind.IMPACT, ownerId,
+            new EventBinding(shooter.character, shooter, target, eventQueue, gameCallbacks),
+            impactTick,
+            hitResult.isHit() ? 1 : 0,
+            hitResult.getHitLocation() != null ? hitResult.getHitLocation().ordinal() : -1,
+            hitResult.getWoundSeverity() != null ? hitResult.getWoundSeverity().ordinal() : -1,
+            hitResult.getActualDamage(),
+            Double.doubleToRawLongBits(hitResult.getChanceToHit()),
+            Double.doubleToRawLongBits(hitResult.getRandomRoll())));
+    }
+    
+    /**
+     * Schedules a melee attack or counter-attack with the attacker's melee
+     * weapon as a typed MELEE_ATTACK event.
+     */
+    public void scheduleMeleeImpact(Unit attacker, Unit target, long attackTick, boolean counterAttack, int ownerId,
+                                    java.util.PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        eventQueue.add(new ScheduledEvent(attackTick, CombatEventKind.MELEE_ATTACK, ownerId,
+            new EventBinding(attacker.character, attacker, target, eventQueue, gameCallbacks),
+            attackTick, counterAttack ? 1 : 0));
+    }
+    
+    /**
+     * Carries out an IMPACT event with the shooter's current weapon.
+     */
+    void executeProjectileImpact(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        int hitLocation = (int) event.getParam(2);
+        int woundSeverity = (int) event.getParam(3);
+        HitResult hitResult = new HitResult(event.getParam(1) != 0,
+            hitLocation >= 0 ? BodyPart.values()[hitLocation] : null,
+            woundSeverity >= 0 ? WoundSeverity.values()[woundSeverity] : null,
+            (int) event.getParam(4),
+            Double.longBitsToDouble(event.getParam(5)),
+            Double.longBitsToDouble(event.getParam(6)));
+        binding.getGameCallbacks().resolveProjectileImpact((Unit) binding.getUnit(), (Unit) binding.getTarget(),
+                                                           binding.getCharacter().weapon, event.getParam(0), hitResult);
+    }
+    
+    /**
+     * Carries out a MELEE_ATTACK event. A counter-attack also uses up the
+     * defender's counter-attack opportunity, is counted in its career and
+     * leaves its weapon ready.
+     */
+    void executeMeleeAttack(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        Unit attacker = (Unit) binding.getUnit();
+        Unit target = (Unit) binding.getTarget();
+        long attackTick = event.getParam(0);
+        GameCallbacks gameCallbacks = binding.getGameCallbacks();
+        
+        if (event.getParam(1) == 0) {
+            gameCallbacks.resolveMeleeImpact(attacker, target, character.meleeWeapon, attackTick);
+            return;
+        }
+        
+        defenseManager.setHasCounterAttackOpportunity(character.id, false);
+        character.career().counterAttacksExecuted++;
+        int beforeSuccessful = character.career().meleeAttacksSuccessful;
+        gameCallbacks.resolveMeleeImpact(attacker, target, character.meleeWeapon, attackTick);
+        if (character.career().meleeAttacksSuccessful > beforeSuccessful) {
+            character.career().counterAttacksSuccessful++;
+        }
+        character.setCurrentWeaponState(new WeaponState("melee_ready", "idle", 0));
     }
     
     // ===== Getters for Managers (for testing) =====
@@ -0,0 +1,141 @@
+package combat;
+
+import combat.managers.BurstFireManager;
+import combat.managers.MeleeCombatSequenceManager;
+import combat.managers.ReactionManager;
+import combat.managers.ReloadManager;
+import combat.managers.WeaponStateTransitionManager;
+import game.EventCategory;
+import game.ScheduledEvent;
+import game.Unit;
+import java.util.function.Consumer;
+
+/**
+ * Kinds of typed scheduled events raised by the combat managers.
+ *
+ * A typed event carries its action as data - kind, owner, acting character,
+ * target unit and a few long parameters - instead of a captured lambda, so it
+ * can be saved with the game and rebuilt on load. Each kind hands the event to
+ * the manager method that carries it out; the parameters a kind expects are
+ * listed with it. Tick parameters are kept even when equal to the event's tick,
+ * because hesitation can reschedule paused events to a later tick. Weapon
+ * states are passed as the weapon slot they belong to (0 for Character.weapon,
+ * 1 for meleeWeapon, 2 for rangedWeapon) and their index in that weapon's
+ * states (-1 for none).
+ */
+public enum CombatEventKind {
+    // CombatCoordinator
+    /** Ranged shot. Params: fire tick */
+    FIRE_SHOT(EventCategory.FIRE, event -> CombatCoordinator.getInstance().executeShot(event)),
+    /** Firing state ends, recovery starts. Params: fire tick, firing state ticks */
+    FIRING_RECOVERY(EventCategory.RECOVER, event -> CombatCoordinator.getInstance().executeFiringRecovery(event)),
+    /** Recovery ends. Params: completion tick */
+    FIRING_COMPLETE(EventCategory.RECOVER, event -> CombatCoordinator.getInstance().executeFiringComplete(event)),
+    /** Pick a new target after the last one went down. Params: retarget tick */
+    AUTO_RETARGET(EventCategory.RETARGET, event -> CombatCoordinator.getInstance().executeAutoRetarget(event)),
+    /** Weapon reaches a state. Params: transition tick, index of the state in the weapon's states */
+    WEAPON_STATE_PROGRESSION(EventCategory.WEAPON_STATE, event -> CombatCoordinator.getInstance().executeWeaponStateProgression(event)),
+    /**
+     * Projectile reaches its target; resolved by GameCallbacks.resolveProjectileImpact.
+     * Params: impact tick, 1 for a hit or 0 for a miss, hit location ordinal (-1 for none),
+     * wound severity ordinal (-1 for none), damage, chance to hit and roll as double bits
+     */
+    IMPACT(EventCategory.IMPACT, event -> CombatCoordinator.getInstance().executeProjectileImpact(event)),
+    /**
+     * Melee attack lands; resolved by GameCallbacks.resolveMeleeImpact.
+     * Params: attack tick, 1 for a counter-attack or 0 for an ordinary attack
+     */
+    MELEE_ATTACK(EventCategory.MELEE_ATTACK, event -> CombatCoordinator.getInstance().executeMeleeAttack(event)),
+
+    // BurstFireManager
+    /** Next burst after the current one. No params */
+    BURST_FOLLOW_UP(EventCategory.BURST_ROUND, event -> BurstFireManager.getInstance().executeBurstFollowUp(event)),
+    /** Follow-up round of a burst. Params: shot tick, shot number */
+    BURST_SHOT(EventCategory.BURST_ROUND, event -> BurstFireManager.getInstance().executeBurstShot(event)),
+    /** Next full-auto shot. Params: shot tick */
+    FULL_AUTO_SHOT(EventCategory.BURST_ROUND, event -> BurstFireManager.getInstance().executeFullAutoShot(event)),
+    /** Persistent attack resumes after the firing delay. No params */
+    ATTACK_READINESS_CHECK(EventCategory.CONTINUE_ATTACK, event -> BurstFireManager.getInstance().executeAttackReadinessCheck(event)),
+    /** Next persistent attack or reload. Params: attack tick */
+    CONTINUE_ATTACK(EventCategory.CONTINUE_ATTACK, event -> BurstFireManager.getInstance().executeContinueAttack(event)),
+
+    // ReloadManager
+    /** Reload finishes. Params: completion tick */
+    RELOAD_COMPLETE(EventCategory.RELOAD, event -> ReloadManager.getInstance().executeReloadComplete(event)),
+    /** Next single round loaded. Params: completion tick */
+    RELOAD_ROUND(EventCategory.RELOAD, event -> ReloadManager.getInstance().executeReloadRound(event)),
+    /** Attack continues after a reload outside persistent attack. Params: reload completion tick */
+    RELOAD_ATTACK_CHECK(EventCategory.CONTINUE_ATTACK, event -> ReloadManager.getInstance().executeReloadAttackCheck(event)),
+
+    // WeaponStateTransitionManager
+    /** Weapon reaches the next state of an attack. Params: transition tick, weapon slot, state index */
+    ATTACK_STATE_TRANSITION(EventCategory.WEAPON_STATE, event -> WeaponStateTransitionManager.getInstance().executeAttackStateTransition(event)),
+    /**
+     * Weapon reaches the next state of a ready sequence; the state is entered on
+     * the weapon active by then. Params: transition tick, weapon slot, state index
+     */
+    READY_STATE_TRANSITION(EventCategory.WEAPON_STATE, event -> WeaponStateTransitionManager.getInstance().executeReadyStateTransition(event)),
+
+    // MeleeCombatSequenceManager
+    /** Melee weapon reaches the next state of an attack. Params: transition tick, weapon slot, state index */
+    MELEE_STATE_TRANSITION(EventCategory.WEAPON_STATE, event -> MeleeCombatSequenceManager.getInstance().executeMeleeStateTransition(event)),
+    /** Attacker closing to melee rechecks the range. Params: check tick */
+    MELEE_RANGE_CHECK(EventCategory.MELEE_RANGE_CHECK, event -> MeleeCombatSequenceManager.getInstance().executeRangeCheck(event)),
+    /** Melee attack is made; the impact follows as MELEE_ATTACK. Params: attack tick */
+    MELEE_STRIKE(EventCategory.MELEE_ATTACK, event -> MeleeCombatSequenceManager.getInstance().executeMeleeStrike(event)),
+    /**
+     * Melee recovery ends. Params: recovery tick, weapon slot, index of the ready
+     * state, 1 if already deferred for hesitation or 0
+     */
+    MELEE_RECOVERY(EventCategory.RECOVER, event -> MeleeCombatSequenceManager.getInstance().executeMeleeRecovery(event)),
+
+    // MeleeCombatManager
+    /** Attack at the end of a melee approach. Params: attack tick */
+    MELEE_APPROACH_ATTACK(EventCategory.MELEE_ATTACK, MeleeCombatManager::executeApproachAttack),
+    /** Recovery after a melee approach attack. Params: tick to continue attacking from, weapon slot, ready state index */
+    MELEE_APPROACH_RECOVERY(EventCategory.RECOVER, MeleeCombatManager::executeApproachRecovery),
+
+    // HesitationManager
+    /** Wound hesitation ends. No params (uses the character's hesitation end tick) */
+    HESITATION_END(EventCategory.HESITATION_END, HesitationManager::executeHesitationEnd),
+    /** Weapon leaves recovering/firing after hesitation. Params: transition tick, 1 for aiming or 0 for hip */
+    HESITATION_STATE_RECOVERY(EventCategory.HESITATION_END, HesitationManager::executeHesitationStateRecovery),
+    /** Reload of an empty weapon after hesitation. Params: reload tick */
+    HESITATION_RELOAD(EventCategory.HESITATION_END, HesitationManager::executeHesitationReload),
+    /** One bravery failure wears off. Params: tick of the failed check */
+    BRAVERY_RECOVERY(EventCategory.BRAVERY_RECOVERY, HesitationManager::executeBraveryRecovery),
+
+    // ReactionManager
+    /** Reaction to the watched target's weapon state change. Params: reaction delay */
+    REACTION_TRIGGER(EventCategory.REACTION, event -> ReactionManager.getInstance().executeReactionTrigger(event)),
+    /** Reaction retried after the character's own attack. No params */
+    REACTION_RETRY(EventCategory.REACTION, event -> ReactionManager.getInstance().executeReactionRetry(event)),
+
+    // Unit
+    /** Hit highlight fades. No params */
+    HIT_HIGHLIGHT_END(EventCategory.HIGHLIGHT, event -> ((Unit) event.getBinding().getUnit()).endHitHighlight()),
+    /** Firing highlight fades. No params */
+    FIRING_HIGHLIGHT_END(EventCategory.HIGHLIGHT, event -> ((Unit) event.getBinding().getUnit()).endFiringHighlight());
+
+    private final EventCategory category;
+    private final Consumer<ScheduledEvent> handler;
+
+    CombatEventKind(EventCategory category, Consumer<ScheduledEvent> handler) {
+        this.category = category;
+        this.handler = handler;
+    }
+
+    /**
+     * @return the profiling category of events of this kind
+     */
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Carries out the event.
+     */
+    public void handle(ScheduledEvent event) {
+        handler.accept(event);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2025 Edward T. Tonai
+ * Licensed under the MIT License - see LICENSE file for details
+ */
+
+package combat;
+
+import combat.managers.AimingSystem;
+import combat.managers.ReloadManager;
+import data.DataManager;
+import data.WeaponData;
+import data.WeaponFactory;
+import game.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact odds for aimed ranged fire, worked out without rolling dice.
+ *
+ * CombatCalculator resolves a shot with one roll against the chance to hit.
+ * The same roll grades the hit (excellent, good or poor) and further rolls
+ * pick the body part and wound severity. CombatOdds follows those rolls in
+ * closed form. For a chance to hit it gives the probability of every
+ * (body part, severity) outcome and the damage each does. From that it steps
+ * a distribution over the target's remaining health shot by shot, which gives
+ * the chance and expected time of incapacitating the target: a critical wound,
+ * or health down to zero.
+ *
+ * The model is a stationary shooter firing single aimed shots at the aiming
+ * speed currently selected, under the modifiers that determineHit applies to
+ * such a shot. The first attack penalty applies to the first shot only.
+ * Earned aiming bonuses, burst and automatic fire, stress and bravery changes
+ * during the exchange are not modelled. Time between shots follows the
+ * weapon's firing, recovering and aiming states, with a reload after each
+ * full load of ammunition.
+ *
+ * Run main() for a table of every ranged weapon against a standard target.
+ */
+public final class CombatOdds {
+
+    /** Shots simulated before a target that is still standing is given up on */
+    public static final int MAX_SHOTS = 1000;
+
+    private static final double NEGLIGIBLE_PROBABILITY = 1e-9;
+    private static final int PARTS = BodyPart.values().length;
+    private static final int SEVERITIES = WoundSeverity.values().length;
+
+    /**
+     * Outcome distribution of one shot at a given chance to hit.
+     */
+    public static final class ShotOdds {
+        private final double chanceToHit;
+        private final double hitProbability;
+        // Probability and damage of each outcome, indexed [body part][severity]
+        private final double[][] outcomeProbability = new double[PARTS][SEVERITIES];
+        private final int[][] outcomeDamage = new int[PARTS][SEVERITIES];
+
+        ShotOdds(double chanceToHit, double hitProbability) {
+            this.chanceToHit = chanceToHit;
+            this.hitProbability = hitProbability;
+        }
+
+        /** @return the chance to hit the odds were worked out for, in percent */
+        public double getChanceToHit() {
+            return chanceToHit;
+        }
+
+        public double getHitProbability() {
+            return hitProbability;
+        }
+
+        /** @return probability that the shot hits the body part, with any severity */
+        public double getLocationProbability(BodyPart bodyPart) {
+            double total = 0;
+            for (double probability : outcomeProbability[bodyPart.ordinal()]) {
+                total += probability;
+            }
+            return total;
+        }
+
+        /** @return probability that the shot hits and causes a wound of the severity */
+        public double getSeverityProbability(WoundSeverity severity) {
+            double total = 0;
+            for (int part = 0; part < PARTS; part++) {
+                total += outcomeProbability[part][severity.ordinal()];
+            }
+            return total;
+        }
+
+        public double getOutcomeProbability(BodyPart bodyPart, WoundSeverity severity) {
+            return outcomeProbability[bodyPart.ordinal()][severity.ordinal()];
+        }
+
+        public int getOutcomeDamage(BodyPart bodyPart, WoundSeverity severity) {
+            return outcomeDamage[bodyPart.ordinal()][severity.ordinal()];
+        }
+
+        /** @return damage per shot, counting misses as zero */
+        public double getExpectedDamage() {
+            double total = 0;
+            for (int part = 0; part < PARTS; part++) {
+                for (int severity = 0; severity < SEVERITIES; severity++) {
+                    total += outcomeProbability[part][severity] * outcomeDamage[part][severity];
+                }
+            }
+            return total;
+        }
+
+        private void add(BodyPart bodyPart, WoundSeverity severity, double probability) {
+            outcomeProbability[bodyPart.ordinal()][severity.ordinal()] += probability;
+        }
+    }
+
+    /**
+     * How long a target is expected to stand under fire.
+     */
+    public static final class TimeToIncapacitate {
+        private final double[] incapacitatedByShot;
+        private final long[] shotTicks;
+
+        TimeToIncapacitate(double[] incapacitatedByShot, long[] shotTicks) {
+            this.incapacitatedByShot = incapacitatedByShot;
+            this.shotTicks = shotTicks;
+        }
+
+        /** @return probability that the target goes down within MAX_SHOTS shots */
+        public double getIncapacitationProbability() {
+            return getProbabilityWithinShots(incapacitatedByShot.length);
+        }
+
+        /** @return probability that the target is down after the given number of shots */
+        public double getProbabilityWithinShots(int shots) {
+            double total = 0;
+            for (int shot = 0; shot < Math.min(shots, incapacitatedByShot.length); shot++) {
+                total += incapacitatedByShot[shot];
+            }
+            return total;
+        }
+
+        /** @return mean shots to incapacitate, among exchanges that do; NaN if none do */
+        public double getExpectedShots() {
+            double weighted = 0;
+            for (int shot = 0; shot < incapacitatedByShot.length; shot++) {
+                weighted += incapacitatedByShot[shot] * (shot + 1);
+            }
+            return weighted / getIncapacitationProbability();
+        }
+
+        /** @return mean ticks from the start of aiming to the incapacitating shot; NaN if none */
+        public double getExpectedTicks() {
+            double weighted = 0;
+            for (int shot = 0; shot < incapacitatedByShot.length; shot++) {
+                weighted += incapacitatedByShot[shot] * shotTicks[shot];
+            }
+            return weighted / getIncapacitationProbability();
+        }
+    }
+
+    /**
+     * Odds of one weapon at one distance.
+     */
+    public static final class RangeOdds {
+        public final double distanceFeet;
+        public final ShotOdds firstShot;
+        public final ShotOdds followUpShot;
+        public final TimeToIncapacitate timeToIncapacitate;
+
+        RangeOdds(double distanceFeet, ShotOdds firstShot, ShotOdds followUpShot, TimeToIncapacitate timeToIncapacitate) {
+            this.distanceFeet = distanceFeet;
+            this.firstShot = firstShot;
+            this.followUpShot = followUpShot;
+            this.timeToIncapacitate = timeToIncapacitate;
+        }
+    }
+
+    /**
+     * Works out the outcome distribution of a shot, following
+     * CombatCalculator.determineHitLocation and determineWoundSeverity.
+     *
+     * @param chanceToHit Chance to hit in percent, as determineHit computes it
+     * @param weaponDamage Weapon damage before scaling by severity and location
+     */
+    public static ShotOdds shotOdds(double chanceToHit, int weaponDamage) {
+        // The roll is uniform on [0, 100); hit bands below 100 are cut off there
+        double excellent = rollProbability(chanceToHit * CombatCalculator.EXCELLENT_SHOT_FRACTION);
+        double goodOrBetter = rollProbability(chanceToHit * CombatCalculator.GOOD_SHOT_FRACTION);
+        double hit = rollProbability(chanceToHit);
+        double good = goodOrBetter - excellent;
+        double poor = hit - goodOrBetter;
+
+        ShotOdds odds = new ShotOdds(chanceToHit, hit);
+
+        // Excellent shots are always critical
+        double excellentHead = CombatCalculator.EXCELLENT_SHOT_HEADSHOT_PERCENT / 100.0;
+        odds.add(BodyPart.HEAD, WoundSeverity.CRITICAL, excellent * excellentHead);
+        odds.add(BodyPart.CHEST, WoundSeverity.CRITICAL, excellent * (1 - excellentHead));
+
+        double goodHead = CombatCalculator.GOOD_SHOT_HEADSHOT_PERCENT / 100.0;
+        addRolledSeverities(odds, BodyPart.HEAD, good * goodHead);
+        addRolledSeverities(odds, BodyPart.CHEST, good * (1 - goodHead) * 0.5);
+        addRolledSeverities(odds, BodyPart.ABDOMEN, good * (1 - goodHead) * 0.5);
+
+        double previousRoll = 0;
+        for (int i = 0; i < CombatCalculator.RANDOM_HIT_PARTS.length; i++) {
+            double roll = CombatCalculator.RANDOM_HIT_PART_ROLLS[i];
+            addRolledSeverities(odds, CombatCalculator.RANDOM_HIT_PARTS[i], poor * (roll - previousRoll) / 100.0);
+            previousRoll = roll;
+        }
+
+        for (BodyPart bodyPart : BodyPart.values()) {
+            for (WoundSeverity severity : WoundSeverity.values()) {
+                odds.outcomeDamage[bodyPart.ordinal()][severity.ordinal()] =
+                    CombatCalculator.scaleDamage(weaponDamage, severity, bodyPart);
+            }
+        }
+        return odds;
+    }
+
+    /**
+     * Chance to hit for a ranged shot in the shooter's current state, from the
+     * same modifiers as CombatCalculator.determineHit under the game's stress.
+     *
+     * @param firstShot Whether the first attack penalty applies
+     */
+    public static double chanceToHit(Unit shooter, Unit target, double distanceFeet, long currentTick, boolean firstShot) {
+        return chanceToHit(shooter, target, distanceFeet, currentTick, firstShot, CombatCalculator.DEFAULT_STRESS_MODIFIER);
+    }
+
+    /**
+     * Chance to hit for a ranged shot in the shooter's current state, from the
+     * same modifiers as CombatCalculator.determineHit under the given stress.
+     *
+     * @param firstShot Whether the first attack penalty applies
+     * @param stressModifier Stress before the shooter's coolness, as passed to determineHit
+     */
+    public static double chanceToHit(Unit shooter, Unit target, double distanceFeet, long currentTick, boolean firstShot,
+                                     int stressModifier) {
+        RangedWeapon weapon = rangedWeapon(shooter.character);
+        double chanceToHit = CombatCalculator.hitModifiers(shooter, target, distanceFeet, weapon.getMaximumRange(),
+                                                           weapon.getWeaponAccuracy(), stressModifier, currentTick,
+                                                           firstShot).total();
+
+        if (distanceFeet <= weapon.getMaximumRange()) {
+            chanceToHit = Math.max(chanceToHit, 0.01);
+        }
+        return chanceToHit;
+    }
+
+    /**
+     * Distribution of the number of shots, and ticks, until the target is
+     * incapacitated, starting from its current health and wounds.
+     */
+    public static TimeToIncapacitate timeToIncapacitate(Unit shooter, Unit target, double distanceFeet, long currentTick) {
+        ShotOdds firstShot = shotOdds(chanceToHit(shooter, target, distanceFeet, currentTick, true),
+                                      rangedWeapon(shooter.character).getDamage());
+        ShotOdds followUpShot = shotOdds(chanceToHit(shooter, target, distanceFeet, currentTick, false),
+                                         rangedWeapon(shooter.character).getDamage());
+        return timeToIncapacitate(shooter, target, firstShot, followUpShot);
+    }
+
+    private static TimeToIncapacitate timeToIncapacitate(Unit shooter, Unit target, ShotOdds firstShot, ShotOdds followUpShot) {
+        List<Double> incapacitatedByShot = new ArrayList<>();
+        int health = target.character.currentHealth;
+        if (target.character.isIncapacitated() || health <= 0) {
+            return new TimeToIncapacitate(new double[0], new long[0]);
+        }
+
+        // standing[h] is the probability the target is still up with h health
+        double[] standing = new double[health + 1];
+        standing[health] = 1.0;
+        double standingTotal = 1.0;
+        for (int shot = 0; shot < MAX_SHOTS && standingTotal > NEGLIGIBLE_PROBABILITY; shot++) {
+            ShotOdds odds = shot == 0 ? firstShot : followUpShot;
+            if (odds.getHitProbability() <= 0) {
+                break;
+            }
+            double[] next = new double[health + 1];
+            for (int h = 1; h <= health; h++) {
+                if (standing[h] == 0) {
+                    continue;
+                }
+                next[h] += standing[h] * (1 - odds.getHitProbability());
+                for (int part = 0; part < PARTS; part++) {
+                    for (int severity = 0; severity < SEVERITIES; severity++) {
+                        double probability = odds.outcomeProbability[part][severity];
+                        int remaining = h - odds.outcomeDamage[part][severity];
+                        if (probability > 0 && severity != WoundSeverity.CRITICAL.ordinal() && remaining > 0) {
+                            next[remaining] += standing[h] * probability;
+                        }
+                    }
+                }
+            }
+            double nextTotal = 0;
+            for (double probability : next) {
+                nextTotal += probability;
+            }
+            incapacitatedByShot.add(standingTotal - nextTotal);
+            standing = next;
+            standingTotal = nextTotal;
+        }
+
+        double[] byShot = new double[incapacitatedByShot.size()];
+        for (int i = 0; i < byShot.length; i++) {
+            byShot[i] = incapacitatedByShot.get(i);
+        }
+        return new TimeToIncapacitate(byShot, shotTicks(shooter, byShot.length));
+    }
+
+    /**
+     * Odds at each multiple of stepFeet out to the weapon's maximum range.
+     */
+    public static List<RangeOdds> rangeTable(Unit shooter, Unit target, double stepFeet, long currentTick) {
+        RangedWeapon weapon = rangedWeapon(shooter.character);
+        List<RangeOdds> table = new ArrayList<>();
+        for (double distance = stepFeet; distance <= weapon.getMaximumRange() + 1e-9; distance += stepFeet) {
+            ShotOdds firstShot = shotOdds(chanceToHit(shooter, target, distance, currentTick, true), weapon.getDamage());
+            ShotOdds followUpShot = shotOdds(chanceToHit(shooter, target, distance, currentTick, false), weapon.getDamage());
+            table.add(new RangeOdds(distance, firstShot, followUpShot,
+                                    timeToIncapacitate(shooter, target, firstShot, followUpShot)));
+        }
+        return table;
+    }
+
+    /**
+     * @return one row per distance: hit chance, headshot and critical odds, expected damage and time to incapacitate
+     */
+    public static String formatRangeTable(List<RangeOdds> table) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%8s %7s %7s %7s %7s %9s %8s %8s%n",
+                                  "feet", "hit%", "head%", "crit%", "dmg", "down%", "shots", "seconds"));
+        for (RangeOdds row : table) {
+            ShotOdds shot = row.followUpShot;
+            TimeToIncapacitate ttk = row.timeToIncapacitate;
+            text.append(String.format("%8.0f %7.1f %7.1f %7.1f %7.2f %9.1f %8.2f %8.2f%n",
+                                      row.distanceFeet,
+                                      shot.getHitProbability() * 100,
+                                      shot.getLocationProbability(BodyPart.HEAD) * 100,
+                                      shot.getSeverityProbability(WoundSeverity.CRITICAL) * 100,
+                                      shot.getExpectedDamage(),
+                                      ttk.getIncapacitationProbability() * 100,
+                                      ttk.getExpectedShots(),
+                                      ttk.getExpectedTicks() / 60.0));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Ticks from the weapon being aimed to each shot, reloading after each full load.
+     */
+    static long[] shotTicks(Unit shooter, int shots) {
+        combat.Character character = shooter.character;
+        RangedWeapon weapon = rangedWeapon(character);
+        AimingSpeed aimingSpeed = character.getCurrentAimingSpeed();
+        String aimState = character.getFiresFromAimingState() ? "aiming" : "pointedfromhip";
+        long aimTicks = Math.round(stateTicks(weapon, aimState) * aimingSpeed.getTimingMultiplier()
+                                   * AimingSystem.getInstance().calculateAimingSpeedMultiplier(character));
+        long cycleTicks = stateTicks(weapon, "firing") + stateTicks(weapon, "recovering") + aimTicks;
+
+        long reloadTicks = ReloadManager.getInstance().calculateReloadDuration(weapon, character);
+        int load = Math.max(1, weapon.getMaxAmmunition());
+        if (weapon.getReloadType() == ReloadType.SINGLE_ROUND) {
+            reloadTicks *= load;
+        }
+
+        long[] ticks = new long[shots];
+        for (int shot = 0; shot < shots; shot++) {
+            ticks[shot] = aimTicks + shot * cycleTicks + (shot / load) * reloadTicks;
+        }
+        return ticks;
+    }
+
+    private static long stateTicks(Weapon weapon, String stateName) {
+        WeaponState state = weapon.getStateByName(stateName);
+        return state != null ? state.ticks : 0;
+    }
+
+    private static double rollProbability(double threshold) {
+        return Math.max(0.0, Math.min(threshold, 100.0)) / 100.0;
+    }
+
+    private static void addRolledSeverities(ShotOdds odds, BodyPart bodyPart, double probability) {
+        double[] severityRolls = CombatCalculator.isVitalArea(bodyPart)
+            ? CombatCalculator.VITAL_SEVERITY_ROLLS : CombatCalculator.LIMB_SEVERITY_ROLLS;
+        double previousRoll = 0;
+        for (int i = 0; i < CombatCalculator.ROLLED_SEVERITIES.length; i++) {
+            odds.add(bodyPart, CombatCalculator.ROLLED_SEVERITIES[i], probability * (severityRolls[i] - previousRoll) / 100.0);
+            previousRoll = severityRolls[i];
+        }
+    }
+
+    private static RangedWeapon rangedWeapon(combat.Character character) {
+        if (!(character.weapon instanceof RangedWeapon)) {
+            throw new IllegalArgumentException(character.getDisplayName() + " has no ranged weapon");
+        }
+        return (RangedWeapon) character.weapon;
+    }
+
+    /**
+     * Prints a range table for every ranged weapon, fired by an average
+     * shooter at an average target.
+     *
+     * @param args Optional distance step in feet (default 10)
+     */
+    public static void main(String[] args) {
+        double stepFeet = args.length > 0 ? Double.parseDouble(args[0]) : 10.0;
+        long start = System.nanoTime();
+        int rows = 0;
+        for (Map.Entry<String, WeaponData> entry : DataManager.getInstance().getAllWeapons().entrySet()) {
+            RangedWeapon weapon = WeaponFactory.createWeapon(entry.getKey());
+            combat.Character shooterCharacter = new combat.Character("Shooter", 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED, weapon);
+            combat.Character targetCharacter = new combat.Character("Target", 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+            Unit shooter = new Unit(shooterCharacter, 0, 0, platform.api.Color.BLUE, 1);
+            Unit target = new Unit(targetCharacter, 0, 0, platform.api.Color.RED, 2);
+
+            List<RangeOdds> table = rangeTable(shooter, target, stepFeet, 0);
+            rows += table.size();
+            System.out.println(weapon.getName() + " (" + entry.getKey() + "): damage " + weapon.getDamage()
+                               + ", accuracy " + weapon.getWeaponAccuracy() + ", range " + weapon.getMaximumRange() + " ft");
+            System.out.println(formatRangeTable(table));
+        }
+        System.out.printf("%d rows in %.1f ms%n", rows, (System.nanoTime() - start) / 1e6);
+    }
+
+    // Private constructor to prevent instantiation
+    private CombatOdds() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+}
\ No newline at end of file
@@ -3,11 +3,15 @@
  * Licensed under the MIT License - see LICENSE file for details
  */
 
-import combat.*;
+package combat;
+
+import combat.telemetry.CombatTelemetry;
+import game.DormancyTracker;
 import game.Unit;
+import game.EventBinding;
 import game.ScheduledEvent;
 import utils.GameConstants;
-import javafx.scene.paint.Color;
+import platform.api.Color;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -25,6 +29,8 @@ public class CombatResolver {
     }
     
     public void resolveCombatImpact(Unit shooter, Unit target, Weapon weapon, long impactTick, HitResult hitResult) {
+        // Being shot at brings a dormant unit back into the tick loop
+        DormancyTracker.getInstance().wake(target);
         if (hitResult.isHit()) {
             BodyPart hitLocation = hitResult.getHitLocation();
             WoundSeverity woundSeverity = hitResult.getWoundSeverity();
@@ -43,43 +49,45 @@ public class CombatResolver {
             System.out.println(">>> " + target.character.getDisplayName() + " takes " + actualDamage + " damage");
             
             // Track successful attack (legacy tracking)
-            shooter.character.attacksSuccessful++;
+            shooter.character.career().attacksSuccessful++;
             
             // Track by weapon type (DevCycle 12)
             if (weapon instanceof MeleeWeapon) {
-                shooter.character.meleeAttacksSuccessful++;
-                shooter.character.meleeWoundsInflicted++;
+                shooter.character.career().meleeAttacksSuccessful++;
+                shooter.character.career().meleeWoundsInflicted++;
             } else {
-                shooter.character.rangedAttacksSuccessful++;
-                shooter.character.rangedWoundsInflicted++;
+                shooter.character.career().rangedAttacksSuccessful++;
+                shooter.character.career().rangedWoundsInflicted++;
             }
             
             // Track wound infliction by type
             switch (woundSeverity) {
                 case SCRATCH:
-                    shooter.character.woundsInflictedScratch++;
+                    shooter.character.career().woundsInflictedScratch++;
                     break;
                 case LIGHT:
-                    shooter.character.woundsInflictedLight++;
+                    shooter.character.career().woundsInflictedLight++;
                     break;
                 case SERIOUS:
-                    shooter.character.woundsInflictedSerious++;
+                    shooter.character.career().woundsInflictedSerious++;
                     break;
                 case CRITICAL:
-                    shooter.character.woundsInflictedCritical++;
+                    shooter.character.career().woundsInflictedCritical++;
                     break;
             }
             
             // Track headshot statistics
             if (hitLocation == BodyPart.HEAD) {
-                shooter.character.headshotsAttempted++;
-                shooter.character.headshotsSuccessful++;
+                shooter.character.career().headshotsAttempted++;
+                shooter.character.career().headshotsSuccessful++;
                 System.out.println(">>> HEADSHOT! " + shooter.character.getDisplayName() + " scored a headshot on " + target.character.getDisplayName());
             }
             
             // Add wound to character's wound list with hesitation mechanics
             String weaponId = weapon.getWeaponId(); // Direct access to weapon ID (DevCycle 17)
             target.character.addWound(new Wound(hitLocation, woundSeverity, weapon.getWoundDescription(), weaponId, actualDamage), impactTick, eventQueue, target.getId());
+            CombatTelemetry.getInstance().recordHit(shooter, target, weapon, impactTick, hitResult);
+            CombatTelemetry.getInstance().recordWound(shooter, target, weapon, impactTick, hitLocation, woundSeverity, actualDamage);
             System.out.println(">>> " + target.character.getDisplayName() + " current health: " + target.character.currentHealth + "/" + target.character.health);
             
             // Trigger bravery check for the target when wounded (weapon-type aware)
@@ -104,11 +112,11 @@ public class CombatResolver {
             boolean wasIncapacitated = target.character.isIncapacitated();
             if (wasIncapacitated) {
                 // Track incapacitation caused by this shooter
-                shooter.character.targetsIncapacitated++;
+                shooter.character.career().targetsIncapacitated++;
                 
                 // Track headshot incapacitation
                 if (hitLocation == BodyPart.HEAD) {
-                    shooter.character.headshotIncapacitations++;
+                    shooter.character.career().headshotIncapacitations++;
                     System.out.println(">>> " + target.character.getDisplayName() + " is incapacitated by headshot!");
                 }
                 
@@ -241,6 +249,7 @@ public class CombatResolver {
     }
     
     public void performStrayHit(Unit shooter, Unit strayTarget, Weapon weapon, long impactTick) {
+        DormancyTracker.getInstance().wake(strayTarget);
         System.out.println(">>> STRAY SHOT! " + weapon.getWoundDescription() + " hits " + strayTarget.character.getDisplayName() + " (position: " + strayTarget.character.getCurrentPosition().getDisplayName() + ")");
         
         // Calculate stray shot accuracy - reduced chance to hit
@@ -263,29 +272,30 @@ public class CombatResolver {
             System.out.println(">>> " + strayTarget.character.getDisplayName() + " takes " + strayDamage + " stray damage");
             
             // Track successful attack for shooter (stray hits still count)
-            shooter.character.attacksSuccessful++;
-            shooter.character.rangedAttacksSuccessful++;
-            shooter.character.rangedWoundsInflicted++;
+            shooter.character.career().attacksSuccessful++;
+            shooter.character.career().rangedAttacksSuccessful++;
+            shooter.character.career().rangedWoundsInflicted++;
             
             // Track wound infliction by type
             switch (woundSeverity) {
                 case SCRATCH:
-                    shooter.character.woundsInflictedScratch++;
+                    shooter.character.career().woundsInflictedScratch++;
                     break;
                 case LIGHT:
-                    shooter.character.woundsInflictedLight++;
+                    shooter.character.career().woundsInflictedLight++;
                     break;
                 case SERIOUS:
-                    shooter.character.woundsInflictedSerious++;
+                    shooter.character.career().woundsInflictedSerious++;
                     break;
                 case CRITICAL:
-                    shooter.character.woundsInflictedCritical++;
+                    shooter.character.career().woundsInflictedCritical++;
                     break;
             }
             
             // Add wound to target with hesitation mechanics
             String weaponId = weapon.getWeaponId(); // Direct access to weapon ID (DevCycle 17)
             strayTarget.character.addWound(new Wound(hitLocation, woundSeverity, weapon.getWoundDescription() + " (stray)", weaponId, strayDamage), impactTick, eventQueue, strayTarget.getId());
+            CombatTelemetry.getInstance().recordWound(shooter, strayTarget, weapon, impactTick, hitLocation, woundSeverity, strayDamage);
             System.out.println(">>> " + strayTarget.character.getDisplayName() + " current health: " + strayTarget.character.currentHealth + "/" + strayTarget.character.health);
             
             // Trigger bravery check for stray shot victim
@@ -296,7 +306,7 @@ public class CombatResolver {
             
             // Check for incapacitation from stray shot
             if (strayTarget.character.isIncapacitated()) {
-                shooter.character.targetsIncapacitated++;
+                shooter.character.career().targetsIncapacitated++;
                 System.out.println(">>> " + strayTarget.character.getDisplayName() + " is incapacitated by stray shot!");
                 strayTarget.character.baseMovementSpeed = 0;
                 eventQueue.removeIf(e -> e.getOwnerId() == strayTarget.getId());
@@ -312,11 +322,9 @@ public class CombatResolver {
     public void applyHitHighlight(Unit target, long impactTick) {
         if (!target.isHitHighlighted) {
             target.isHitHighlighted = true;
-            target.color = platform.api.Color.fromJavaFX(Color.YELLOW);
-            eventQueue.add(new ScheduledEvent(impactTick + 15, () -> {
-                target.color = target.baseColor;
-                target.isHitHighlighted = false;
-            }, ScheduledEvent.WORLD_OWNER));
+            target.color = Color.YELLOW;
+            eventQueue.add(new ScheduledEvent(impactTick + 15, CombatEventKind.HIT_HIGHLIGHT_END, ScheduledEvent.WORLD_OWNER,
+                new EventBinding(target.character, target, null, eventQueue, null)));
         }
     }
     
@@ -376,12 +384,13 @@ public class CombatResolver {
         }
         
         // Track attempted attack (both legacy and separate tracking)
-        attacker.character.attacksAttempted++;
-        attacker.character.meleeAttacksAttempted++;
+        attacker.character.career().attacksAttempted++;
+        attacker.character.career().meleeAttacksAttempted++;
         
         // DevCycle 40: Defense system now integrated into hit calculation
         // Calculate hit probability using unified combat system with defense integration
         HitResult hitResult = CombatCalculator.determineHit(attacker, target, 3.0, weapon.getTotalReach(), weapon.getWeaponAccuracy(), weapon.getDamage(), combatDebugEnabled, 0, attackTick, true);
+        CombatTelemetry.getInstance().recordShot(attacker, target, weapon, attackTick, hitResult);
         boolean hits = hitResult.isHit();
         
         if (hits) {
@@ -390,7 +399,7 @@ public class CombatResolver {
             int finalDamage = Math.max(1, hitResult.getActualDamage() + strengthBonus);
             
             // Create updated hit result with strength bonus
-            HitResult finalHitResult = new HitResult(true, hitResult.getHitLocation(), hitResult.getWoundSeverity(), finalDamage);
+            HitResult finalHitResult = new HitResult(true, hitResult.getHitLocation(), hitResult.getWoundSeverity(), finalDamage, hitResult.getChanceToHit(), hitResult.getRandomRoll());
             
             if (combatDebugEnabled) {
                 System.out.println("=== MELEE DAMAGE CALCULATION DEBUG ===");
@@ -718,28 +727,11 @@ public class CombatResolver {
                              " ticks, counter: " + counterAttackTime + " ticks)");
         }
         
-        // Schedule the counter-attack
-        eventQueue.add(new ScheduledEvent(counterAttackTick, () -> {
-            // Clear counter-attack opportunity
-            defender.character.clearCounterAttack();
-            
-            // Track counter-attack execution
-            defender.character.counterAttacksExecuted++;
-            
-            // Store current successful attacks to check if counter-attack succeeds
-            int beforeSuccessful = defender.character.meleeAttacksSuccessful;
-            
-            // Execute counter-attack
-            resolveMeleeAttack(defender, originalAttacker, weapon, counterAttackTick);
-            
-            // Check if counter-attack was successful
-            if (defender.character.meleeAttacksSuccessful > beforeSuccessful) {
-                defender.character.counterAttacksSuccessful++;
-            }
-            
-            // Weapon returns to ready state after attack
-            defender.character.currentWeaponState = new WeaponState("melee_ready", "idle", 0);
-        }, defender.character.id));
+        // Schedule the counter-attack as a typed MELEE_ATTACK event; its handler clears the
+        // opportunity, tracks the counter-attack and returns the weapon to ready. Re-enabling
+        // this needs the GameCallbacks passed to CombatResolver.
+        CombatCoordinator.getInstance().scheduleMeleeImpact(defender, originalAttacker, counterAttackTick, true,
+                                                            defender.character.id, eventQueue, gameCallbacks);
         */
     }
 }
\ No newline at end of file
@@ -21,8 +21,8 @@ public class CombatStatisticsManager {
      * @return Sum of all wounds inflicted by type
      */
     public static int getTotalWoundsInflicted(Character character) {
-        return character.woundsInflictedScratch + character.woundsInflictedLight + 
-               character.woundsInflictedSerious + character.woundsInflictedCritical;
+        return character.career().woundsInflictedScratch + character.career().woundsInflictedLight + 
+               character.career().woundsInflictedSerious + character.career().woundsInflictedCritical;
     }
     
     /**
@@ -33,10 +33,10 @@ public class CombatStatisticsManager {
      */
     public static int getWoundsInflictedByType(Character character, WoundSeverity severity) {
         switch (severity) {
-            case SCRATCH: return character.woundsInflictedScratch;
-            case LIGHT: return character.woundsInflictedLight;
-            case SERIOUS: return character.woundsInflictedSerious;
-            case CRITICAL: return character.woundsInflictedCritical;
+            case SCRATCH: return character.career().woundsInflictedScratch;
+            case LIGHT: return character.career().woundsInflictedLight;
+            case SERIOUS: return character.career().woundsInflictedSerious;
+            case CRITICAL: return character.career().woundsInflictedCritical;
             default: return 0;
         }
     }
@@ -51,8 +51,8 @@ public class CombatStatisticsManager {
      * @return Accuracy percentage (0.0 to 100.0), or 0.0 if no attacks attempted
      */
     public static double getAccuracyPercentage(Character character) {
-        return character.attacksAttempted > 0 ? 
-            (character.attacksSuccessful * 100.0 / character.attacksAttempted) : 0.0;
+        return character.career().attacksAttempted > 0 ? 
+            (character.career().attacksSuccessful * 100.0 / character.career().attacksAttempted) : 0.0;
     }
     
     // ========================================
@@ -65,7 +65,7 @@ public class CombatStatisticsManager {
      * @return Total headshots attempted
      */
     public static int getHeadshotsAttempted(Character character) {
-        return character.headshotsAttempted;
+        return character.career().headshotsAttempted;
     }
     
     /**
@@ -74,7 +74,7 @@ public class CombatStatisticsManager {
      * @return Total successful headshots
      */
     public static int getHeadshotsSuccessful(Character character) {
-        return character.headshotsSuccessful;
+        return character.career().headshotsSuccessful;
     }
     
     /**
@@ -83,8 +83,8 @@ public class CombatStatisticsManager {
      * @return Headshot accuracy percentage (0.0 to 100.0), or 0.0 if no headshots attempted
      */
     public static double getHeadshotAccuracyPercentage(Character character) {
-        return character.headshotsAttempted > 0 ? 
-            (character.headshotsSuccessful * 100.0 / character.headshotsAttempted) : 0.0;
+        return character.career().headshotsAttempted > 0 ? 
+            (character.career().headshotsSuccessful * 100.0 / character.career().headshotsAttempted) : 0.0;
     }
     
     /**
@@ -93,7 +93,7 @@ public class CombatStatisticsManager {
      * @return Total incapacitations from headshots
      */
     public static int getHeadshotIncapacitations(Character character) {
-        return character.headshotIncapacitations;
+        return character.career().headshotIncapacitations;
     }
     
     // ========================================
@@ -1,6 +1,7 @@
 package combat;
 
 import combat.managers.BurstFireManager;
+import game.EventBinding;
 import game.ScheduledEvent;
 import utils.GameConstants;
 import java.util.ArrayList;
@@ -37,7 +38,7 @@ public class HesitationManager {
         }
         
         // Track hesitation statistics
-        character.totalWoundHesitationTicks += hesitationDuration;
+        character.career().totalWoundHesitationTicks += hesitationDuration;
         
         if (character.isHesitating) {
             character.hesitationEndTick = Math.max(character.hesitationEndTick, currentTick + hesitationDuration);
@@ -61,9 +62,16 @@ public class HesitationManager {
         }
         
         // Schedule hesitation end event
-        eventQueue.add(new ScheduledEvent(character.hesitationEndTick, () -> {
-            endHesitation(character, character.hesitationEndTick, eventQueue, ownerId);
-        }, ownerId));
+        eventQueue.add(new ScheduledEvent(character.hesitationEndTick, CombatEventKind.HESITATION_END, ownerId,
+            new EventBinding(character, null, null, eventQueue, null)));
+    }
+    
+    /**
+     * Carries out a HESITATION_END event.
+     */
+    static void executeHesitationEnd(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        endHesitation(character, character.hesitationEndTick, event.getBinding().getEventQueue(), event.getOwnerId());
     }
     
     /**
@@ -144,7 +152,7 @@ public class HesitationManager {
                              " resuming " + character.pausedEvents.size() + " paused events");
             for (ScheduledEvent pausedEvent : character.pausedEvents) {
                 // Reschedule the event to execute immediately
-                eventQueue.add(new ScheduledEvent(currentTick, pausedEvent.action, pausedEvent.getOwnerId()));
+                eventQueue.add(pausedEvent.rescheduleAt(currentTick));
             }
             character.pausedEvents.clear();
         }
@@ -172,25 +180,8 @@ public class HesitationManager {
             
             // Schedule the state transition directly without requiring unit parameters
             long transitionTick = currentTick + transitionTicks;
-            eventQueue.add(new ScheduledEvent(transitionTick, () -> {
-                // Get the appropriate weapon for state lookup
-                Weapon activeWeapon = character.isMeleeCombatMode ? character.meleeWeapon : character.weapon;
-                String previousState = character.currentWeaponState != null ? character.currentWeaponState.getState() : "None";
-                character.currentWeaponState = activeWeapon.getStateByName(targetState);
-                
-                // Start timing if entering aiming state
-                if ("aiming".equals(targetState)) {
-                    character.startAimingTiming(transitionTick);
-                } else if ("pointedfromhip".equals(targetState)) {
-                    character.startPointingFromHipTiming(transitionTick);
-                }
-                
-                // Output weapon state change
-                System.out.println(">>> HESITATION RECOVERY COMPLETE: " + character.getDisplayName() + " weapon state: " + previousState + " -> " + targetState + " ***");
-                
-                // Reset attacking flag to allow new combat actions
-                character.isAttacking = false;
-            }, ownerId));
+            eventQueue.add(new ScheduledEvent(transitionTick, CombatEventKind.HESITATION_STATE_RECOVERY, ownerId,
+                EventBinding.of(character), transitionTick, "aiming".equals(targetState) ? 1 : 0));
         } else {
             // DevCycle 38: Handle characters stuck in "firing" state without proper recovery transition
             // This can happen when hesitation interrupts the normal firing→recovering→reload/ready flow
@@ -200,19 +191,16 @@ public class HesitationManager {
                 // Immediately transition to the appropriate post-firing state
                 if (character.weapon instanceof RangedWeapon && ((RangedWeapon)character.weapon).getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
                     // Need to reload - start reload sequence immediately
-                    character.currentWeaponState = character.weapon.getStateByName("reloading");
+                    character.setCurrentWeaponState(character.weapon.getStateByName("reloading"));
                     character.isAttacking = false;
                     
                     // Use CombatCoordinator to start reload properly
-                    eventQueue.add(new ScheduledEvent(currentTick + 1, () -> {
-                        // Start reload sequence using proper delegation
-                        character.startReloadSequence(null, currentTick + 1, eventQueue, ownerId, null);
-                        System.out.println(">>> HESITATION RECOVERY: " + character.getDisplayName() + " starting reload after hesitation recovery");
-                    }, ownerId));
+                    eventQueue.add(new ScheduledEvent(currentTick + 1, CombatEventKind.HESITATION_RELOAD, ownerId,
+                        new EventBinding(character, null, null, eventQueue, null), currentTick + 1));
                 } else {
                     // Still has ammo - return to ready state and then preferred firing state
                     String targetState = character.getFiresFromAimingState() ? "aiming" : "pointedfromhip";
-                    character.currentWeaponState = character.weapon.getStateByName(targetState);
+                    character.setCurrentWeaponState(character.weapon.getStateByName(targetState));
                     
                     // Start timing for the target state
                     if ("aiming".equals(targetState)) {
@@ -227,6 +215,46 @@ public class HesitationManager {
         }
     }
     
+    /**
+     * Carries out a HESITATION_STATE_RECOVERY event: leaves the recovering or
+     * firing state for the preferred firing state (param 1: 1 for aiming,
+     * 0 for pointed from hip).
+     */
+    static void executeHesitationStateRecovery(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        long transitionTick = event.getParam(0);
+        String targetState = event.getParam(1) == 1 ? "aiming" : "pointedfromhip";
+        
+        // Get the appropriate weapon for state lookup
+        Weapon activeWeapon = character.isMeleeCombatMode ? character.meleeWeapon : character.weapon;
+        String previousState = character.currentWeaponState != null ? character.currentWeaponState.getState() : "None";
+        character.setCurrentWeaponState(activeWeapon.getStateByName(targetState));
+        
+        // Start timing if entering aiming state
+        if ("aiming".equals(targetState)) {
+            character.startAimingTiming(transitionTick);
+        } else if ("pointedfromhip".equals(targetState)) {
+            character.startPointingFromHipTiming(transitionTick);
+        }
+        
+        // Output weapon state change
+        System.out.println(">>> HESITATION RECOVERY COMPLETE: " + character.getDisplayName() + " weapon state: " + previousState + " -> " + targetState + " ***");
+        
+        // Reset attacking flag to allow new combat actions
+        character.isAttacking = false;
+    }
+    
+    /**
+     * Carries out a HESITATION_RELOAD event: starts the reload an empty weapon
+     * needs after hesitation.
+     */
+    static void executeHesitationReload(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        // Start reload sequence using proper delegation
+        character.startReloadSequence(null, event.getParam(0), event.getBinding().getEventQueue(), event.getOwnerId(), null);
+        System.out.println(">>> HESITATION RECOVERY: " + character.getDisplayName() + " starting reload after hesitation recovery");
+    }
+    
     /**
      * Checks if character is currently hesitating
      * @param character Character to check
@@ -271,19 +299,25 @@ public class HesitationManager {
             character.braveryPenaltyEndTick = currentTick + 180; // 3 seconds (180 ticks)
             
             // Track bravery hesitation statistics
-            character.totalBraveryHesitationTicks += 180;
+            character.career().totalBraveryHesitationTicks += 180;
             
             System.out.println(">>> BRAVERY FAILED: " + character.getDisplayName() + " fails bravery check! Total failures: " + character.braveryCheckFailures + " (penalty: -" + (character.braveryCheckFailures * 10) + " accuracy)");
             
             // Schedule bravery recovery event
-            eventQueue.add(new ScheduledEvent(character.braveryPenaltyEndTick, () -> {
-                recoverFromBraveryFailure(character, currentTick);
-            }, ownerId));
+            eventQueue.add(new ScheduledEvent(character.braveryPenaltyEndTick, CombatEventKind.BRAVERY_RECOVERY, ownerId,
+                EventBinding.of(character), currentTick));
         } else {
             System.out.println(">>> BRAVERY PASSED: " + character.getDisplayName() + " passes bravery check");
         }
     }
     
+    /**
+     * Carries out a BRAVERY_RECOVERY event (param 0: tick of the failed check).
+     */
+    static void executeBraveryRecovery(ScheduledEvent event) {
+        recoverFromBraveryFailure(event.getBinding().getCharacter(), event.getParam(0));
+    }
+    
     /**
      * Handles recovery from bravery failure
      * @param character Character recovering
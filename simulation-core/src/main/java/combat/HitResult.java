@@ -5,6 +5,8 @@ public class HitResult {
     public BodyPart hitLocation;
     public WoundSeverity woundSeverity;
     public int actualDamage;
+    public double chanceToHit = -1; // Percent; -1 if not known
+    public double randomRoll = -1;
     
     public HitResult(boolean hit, BodyPart hitLocation, WoundSeverity woundSeverity, int actualDamage) {
         this.hit = hit;
@@ -13,6 +15,12 @@ public class HitResult {
         this.actualDamage = actualDamage;
     }
     
+    public HitResult(boolean hit, BodyPart hitLocation, WoundSeverity woundSeverity, int actualDamage, double chanceToHit, double randomRoll) {
+        this(hit, hitLocation, woundSeverity, actualDamage);
+        this.chanceToHit = chanceToHit;
+        this.randomRoll = randomRoll;
+    }
+    
     public boolean isHit() {
         return hit;
     }
@@ -28,4 +36,12 @@ public class HitResult {
     public int getActualDamage() {
         return actualDamage;
     }
+    
+    public double getChanceToHit() {
+        return chanceToHit;
+    }
+    
+    public double getRandomRoll() {
+        return randomRoll;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package combat;
+
+import game.interfaces.IUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Predicted course of a melee approach.
+ *
+ * Holds the tick at which the approaching character next needs a range check,
+ * together with the movement state of both units the prediction was made from
+ * (movement target, whether moving, speed). While neither unit changes any of
+ * these the units travel in straight lines, so nothing needs checking before
+ * the due tick.
+ *
+ * Also holds the path anchor: where the target was when the approach path was
+ * last computed, used to decide when the path needs recomputing.
+ */
+public class MeleeApproachPrediction {
+    private IUnit target;
+    private long predictedAtTick;
+    private long dueTick;
+
+    private double selfTargetX, selfTargetY, selfSpeed;
+    private boolean selfMoving;
+    private double targetTargetX, targetTargetY, targetSpeed;
+    private boolean targetMoving;
+
+    private IUnit anchorTarget;
+    private double anchorX, anchorY;
+    private double anchorSelfTargetX, anchorSelfTargetY;
+
+    /**
+     * Records a new prediction and the movement state it is based on.
+     */
+    void capture(IUnit selfUnit, IUnit target, long currentTick, long dueTick) {
+        this.target = target;
+        this.predictedAtTick = currentTick;
+        this.dueTick = dueTick;
+
+        selfTargetX = selfUnit.getTargetX();
+        selfTargetY = selfUnit.getTargetY();
+        selfMoving = selfUnit.isMoving();
+        selfSpeed = selfUnit.getCharacter().getEffectiveMovementSpeed();
+
+        targetTargetX = target.getTargetX();
+        targetTargetY = target.getTargetY();
+        targetMoving = target.isMoving();
+        targetSpeed = target.getCharacter().getEffectiveMovementSpeed();
+    }
+
+    /**
+     * @return true if the range check can wait: the due tick has not been reached
+     *         and neither unit's movement has changed since the prediction
+     */
+    boolean canSkipCheck(IUnit selfUnit, IUnit target, long currentTick) {
+        // A tick before the prediction means the clock was reset (e.g. a loaded save)
+        if (target != this.target || currentTick >= dueTick || currentTick < predictedAtTick) {
+            return false;
+        }
+        return selfUnit.getTargetX() == selfTargetX
+            && selfUnit.getTargetY() == selfTargetY
+            && selfUnit.isMoving() == selfMoving
+            && selfUnit.getCharacter().getEffectiveMovementSpeed() == selfSpeed
+            && target.getTargetX() == targetTargetX
+            && target.getTargetY() == targetTargetY
+            && target.isMoving() == targetMoving
+            && target.getCharacter().getEffectiveMovementSpeed() == targetSpeed;
+    }
+
+    /**
+     * Records where the target was when the approach path (the unit's current
+     * movement target) was computed.
+     */
+    void setPathAnchor(IUnit selfUnit, IUnit target, double targetX, double targetY) {
+        anchorTarget = target;
+        anchorX = targetX;
+        anchorY = targetY;
+        anchorSelfTargetX = selfUnit.getTargetX();
+        anchorSelfTargetY = selfUnit.getTargetY();
+    }
+
+    /**
+     * @return true if the anchor belongs to this target and the unit is still on that path
+     */
+    boolean hasPathAnchor(IUnit selfUnit, IUnit target) {
+        return anchorTarget == target
+            && selfUnit.getTargetX() == anchorSelfTargetX
+            && selfUnit.getTargetY() == anchorSelfTargetY;
+    }
+
+    double getPathAnchorX() {
+        return anchorX;
+    }
+
+    double getPathAnchorY() {
+        return anchorY;
+    }
+
+    public long getDueTick() {
+        return dueTick;
+    }
+
+    /**
+     * Copy of a prediction with its units as ids, as kept in keyframes.
+     */
+    public static class Snapshot {
+        public int targetId = -1;
+        public long predictedAtTick;
+        public long dueTick;
+        public double selfTargetX, selfTargetY, selfSpeed;
+        public boolean selfMoving;
+        public double targetTargetX, targetTargetY, targetSpeed;
+        public boolean targetMoving;
+        public int anchorTargetId = -1;
+        public double anchorX, anchorY;
+        public double anchorSelfTargetX, anchorSelfTargetY;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot();
+        snapshot.targetId = target != null ? target.getId() : -1;
+        snapshot.predictedAtTick = predictedAtTick;
+        snapshot.dueTick = dueTick;
+        snapshot.selfTargetX = selfTargetX;
+        snapshot.selfTargetY = selfTargetY;
+        snapshot.selfSpeed = selfSpeed;
+        snapshot.selfMoving = selfMoving;
+        snapshot.targetTargetX = targetTargetX;
+        snapshot.targetTargetY = targetTargetY;
+        snapshot.targetSpeed = targetSpeed;
+        snapshot.targetMoving = targetMoving;
+        snapshot.anchorTargetId = anchorTarget != null ? anchorTarget.getId() : -1;
+        snapshot.anchorX = anchorX;
+        snapshot.anchorY = anchorY;
+        snapshot.anchorSelfTargetX = anchorSelfTargetX;
+        snapshot.anchorSelfTargetY = anchorSelfTargetY;
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds a prediction from a snapshot.
+     *
+     * @param unitById Finds the units the snapshot refers to by id, or returns null
+     */
+    public static MeleeApproachPrediction fromSnapshot(Snapshot snapshot, IntFunction<IUnit> unitById) {
+        MeleeApproachPrediction prediction = new MeleeApproachPrediction();
+        prediction.target = snapshot.targetId >= 0 ? unitById.apply(snapshot.targetId) : null;
+        prediction.predictedAtTick = snapshot.predictedAtTick;
+        prediction.dueTick = snapshot.dueTick;
+        prediction.selfTargetX = snapshot.selfTargetX;
+        prediction.selfTargetY = snapshot.selfTargetY;
+        prediction.selfSpeed = snapshot.selfSpeed;
+        prediction.selfMoving = snapshot.selfMoving;
+        prediction.targetTargetX = snapshot.targetTargetX;
+        prediction.targetTargetY = snapshot.targetTargetY;
+        prediction.targetSpeed = snapshot.targetSpeed;
+        prediction.targetMoving = snapshot.targetMoving;
+        prediction.anchorTarget = snapshot.anchorTargetId >= 0 ? unitById.apply(snapshot.anchorTargetId) : null;
+        prediction.anchorX = snapshot.anchorX;
+        prediction.anchorY = snapshot.anchorY;
+        prediction.anchorSelfTargetX = snapshot.anchorSelfTargetX;
+        prediction.anchorSelfTargetY = snapshot.anchorSelfTargetY;
+        return prediction;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package combat;
 
+import combat.managers.WeaponStateTransitionManager;
+import game.EventBinding;
 import game.ScheduledEvent;
 import game.Unit;
 import game.interfaces.IUnit;
@@ -14,6 +16,27 @@ import game.GameCallbacks;
  */
 public class MeleeCombatManager {
     
+    // Target movement (in pixels) after which the approach path is recomputed
+    private static final double REPATH_THRESHOLD_PIXELS = 3.0 * 7.0;
+    
+    // Longest wait between approach range checks, as a safety net
+    private static final long MAX_RANGE_CHECK_INTERVAL = 30;
+    
+    // Range checks run this many ticks before predicted contact to absorb per-tick movement steps
+    private static final long RANGE_CHECK_MARGIN = 2;
+    
+    // When disabled the approach range check runs every tick, for comparing against the prediction
+    private static volatile boolean approachPredictionEnabled =
+        Boolean.parseBoolean(System.getProperty("openfields.meleeApproachPrediction", "true"));
+    
+    public static boolean isApproachPredictionEnabled() {
+        return approachPredictionEnabled;
+    }
+    
+    public static void setApproachPredictionEnabled(boolean enabled) {
+        approachPredictionEnabled = enabled;
+    }
+    
     // ========================================
     // MELEE ATTACK SEQUENCING
     // ========================================
@@ -66,9 +89,35 @@ public class MeleeCombatManager {
                           target.getCharacter().getDisplayName() + " in " + attackDelay + " ticks at tick " + currentTick);
         
         // Schedule the actual melee attack
-        eventQueue.add(new ScheduledEvent(attackTick, () -> {
-            executeMeleeAttack(character, attacker, target, attackTick, eventQueue, ownerId, gameCallbacks);
-        }, ownerId));
+        eventQueue.add(new ScheduledEvent(attackTick, CombatEventKind.MELEE_APPROACH_ATTACK, ownerId,
+            new EventBinding(character, attacker, target, eventQueue, gameCallbacks), attackTick));
+    }
+    
+    /**
+     * Carries out a MELEE_APPROACH_ATTACK event
+     * @param event Event carrying the attack tick
+     */
+    public static void executeApproachAttack(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        executeMeleeAttack(binding.getCharacter(), binding.getUnit(), binding.getTarget(), event.getParam(0),
+                           binding.getEventQueue(), event.getOwnerId(), binding.getGameCallbacks());
+    }
+    
+    /**
+     * Carries out a MELEE_APPROACH_RECOVERY event, returning the weapon to
+     * melee_ready and resuming attacks
+     * @param event Event carrying the continue tick, weapon slot and ready state index
+     */
+    public static void executeApproachRecovery(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        Weapon weapon = WeaponStateTransitionManager.weaponInSlot(character, event.getParam(1));
+        character.setCurrentWeaponState(WeaponStateTransitionManager.stateAt(weapon, event.getParam(2)));
+        character.isAttacking = false; // Clear attacking flag to allow auto-targeting to continue
+        
+        // Call checkContinuousAttack to trigger auto-targeting re-evaluation (same as MeleeCombatSequenceManager)
+        character.checkContinuousAttack(binding.getUnit(), event.getParam(0), binding.getEventQueue(),
+                                        event.getOwnerId(), binding.getGameCallbacks());
     }
     
     /**
@@ -126,7 +175,7 @@ public class MeleeCombatManager {
         if (character.meleeWeapon != null) {
             WeaponState attackingState = character.meleeWeapon.getStateByName("melee_attacking");
             if (attackingState != null) {
-                character.currentWeaponState = attackingState;
+                character.setCurrentWeaponState(attackingState);
             }
         }
         
@@ -141,15 +190,11 @@ public class MeleeCombatManager {
         
         // DevCycle 33: System 18 - Schedule weapon state return and auto-targeting resumption (missing from System 17)
         // Schedule weapon state return to "melee_ready" after recovery period
-        WeaponState readyState = character.meleeWeapon.getStateByName("melee_ready");
-        if (readyState != null) {
-            eventQueue.add(new ScheduledEvent(currentTick + visualDelay + recoveryTime, () -> {
-                character.currentWeaponState = readyState;
-                character.isAttacking = false; // Clear attacking flag to allow auto-targeting to continue
-                
-                // Call checkContinuousAttack to trigger auto-targeting re-evaluation (same as MeleeCombatSequenceManager)
-                character.checkContinuousAttack(attacker, currentTick + recoveryTime, eventQueue, ownerId, gameCallbacks);
-            }, ownerId));
+        long readyIndex = WeaponStateTransitionManager.stateIndex(character.meleeWeapon, "melee_ready");
+        if (readyIndex >= 0) {
+            eventQueue.add(new ScheduledEvent(currentTick + visualDelay + recoveryTime, CombatEventKind.MELEE_APPROACH_RECOVERY, ownerId,
+                new EventBinding(character, attacker, target, eventQueue, gameCallbacks),
+                currentTick + recoveryTime, WeaponStateTransitionManager.weaponSlot(character, character.meleeWeapon), readyIndex));
         }
         
         // Clear attacking flag (redundant but consistent with original logic)
@@ -173,13 +218,13 @@ public class MeleeCombatManager {
             java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId, GameCallbacks gameCallbacks) {
         
         // Check if we should be doing melee movement
-        if (!character.isMovingToMelee || character.meleeTarget == null) {
+        if (!character.isMovingToMelee || character.getMeleeTarget() == null) {
             return;
         }
         
         // Check if target is still valid
-        if (character.meleeTarget.getCharacter().isIncapacitated()) {
-            CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.meleeTarget.getCharacter().getDisplayName() + " incapacitated during approach - cancelling movement");
+        if (character.getMeleeTarget().getCharacter().isIncapacitated()) {
+            CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.getMeleeTarget().getCharacter().getDisplayName() + " incapacitated during approach - cancelling movement");
             cancelMeleeMovement(character, selfUnit);
             return;
         }
@@ -191,18 +236,27 @@ public class MeleeCombatManager {
             return;
         }
         
+        // Nothing to do before the predicted range check unless either unit's movement changed
+        MeleeApproachPrediction prediction = character.meleeApproachPrediction;
+        if (prediction == null) {
+            prediction = new MeleeApproachPrediction();
+            character.meleeApproachPrediction = prediction;
+        } else if (approachPredictionEnabled && prediction.canSkipCheck(selfUnit, character.getMeleeTarget(), currentTick)) {
+            return;
+        }
+        
         // Check current distance to target
-        double currentDistance = Math.hypot(character.meleeTarget.getX() - selfUnit.getX(), character.meleeTarget.getY() - selfUnit.getY());
+        double currentDistance = Math.hypot(character.getMeleeTarget().getX() - selfUnit.getX(), character.getMeleeTarget().getY() - selfUnit.getY());
         double distanceFeet = currentDistance / 7.0;
         double weaponReach = meleeWeapon.getTotalReach();
         
         // If we're already in range, start attack immediately
         if (distanceFeet <= weaponReach) {
-            CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " reached melee range of " + character.meleeTarget.getCharacter().getDisplayName() + " (" + String.format("%.2f", distanceFeet) + " feet)");
+            CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " reached melee range of " + character.getMeleeTarget().getCharacter().getDisplayName() + " (" + String.format("%.2f", distanceFeet) + " feet)");
             CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] Range satisfied: " + String.format("%.2f", distanceFeet) + " <= " + String.format("%.2f", weaponReach) + " feet");
             CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] Cancelling movement and triggering melee attack");
             
-            IUnit targetUnit = character.meleeTarget; // Save reference before clearing state
+            IUnit targetUnit = character.getMeleeTarget(); // Save reference before clearing state
             cancelMeleeMovement(character, selfUnit);
             
             // Start the actual melee attack sequence
@@ -213,14 +267,19 @@ public class MeleeCombatManager {
         
         // Check if we're still moving (hasTarget indicates movement in progress)
         if (selfUnit.hasTarget()) {
-            // Still moving - check if target has moved significantly and update path if needed
-            double distanceToCurrentTarget = Math.hypot(selfUnit.getTargetX() - character.meleeTarget.getX(), selfUnit.getTargetY() - character.meleeTarget.getY());
+            // Still moving - check if target has moved significantly since the path was set and update path if needed
+            if (!prediction.hasPathAnchor(selfUnit, character.getMeleeTarget())) {
+                // Path not set by us: treat its end point as where the target was
+                prediction.setPathAnchor(selfUnit, character.getMeleeTarget(), selfUnit.getTargetX(), selfUnit.getTargetY());
+            }
+            double distanceToCurrentTarget = Math.hypot(prediction.getPathAnchorX() - character.getMeleeTarget().getX(), prediction.getPathAnchorY() - character.getMeleeTarget().getY());
             double targetMovementFeet = distanceToCurrentTarget / 7.0;
             
             // If target moved more than 3 feet, recalculate approach path
             if (targetMovementFeet > 3.0) {
-                CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.meleeTarget.getCharacter().getDisplayName() + " moved " + String.format("%.2f", targetMovementFeet) + " feet - updating approach path");
-                updateApproachPath(selfUnit, character.meleeTarget, meleeWeapon);
+                CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.getMeleeTarget().getCharacter().getDisplayName() + " moved " + String.format("%.2f", targetMovementFeet) + " feet - updating approach path");
+                updateApproachPath(selfUnit, character.getMeleeTarget(), meleeWeapon);
+                prediction.setPathAnchor(selfUnit, character.getMeleeTarget(), character.getMeleeTarget().getX(), character.getMeleeTarget().getY());
             }
         } else {
             // Movement completed, but we're not in range yet
@@ -230,13 +289,98 @@ public class MeleeCombatManager {
             if (distanceFeet <= maxPursuitRange) {
                 // Target is within pursuit range - start new movement
                 CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " movement completed but still out of range (" + String.format("%.2f", distanceFeet) + "/" + String.format("%.2f", weaponReach) + " feet) - continuing pursuit");
-                updateApproachPath(selfUnit, character.meleeTarget, meleeWeapon);
+                updateApproachPath(selfUnit, character.getMeleeTarget(), meleeWeapon);
+                prediction.setPathAnchor(selfUnit, character.getMeleeTarget(), character.getMeleeTarget().getX(), character.getMeleeTarget().getY());
             } else {
                 // Target too far away - give up pursuit
-                CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.meleeTarget.getCharacter().getDisplayName() + " too far away (" + String.format("%.2f", distanceFeet) + " feet) - cancelling pursuit (max: " + maxPursuitRange + " feet)");
+                CharacterDebugUtils.debugPrint("[MELEE-MOVEMENT] " + character.getDisplayName() + " target " + character.getMeleeTarget().getCharacter().getDisplayName() + " too far away (" + String.format("%.2f", distanceFeet) + " feet) - cancelling pursuit (max: " + maxPursuitRange + " feet)");
                 cancelMeleeMovement(character, selfUnit);
+                return;
             }
         }
+        
+        predictNextRangeCheck(prediction, selfUnit, character.getMeleeTarget(), weaponReach, currentTick);
+    }
+    
+    /**
+     * Predicts when the approach next needs attention and schedules the range check for then.
+     * Both units move in straight lines at constant speed until one of them changes its
+     * movement, so the earliest of these is exact:
+     * - contact: the distance between the units drops to weapon reach
+     * - either unit arrives at its movement target and stops
+     * - the target strays far enough from the path anchor to need a new approach path
+     * @param prediction Prediction to update
+     * @param selfUnit Approaching unit
+     * @param target Target unit
+     * @param weaponReach Melee weapon reach in feet
+     * @param currentTick Current game tick
+     */
+    private static void predictNextRangeCheck(MeleeApproachPrediction prediction, IUnit selfUnit, IUnit target,
+                                              double weaponReach, long currentTick) {
+        double[] selfVelocity = selfUnit.getVelocityVector();
+        double[] targetVelocity = target.getVelocityVector();
+        
+        double ticks = ticksUntilWithin(target.getX() - selfUnit.getX(), target.getY() - selfUnit.getY(),
+                                        targetVelocity[0] - selfVelocity[0], targetVelocity[1] - selfVelocity[1],
+                                        weaponReach * 7.0);
+        ticks = Math.min(ticks, ticksUntilArrival(selfUnit, selfVelocity));
+        ticks = Math.min(ticks, ticksUntilArrival(target, targetVelocity));
+        if (selfUnit.hasTarget() && prediction.hasPathAnchor(selfUnit, target)) {
+            ticks = Math.min(ticks, ticksUntilBeyond(target.getX() - prediction.getPathAnchorX(), target.getY() - prediction.getPathAnchorY(),
+                                                     targetVelocity[0], targetVelocity[1], REPATH_THRESHOLD_PIXELS));
+        }
+        
+        long wait = ticks >= MAX_RANGE_CHECK_INTERVAL ? MAX_RANGE_CHECK_INTERVAL
+                                                      : Math.max(1, (long) Math.floor(ticks) - RANGE_CHECK_MARGIN);
+        prediction.capture(selfUnit, target, currentTick, currentTick + wait);
+    }
+    
+    /**
+     * Ticks until |offset + velocity * t| first drops to radius, or infinity if it never does.
+     */
+    private static double ticksUntilWithin(double offsetX, double offsetY, double velocityX, double velocityY, double radius) {
+        double c = offsetX * offsetX + offsetY * offsetY - radius * radius;
+        if (c <= 0) {
+            return 0;
+        }
+        double a = velocityX * velocityX + velocityY * velocityY;
+        double b = 2 * (offsetX * velocityX + offsetY * velocityY);
+        if (a == 0 || b >= 0) {
+            return Double.POSITIVE_INFINITY; // Not closing
+        }
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            return Double.POSITIVE_INFINITY; // Passes by without coming within radius
+        }
+        return (-b - Math.sqrt(discriminant)) / (2 * a);
+    }
+    
+    /**
+     * Ticks until |offset + velocity * t| first exceeds radius, or infinity if it never does.
+     */
+    private static double ticksUntilBeyond(double offsetX, double offsetY, double velocityX, double velocityY, double radius) {
+        double c = offsetX * offsetX + offsetY * offsetY - radius * radius;
+        if (c > 0) {
+            return 0;
+        }
+        double a = velocityX * velocityX + velocityY * velocityY;
+        if (a == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double b = 2 * (offsetX * velocityX + offsetY * velocityY);
+        return (-b + Math.sqrt(b * b - 4 * a * c)) / (2 * a);
+    }
+    
+    /**
+     * Ticks until the unit reaches its movement target (within 1 pixel), or infinity if not moving.
+     */
+    private static double ticksUntilArrival(IUnit unit, double[] velocity) {
+        double speed = Math.hypot(velocity[0], velocity[1]);
+        if (speed == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double distance = Math.hypot(unit.getTargetX() - unit.getX(), unit.getTargetY() - unit.getY());
+        return Math.max(0, distance - 1) / speed;
     }
     
     /**
@@ -277,7 +421,7 @@ public class MeleeCombatManager {
      */
     private static void cancelMeleeMovement(Character character, IUnit selfUnit) {
         character.isMovingToMelee = false;
-        character.meleeTarget = null;
+        character.setMeleeTarget(null);
         
         // Stop movement by setting target to current position
         if (selfUnit != null && selfUnit.hasTarget()) {
@@ -3,7 +3,7 @@ package combat;
 import data.DataManager;
 import data.MeleeWeaponData;
 import data.WeaponTypeData;
-import data.WeaponStateData;
+import data.WeaponFactory;
 
 /**
  * Factory for creating standard melee weapons with balanced stats.
@@ -173,10 +173,7 @@ public class MeleeWeaponFactory {
         WeaponTypeData weaponTypeData = dataManager.getWeaponType(weaponType);
         if (weaponTypeData != null) {
             // Set up the weapon states from the weapon type definition
-            weapon.states = new java.util.ArrayList<>();
-            for (WeaponStateData stateData : weaponTypeData.states) {
-                weapon.states.add(new WeaponState(stateData.state, stateData.action, stateData.ticks));
-            }
+            weapon.states = WeaponFactory.sharedStates(weaponTypeData.states);
             weapon.initialStateName = weaponTypeData.initialState;
             
             System.out.println("[MELEE-WEAPON-FACTORY] Loaded " + weapon.states.size() + " states for " + data.name + " (type: " + weaponType + ", initial: " + weapon.initialStateName + ")");
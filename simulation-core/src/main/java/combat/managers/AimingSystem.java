@@ -152,12 +152,12 @@ public class AimingSystem implements IAimingSystem {
         // Handle immediate state adjustments based on current weapon state
         if ("pointedfromhip".equals(currentState) && character.getFiresFromAimingState()) {
             // Was at pointedfromhip, now prefers aiming
-            character.currentWeaponState = findWeaponState(character, "aiming");
+            character.setCurrentWeaponState(findWeaponState(character, "aiming"));
             resetPointingFromHipTiming(character.id);
             startAimingTiming(character.id, currentTick);
         } else if ("aiming".equals(currentState) && !character.getFiresFromAimingState()) {
             // Was at aiming, now prefers pointedfromhip
-            character.currentWeaponState = findWeaponState(character, "pointedfromhip");
+            character.setCurrentWeaponState(findWeaponState(character, "pointedfromhip"));
             resetAimingTiming(character.id);
             startPointingFromHipTiming(character.id, currentTick);
         }
@@ -241,6 +241,16 @@ public class AimingSystem implements IAimingSystem {
         pointingFromHipStartTicks.remove(characterId);
     }
     
+    void captureState(int characterId, CharacterCombatState state) {
+        state.aimingStartTick = aimingStartTicks.get(characterId);
+        state.pointingFromHipStartTick = pointingFromHipStartTicks.get(characterId);
+    }
+    
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(aimingStartTicks, characterId, state.aimingStartTick);
+        CharacterCombatState.restoreEntry(pointingFromHipStartTicks, characterId, state.pointingFromHipStartTick);
+    }
+    
     // Private helper methods
     
     /**
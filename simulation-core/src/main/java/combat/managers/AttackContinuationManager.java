@@ -50,7 +50,7 @@ public class AttackContinuationManager {
         // Only proceed if still in persistent attack mode and not incapacitated
         if (!character.persistentAttack || character.isIncapacitated() || character.weapon == null) {
             character.persistentAttack = false;
-            character.currentTarget = null;
+            character.setCurrentTarget(null);
             return;
         }
         
@@ -58,7 +58,7 @@ public class AttackContinuationManager {
         if (character.usesAutomaticTargeting) {
             IUnit newTarget = AutoTargetingSystem.findNearestHostileTargetWithZonePriority(character, shooter, gameCallbacks);
             if (newTarget != null) {
-                character.currentTarget = newTarget;
+                character.setCurrentTarget(newTarget);
                 
                 // Start new attack sequence against new target
                 character.startAttackSequence(shooter, newTarget, currentTick, eventQueue, ownerId, gameCallbacks);
@@ -68,7 +68,7 @@ public class AttackContinuationManager {
         
         // No new target found - clear persistent attack
         character.persistentAttack = false;
-        character.currentTarget = null;
+        character.setCurrentTarget(null);
         character.isAttacking = false;
         
         // Preserve the current facing direction so weapon continues to aim at last target location
@@ -58,7 +58,7 @@ public class AttackSequenceManager {
         if (character.weapon == null || character.currentWeaponState == null) {
             // Initialize weapon state if missing
             if (character.weapon != null && character.currentWeaponState == null) {
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
                 System.out.println("*** " + character.getDisplayName() + " initialized weapon state to: " + 
                                   (character.currentWeaponState != null ? character.currentWeaponState.getState() : "null") + " ***");
             }
@@ -1,10 +1,13 @@
 package combat.managers;
 
 import combat.Character;
+import combat.CombatEventKind;
 import combat.RangedWeapon;
 import combat.FiringMode;
+import game.EventBinding;
 import game.IEventSchedulingService;
 import game.EventSchedulingService;
+import game.ScheduledEvent;
 import game.interfaces.IUnit;
 import game.GameCallbacks;
 import java.util.HashMap;
@@ -105,16 +108,8 @@ public class BurstFireManager implements IBurstFireManager {
                     nextBurstTick = currentTick + weapon.getFiringDelay();
                 }
                 
-                final long finalNextBurstTick = nextBurstTick;
-                eventSchedulingService.scheduleEvent(finalNextBurstTick, () -> {
-                    if (character.persistentAttack && character.currentTarget != null && 
-                        !character.currentTarget.getCharacter().isIncapacitated() && 
-                        !character.isIncapacitated()) {
-                        character.isAttacking = true;
-                        // Note: In full implementation, this would call back to CombatCoordinator
-                        // to start a new attack sequence
-                    }
-                }, character.id);
+                eventSchedulingService.scheduleEvent(new ScheduledEvent(nextBurstTick, CombatEventKind.BURST_FOLLOW_UP,
+                    character.id, EventBinding.of(character)));
             }
             return;
         }
@@ -151,20 +146,42 @@ public class BurstFireManager implements IBurstFireManager {
         
         // Schedule next shot at firing delay
         long nextShotTick = currentTick + weapon.getFiringDelay();
-        eventSchedulingService.scheduleEvent(nextShotTick, () -> {
-            // DC-24: Continue full-auto even if shooter incapacitated (but not if target incapacitated)
-            if (character.persistentAttack && character.currentTarget != null && 
-                !character.currentTarget.getCharacter().isIncapacitated()) {
-                setLastAutomaticShot(character.id, nextShotTick);
-                character.isAttacking = true;
-                // Note: In full implementation, this would call back to CombatCoordinator
-                // to schedule attack from current state
-            } else {
-                // Stop automatic firing if conditions not met
-                setAutomaticFiring(character.id, false);
-                setBurstShotsFired(character.id, 0);
-            }
-        }, character.id);
+        eventSchedulingService.scheduleEvent(new ScheduledEvent(nextShotTick, CombatEventKind.FULL_AUTO_SHOT,
+            character.id, EventBinding.of(character), nextShotTick));
+    }
+    
+    /**
+     * Carries out a BURST_FOLLOW_UP event: resumes attacking for the next burst.
+     */
+    public void executeBurstFollowUp(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        if (character.persistentAttack && character.getCurrentTarget() != null && 
+            !character.getCurrentTarget().getCharacter().isIncapacitated() && 
+            !character.isIncapacitated()) {
+            character.isAttacking = true;
+            // Note: In full implementation, this would call back to CombatCoordinator
+            // to start a new attack sequence
+        }
+    }
+    
+    /**
+     * Carries out a FULL_AUTO_SHOT event: the next full-auto shot, or the end of automatic fire.
+     */
+    public void executeFullAutoShot(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        long nextShotTick = event.getParam(0);
+        // DC-24: Continue full-auto even if shooter incapacitated (but not if target incapacitated)
+        if (character.persistentAttack && character.getCurrentTarget() != null && 
+            !character.getCurrentTarget().getCharacter().isIncapacitated()) {
+            setLastAutomaticShot(character.id, nextShotTick);
+            character.isAttacking = true;
+            // Note: In full implementation, this would call back to CombatCoordinator
+            // to schedule attack from current state
+        } else {
+            // Stop automatic firing if conditions not met
+            setAutomaticFiring(character.id, false);
+            setBurstShotsFired(character.id, 0);
+        }
     }
     
     @Override
@@ -184,21 +201,8 @@ public class BurstFireManager implements IBurstFireManager {
         
         if (weapon.getFiringDelay() > 0) {
             long nextAttackTick = currentTick + weapon.getFiringDelay();
-            eventSchedulingService.scheduleEvent(nextAttackTick, () -> {
-                if (character.persistentAttack && character.currentTarget != null && 
-                    !character.currentTarget.getCharacter().isIncapacitated() && 
-                    !character.isIncapacitated() && weapon.getAmmunition() > 0) {
-                    character.isAttacking = true;
-                    // Note: In full implementation, this would call back to CombatCoordinator
-                    // to schedule attack from current state
-                } else if (character.persistentAttack && character.currentTarget != null && 
-                          !character.currentTarget.getCharacter().isIncapacitated() && 
-                          !character.isIncapacitated() && weapon.getAmmunition() <= 0 && 
-                          character.canReload() && !character.isReloading) {
-                    // Note: In full implementation, this would call back to CombatCoordinator
-                    // to start reload sequence
-                }
-            }, character.id);
+            eventSchedulingService.scheduleEvent(new ScheduledEvent(nextAttackTick, CombatEventKind.ATTACK_READINESS_CHECK,
+                character.id, EventBinding.of(character)));
         } else {
             if (weapon.getAmmunition() > 0) {
                 character.isAttacking = true;
@@ -211,6 +215,31 @@ public class BurstFireManager implements IBurstFireManager {
         }
     }
     
+    /**
+     * Carries out an ATTACK_READINESS_CHECK event: after the firing delay,
+     * resumes attacking if the target is still valid and there is ammunition.
+     */
+    public void executeAttackReadinessCheck(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        if (!(character.weapon instanceof RangedWeapon)) {
+            return;
+        }
+        RangedWeapon weapon = (RangedWeapon) character.weapon;
+        if (character.persistentAttack && character.getCurrentTarget() != null && 
+            !character.getCurrentTarget().getCharacter().isIncapacitated() && 
+            !character.isIncapacitated() && weapon.getAmmunition() > 0) {
+            character.isAttacking = true;
+            // Note: In full implementation, this would call back to CombatCoordinator
+            // to schedule attack from current state
+        } else if (character.persistentAttack && character.getCurrentTarget() != null && 
+                  !character.getCurrentTarget().getCharacter().isIncapacitated() && 
+                  !character.isIncapacitated() && weapon.getAmmunition() <= 0 && 
+                  character.canReload() && !character.isReloading) {
+            // Note: In full implementation, this would call back to CombatCoordinator
+            // to start reload sequence
+        }
+    }
+    
     @Override
     public void continueAutomaticShooting(Character character, IUnit target, long currentTick) {
         // This method handles the continuation of automatic fire sequences
@@ -316,41 +345,53 @@ public class BurstFireManager implements IBurstFireManager {
         // Schedule remaining shots in the burst
         for (int shot = 2; shot <= weapon.getBurstSize(); shot++) {
             long nextShotTick = fireTick + (weapon.getFiringDelay() * (shot - 1));
-            final int shotNumber = shot;
+            eventSchedulingService.scheduleEvent(new ScheduledEvent(nextShotTick, CombatEventKind.BURST_SHOT, character.id,
+                new EventBinding(character, shooter, null, null, gameCallbacks), nextShotTick, shot));
+        }
+    }
+    
+    /**
+     * Carries out a BURST_SHOT event: one follow-up round of a burst.
+     */
+    public void executeBurstShot(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit shooter = binding.getUnit();
+        GameCallbacks gameCallbacks = binding.getGameCallbacks();
+        long nextShotTick = event.getParam(0);
+        int shotNumber = (int) event.getParam(1);
+        
+        // Continue burst even if target dies or shooter incapacitated, but stop if out of ammo
+        RangedWeapon weapon = character.weapon instanceof RangedWeapon ? (RangedWeapon) character.weapon : null;
+        if (weapon != null && character.getCurrentTarget() != null && weapon.getAmmunition() > 0) {
+            weapon.setAmmunition(weapon.getAmmunition() - 1);
+            setBurstShotsFired(character.id, shotNumber);
             
-            eventSchedulingService.scheduleEvent(nextShotTick, () -> {
-                // Continue burst even if target dies or shooter incapacitated, but stop if out of ammo
-                if (character.currentTarget != null && weapon.getAmmunition() > 0) {
-                    weapon.setAmmunition(weapon.getAmmunition() - 1);
-                    setBurstShotsFired(character.id, shotNumber);
-                    
-                    // Play effects
-                    if (gameCallbacks != null) {
-                        gameCallbacks.playWeaponSound(character.weapon);
-                        gameCallbacks.applyFiringHighlight((game.Unit)shooter, nextShotTick);
-                        gameCallbacks.addMuzzleFlash((game.Unit)shooter, nextShotTick);
-                        
-                        // Calculate projectile impact
-                        double dx = character.currentTarget.getX() - shooter.getX();
-                        double dy = character.currentTarget.getY() - shooter.getY();
-                        double distancePixels = Math.hypot(dx, dy);
-                        double distanceFeet = distancePixels / 7.0;
-                        
-                        gameCallbacks.scheduleProjectileImpact((game.Unit)shooter, (game.Unit)character.currentTarget, 
-                                                              character.weapon, nextShotTick, distanceFeet);
-                    }
-                    
-                    // Reset burst state after final shot
-                    if (shotNumber >= weapon.getBurstSize()) {
-                        setAutomaticFiring(character.id, false);
-                        setBurstShotsFired(character.id, 0);
-                    }
-                } else {
-                    // Burst interrupted
-                    setAutomaticFiring(character.id, false);
-                    setBurstShotsFired(character.id, 0);
-                }
-            }, character.id);
+            // Play effects
+            if (gameCallbacks != null) {
+                gameCallbacks.playWeaponSound(character.weapon);
+                gameCallbacks.applyFiringHighlight((game.Unit)shooter, nextShotTick);
+                gameCallbacks.addMuzzleFlash((game.Unit)shooter, nextShotTick);
+                
+                // Calculate projectile impact
+                double dx = character.getCurrentTarget().getX() - shooter.getX();
+                double dy = character.getCurrentTarget().getY() - shooter.getY();
+                double distancePixels = Math.hypot(dx, dy);
+                double distanceFeet = distancePixels / 7.0;
+                
+                gameCallbacks.scheduleProjectileImpact((game.Unit)shooter, (game.Unit)character.getCurrentTarget(), 
+                                                      character.weapon, nextShotTick, distanceFeet);
+            }
+            
+            // Reset burst state after final shot
+            if (shotNumber >= weapon.getBurstSize()) {
+                setAutomaticFiring(character.id, false);
+                setBurstShotsFired(character.id, 0);
+            }
+        } else {
+            // Burst interrupted
+            setAutomaticFiring(character.id, false);
+            setBurstShotsFired(character.id, 0);
         }
     }
     
@@ -384,30 +425,47 @@ public class BurstFireManager implements IBurstFireManager {
         
         if (weapon.getFiringDelay() > 0) {
             long nextAttackTick = currentTick + weapon.getFiringDelay();
-            eventSchedulingService.scheduleEvent(nextAttackTick, () -> {
-                if (character.persistentAttack && character.currentTarget != null && 
-                    !character.currentTarget.getCharacter().isIncapacitated() && !character.isIncapacitated() && 
-                    weapon.getAmmunition() > 0) {
-                    character.isAttacking = true;
-                    // Use CombatCoordinator to schedule attack instead of calling private method
-                    combat.CombatCoordinator.getInstance().startAttackSequence(shooter, character.currentTarget, nextAttackTick, gameCallbacks);
-                } else if (character.persistentAttack && character.currentTarget != null && 
-                          !character.currentTarget.getCharacter().isIncapacitated() && !character.isIncapacitated() && 
-                          weapon.getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
-                    character.startReloadSequence(shooter, nextAttackTick, null, shooter.getId(), gameCallbacks);
-                }
-            }, shooter.getId());
+            eventSchedulingService.scheduleEvent(new ScheduledEvent(nextAttackTick, CombatEventKind.CONTINUE_ATTACK, shooter.getId(),
+                new EventBinding(character, shooter, null, null, gameCallbacks), nextAttackTick));
         } else {
             if (weapon.getAmmunition() > 0) {
                 character.isAttacking = true;
                 // Use CombatCoordinator to schedule attack instead of calling private method
-                combat.CombatCoordinator.getInstance().startAttackSequence(shooter, character.currentTarget, currentTick, gameCallbacks);
+                combat.CombatCoordinator.getInstance().startAttackSequence(shooter, character.getCurrentTarget(), currentTick, gameCallbacks);
             } else if (weapon.getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
                 character.startReloadSequence(shooter, currentTick, null, shooter.getId(), gameCallbacks);
             }
         }
     }
     
+    /**
+     * Carries out a CONTINUE_ATTACK event: the next persistent attack after the
+     * firing delay, or a reload if the weapon is empty.
+     */
+    public void executeContinueAttack(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit shooter = binding.getUnit();
+        GameCallbacks gameCallbacks = binding.getGameCallbacks();
+        long nextAttackTick = event.getParam(0);
+        if (!(character.weapon instanceof RangedWeapon)) {
+            return;
+        }
+        RangedWeapon weapon = (RangedWeapon) character.weapon;
+        
+        if (character.persistentAttack && character.getCurrentTarget() != null && 
+            !character.getCurrentTarget().getCharacter().isIncapacitated() && !character.isIncapacitated() && 
+            weapon.getAmmunition() > 0) {
+            character.isAttacking = true;
+            // Use CombatCoordinator to schedule attack instead of calling private method
+            combat.CombatCoordinator.getInstance().startAttackSequence(shooter, character.getCurrentTarget(), nextAttackTick, gameCallbacks);
+        } else if (character.persistentAttack && character.getCurrentTarget() != null && 
+                  !character.getCurrentTarget().getCharacter().isIncapacitated() && !character.isIncapacitated() && 
+                  weapon.getAmmunition() <= 0 && character.canReload() && !character.isReloading) {
+            character.startReloadSequence(shooter, nextAttackTick, null, shooter.getId(), gameCallbacks);
+        }
+    }
+    
     /**
      * Handle continuous firing coordination.
      * Determines whether to use burst/auto or standard attack continuation.
@@ -419,7 +477,7 @@ public class BurstFireManager implements IBurstFireManager {
      */
     public void handleContinuousFiring(Character character, IUnit shooter, long currentTick, GameCallbacks gameCallbacks) {
         // Use BurstFireManager to handle continuous firing modes
-        if (!handleContinuousFiring(character, character.currentTarget, currentTick)) {
+        if (!handleContinuousFiring(character, character.getCurrentTarget(), currentTick)) {
             // Default behavior for single shot or weapons without firing modes
             continueStandardAttack(character, shooter, currentTick, gameCallbacks);
         }
@@ -433,4 +491,18 @@ public class BurstFireManager implements IBurstFireManager {
         lastAutomaticShot.remove(characterId);
         lastContinueAttackTick.remove(characterId);
     }
+    
+    void captureState(int characterId, CharacterCombatState state) {
+        state.automaticFiring = automaticFiringState.get(characterId);
+        state.burstShotsFired = burstShotsFired.get(characterId);
+        state.lastAutomaticShot = lastAutomaticShot.get(characterId);
+        state.lastContinueAttackTick = lastContinueAttackTick.get(characterId);
+    }
+    
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(automaticFiringState, characterId, state.automaticFiring);
+        CharacterCombatState.restoreEntry(burstShotsFired, characterId, state.burstShotsFired);
+        CharacterCombatState.restoreEntry(lastAutomaticShot, characterId, state.lastAutomaticShot);
+        CharacterCombatState.restoreEntry(lastContinueAttackTick, characterId, state.lastContinueAttackTick);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package combat.managers;
+
+import combat.DefenseState;
+import java.util.Map;
+
+/**
+ * Copy of the per-character combat state the manager singletons keep outside
+ * Character: aiming timers, burst and full-auto progress, defense windows,
+ * reload timing, weapon hold settings and the auto-targeting schedule.
+ * Used by keyframes to put a character's managers back to an earlier tick.
+ *
+ * Fields are public so the state can be written to JSON; a null field means
+ * the manager had no entry for the character.
+ */
+public class CharacterCombatState {
+    // AimingSystem
+    public Long aimingStartTick;
+    public Long pointingFromHipStartTick;
+
+    // BurstFireManager
+    public Boolean automaticFiring;
+    public Integer burstShotsFired;
+    public Long lastAutomaticShot;
+    public Long lastContinueAttackTick;
+
+    // DefenseManager
+    public DefenseState defenseState;
+    public Long defenseCooldownEndTick;
+    public Long counterAttackWindowEndTick;
+    public Boolean hasCounterAttackOpportunity;
+
+    // ReloadManager
+    public Long reloadStartTick;
+    public Long reloadCompletionTick;
+
+    // WeaponStateManager
+    public String weaponHoldState;
+    public String targetHoldState;
+    public Boolean firesFromAimingState;
+
+    // TargetingScheduler
+    public Long nextEvaluationTick;
+    public boolean rosterRevisionSeen; // The character had evaluated against the current roster
+    public boolean retargetPending;
+
+    /**
+     * Copies the managers' state for one character.
+     */
+    public static CharacterCombatState capture(int characterId) {
+        CharacterCombatState state = new CharacterCombatState();
+        AimingSystem.getInstance().captureState(characterId, state);
+        BurstFireManager.getInstance().captureState(characterId, state);
+        DefenseManager.getInstance().captureState(characterId, state);
+        ReloadManager.getInstance().captureState(characterId, state);
+        WeaponStateManager.getInstance().captureState(characterId, state);
+        TargetingScheduler.getInstance().captureState(characterId, state);
+        return state;
+    }
+
+    /**
+     * Puts the managers' state for one character back to this copy. The
+     * faction roster must already be in step with the units, since the
+     * targeting schedule is restored against its current revision.
+     */
+    public void restore(int characterId) {
+        AimingSystem.getInstance().restoreState(characterId, this);
+        BurstFireManager.getInstance().restoreState(characterId, this);
+        DefenseManager.getInstance().restoreState(characterId, this);
+        ReloadManager.getInstance().restoreState(characterId, this);
+        WeaponStateManager.getInstance().restoreState(characterId, this);
+        TargetingScheduler.getInstance().restoreState(characterId, this);
+    }
+
+    /**
+     * Sets or, for a null value, removes a manager map entry.
+     */
+    static <T> void restoreEntry(Map<Integer, T> map, int characterId, T value) {
+        if (value != null) {
+            map.put(characterId, value);
+        } else {
+            map.remove(characterId);
+        }
+    }
+}
\ No newline at end of file
@@ -3,9 +3,9 @@ package combat.managers;
 import combat.Character;
 import combat.Skill;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Singleton manager for character skills
@@ -16,7 +16,7 @@ public class CharacterSkillsManager implements ICharacterSkillsManager {
     private static CharacterSkillsManager instance;
     
     // Per-character skills storage
-    private final Map<Integer, List<Skill>> characterSkills = new HashMap<>();
+    private final Map<Integer, List<Skill>> characterSkills = new ConcurrentHashMap<>(); // Filled by bulk character generation threads
     
     private CharacterSkillsManager() {
         // Singleton pattern - private constructor
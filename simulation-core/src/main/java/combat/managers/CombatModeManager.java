@@ -45,7 +45,7 @@ public class CombatModeManager {
         // Cancel any ongoing melee movement when switching modes
         if (character.isMovingToMelee) {
             character.isMovingToMelee = false;
-            character.meleeTarget = null;
+            character.setMeleeTarget(null);
         }
         
         // Cancel any ongoing attacks when switching modes
@@ -65,7 +65,7 @@ public class CombatModeManager {
         if (character.isMeleeCombatMode && character.meleeWeapon != null) {
             WeaponState meleeInitialState = character.meleeWeapon.getInitialState();
             if (meleeInitialState != null) {
-                character.currentWeaponState = meleeInitialState;
+                character.setCurrentWeaponState(meleeInitialState);
             }
         }
         
@@ -218,6 +218,20 @@ public class DefenseManager implements IDefenseManager {
         hasCounterAttackOpportunity.remove(characterId);
     }
     
+    void captureState(int characterId, CharacterCombatState state) {
+        state.defenseState = defenseStates.get(characterId);
+        state.defenseCooldownEndTick = defenseCooldownEndTicks.get(characterId);
+        state.counterAttackWindowEndTick = counterAttackWindowEndTicks.get(characterId);
+        state.hasCounterAttackOpportunity = hasCounterAttackOpportunity.get(characterId);
+    }
+    
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(defenseStates, characterId, state.defenseState);
+        CharacterCombatState.restoreEntry(defenseCooldownEndTicks, characterId, state.defenseCooldownEndTick);
+        CharacterCombatState.restoreEntry(counterAttackWindowEndTicks, characterId, state.counterAttackWindowEndTick);
+        CharacterCombatState.restoreEntry(hasCounterAttackOpportunity, characterId, state.hasCounterAttackOpportunity);
+    }
+    
     // Private helper methods
     
     /**
@@ -329,7 +343,7 @@ public class DefenseManager implements IDefenseManager {
         }
         
         // Update statistics
-        defender.defensiveAttempts++;
+        defender.career().defensiveAttempts++;
         
         return totalDefense;
     }
@@ -355,7 +369,7 @@ public class DefenseManager implements IDefenseManager {
         
         // Track successful defense
         if (defenseValue > 0) {
-            defender.defensiveSuccesses++;
+            defender.career().defensiveSuccesses++;
         }
         
         return defenseValue;
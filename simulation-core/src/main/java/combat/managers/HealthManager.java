@@ -5,6 +5,7 @@ import combat.Wound;
 import combat.WoundSeverity;
 import combat.PositionState;
 import combat.HesitationManager;
+import game.FactionRoster;
 import game.ScheduledEvent;
 
 /**
@@ -46,18 +47,7 @@ public class HealthManager {
      * @param ownerId Owner ID for events
      */
     public void addWound(Character character, Wound wound, long currentTick, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId) {
-        character.wounds.add(wound);
-        character.woundsReceived++;
-        
-        // Apply damage to current health
-        character.currentHealth -= wound.getDamage();
-        
-        // Check if character became incapacitated from this wound
-        if (isIncapacitated(character)) {
-            if (config.DebugConfig.getInstance().isCombatDebugEnabled()) {
-                System.out.println(">>> " + character.getDisplayName() + " is incapacitated!");
-            }
-        }
+        applyWound(character, wound);
         
         // Enforce movement restrictions immediately after adding wound
         enforceMovementRestrictions(character);
@@ -76,18 +66,7 @@ public class HealthManager {
      * @param wound The wound to add
      */
     public void addWound(Character character, Wound wound) {
-        character.wounds.add(wound);
-        character.woundsReceived++;
-        
-        // Apply damage to current health
-        character.currentHealth -= wound.getDamage();
-        
-        // Check if character became incapacitated from this wound
-        if (isIncapacitated(character)) {
-            if (config.DebugConfig.getInstance().isCombatDebugEnabled()) {
-                System.out.println(">>> " + character.getDisplayName() + " is incapacitated!");
-            }
-        }
+        applyWound(character, wound);
         
         // Enforce movement restrictions immediately after adding wound
         enforceMovementRestrictions(character);
@@ -119,29 +98,41 @@ public class HealthManager {
      * @return true if incapacitated, false otherwise
      */
     public boolean isIncapacitated(Character character) {
-        boolean incapacitated = false;
+        return character.isIncapacitated();
+    }
+    
+    // Private helper methods
+    
+    /**
+     * Record the wound, apply its damage and update the cached incapacitation
+     * state, taking the character off its faction's live roster if this wound
+     * incapacitated it.
+     */
+    private void applyWound(Character character, Wound wound) {
+        boolean wasIncapacitated = character.isIncapacitated();
         
-        if (character.currentHealth <= 0) {
-            incapacitated = true;
-        }
-        // Check for any critical wounds
-        for (Wound wound : character.wounds) {
-            if (wound.getSeverity() == WoundSeverity.CRITICAL) {
-                incapacitated = true;
-                break;
-            }
-        }
+        character.wounds.add(wound);
+        character.career().woundsReceived++;
         
-        // Force prone position for incapacitated characters
-        if (incapacitated && character.currentPosition != PositionState.PRONE) {
+        // Apply damage to current health
+        character.currentHealth -= wound.getDamage();
+        
+        // Being hit makes an idle character look for a target straight away
+        TargetingScheduler.getInstance().requestImmediateRetarget(character.id);
+        
+        // Check if character became incapacitated from this wound
+        if (character.refreshIncapacitatedState()) {
+            // Force prone position for incapacitated characters
             character.currentPosition = PositionState.PRONE;
+            if (!wasIncapacitated) {
+                FactionRoster.getInstance().onIncapacitated(character);
+            }
+            if (config.DebugConfig.getInstance().isCombatDebugEnabled()) {
+                System.out.println(">>> " + character.getDisplayName() + " is incapacitated!");
+            }
         }
-        
-        return incapacitated;
     }
     
-    // Private helper methods
-    
     /**
      * Enforce movement restrictions after wound application.
      */
@@ -11,7 +11,8 @@ import combat.Character;
 public interface IWeaponStateManager {
     
     /**
-     * Schedule a weapon state transition.
+     * Calculate when a weapon state transition would complete. The caller
+     * schedules the transition itself.
      * 
      * @param character The character whose weapon is transitioning
      * @param fromState The current weapon state
@@ -19,7 +20,7 @@ public interface IWeaponStateManager {
      * @param currentTick The current game tick
      * @return The tick when the transition will complete
      */
-    long scheduleStateTransition(Character character, WeaponState fromState, WeaponState toState, long currentTick);
+    long calculateTransitionTick(Character character, WeaponState fromState, WeaponState toState, long currentTick);
     
     /**
      * Check if a weapon state is a preparation state.
@@ -120,6 +121,30 @@ public interface IWeaponStateManager {
      */
     long calculateTransitionDuration(Character character, WeaponState fromState, WeaponState toState);
     
+    /**
+     * Register a listener for weapon state changes of any character.
+     * 
+     * @param listener The listener to add
+     */
+    void addWeaponStateListener(WeaponStateListener listener);
+    
+    /**
+     * Unregister a weapon state listener.
+     * 
+     * @param listener The listener to remove
+     */
+    void removeWeaponStateListener(WeaponStateListener listener);
+    
+    /**
+     * Notify listeners that a character's weapon state has changed.
+     * Called by Character.setCurrentWeaponState(); only actual changes are reported.
+     * 
+     * @param character The character whose weapon changed state
+     * @param previousState The state before the change
+     * @param newState The state after the change
+     */
+    void fireWeaponStateChanged(Character character, WeaponState previousState, WeaponState newState);
+    
     /**
      * Clean up all state for a character that is being removed.
      * 
@@ -0,0 +1,300 @@
+package combat.managers;
+
+import combat.Character;
+import combat.CombatEventKind;
+import combat.Weapon;
+import combat.WeaponState;
+import game.interfaces.IUnit;
+import game.Unit;
+import game.EventBinding;
+import game.ScheduledEvent;
+import game.GameCallbacks;
+
+/**
+ * MeleeCombatSequenceManager handles melee combat sequence orchestration for characters.
+ * Extracted from Character.java following DevCycle 31 Option 4 refactoring.
+ * Manages melee combat orchestration with range checking and state transitions.
+ */
+public class MeleeCombatSequenceManager {
+    
+    // Singleton instance
+    private static MeleeCombatSequenceManager instance;
+    
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private MeleeCombatSequenceManager() {
+    }
+    
+    /**
+     * Get the singleton instance of MeleeCombatSequenceManager.
+     * 
+     * @return The manager instance
+     */
+    public static MeleeCombatSequenceManager getInstance() {
+        if (instance == null) {
+            instance = new MeleeCombatSequenceManager();
+        }
+        return instance;
+    }
+    
+    /**
+     * Schedule melee state transition.
+     * Extracted from Character.scheduleMeleeStateTransition() (~34 lines).
+     * Handles melee weapon state progression with speed calculations.
+     * 
+     * @param character The character transitioning states
+     * @param newStateName The target state name
+     * @param currentTick The current game tick
+     * @param transitionTickLength Base transition duration
+     * @param attacker The attacking unit
+     * @param target The target unit
+     * @param eventQueue Event queue for scheduling future actions
+     * @param ownerId Owner ID for event scheduling
+     * @param gameCallbacks Game callback interface
+     */
+    public void scheduleMeleeStateTransition(Character character, String newStateName, long currentTick, long transitionTickLength, IUnit attacker, IUnit target, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId, GameCallbacks gameCallbacks) {
+        
+        // Apply speed multiplier to weapon preparation states
+        if (character.isWeaponPreparationState(newStateName)) {
+            double speedMultiplier = character.calculateWeaponReadySpeedMultiplier();
+            transitionTickLength = Math.round(transitionTickLength * speedMultiplier);
+        }
+        
+        Weapon activeWeapon = character.getActiveWeapon();
+        
+        WeaponState newState = activeWeapon != null ? activeWeapon.getStateByName(newStateName) : null;
+        
+        if (newState != null) {
+            long transitionTick = currentTick + transitionTickLength;
+            eventQueue.add(new ScheduledEvent(transitionTick, CombatEventKind.MELEE_STATE_TRANSITION, ownerId,
+                new EventBinding(character, attacker, target, eventQueue, gameCallbacks),
+                transitionTick, WeaponStateTransitionManager.weaponSlot(character, activeWeapon),
+                WeaponStateTransitionManager.stateIndex(activeWeapon, newStateName)));
+            
+        } else {
+            // Fallback: skip to melee_ready state immediately
+            WeaponState readyState = activeWeapon != null ? activeWeapon.getStateByName("melee_ready") : null;
+            if (readyState != null) {
+                character.setCurrentWeaponState(readyState);
+                character.scheduleMeleeAttackFromCurrentState(attacker, target, currentTick, eventQueue, ownerId, gameCallbacks);
+            } else {
+            }
+        }
+    }
+    
+    /**
+     * Schedule range check for melee attack - continues tracking target until in range.
+     * Extracted from Character.scheduleRangeCheckForMeleeAttack() (~30 lines).
+     * Handles continuous range monitoring and target tracking.
+     * 
+     * @param character The attacking character
+     * @param attacker The attacking unit
+     * @param target The target unit
+     * @param checkTick The tick to perform the range check
+     * @param eventQueue Event queue for scheduling future actions
+     * @param ownerId Owner ID for event scheduling
+     * @param gameCallbacks Game callback interface
+     */
+    public void scheduleRangeCheckForMeleeAttack(Character character, IUnit attacker, IUnit target, long checkTick, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId, GameCallbacks gameCallbacks) {
+        eventQueue.add(new ScheduledEvent(checkTick, CombatEventKind.MELEE_RANGE_CHECK, ownerId,
+            new EventBinding(character, attacker, target, eventQueue, gameCallbacks), checkTick));
+    }
+    
+    /**
+     * Carries out a MELEE_RANGE_CHECK event: attacks if the target is now in
+     * reach, otherwise keeps tracking it and checks again.
+     */
+    public void executeRangeCheck(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit attacker = binding.getUnit();
+        IUnit target = binding.getTarget();
+        long checkTick = event.getParam(0);
+        
+        // Update movement target to track target's current position
+        attacker.setTarget(target.getX(), target.getY());
+        
+        // Check if now in range
+        if (character.isInMeleeRange(attacker, target, character.meleeWeapon)) {
+            // Now in range - proceed with attack
+            
+            // Calculate facing direction to target
+            double dx = target.getX() - attacker.getX();
+            double dy = target.getY() - attacker.getY();
+            double angleRadians = Math.atan2(dx, -dy);
+            double angleDegrees = Math.toDegrees(angleRadians);
+            if (angleDegrees < 0) angleDegrees += 360;
+            character.lastTargetFacing = angleDegrees;
+            
+            // Schedule melee attack from current state
+            character.scheduleMeleeAttackFromCurrentState(attacker, target, checkTick, binding.getEventQueue(),
+                                                          event.getOwnerId(), binding.getGameCallbacks());
+        } else {
+            // Still not in range - schedule another check
+            scheduleRangeCheckForMeleeAttack(character, attacker, target, checkTick + 10, binding.getEventQueue(),
+                                             event.getOwnerId(), binding.getGameCallbacks());
+        }
+    }
+    
+    /**
+     * Schedule actual melee attack execution.
+     * Extracted from Character.scheduleMeleeAttack() (~46 lines).
+     * Handles melee attack execution with impact scheduling and recovery.
+     * 
+     * @param character The attacking character
+     * @param attacker The attacking unit
+     * @param target The target unit
+     * @param attackTick The tick to execute the attack
+     * @param eventQueue Event queue for scheduling future actions
+     * @param ownerId Owner ID for event scheduling
+     * @param gameCallbacks Game callback interface
+     */
+    public void scheduleMeleeAttack(Character character, IUnit attacker, IUnit target, long attackTick, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId, GameCallbacks gameCallbacks) {
+        eventQueue.add(new ScheduledEvent(attackTick, CombatEventKind.MELEE_STRIKE, ownerId,
+            new EventBinding(character, attacker, target, eventQueue, gameCallbacks), attackTick));
+    }
+    
+    /**
+     * Carries out a MELEE_STATE_TRANSITION event: enters the state and
+     * continues the melee attack from it.
+     */
+    public void executeMeleeStateTransition(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        long transitionTick = event.getParam(0);
+        Weapon weapon = WeaponStateTransitionManager.weaponInSlot(character, event.getParam(1));
+        character.setCurrentWeaponState(WeaponStateTransitionManager.stateAt(weapon, event.getParam(2)));
+        
+        // Continue the attack sequence
+        character.scheduleMeleeAttackFromCurrentState(binding.getUnit(), binding.getTarget(), transitionTick,
+                                                      binding.getEventQueue(), event.getOwnerId(), binding.getGameCallbacks());
+    }
+    
+    /**
+     * Carries out a MELEE_STRIKE event: swings at the target and schedules
+     * the impact and the recovery back to melee_ready.
+     */
+    public void executeMeleeStrike(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit attacker = binding.getUnit();
+        IUnit target = binding.getTarget();
+        long attackTick = event.getParam(0);
+        
+        // Validate target is still valid
+        if (target.getCharacter().isIncapacitated()) {
+            return;
+        }
+        
+        if (character.isIncapacitated()) {
+            return;
+        }
+        
+        // Update weapon state to attacking
+        WeaponState attackingState = character.getActiveWeapon().getStateByName("melee_attacking");
+        if (attackingState != null) {
+            character.setCurrentWeaponState(attackingState);
+        }
+        
+        // DevCycle 33: System 1 - Audio moved to resolution phase to prevent spam
+        // Audio now plays in CombatResolver.resolveMeleeAttack() after recovery validation
+        
+        // DevCycle 33: System 14 - Add brief delay for visual state to be visible (similar to ranged weapons)
+        // Schedule impact after a short visual delay so "melee_attacking" state can be seen
+        long visualDelay = 10; // 10 ticks = ~0.17 seconds for attack animation visibility
+        binding.getGameCallbacks().scheduleMeleeImpact((Unit)attacker, (Unit)target, character.meleeWeapon, attackTick + visualDelay);
+        
+        // Schedule recovery back to ready state (after visual delay + recovery period)
+        long recoveryTime = Math.round(character.meleeWeapon.getStateBasedAttackCooldown() * character.calculateAttackSpeedMultiplier());
+        long recoveryTick = attackTick + visualDelay + recoveryTime;
+        
+        // DevCycle 41: System 6 - Enhanced recovery debugging
+        System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                         " scheduling recovery event at tick " + recoveryTick + 
+                         " (attack=" + attackTick + " + visual=" + visualDelay + " + recovery=" + recoveryTime + ")");
+        
+        Weapon activeWeapon = character.getActiveWeapon();
+        long readyIndex = WeaponStateTransitionManager.stateIndex(activeWeapon, "melee_ready");
+        if (readyIndex >= 0) {
+            binding.getEventQueue().add(new ScheduledEvent(recoveryTick, CombatEventKind.MELEE_RECOVERY, event.getOwnerId(),
+                binding, recoveryTick, WeaponStateTransitionManager.weaponSlot(character, activeWeapon), readyIndex, 0));
+            
+            System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " recovery event added to queue successfully");
+        } else {
+            System.err.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " ERROR: melee_ready state not found in weapon states!");
+        }
+    }
+    
+    /**
+     * Carries out a MELEE_RECOVERY event: returns the weapon to melee_ready
+     * and resumes attacking, deferring once past any wound hesitation.
+     */
+    public void executeMeleeRecovery(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        long recoveryTick = event.getParam(0);
+        boolean deferred = event.getParam(3) == 1;
+        Weapon weapon = WeaponStateTransitionManager.weaponInSlot(character, event.getParam(1));
+        WeaponState readyState = WeaponStateTransitionManager.stateAt(weapon, event.getParam(2));
+        
+        if (deferred) {
+            System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " deferred recovery executing at tick " + recoveryTick);
+        } else {
+            // DevCycle 41: System 6 - Debug recovery callback execution
+            System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " recovery callback executing at tick " + recoveryTick + 
+                             " (current state: " + (character.currentWeaponState != null ? character.currentWeaponState.getState() : "null") + 
+                             ", isAttacking: " + character.isAttacking + 
+                             ", hesitating: " + character.isHesitating + ")");
+            
+            // DevCycle 41: System 6 - If character is hesitating, defer recovery until hesitation ends
+            if (character.isHesitating) {
+                System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                                 " recovery deferred - character is hesitating until tick " + character.hesitationEndTick);
+                
+                // Reschedule recovery for after hesitation ends (add small buffer)
+                long deferredRecoveryTick = character.hesitationEndTick + 5;
+                binding.getEventQueue().add(new ScheduledEvent(deferredRecoveryTick, CombatEventKind.MELEE_RECOVERY, event.getOwnerId(),
+                    binding, deferredRecoveryTick, event.getParam(1), event.getParam(2), 1));
+                return;
+            }
+        }
+        
+        character.setCurrentWeaponState(readyState);
+        // DevCycle 40: Fix for multiple attack scheduling bug
+        // Clear attacking flag AFTER recovery completes, not at the start
+        // This prevents auto-targeting from scheduling multiple attacks during recovery
+        character.isAttacking = false;
+        
+        // DevCycle 41: System 6 - Clear melee recovery end tick to allow attack continuation
+        character.meleeRecoveryEndTick = -1;
+        
+        if (deferred) {
+            System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " deferred recovery complete - state set to melee_ready, isAttacking cleared");
+        } else {
+            System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                             " recovery complete - state set to melee_ready, isAttacking cleared, recovery end tick cleared");
+            
+            // Additional debug: check if auto-targeting should continue
+            if (character.usesAutomaticTargeting) {
+                System.out.println("[MELEE-RECOVERY] " + character.getDisplayName() + 
+                                 " calling checkContinuousAttack for auto-targeting resumption");
+                
+                if (config.DebugConfig.getInstance().isCombatDebugEnabled()) {
+                    System.out.println("[ATTACK-SEQUENCE] " + character.getDisplayName() + 
+                                     " attack sequence complete at tick " + recoveryTick + 
+                                     ", isAttacking cleared, auto-targeting can resume");
+                }
+            }
+        }
+        
+        // Call checkContinuousAttack to trigger auto-targeting re-evaluation (similar to ranged weapon recovery)
+        character.checkContinuousAttack(binding.getUnit(), recoveryTick, binding.getEventQueue(),
+                                        event.getOwnerId(), binding.getGameCallbacks());
+    }
+}
\ No newline at end of file
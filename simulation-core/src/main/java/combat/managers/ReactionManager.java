@@ -0,0 +1,248 @@
+package combat.managers;
+
+import combat.Character;
+import combat.CombatEventKind;
+import combat.WeaponState;
+import game.EventBinding;
+import game.interfaces.IUnit;
+import game.ScheduledEvent;
+import game.GameCallbacks;
+import utils.GameConstants;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ReactionManager handles reaction monitoring and execution for characters.
+ * Extracted from Character.java following DevCycle 31 Option 4 refactoring.
+ * Manages complex reaction monitoring with timing and event scheduling.
+ * 
+ * Monitored targets are not polled. The manager listens for weapon state changes
+ * and only looks at the watchers of the character whose state changed, marking
+ * those whose target has left its baseline state as pending. The per-tick update
+ * then schedules reactions for pending watchers only.
+ */
+public class ReactionManager implements WeaponStateListener {
+    
+    // Singleton instance
+    private static ReactionManager instance;
+    
+    // Characters monitoring each target character
+    private final Map<Character, List<Character>> watchersByTarget = new IdentityHashMap<>();
+    
+    // Watchers whose target's weapon state currently differs from their baseline
+    private final Set<Character> pendingReactions = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ReactionManager() {
+        WeaponStateManager.getInstance().addWeaponStateListener(this);
+    }
+    
+    /**
+     * Get the singleton instance of ReactionManager.
+     * 
+     * @return The manager instance
+     */
+    public static ReactionManager getInstance() {
+        if (instance == null) {
+            instance = new ReactionManager();
+        }
+        return instance;
+    }
+    
+    /**
+     * Start monitoring a target for weapon state changes.
+     * Records the target's current weapon state as the baseline; a later change away
+     * from it triggers the reaction. Replaces any reaction the character already had.
+     * 
+     * @param character The character that will react
+     * @param target The unit to monitor
+     */
+    public void startMonitoring(Character character, IUnit target) {
+        stopMonitoring(character);
+        character.setReactionTarget(target);
+        
+        // Record baseline weapon state of target
+        Character targetCharacter = target.getCharacter();
+        if (targetCharacter.currentWeaponState != null) {
+            character.reactionBaselineState = targetCharacter.currentWeaponState;
+        } else if (targetCharacter.weapon != null) {
+            // Initialize weapon state if needed
+            character.reactionBaselineState = targetCharacter.weapon.getInitialState();
+        } else {
+            // No weapon state to monitor
+            character.reactionBaselineState = null;
+        }
+        
+        // Clear any pending reaction trigger
+        character.reactionTriggerTick = -1;
+        
+        if (character.reactionBaselineState != null) {
+            watchersByTarget.computeIfAbsent(targetCharacter, t -> new ArrayList<>()).add(character);
+        }
+    }
+    
+    /**
+     * Stop monitoring and clear the character's reaction state.
+     * 
+     * @param character The character whose reaction is cancelled or completed
+     */
+    public void stopMonitoring(Character character) {
+        if (character.getReactionTarget() != null) {
+            Character targetCharacter = character.getReactionTarget().getCharacter();
+            List<Character> watchers = watchersByTarget.get(targetCharacter);
+            if (watchers != null) {
+                watchers.remove(character);
+                if (watchers.isEmpty()) {
+                    watchersByTarget.remove(targetCharacter);
+                }
+            }
+        }
+        pendingReactions.remove(character);
+        character.setReactionTarget(null);
+        character.reactionBaselineState = null;
+        character.reactionTriggerTick = -1;
+    }
+    
+    /**
+     * Rebuilds the watcher index from the characters' reaction targets and
+     * baselines, e.g. after a keyframe has put them back. A watcher whose
+     * target has left the baseline and that has not triggered yet is pending.
+     * 
+     * @param units The units on the field
+     */
+    public void rebuild(List<? extends IUnit> units) {
+        watchersByTarget.clear();
+        pendingReactions.clear();
+        for (IUnit unit : units) {
+            Character character = unit.getCharacter();
+            IUnit target = character.getReactionTarget();
+            if (target == null || character.reactionBaselineState == null) {
+                continue;
+            }
+            watchersByTarget.computeIfAbsent(target.getCharacter(), t -> new ArrayList<>()).add(character);
+            WeaponState targetState = target.getCharacter().currentWeaponState;
+            if (character.reactionTriggerTick <= 0 && targetState != null && targetState != character.reactionBaselineState) {
+                pendingReactions.add(character);
+            }
+        }
+    }
+    
+    @Override
+    public void onWeaponStateChanged(Character target, WeaponState previousState, WeaponState newState) {
+        List<Character> watchers = watchersByTarget.get(target);
+        if (watchers == null) {
+            return;
+        }
+        for (Character watcher : watchers) {
+            if (newState != null && newState != watcher.reactionBaselineState) {
+                pendingReactions.add(watcher);
+            } else {
+                // Back in the baseline state before the watcher could react
+                pendingReactions.remove(watcher);
+            }
+        }
+    }
+    
+    /**
+     * Update reaction monitoring each tick.
+     * Extracted from Character.updateReactionMonitoring() (~56 lines).
+     * Schedules the reaction once the monitored target's weapon state has changed.
+     * Only watchers marked pending by onWeaponStateChanged() do any work.
+     * 
+     * @param character The character performing the monitoring
+     * @param selfUnit The unit performing the monitoring
+     * @param currentTick Current game tick
+     * @param eventQueue Event queue for scheduling reactions
+     * @param gameCallbacks Game callbacks for attack scheduling
+     */
+    public void updateReactionMonitoring(Character character, IUnit selfUnit, long currentTick, java.util.PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        // Skip unless the target's weapon state has changed
+        if (pendingReactions.isEmpty() || !pendingReactions.contains(character)) {
+            return;
+        }
+        
+        // Skip if no reaction target set
+        if (character.getReactionTarget() == null || character.reactionBaselineState == null) {
+            pendingReactions.remove(character);
+            return;
+        }
+        
+        // Skip if already triggered
+        if (character.reactionTriggerTick > 0) {
+            pendingReactions.remove(character);
+            return;
+        }
+        
+        // Skip if character is incapacitated or reloading (stays pending until it can react)
+        if (character.isIncapacitated() || character.isReloading) {
+            return;
+        }
+        
+        // Target's weapon state has changed
+        WeaponState currentTargetState = character.getReactionTarget().getCharacter().currentWeaponState;
+        if (currentTargetState != null && currentTargetState != character.reactionBaselineState) {
+            pendingReactions.remove(character);
+            
+            // Weapon state changed - trigger reaction with delay
+            int reflexModifier = GameConstants.statToModifier(character.reflexes);
+            long reactionDelay = Math.max(1, 30 - reflexModifier); // 30 base minus reflex modifier, minimum 1 tick
+            
+            character.reactionTriggerTick = currentTick + reactionDelay;
+            
+            // Schedule the reaction attack
+            eventQueue.add(new ScheduledEvent(character.reactionTriggerTick, CombatEventKind.REACTION_TRIGGER, selfUnit.getId(),
+                new EventBinding(character, selfUnit, null, eventQueue, gameCallbacks), reactionDelay));
+        }
+    }
+    
+    /**
+     * Carries out a REACTION_TRIGGER event: attacks the watched target, or
+     * retries 30 ticks later if the character is busy attacking.
+     */
+    public void executeReactionTrigger(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit selfUnit = binding.getUnit();
+        java.util.PriorityQueue<ScheduledEvent> eventQueue = binding.getEventQueue();
+        long reactionDelay = event.getParam(0);
+        
+        // Check if still valid to react (not incapacitated, target still exists, etc)
+        if (!character.isIncapacitated() && character.getReactionTarget() != null && !character.isAttacking) {
+            System.out.println("*** " + character.getDisplayName() + " reacting to " + 
+                             character.getReactionTarget().getCharacter().getDisplayName() + 
+                             " weapon state change (delay: " + reactionDelay + " ticks) ***");
+            
+            // Start attack sequence - this will handle queueing if already attacking
+            character.startAttackSequence(selfUnit, character.getReactionTarget(), character.reactionTriggerTick, eventQueue, selfUnit.getId(), binding.getGameCallbacks());
+            
+            // Clear reaction after triggering
+            stopMonitoring(character);
+        } else if (character.isAttacking) {
+            // Queue the reaction for after current attack
+            System.out.println("*** " + character.getDisplayName() + " queuing reaction - already attacking ***");
+            // Re-schedule for later
+            eventQueue.add(new ScheduledEvent(character.reactionTriggerTick + 30, CombatEventKind.REACTION_RETRY,
+                selfUnit.getId(), binding));
+        }
+    }
+    
+    /**
+     * Carries out a REACTION_RETRY event: the delayed reaction once the earlier attack is over.
+     */
+    public void executeReactionRetry(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        IUnit selfUnit = binding.getUnit();
+        if (!character.isIncapacitated() && character.getReactionTarget() != null && !character.isAttacking) {
+            character.startAttackSequence(selfUnit, character.getReactionTarget(), character.reactionTriggerTick + 30, binding.getEventQueue(), selfUnit.getId(), binding.getGameCallbacks());
+            // Clear reaction after triggering
+            stopMonitoring(character);
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package combat.managers;
 
 import combat.Character;
+import combat.CombatEventKind;
 import combat.RangedWeapon;
 import combat.ReloadType;
 import combat.WeaponState;
+import game.EventBinding;
 import game.IEventSchedulingService;
 import game.EventSchedulingService;
+import game.ScheduledEvent;
 import utils.GameConstants;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,7 +60,7 @@ public class ReloadManager implements IReloadManager {
         }
         
         // Set weapon state to reloading
-        character.currentWeaponState = character.weapon.getStateByName("reloading");
+        character.setCurrentWeaponState(character.weapon.getStateByName("reloading"));
         character.isReloading = true;
         
         // Calculate reload duration
@@ -74,23 +77,37 @@ public class ReloadManager implements IReloadManager {
                          weapon.getAmmunition() + "/" + weapon.getMaxAmmunition() + "], at tick " + currentTick);
         
         // Schedule reload completion
-        eventSchedulingService.scheduleEvent(completionTick, () -> {
-            performReload(character, weapon, weapon.getReloadType());
-            
-            // Check if we need to continue reloading (single-round weapons)
-            if (weapon.getReloadType() == ReloadType.SINGLE_ROUND && 
-                weapon.getAmmunition() < weapon.getMaxAmmunition()) {
-                // Continue reloading
-                continueReloading(character, completionTick);
-            } else {
-                // Reload complete
-                completeReload(character);
-            }
-        }, character.id);
+        eventSchedulingService.scheduleEvent(new ScheduledEvent(completionTick, CombatEventKind.RELOAD_COMPLETE,
+            character.id, EventBinding.of(character), completionTick));
         
         return true;
     }
     
+    /**
+     * Carries out a RELOAD_COMPLETE event: loads the weapon, then either
+     * continues loading single rounds or finishes the reload.
+     */
+    public void executeReloadComplete(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        long completionTick = event.getParam(0);
+        if (!(character.weapon instanceof RangedWeapon)) {
+            completeReload(character);
+            return;
+        }
+        RangedWeapon weapon = (RangedWeapon) character.weapon;
+        performReload(character, weapon, weapon.getReloadType());
+        
+        // Check if we need to continue reloading (single-round weapons)
+        if (weapon.getReloadType() == ReloadType.SINGLE_ROUND && 
+            weapon.getAmmunition() < weapon.getMaxAmmunition()) {
+            // Continue reloading
+            continueReloading(character, completionTick);
+        } else {
+            // Reload complete
+            completeReload(character);
+        }
+    }
+    
     @Override
     public boolean continueReloading(Character character, long currentTick) {
         if (!(character.weapon instanceof RangedWeapon)) {
@@ -114,20 +131,44 @@ public class ReloadManager implements IReloadManager {
         setReloadState(character.id, currentTick, completionTick);
         
         // Schedule next reload
-        eventSchedulingService.scheduleEvent(completionTick, () -> {
-            performReload(character, weapon, ReloadType.SINGLE_ROUND);
-            
-            // Check if we need to continue
-            if (weapon.getAmmunition() < weapon.getMaxAmmunition()) {
-                continueReloading(character, completionTick);
-            } else {
-                completeReload(character);
-            }
-        }, character.id);
+        eventSchedulingService.scheduleEvent(new ScheduledEvent(completionTick, CombatEventKind.RELOAD_ROUND,
+            character.id, EventBinding.of(character), completionTick));
         
         return true;
     }
     
+    /**
+     * Carries out a RELOAD_ROUND event: loads one more round and continues
+     * until the weapon is full.
+     */
+    public void executeReloadRound(ScheduledEvent event) {
+        Character character = event.getBinding().getCharacter();
+        long completionTick = event.getParam(0);
+        if (!(character.weapon instanceof RangedWeapon)) {
+            completeReload(character);
+            return;
+        }
+        RangedWeapon weapon = (RangedWeapon) character.weapon;
+        performReload(character, weapon, ReloadType.SINGLE_ROUND);
+        
+        // Check if we need to continue
+        if (weapon.getAmmunition() < weapon.getMaxAmmunition()) {
+            continueReloading(character, completionTick);
+        } else {
+            completeReload(character);
+        }
+    }
+    
+    /**
+     * Carries out a RELOAD_ATTACK_CHECK event: after a reload outside
+     * persistent attack, checks whether the character should attack again.
+     */
+    public void executeReloadAttackCheck(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        binding.getCharacter().checkContinuousAttack(binding.getUnit(), event.getParam(0), binding.getEventQueue(),
+                                                     event.getOwnerId(), binding.getGameCallbacks());
+    }
+    
     @Override
     public void performReload(Character character, RangedWeapon weapon, ReloadType reloadType) {
         int oldAmmo = weapon.getAmmunition();
@@ -228,6 +269,16 @@ public class ReloadManager implements IReloadManager {
         reloadCompletionTicks.remove(characterId);
     }
     
+    void captureState(int characterId, CharacterCombatState state) {
+        state.reloadStartTick = reloadStartTicks.get(characterId);
+        state.reloadCompletionTick = reloadCompletionTicks.get(characterId);
+    }
+    
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(reloadStartTicks, characterId, state.reloadStartTick);
+        CharacterCombatState.restoreEntry(reloadCompletionTicks, characterId, state.reloadCompletionTick);
+    }
+    
     // Private helper methods
     
     /**
@@ -267,7 +318,7 @@ public class ReloadManager implements IReloadManager {
         
         // Set weapon state back to ready
         if (character.weapon != null) {
-            character.currentWeaponState = character.weapon.getStateByName("ready");
+            character.setCurrentWeaponState(character.weapon.getStateByName("ready"));
         }
         
         // Note: In full implementation, this would notify CombatCoordinator
@@ -1,6 +1,7 @@
 package combat.managers;
 
 import combat.Character;
+import game.UnitRegistry;
 import game.interfaces.IUnit;
 import java.util.HashMap;
 import java.util.Map;
@@ -9,15 +10,30 @@ import java.util.Map;
  * Singleton manager for character targeting
  * DevCycle 30 - Character class size reduction
  * Follows DevCycle 29 singleton pattern with per-character state tracking
+ * 
+ * Targets are held as handles into the target's UnitRegistry, so a target
+ * that has left the field reads back as null and is not kept alive by this
+ * manager. Characters keep their own targets; see Character.getCurrentTarget().
  */
 public class TargetManager implements ITargetManager {
     private static TargetManager instance;
     
-    // Per-character targeting storage
-    private final Map<Integer, IUnit> currentTargets = new HashMap<>();
-    private final Map<Integer, IUnit> previousTargets = new HashMap<>();
-    private final Map<Integer, IUnit> meleeTargets = new HashMap<>();
-    private final Map<Integer, IUnit> reactionTargets = new HashMap<>();
+    /** A unit handle and the registry that issued it */
+    private static final class TargetHandle {
+        final UnitRegistry registry;
+        final long handle;
+        
+        TargetHandle(UnitRegistry registry, long handle) {
+            this.registry = registry;
+            this.handle = handle;
+        }
+    }
+    
+    // Per-character targeting storage, as UnitRegistry handles
+    private final Map<Integer, TargetHandle> currentTargets = new HashMap<>();
+    private final Map<Integer, TargetHandle> previousTargets = new HashMap<>();
+    private final Map<Integer, TargetHandle> meleeTargets = new HashMap<>();
+    private final Map<Integer, TargetHandle> reactionTargets = new HashMap<>();
     
     private TargetManager() {
         // Singleton pattern - private constructor
@@ -32,22 +48,22 @@ public class TargetManager implements ITargetManager {
     
     @Override
     public IUnit getCurrentTarget(int characterId) {
-        return currentTargets.get(characterId);
+        return resolve(currentTargets, characterId);
     }
     
     @Override
     public void setCurrentTarget(int characterId, IUnit target) {
-        currentTargets.put(characterId, target);
+        store(currentTargets, characterId, target);
     }
     
     @Override
     public IUnit getPreviousTarget(int characterId) {
-        return previousTargets.get(characterId);
+        return resolve(previousTargets, characterId);
     }
     
     @Override
     public void setPreviousTarget(int characterId, IUnit target) {
-        previousTargets.put(characterId, target);
+        store(previousTargets, characterId, target);
     }
     
     @Override
@@ -58,12 +74,12 @@ public class TargetManager implements ITargetManager {
     
     @Override
     public IUnit getMeleeTarget(int characterId) {
-        return meleeTargets.get(characterId);
+        return resolve(meleeTargets, characterId);
     }
     
     @Override
     public void setMeleeTarget(int characterId, IUnit target) {
-        meleeTargets.put(characterId, target);
+        store(meleeTargets, characterId, target);
     }
     
     @Override
@@ -83,12 +99,12 @@ public class TargetManager implements ITargetManager {
     
     @Override
     public IUnit getReactionTarget(int characterId) {
-        return reactionTargets.get(characterId);
+        return resolve(reactionTargets, characterId);
     }
     
     @Override
     public void setReactionTarget(int characterId, IUnit target) {
-        reactionTargets.put(characterId, target);
+        store(reactionTargets, characterId, target);
     }
     
     @Override
@@ -98,4 +114,18 @@ public class TargetManager implements ITargetManager {
         meleeTargets.remove(characterId);
         reactionTargets.remove(characterId);
     }
+    
+    private static IUnit resolve(Map<Integer, TargetHandle> targets, int characterId) {
+        TargetHandle target = targets.get(characterId);
+        return target != null ? target.registry.resolve(target.handle) : null;
+    }
+    
+    private static void store(Map<Integer, TargetHandle> targets, int characterId, IUnit target) {
+        if (target == null) {
+            targets.remove(characterId);
+        } else {
+            UnitRegistry registry = UnitRegistry.of(target);
+            targets.put(characterId, new TargetHandle(registry, registry.register(target)));
+        }
+    }
 }
\ No newline at end of file
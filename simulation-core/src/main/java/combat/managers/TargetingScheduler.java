@@ -0,0 +1,230 @@
+package combat.managers;
+
+import combat.Character;
+import combat.MovementController;
+import game.FactionRoster;
+import utils.GameConstants;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Singleton scheduler that decides when an idle auto-targeting character searches
+ * for a new target.
+ *
+ * Instead of every idle unit scanning for hostiles every tick, each character
+ * re-evaluates on its own period (shorter for higher reflexes) and phase, so
+ * searches are spread across ticks. A character re-evaluates immediately when:
+ * - it was hit (requestImmediateRetarget from HealthManager)
+ * - units joined, left or changed faction on the field (roster revision changed)
+ * - a hostile may have come into weapon range (bounded by how fast the two
+ *   units could close the gap at their top allowed speeds)
+ * Losing the current target is handled by the caller, which searches at once.
+ *
+ * The period range can be set with -Dopenfields.targeting.minPeriod and
+ * -Dopenfields.targeting.maxPeriod (in ticks).
+ */
+public class TargetingScheduler {
+
+    private static TargetingScheduler instance;
+
+    public static final int DEFAULT_MIN_PERIOD_TICKS = 6;
+    public static final int DEFAULT_MAX_PERIOD_TICKS = 12;
+
+    private int minPeriodTicks = DEFAULT_MIN_PERIOD_TICKS;
+    private int maxPeriodTicks = DEFAULT_MAX_PERIOD_TICKS;
+
+    // Per-character state tracking
+    private final Map<Integer, Long> nextEvaluationTicks = new HashMap<>();
+    private final Map<Integer, Integer> seenRosterRevisions = new HashMap<>();
+    private final Set<Integer> pendingRetargets = new HashSet<>();
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private TargetingScheduler() {
+        int min = Integer.getInteger("openfields.targeting.minPeriod", DEFAULT_MIN_PERIOD_TICKS);
+        int max = Integer.getInteger("openfields.targeting.maxPeriod", DEFAULT_MAX_PERIOD_TICKS);
+        try {
+            setPeriodRange(min, max);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Warning: " + e.getMessage() + ", using " + DEFAULT_MIN_PERIOD_TICKS + "-" + DEFAULT_MAX_PERIOD_TICKS);
+        }
+    }
+
+    /**
+     * Get the singleton instance of TargetingScheduler.
+     *
+     * @return The scheduler instance
+     */
+    public static TargetingScheduler getInstance() {
+        if (instance == null) {
+            instance = new TargetingScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the range of re-evaluation periods. Characters with the best reflexes
+     * use the minimum, those with the worst use the maximum.
+     *
+     * @param minPeriodTicks Shortest period in ticks (at least 1)
+     * @param maxPeriodTicks Longest period in ticks (at least minPeriodTicks)
+     */
+    public void setPeriodRange(int minPeriodTicks, int maxPeriodTicks) {
+        if (minPeriodTicks < 1 || maxPeriodTicks < minPeriodTicks) {
+            throw new IllegalArgumentException("Invalid targeting period range: " + minPeriodTicks + "-" + maxPeriodTicks);
+        }
+        this.minPeriodTicks = minPeriodTicks;
+        this.maxPeriodTicks = maxPeriodTicks;
+    }
+
+    public int getMinPeriodTicks() {
+        return minPeriodTicks;
+    }
+
+    public int getMaxPeriodTicks() {
+        return maxPeriodTicks;
+    }
+
+    /**
+     * Get the character's re-evaluation period, interpolated from reflexes.
+     *
+     * @param character The character
+     * @return Period in ticks
+     */
+    public int getPeriodTicks(Character character) {
+        int modifier = GameConstants.statToModifier(character.reflexes); // -20..+20
+        double quickness = (modifier + 20) / 40.0;
+        return maxPeriodTicks - (int) Math.round(quickness * (maxPeriodTicks - minPeriodTicks));
+    }
+
+    /**
+     * Get the character's phase within its period, so characters with the same
+     * period do not all search on the same tick.
+     *
+     * @param character The character
+     * @return Phase in ticks, 0 to period - 1
+     */
+    public int getPhaseTicks(Character character) {
+        return Math.floorMod(character.id * 7, getPeriodTicks(character));
+    }
+
+    /**
+     * Get the fastest the character could move, at its base speed and the
+     * fastest movement type its wounds allow.
+     *
+     * @param character The character
+     * @return Speed in pixels per tick
+     */
+    public static double getTopSpeedPixelsPerTick(Character character) {
+        return character.baseMovementSpeed
+            * MovementController.getMaxAllowedMovementType(character).getSpeedMultiplier() / 60.0;
+    }
+
+    /**
+     * Get the fewest ticks in which two characters could close a gap, both
+     * moving straight at each other at their top speeds.
+     *
+     * @param gapPixels Distance to close, in pixels
+     * @param first One character
+     * @param second The other character
+     * @return Ticks, at least 1, or Long.MAX_VALUE if neither can move
+     */
+    public static long ticksToClose(double gapPixels, Character first, Character second) {
+        double closingPixelsPerTick = getTopSpeedPixelsPerTick(first) + getTopSpeedPixelsPerTick(second);
+        if (closingPixelsPerTick <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(1, (long) (gapPixels / closingPixelsPerTick));
+    }
+
+    /**
+     * Request that the character searches for a target on its next update.
+     *
+     * @param characterId The character's ID
+     */
+    public void requestImmediateRetarget(int characterId) {
+        pendingRetargets.add(characterId);
+    }
+
+    /**
+     * Check whether an idle character should search for a target this tick.
+     *
+     * @param character The character
+     * @param currentTick The current game tick
+     * @return true if the search should run
+     */
+    public boolean isEvaluationDue(Character character, long currentTick) {
+        if (pendingRetargets.contains(character.id)) {
+            return true;
+        }
+        Integer seenRevision = seenRosterRevisions.get(character.id);
+        if (seenRevision == null || seenRevision != FactionRoster.getInstance().getRevision()) {
+            return true;
+        }
+        Long nextTick = nextEvaluationTicks.get(character.id);
+        // A next tick further away than one period means the clock was reset (e.g. a loaded save)
+        return nextTick == null || currentTick >= nextTick || nextTick - currentTick > getPeriodTicks(character);
+    }
+
+    /**
+     * Record that the character searched and schedule its next evaluation.
+     *
+     * @param character The character
+     * @param currentTick The current game tick
+     * @param ticksUntilHostileReachable Fewest ticks before a hostile beyond weapon
+     *        range could come into it (see ticksToClose), or Long.MAX_VALUE if none
+     */
+    public void recordEvaluation(Character character, long currentTick, long ticksUntilHostileReachable) {
+        int period = getPeriodTicks(character);
+        int phase = getPhaseTicks(character);
+
+        // Next tick after this one that falls on the character's phase
+        long nextTick = currentTick + period - Math.floorMod(currentTick + phase, period);
+
+        // Re-evaluate before an approaching hostile could possibly reach weapon range
+        if (ticksUntilHostileReachable < Long.MAX_VALUE) {
+            nextTick = Math.min(nextTick, currentTick + ticksUntilHostileReachable);
+        }
+
+        nextEvaluationTicks.put(character.id, nextTick);
+        seenRosterRevisions.put(character.id, FactionRoster.getInstance().getRevision());
+        pendingRetargets.remove(character.id);
+    }
+
+    public void cleanupCharacter(int characterId) {
+        nextEvaluationTicks.remove(characterId);
+        seenRosterRevisions.remove(characterId);
+        pendingRetargets.remove(characterId);
+    }
+
+    void captureState(int characterId, CharacterCombatState state) {
+        state.nextEvaluationTick = nextEvaluationTicks.get(characterId);
+        Integer seenRevision = seenRosterRevisions.get(characterId);
+        state.rosterRevisionSeen = seenRevision != null && seenRevision == FactionRoster.getInstance().getRevision();
+        state.retargetPending = pendingRetargets.contains(characterId);
+    }
+
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(nextEvaluationTicks, characterId, state.nextEvaluationTick);
+        // A revision that is not the current one only matters in that it differs, so absent will do
+        CharacterCombatState.restoreEntry(seenRosterRevisions, characterId,
+                                          state.rosterRevisionSeen ? FactionRoster.getInstance().getRevision() : null);
+        if (state.retargetPending) {
+            pendingRetargets.add(characterId);
+        } else {
+            pendingRetargets.remove(characterId);
+        }
+    }
+
+    /**
+     * Forget all scheduling state, e.g. when a new scenario starts.
+     */
+    public void reset() {
+        nextEvaluationTicks.clear();
+        seenRosterRevisions.clear();
+        pendingRetargets.clear();
+    }
+}
\ No newline at end of file
@@ -124,7 +124,7 @@ public class WeaponReadinessManager {
             
             // Initialize weapon state if needed for melee weapon
             if (character.currentWeaponState == null) {
-                character.currentWeaponState = character.meleeWeapon.getInitialState();
+                character.setCurrentWeaponState(character.meleeWeapon.getInitialState());
             }
         } else {
             // Ranged mode - ready the ranged weapon
@@ -134,7 +134,7 @@ public class WeaponReadinessManager {
             
             // Initialize weapon state if needed for ranged weapon
             if (character.currentWeaponState == null) {
-                character.currentWeaponState = character.weapon.getInitialState();
+                character.setCurrentWeaponState(character.weapon.getInitialState());
             }
         }
         
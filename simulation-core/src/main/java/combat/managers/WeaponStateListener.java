@@ -0,0 +1,21 @@
+package combat.managers;
+
+import combat.Character;
+import combat.WeaponState;
+
+/**
+ * Listener notified when a character's weapon changes state.
+ * Registered with WeaponStateManager.addWeaponStateListener().
+ */
+@FunctionalInterface
+public interface WeaponStateListener {
+    
+    /**
+     * Called after the character's current weapon state has changed.
+     * 
+     * @param character The character whose weapon changed state
+     * @param previousState The state before the change (may be null)
+     * @param newState The state after the change (may be null)
+     */
+    void onWeaponStateChanged(Character character, WeaponState previousState, WeaponState newState);
+}
\ No newline at end of file
@@ -3,8 +3,6 @@ package combat.managers;
 import combat.WeaponState;
 import combat.Weapon;
 import combat.Character;
-import game.IEventSchedulingService;
-import game.EventSchedulingService;
 import combat.CombatCoordinator;
 import data.SkillsManager;
 import utils.GameConstants;
@@ -12,6 +10,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Singleton manager for weapon state transitions and hold states.
@@ -26,14 +25,13 @@ public class WeaponStateManager implements IWeaponStateManager {
     private final Map<Integer, String> targetHoldStates = new HashMap<>();
     private final Map<Integer, Boolean> firesFromAimingState = new HashMap<>();
     
-    // Service references
-    private final IEventSchedulingService eventSchedulingService;
+    // Listeners notified on every weapon state change
+    private final List<WeaponStateListener> weaponStateListeners = new CopyOnWriteArrayList<>();
     
     /**
      * Private constructor for singleton pattern.
      */
     private WeaponStateManager() {
-        this.eventSchedulingService = EventSchedulingService.getInstance();
     }
     
     /**
@@ -49,30 +47,14 @@ public class WeaponStateManager implements IWeaponStateManager {
     }
     
     @Override
-    public long scheduleStateTransition(Character character, WeaponState fromState, WeaponState toState, long currentTick) {
+    public long calculateTransitionTick(Character character, WeaponState fromState, WeaponState toState, long currentTick) {
         if (fromState == null || toState == null) {
             throw new IllegalArgumentException("States cannot be null");
         }
         
         // Calculate transition duration
         long duration = calculateTransitionDuration(character, fromState, toState);
-        long transitionTick = currentTick + duration;
-        
-        // Schedule the transition
-        eventSchedulingService.scheduleEvent(transitionTick, () -> {
-            character.currentWeaponState = toState;
-            
-            // Start timing if transitioning to aiming/pointing states
-            if ("aiming".equals(toState.getState())) {
-                // TODO: Call aiming system through coordinator
-                // CombatCoordinator.getInstance().startAimingTiming(character.id, transitionTick);
-            } else if ("pointedfromhip".equals(toState.getState())) {
-                // TODO: Call aiming system through coordinator
-                // CombatCoordinator.getInstance().startPointingFromHipTiming(character.id, transitionTick);
-            }
-        }, character.id);
-        
-        return transitionTick;
+        return currentTick + duration;
     }
     
     @Override
@@ -215,6 +197,25 @@ public class WeaponStateManager implements IWeaponStateManager {
         return baseDuration;
     }
     
+    @Override
+    public void addWeaponStateListener(WeaponStateListener listener) {
+        if (listener != null && !weaponStateListeners.contains(listener)) {
+            weaponStateListeners.add(listener);
+        }
+    }
+    
+    @Override
+    public void removeWeaponStateListener(WeaponStateListener listener) {
+        weaponStateListeners.remove(listener);
+    }
+    
+    @Override
+    public void fireWeaponStateChanged(Character character, WeaponState previousState, WeaponState newState) {
+        for (WeaponStateListener listener : weaponStateListeners) {
+            listener.onWeaponStateChanged(character, previousState, newState);
+        }
+    }
+    
     @Override
     public void cleanupCharacter(int characterId) {
         weaponHoldStates.remove(characterId);
@@ -222,6 +223,18 @@ public class WeaponStateManager implements IWeaponStateManager {
         firesFromAimingState.remove(characterId);
     }
     
+    void captureState(int characterId, CharacterCombatState state) {
+        state.weaponHoldState = weaponHoldStates.get(characterId);
+        state.targetHoldState = targetHoldStates.get(characterId);
+        state.firesFromAimingState = firesFromAimingState.get(characterId);
+    }
+    
+    void restoreState(int characterId, CharacterCombatState state) {
+        CharacterCombatState.restoreEntry(weaponHoldStates, characterId, state.weaponHoldState);
+        CharacterCombatState.restoreEntry(targetHoldStates, characterId, state.targetHoldState);
+        CharacterCombatState.restoreEntry(firesFromAimingState, characterId, state.firesFromAimingState);
+    }
+    
     // Private helper methods
     
     /**
@@ -0,0 +1,209 @@
+package combat.managers;
+
+import combat.Character;
+import combat.CombatEventKind;
+import combat.Weapon;
+import combat.WeaponState;
+import game.interfaces.IUnit;
+import game.EventBinding;
+import game.ScheduledEvent;
+import game.GameCallbacks;
+
+/**
+ * WeaponStateTransitionManager handles weapon state transition orchestration for characters.
+ * Extracted from Character.java following DevCycle 31 Option 4 refactoring.
+ * Manages complex state transition timing and speed calculations.
+ */
+public class WeaponStateTransitionManager {
+    
+    // Singleton instance
+    private static WeaponStateTransitionManager instance;
+    
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private WeaponStateTransitionManager() {
+    }
+    
+    /**
+     * Get the singleton instance of WeaponStateTransitionManager.
+     * 
+     * @return The manager instance
+     */
+    public static WeaponStateTransitionManager getInstance() {
+        if (instance == null) {
+            instance = new WeaponStateTransitionManager();
+        }
+        return instance;
+    }
+    
+    /**
+     * Schedule weapon state transition during attack sequences.
+     * Extracted from Character.scheduleStateTransition() (~32 lines).
+     * Handles state progression with speed calculations and timing management.
+     * 
+     * @param character The character transitioning states
+     * @param newStateName The target state name
+     * @param currentTick The current game tick
+     * @param transitionTickLength Base transition duration
+     * @param shooter The attacking unit
+     * @param target The target unit
+     * @param eventQueue Event queue for scheduling future actions
+     * @param ownerId Owner ID for event scheduling
+     * @param gameCallbacks Game callback interface
+     */
+    public void scheduleStateTransition(Character character, String newStateName, long currentTick, long transitionTickLength, IUnit shooter, IUnit target, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId, GameCallbacks gameCallbacks) {
+        // Create WeaponState objects for transition calculation
+        WeaponState fromState = character.currentWeaponState;
+        WeaponState toState = character.weapon.getStateByName(newStateName);
+        
+        // Delegate transition duration calculation to WeaponStateManager
+        long calculatedDuration = WeaponStateManager.getInstance().calculateTransitionDuration(character, fromState, toState);
+        
+        // If WeaponStateManager provided a duration, use it; otherwise fall back to original logic
+        if (calculatedDuration > 0) {
+            transitionTickLength = calculatedDuration;
+        } else {
+            // Apply speed multiplier only to weapon preparation states (fallback)
+            if (character.isWeaponPreparationState(newStateName)) {
+                double speedMultiplier = character.calculateWeaponReadySpeedMultiplier();
+                transitionTickLength = Math.round(transitionTickLength * speedMultiplier);
+            }
+        }
+        
+        long transitionTick = currentTick + transitionTickLength;
+        eventQueue.add(new ScheduledEvent(transitionTick, CombatEventKind.ATTACK_STATE_TRANSITION, ownerId,
+            new EventBinding(character, shooter, target, eventQueue, gameCallbacks),
+            transitionTick, weaponSlot(character, character.weapon), stateIndex(character.weapon, newStateName)));
+    }
+    
+    /**
+     * Carries out an ATTACK_STATE_TRANSITION event: enters the state and
+     * continues the attack from it.
+     */
+    public void executeAttackStateTransition(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        long transitionTick = event.getParam(0);
+        WeaponState newState = stateAt(weaponInSlot(character, event.getParam(1)), event.getParam(2));
+        character.setCurrentWeaponState(newState);
+        
+        // DevCycle 27: Start timing when entering aiming or pointing states
+        startStateTiming(character, newState != null ? newState.getState() : null, transitionTick);
+        
+        character.scheduleAttackFromCurrentState(binding.getUnit(), binding.getTarget(), transitionTick,
+                                                 binding.getEventQueue(), event.getOwnerId(), binding.getGameCallbacks());
+    }
+    
+    /**
+     * Schedule weapon state transition during ready sequences.
+     * Extracted from Character.scheduleReadyStateTransition() (~28 lines).
+     * Handles weapon preparation state progression with speed calculations.
+     * 
+     * @param character The character transitioning states
+     * @param newStateName The target state name
+     * @param currentTick The current game tick
+     * @param transitionTickLength Base transition duration
+     * @param unit The unit preparing weapon
+     * @param eventQueue Event queue for scheduling future actions
+     * @param ownerId Owner ID for event scheduling
+     */
+    public void scheduleReadyStateTransition(Character character, String newStateName, long currentTick, long transitionTickLength, IUnit unit, java.util.PriorityQueue<ScheduledEvent> eventQueue, int ownerId) {
+        // Apply speed multiplier only to weapon preparation states
+        if (character.isWeaponPreparationState(newStateName)) {
+            double speedMultiplier = character.calculateWeaponReadySpeedMultiplier();
+            transitionTickLength = Math.round(transitionTickLength * speedMultiplier);
+        }
+        
+        long transitionTick = currentTick + transitionTickLength;
+        
+        // The state is named from the weapon that is active now and looked up again in the one active then
+        Weapon namingWeapon = character.isMeleeCombatMode ? character.meleeWeapon : character.weapon;
+        eventQueue.add(new ScheduledEvent(transitionTick, CombatEventKind.READY_STATE_TRANSITION, ownerId,
+            new EventBinding(character, unit, null, eventQueue, null),
+            transitionTick, weaponSlot(character, namingWeapon), stateIndex(namingWeapon, newStateName)));
+    }
+    
+    /**
+     * Carries out a READY_STATE_TRANSITION event: enters the state and
+     * continues the ready sequence from it.
+     */
+    public void executeReadyStateTransition(ScheduledEvent event) {
+        EventBinding binding = event.getBinding();
+        Character character = binding.getCharacter();
+        long transitionTick = event.getParam(0);
+        WeaponState namedState = stateAt(weaponInSlot(character, event.getParam(1)), event.getParam(2));
+        String newStateName = namedState != null ? namedState.getState() : null;
+        
+        // Get the appropriate weapon for state lookup
+        Weapon activeWeapon = character.isMeleeCombatMode ? character.meleeWeapon : character.weapon;
+        String previousState = character.currentWeaponState != null ? character.currentWeaponState.getState() : "None";
+        character.setCurrentWeaponState(newStateName != null ? activeWeapon.getStateByName(newStateName) : null);
+        
+        // DevCycle 27: Start timing when entering aiming or pointing states during ready sequence
+        startStateTiming(character, newStateName, transitionTick);
+        
+        // Output weapon state change (like the old system)
+        System.out.println("*** " + character.getDisplayName() + " weapon state: " + previousState + " -> " + newStateName + " ***");
+        
+        // Continue the ready sequence recursively
+        character.scheduleReadyFromCurrentState(binding.getUnit(), transitionTick, binding.getEventQueue(), event.getOwnerId());
+    }
+    
+    private static void startStateTiming(Character character, String stateName, long transitionTick) {
+        if ("aiming".equals(stateName)) {
+            character.startAimingTiming(transitionTick);
+        } else if ("pointedfromhip".equals(stateName)) {
+            character.startPointingFromHipTiming(transitionTick);
+        }
+    }
+    
+    /**
+     * Slot of one of the character's weapons, as typed events carry weapon
+     * states: 0 for weapon, 1 for meleeWeapon, 2 for rangedWeapon.
+     */
+    public static long weaponSlot(Character character, Weapon weapon) {
+        if (weapon != null && weapon == character.meleeWeapon) {
+            return 1;
+        }
+        if (weapon != null && weapon == character.rangedWeapon && weapon != character.weapon) {
+            return 2;
+        }
+        return 0;
+    }
+    
+    /**
+     * The character's weapon in a slot from weaponSlot().
+     */
+    public static Weapon weaponInSlot(Character character, long slot) {
+        if (slot == 1) {
+            return character.meleeWeapon;
+        }
+        return slot == 2 ? character.rangedWeapon : character.weapon;
+    }
+    
+    /**
+     * Index of the named state in the weapon's states, as typed events carry
+     * weapon states.
+     * 
+     * @return the index, or -1 if the weapon is null or has no such state
+     */
+    public static long stateIndex(Weapon weapon, String stateName) {
+        if (weapon == null || weapon.states == null) {
+            return -1;
+        }
+        return weapon.states.indexOf(weapon.getStateByName(stateName));
+    }
+    
+    /**
+     * The weapon's state at an index from stateIndex().
+     * 
+     * @return the state, or null if the weapon is null or the index is out of range
+     */
+    public static WeaponState stateAt(Weapon weapon, long index) {
+        if (weapon == null || weapon.states == null || index < 0 || index >= weapon.states.size()) {
+            return null;
+        }
+        return weapon.states.get((int) index);
+    }
+}
\ No newline at end of file
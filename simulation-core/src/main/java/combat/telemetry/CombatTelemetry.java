@@ -0,0 +1,332 @@
+package combat.telemetry;
+
+import combat.BodyPart;
+import combat.HitResult;
+import combat.Weapon;
+import combat.WoundSeverity;
+import game.Unit;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Append-only record of every shot, hit and wound in a battle, for after-action
+ * reports. CombatStatisticsManager keeps per-character totals; this keeps the
+ * individual rows.
+ *
+ * Rows are stored column by column in fixed-size chunks of primitive arrays.
+ * When more than maxHeapChunks full chunks are on the heap, the oldest is
+ * written to a temporary spill file and read back through a read-only memory
+ * mapping, so a battle of millions of shots costs a few chunks of heap. The
+ * group-by queries scan the chunks in place without materialising rows.
+ *
+ * The shared instance records only when enabled with -Dopenfields.telemetry=true
+ * or setEnabled(true). The game resets it when a scenario starts or a save is
+ * loaded, so rows and the spill file cover one battle.
+ */
+public class CombatTelemetry {
+
+    /**
+     * What a row records.
+     * SHOT: an attack attempt, with chance to hit, roll and outcome.
+     * HIT: an attack landing on its intended target, with body part.
+     * WOUND: a wound applied, including stray hits, with severity and damage.
+     */
+    public enum RowKind {
+        SHOT, HIT, WOUND
+    }
+
+    public static final int DEFAULT_CHUNK_ROWS = 16384;
+    public static final int DEFAULT_MAX_HEAP_CHUNKS = 4;
+
+    private static final double PIXELS_PER_FOOT = 7.0;
+    private static final String NO_WEAPON = "none";
+
+    // Singleton instance
+    private static CombatTelemetry instance;
+
+    private final int chunkRows;
+    private final int maxHeapChunks;
+
+    // Oldest first; spilled chunks stay in place as Mapped chunks
+    private final List<TelemetryChunk> chunks = new ArrayList<>();
+    private TelemetryChunk.Heap current;
+    private int heapChunks;
+
+    // Weapon ids are stored as indexes into this dictionary
+    private final List<String> weaponIds = new ArrayList<>();
+    private final Map<String, Integer> weaponIndexes = new HashMap<>();
+
+    private File spillFile;
+    private FileChannel spillChannel;
+    private long spillPosition;
+    private boolean spillFailed;
+
+    private boolean enabled = true;
+    private long rowCount;
+
+    /**
+     * @param chunkRows Rows per column chunk
+     * @param maxHeapChunks Full chunks kept on the heap before the oldest is spilled
+     */
+    public CombatTelemetry(int chunkRows, int maxHeapChunks) {
+        if (chunkRows < 1 || maxHeapChunks < 0) {
+            throw new IllegalArgumentException("Invalid telemetry chunk settings: " + chunkRows + " rows, " + maxHeapChunks + " heap chunks");
+        }
+        this.chunkRows = chunkRows;
+        this.maxHeapChunks = maxHeapChunks;
+    }
+
+    /**
+     * Get the singleton instance of CombatTelemetry.
+     *
+     * @return The recorder used by combat resolution
+     */
+    public static synchronized CombatTelemetry getInstance() {
+        if (instance == null) {
+            instance = new CombatTelemetry(DEFAULT_CHUNK_ROWS, DEFAULT_MAX_HEAP_CHUNKS);
+            instance.setEnabled(Boolean.getBoolean("openfields.telemetry"));
+        }
+        return instance;
+    }
+
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // Recording
+
+    /**
+     * Records an attack attempt as resolved by CombatCalculator.determineHit().
+     */
+    public void recordShot(Unit shooter, Unit target, Weapon weapon, long tick, double distanceFeet, HitResult result) {
+        record(RowKind.SHOT, tick, shooter, target, weapon, distanceFeet, result.getChanceToHit(), result.getRandomRoll(),
+               result.isHit(), result.isHit() ? result.getHitLocation() : null, null, 0);
+    }
+
+    /**
+     * Records an attack attempt at the current distance between the units.
+     */
+    public void recordShot(Unit shooter, Unit target, Weapon weapon, long tick, HitResult result) {
+        recordShot(shooter, target, weapon, tick, distanceFeet(shooter, target), result);
+    }
+
+    /**
+     * Records an attack landing on its intended target.
+     */
+    public void recordHit(Unit shooter, Unit target, Weapon weapon, long tick, HitResult result) {
+        record(RowKind.HIT, tick, shooter, target, weapon, distanceFeet(shooter, target), result.getChanceToHit(), result.getRandomRoll(),
+               true, result.getHitLocation(), result.getWoundSeverity(), result.getActualDamage());
+    }
+
+    /**
+     * Records a wound applied to a target, whether it was aimed at or hit by a stray.
+     */
+    public void recordWound(Unit shooter, Unit target, Weapon weapon, long tick, BodyPart bodyPart, WoundSeverity severity, int damage) {
+        record(RowKind.WOUND, tick, shooter, target, weapon, distanceFeet(shooter, target), -1, -1,
+               true, bodyPart, severity, damage);
+    }
+
+    private void record(RowKind kind, long tick, Unit shooter, Unit target, Weapon weapon, double distanceFeet,
+                        double chance, double roll, boolean hit, BodyPart bodyPart, WoundSeverity severity, int damage) {
+        String weaponId = weapon != null ? weapon.getWeaponId() : null;
+        record(kind, tick, shooter.getId(), target.getId(), weaponId, shooter.character.faction, distanceFeet,
+               chance, roll, hit, bodyPart, severity, damage);
+    }
+
+    /**
+     * Appends one row.
+     *
+     * @param chance Chance to hit in percent, or -1 if not applicable
+     * @param roll Roll against the chance, or -1 if not applicable
+     * @param bodyPart Body part hit, or null
+     * @param severity Wound severity, or null
+     */
+    public synchronized void record(RowKind kind, long tick, int shooterId, int targetId, String weaponId, int faction,
+                                    double distanceFeet, double chance, double roll, boolean hit,
+                                    BodyPart bodyPart, WoundSeverity severity, int damage) {
+        if (!enabled) {
+            return;
+        }
+        if (current == null) {
+            current = new TelemetryChunk.Heap(chunkRows);
+            chunks.add(current);
+            heapChunks++;
+        }
+        current.append((byte) kind.ordinal(), hit,
+                       (byte) (bodyPart != null ? bodyPart.ordinal() : -1),
+                       (byte) (severity != null ? severity.ordinal() : -1),
+                       tick, shooterId, targetId, weaponIndex(weaponId), faction, damage,
+                       (float) distanceFeet, (float) chance, (float) roll);
+        rowCount++;
+        if (current.isFull()) {
+            current = null;
+            if (heapChunks > maxHeapChunks) {
+                spillOldestHeapChunk();
+            }
+        }
+    }
+
+    private int weaponIndex(String weaponId) {
+        if (weaponId == null) {
+            return -1;
+        }
+        Integer index = weaponIndexes.get(weaponId);
+        if (index == null) {
+            index = weaponIds.size();
+            weaponIds.add(weaponId);
+            weaponIndexes.put(weaponId, index);
+        }
+        return index;
+    }
+
+    private static double distanceFeet(Unit shooter, Unit target) {
+        return Math.hypot(target.x - shooter.x, target.y - shooter.y) / PIXELS_PER_FOOT;
+    }
+
+    // Spilling
+
+    private void spillOldestHeapChunk() {
+        if (spillFailed) {
+            return;
+        }
+        for (int i = 0; i < chunks.size(); i++) {
+            if (chunks.get(i) instanceof TelemetryChunk.Heap && chunks.get(i) != current) {
+                TelemetryChunk.Heap heap = (TelemetryChunk.Heap) chunks.get(i);
+                try {
+                    chunks.set(i, spill(heap));
+                    heapChunks--;
+                } catch (IOException e) {
+                    // Keep recording on the heap rather than lose rows
+                    spillFailed = true;
+                    System.err.println("Combat telemetry spill failed, keeping rows in memory: " + e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    private TelemetryChunk.Mapped spill(TelemetryChunk.Heap heap) throws IOException {
+        if (spillChannel == null) {
+            spillFile = File.createTempFile("openfields-telemetry", ".bin");
+            spillFile.deleteOnExit();
+            spillChannel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        ByteBuffer buffer = heap.toBuffer();
+        long position = spillPosition;
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            spillChannel.write(buffer, position + buffer.position());
+        }
+        spillPosition += length;
+        MappedByteBuffer mapped = spillChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        return new TelemetryChunk.Mapped(mapped, heap.size());
+    }
+
+    /**
+     * Drops all rows and the spill file, e.g. at the start of a new battle.
+     */
+    public synchronized void reset() {
+        chunks.clear();
+        current = null;
+        heapChunks = 0;
+        weaponIds.clear();
+        weaponIndexes.clear();
+        rowCount = 0;
+        spillPosition = 0;
+        spillFailed = false;
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing combat telemetry spill file: " + e.getMessage());
+            }
+            spillChannel = null;
+            // Mappings keep the file open on some platforms; deleteOnExit covers that case
+            spillFile.delete();
+            spillFile = null;
+        }
+    }
+
+    public synchronized long getRowCount() {
+        return rowCount;
+    }
+
+    public synchronized int getSpilledChunkCount() {
+        return chunks.size() - heapChunks;
+    }
+
+    // Queries
+
+    private interface RowKey {
+        int key(TelemetryChunk chunk, int row);
+    }
+
+    private Map<Integer, TelemetrySummary> scan(RowKind kind, RowKey rowKey) {
+        Map<Integer, TelemetrySummary> groups = new HashMap<>();
+        byte kindCode = (byte) kind.ordinal();
+        for (TelemetryChunk chunk : chunks) {
+            int size = chunk.size();
+            for (int row = 0; row < size; row++) {
+                if (chunk.kind(row) == kindCode) {
+                    groups.computeIfAbsent(rowKey.key(chunk, row), k -> new TelemetrySummary()).add(chunk, row);
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Groups rows of a kind by weapon id ("none" for unarmed rows).
+     */
+    public synchronized Map<String, TelemetrySummary> groupByWeapon(RowKind kind) {
+        Map<String, TelemetrySummary> result = new LinkedHashMap<>();
+        new TreeMap<>(scan(kind, TelemetryChunk::weapon)).forEach((index, summary) ->
+            result.put(index >= 0 ? weaponIds.get(index) : NO_WEAPON, summary));
+        return result;
+    }
+
+    /**
+     * Groups rows of a kind by the shooter's faction.
+     */
+    public synchronized Map<Integer, TelemetrySummary> groupByFaction(RowKind kind) {
+        return new TreeMap<>(scan(kind, TelemetryChunk::faction));
+    }
+
+    /**
+     * Groups rows of a kind into range buckets.
+     *
+     * @param bucketFeet Width of each bucket in feet
+     * @return Summaries keyed by the lower bound of each bucket in feet, nearest first
+     */
+    public synchronized Map<Double, TelemetrySummary> groupByRange(RowKind kind, double bucketFeet) {
+        if (bucketFeet <= 0) {
+            throw new IllegalArgumentException("Range bucket must be positive: " + bucketFeet);
+        }
+        Map<Double, TelemetrySummary> result = new TreeMap<>();
+        scan(kind, (chunk, row) -> (int) (chunk.distance(row) / bucketFeet)).forEach((bucket, summary) ->
+            result.put(bucket * bucketFeet, summary));
+        return result;
+    }
+
+    /**
+     * Summarises all rows of a kind.
+     */
+    public synchronized TelemetrySummary summarize(RowKind kind) {
+        TelemetrySummary summary = scan(kind, (chunk, row) -> 0).get(0);
+        return summary != null ? summary : new TelemetrySummary();
+    }
+}
\ No newline at end of file
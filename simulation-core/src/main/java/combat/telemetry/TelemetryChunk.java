@@ -0,0 +1,169 @@
+package combat.telemetry;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * A run of telemetry rows stored column by column.
+ *
+ * Rows are appended to a Heap chunk of primitive arrays. Once full, a chunk
+ * can be written out in the same columnar layout and read back through a
+ * Mapped chunk over the spill file, so only the columns a query touches are
+ * paged in.
+ */
+abstract class TelemetryChunk {
+
+    // Column widths in bytes, in file order:
+    // kind, outcome, bodyPart, severity, tick, shooter, target, weapon, faction, damage, distance, chance, roll
+    private static final int[] WIDTHS = {1, 1, 1, 1, 8, 4, 4, 4, 4, 4, 4, 4, 4};
+    static final int ROW_BYTES;
+
+    static {
+        int total = 0;
+        for (int width : WIDTHS) {
+            total += width;
+        }
+        ROW_BYTES = total;
+    }
+
+    /**
+     * @return byte offset of each column in a chunk of the given row count
+     */
+    static int[] columnOffsets(int rows) {
+        int[] offsets = new int[WIDTHS.length];
+        int offset = 0;
+        for (int i = 0; i < WIDTHS.length; i++) {
+            offsets[i] = offset;
+            offset += WIDTHS[i] * rows;
+        }
+        return offsets;
+    }
+
+    abstract int size();
+    abstract byte kind(int row);
+    abstract boolean hit(int row);
+    abstract byte bodyPart(int row);
+    abstract byte severity(int row);
+    abstract long tick(int row);
+    abstract int shooter(int row);
+    abstract int target(int row);
+    abstract int weapon(int row);
+    abstract int faction(int row);
+    abstract int damage(int row);
+    abstract float distance(int row);
+    abstract float chance(int row);
+    abstract float roll(int row);
+
+    /**
+     * Chunk being filled, held in primitive arrays.
+     */
+    static final class Heap extends TelemetryChunk {
+        private final byte[] kind, outcome, bodyPart, severity;
+        private final long[] tick;
+        private final int[] shooter, target, weapon, faction, damage;
+        private final float[] distance, chance, roll;
+        private int size;
+
+        Heap(int capacity) {
+            kind = new byte[capacity];
+            outcome = new byte[capacity];
+            bodyPart = new byte[capacity];
+            severity = new byte[capacity];
+            tick = new long[capacity];
+            shooter = new int[capacity];
+            target = new int[capacity];
+            weapon = new int[capacity];
+            faction = new int[capacity];
+            damage = new int[capacity];
+            distance = new float[capacity];
+            chance = new float[capacity];
+            roll = new float[capacity];
+        }
+
+        void append(byte rowKind, boolean rowHit, byte rowBodyPart, byte rowSeverity, long rowTick,
+                    int rowShooter, int rowTarget, int rowWeapon, int rowFaction, int rowDamage,
+                    float rowDistance, float rowChance, float rowRoll) {
+            int i = size++;
+            kind[i] = rowKind;
+            outcome[i] = (byte) (rowHit ? 1 : 0);
+            bodyPart[i] = rowBodyPart;
+            severity[i] = rowSeverity;
+            tick[i] = rowTick;
+            shooter[i] = rowShooter;
+            target[i] = rowTarget;
+            weapon[i] = rowWeapon;
+            faction[i] = rowFaction;
+            damage[i] = rowDamage;
+            distance[i] = rowDistance;
+            chance[i] = rowChance;
+            roll[i] = rowRoll;
+        }
+
+        boolean isFull() {
+            return size == tick.length;
+        }
+
+        /**
+         * Writes the rows in columnar file layout.
+         */
+        ByteBuffer toBuffer() {
+            ByteBuffer buffer = ByteBuffer.allocate(size * ROW_BYTES);
+            buffer.put(kind, 0, size).put(outcome, 0, size).put(bodyPart, 0, size).put(severity, 0, size);
+            for (int i = 0; i < size; i++) buffer.putLong(tick[i]);
+            for (int i = 0; i < size; i++) buffer.putInt(shooter[i]);
+            for (int i = 0; i < size; i++) buffer.putInt(target[i]);
+            for (int i = 0; i < size; i++) buffer.putInt(weapon[i]);
+            for (int i = 0; i < size; i++) buffer.putInt(faction[i]);
+            for (int i = 0; i < size; i++) buffer.putInt(damage[i]);
+            for (int i = 0; i < size; i++) buffer.putFloat(distance[i]);
+            for (int i = 0; i < size; i++) buffer.putFloat(chance[i]);
+            for (int i = 0; i < size; i++) buffer.putFloat(roll[i]);
+            return buffer.flip();
+        }
+
+        @Override int size() { return size; }
+        @Override byte kind(int row) { return kind[row]; }
+        @Override boolean hit(int row) { return outcome[row] != 0; }
+        @Override byte bodyPart(int row) { return bodyPart[row]; }
+        @Override byte severity(int row) { return severity[row]; }
+        @Override long tick(int row) { return tick[row]; }
+        @Override int shooter(int row) { return shooter[row]; }
+        @Override int target(int row) { return target[row]; }
+        @Override int weapon(int row) { return weapon[row]; }
+        @Override int faction(int row) { return faction[row]; }
+        @Override int damage(int row) { return damage[row]; }
+        @Override float distance(int row) { return distance[row]; }
+        @Override float chance(int row) { return chance[row]; }
+        @Override float roll(int row) { return roll[row]; }
+    }
+
+    /**
+     * Spilled chunk read through a read-only mapping of its region of the spill file.
+     */
+    static final class Mapped extends TelemetryChunk {
+        private final MappedByteBuffer buffer;
+        private final int size;
+        private final int[] offsets;
+
+        Mapped(MappedByteBuffer buffer, int size) {
+            this.buffer = buffer;
+            this.size = size;
+            this.offsets = columnOffsets(size);
+        }
+
+        @Override int size() { return size; }
+        @Override byte kind(int row) { return buffer.get(offsets[0] + row); }
+        @Override boolean hit(int row) { return buffer.get(offsets[1] + row) != 0; }
+        @Override byte bodyPart(int row) { return buffer.get(offsets[2] + row); }
+        @Override byte severity(int row) { return buffer.get(offsets[3] + row); }
+        @Override long tick(int row) { return buffer.getLong(offsets[4] + row * 8); }
+        @Override int shooter(int row) { return buffer.getInt(offsets[5] + row * 4); }
+        @Override int target(int row) { return buffer.getInt(offsets[6] + row * 4); }
+        @Override int weapon(int row) { return buffer.getInt(offsets[7] + row * 4); }
+        @Override int faction(int row) { return buffer.getInt(offsets[8] + row * 4); }
+        @Override int damage(int row) { return buffer.getInt(offsets[9] + row * 4); }
+        @Override float distance(int row) { return buffer.getFloat(offsets[10] + row * 4); }
+        @Override float chance(int row) { return buffer.getFloat(offsets[11] + row * 4); }
+        @Override float roll(int row) { return buffer.getFloat(offsets[12] + row * 4); }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package combat.telemetry;
+
+import combat.WoundSeverity;
+
+/**
+ * Aggregate of the telemetry rows in one group of a CombatTelemetry query.
+ */
+public class TelemetrySummary {
+    private long count;
+    private long hits;
+    private long totalDamage;
+    private double sumDistance;
+    private double sumChance;
+    private long chanceCount;
+    private final long[] bySeverity = new long[WoundSeverity.values().length];
+
+    void add(TelemetryChunk chunk, int row) {
+        count++;
+        if (chunk.hit(row)) {
+            hits++;
+        }
+        totalDamage += chunk.damage(row);
+        sumDistance += chunk.distance(row);
+        float chance = chunk.chance(row);
+        if (chance >= 0) {
+            sumChance += chance;
+            chanceCount++;
+        }
+        byte severity = chunk.severity(row);
+        if (severity >= 0) {
+            bySeverity[severity]++;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Hits as a percentage of rows (0.0 to 100.0)
+     */
+    public double getHitPercentage() {
+        return count > 0 ? hits * 100.0 / count : 0.0;
+    }
+
+    public long getTotalDamage() {
+        return totalDamage;
+    }
+
+    public double getMeanDistanceFeet() {
+        return count > 0 ? sumDistance / count : 0.0;
+    }
+
+    /**
+     * @return Mean chance to hit over rows that recorded one, in percent
+     */
+    public double getMeanChanceToHit() {
+        return chanceCount > 0 ? sumChance / chanceCount : 0.0;
+    }
+
+    public long getCount(WoundSeverity severity) {
+        return bySeverity[severity.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows, %.1f%% hit, mean %.1f ft, mean chance %.1f%%, %d damage",
+                             count, getHitPercentage(), getMeanDistanceFeet(), getMeanChanceToHit(), totalDamage);
+    }
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ package config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import data.StartupLoader;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,7 +26,7 @@ public class GameConfig {
     private static GameConfig instance;
     private static final String CONFIG_FILE_PATH = "/config/game-config.json";
     
-    public static GameConfig getInstance() {
+    public static synchronized GameConfig getInstance() {
         if (instance == null) {
             instance = loadConfiguration();
         }
@@ -38,7 +39,7 @@ public class GameConfig {
         try {
             InputStream inputStream = GameConfig.class.getResourceAsStream(CONFIG_FILE_PATH);
             if (inputStream != null) {
-                ObjectMapper mapper = new ObjectMapper();
+                ObjectMapper mapper = StartupLoader.getObjectMapper();
                 config = mapper.readValue(inputStream, GameConfig.class);
                 System.out.println("Game configuration loaded successfully from " + CONFIG_FILE_PATH);
             } else {
@@ -81,6 +82,10 @@ public class GameConfig {
         @JsonProperty("window")
         private WindowConfig window = new WindowConfig();
         
+        // Unit labels are not drawn when zoomed out further than this
+        @JsonProperty("labelZoomThreshold")
+        private double labelZoomThreshold = 0.5;
+        
         public WindowConfig getWindow() {
             return window;
         }
@@ -88,6 +93,14 @@ public class GameConfig {
         public void setWindow(WindowConfig window) {
             this.window = window;
         }
+        
+        public double getLabelZoomThreshold() {
+            return labelZoomThreshold;
+        }
+        
+        public void setLabelZoomThreshold(double labelZoomThreshold) {
+            this.labelZoomThreshold = labelZoomThreshold;
+        }
     }
     
     public static class WindowConfig {
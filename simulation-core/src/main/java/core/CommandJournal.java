@@ -0,0 +1,409 @@
+package core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import combat.Character;
+import combat.Handedness;
+import combat.MeleeWeapon;
+import combat.MeleeWeaponFactory;
+import combat.RangedWeapon;
+import combat.Skill;
+import combat.Weapon;
+import combat.managers.CharacterSkillsManager;
+import data.StartupLoader;
+import data.WeaponFactory;
+import game.Unit;
+import platform.api.Color;
+import utils.RandomProvider;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Journal of every input command applied to a game, with the tick it was
+ * applied at and the units and state the game started from.
+ *
+ * Replaying the commands from the start reproduces the game exactly, since the
+ * simulation is otherwise driven only by the tick and RandomProvider. The
+ * starting units are kept as data (JournalUnit) together with a keyframe of
+ * the starting state, so a journal can be replayed into a game that holds
+ * other units. To avoid re-simulating from the start on every seek, a
+ * StateKeyframe is also kept every keyframeInterval ticks; JournalReplayer
+ * restores the nearest earlier keyframe and only simulates the gap.
+ *
+ * Commands, starting units and the starting keyframe are saved to JSON; later
+ * keyframes are an in-memory cache and are rebuilt while replaying a loaded
+ * journal.
+ *
+ * A process-wide active journal can be started for game loops that do not go
+ * through GameEngine (OpenFields2, which records each command it drains from
+ * its CommandQueue) to record into via recordActive().
+ */
+public class CommandJournal {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 600; // 10 seconds at 60 ticks per second
+
+    private static CommandJournal active;
+
+    private final long seed;
+    private final long startTick;
+    private final byte[] startRandomState;
+    private final int keyframeInterval;
+    private final TreeMap<Long, List<InputCommand>> commandsByTick = new TreeMap<>();
+    private final TreeMap<Long, StateKeyframe> keyframes = new TreeMap<>();
+    private List<JournalUnit> startUnits = Collections.emptyList();
+    private StateKeyframe startKeyframe;
+    private long endTick;
+    private int commandCount;
+    private LongSupplier tickSource;
+
+    public CommandJournal(long seed, long startTick, byte[] startRandomState, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1 tick: " + keyframeInterval);
+        }
+        this.seed = seed;
+        this.startTick = startTick;
+        this.startRandomState = startRandomState;
+        this.keyframeInterval = keyframeInterval;
+        this.endTick = startTick;
+    }
+
+    /**
+     * Starts a journal at the target's current tick, keeping its units and a
+     * keyframe of its current state as the journal's start.
+     */
+    public static CommandJournal begin(JournalTarget target, int keyframeInterval) {
+        CommandJournal journal = new CommandJournal(RandomProvider.getSeed(), target.getCurrentTick(),
+                                                    RandomProvider.snapshotState(), keyframeInterval);
+        List<JournalUnit> units = new ArrayList<>();
+        for (Unit unit : target.getUnits()) {
+            units.add(JournalUnit.of(unit));
+        }
+        journal.setStart(units, target.captureKeyframe());
+        return journal;
+    }
+
+    private void setStart(List<JournalUnit> units, StateKeyframe keyframe) {
+        startUnits = units;
+        startKeyframe = keyframe;
+        if (keyframe != null) {
+            keyframes.put(keyframe.getTick(), keyframe);
+        }
+    }
+
+    // Active journal
+
+    /**
+     * Starts the process-wide journal that recordActive() writes to.
+     *
+     * @param target Game the journal starts from; supplies the tick for each recorded command
+     * @param keyframeInterval Ticks between keyframes
+     * @return the new active journal
+     */
+    public static synchronized CommandJournal startActive(JournalTarget target, int keyframeInterval) {
+        CommandJournal journal = begin(target, keyframeInterval);
+        journal.tickSource = target::getCurrentTick;
+        active = journal;
+        return journal;
+    }
+
+    public static synchronized CommandJournal getActive() {
+        return active;
+    }
+
+    public static synchronized void stopActive() {
+        active = null;
+    }
+
+    /**
+     * Records a command into the active journal at the current tick. Does
+     * nothing if no journal is active.
+     */
+    public static void recordActive(InputCommand command) {
+        CommandJournal journal = getActive();
+        if (journal != null) {
+            journal.record(journal.tickSource.getAsLong(), command);
+        }
+    }
+
+    // Recording
+
+    /**
+     * Records a command as applied at the given tick, before that tick advanced.
+     */
+    public synchronized void record(long tick, InputCommand command) {
+        commandsByTick.computeIfAbsent(tick, t -> new ArrayList<>()).add(command);
+        commandCount++;
+        endTick = Math.max(endTick, tick);
+    }
+
+    /**
+     * Called after each simulated tick. Keeps a keyframe if the last one is at
+     * least keyframeInterval ticks old.
+     */
+    public synchronized void onTickCompleted(JournalTarget target) {
+        if (dueForKeyframe(target.getCurrentTick())) {
+            keyframes.put(target.getCurrentTick(), target.captureKeyframe());
+        }
+    }
+
+    /**
+     * As onTickCompleted(JournalTarget), for a GameState stepped directly.
+     */
+    public synchronized void onTickCompleted(GameState state) {
+        if (dueForKeyframe(state.getGameClock().getCurrentTick())) {
+            keyframes.put(state.getGameClock().getCurrentTick(), StateKeyframe.capture(state));
+        }
+    }
+
+    private boolean dueForKeyframe(long tick) {
+        endTick = Math.max(endTick, tick);
+        Map.Entry<Long, StateKeyframe> last = keyframes.floorEntry(tick);
+        return last == null || tick - last.getKey() >= keyframeInterval;
+    }
+
+    /**
+     * Keeps a keyframe of the state at its current tick regardless of interval.
+     */
+    public synchronized void captureKeyframe(GameState state) {
+        keyframes.put(state.getGameClock().getCurrentTick(), StateKeyframe.capture(state));
+    }
+
+    // Queries
+
+    public synchronized List<InputCommand> getCommandsAt(long tick) {
+        List<InputCommand> commands = commandsByTick.get(tick);
+        return commands != null ? new ArrayList<>(commands) : Collections.emptyList();
+    }
+
+    /**
+     * @return the latest keyframe at or before the tick, or null if there is none
+     */
+    public synchronized StateKeyframe floorKeyframe(long tick) {
+        Map.Entry<Long, StateKeyframe> entry = keyframes.floorEntry(tick);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    public synchronized int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /**
+     * @return the keyframe of the state the journal started from, or null if
+     *         the journal was not started from a game
+     */
+    public StateKeyframe getStartKeyframe() {
+        return startKeyframe;
+    }
+
+    public boolean hasStartUnits() {
+        return !startUnits.isEmpty();
+    }
+
+    /**
+     * Creates new units matching the ones the journal started with: same ids,
+     * characters, weapons and starting positions. The rest of their state is
+     * set by restoring the start keyframe.
+     */
+    public List<Unit> buildStartUnits() {
+        List<Unit> units = new ArrayList<>(startUnits.size());
+        for (JournalUnit unit : startUnits) {
+            units.add(unit.build());
+        }
+        return units;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStartTick() {
+        return startTick;
+    }
+
+    public byte[] getStartRandomState() {
+        return startRandomState;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    public synchronized long getEndTick() {
+        return tickSource != null ? Math.max(endTick, tickSource.getAsLong()) : endTick;
+    }
+
+    public synchronized int getCommandCount() {
+        return commandCount;
+    }
+
+    // Persistence
+
+    /**
+     * Saves the seed, starting units and state, and commands as JSON. Command
+     * data objects are saved as their string form.
+     */
+    public synchronized void save(File file) throws IOException {
+        JournalFile out = new JournalFile();
+        out.seed = seed;
+        out.startTick = startTick;
+        out.endTick = getEndTick();
+        out.startRandomState = startRandomState;
+        out.keyframeInterval = keyframeInterval;
+        out.startUnits = startUnits;
+        out.startKeyframe = startKeyframe;
+        out.commands = new ArrayList<>(commandCount);
+        for (Map.Entry<Long, List<InputCommand>> entry : commandsByTick.entrySet()) {
+            for (InputCommand command : entry.getValue()) {
+                JournalEntry record = new JournalEntry();
+                record.tick = entry.getKey();
+                record.type = command.getType();
+                record.unitId = command.getUnitId();
+                record.targetId = command.getTargetId();
+                record.x = command.getX();
+                record.y = command.getY();
+                record.data = command.getData() != null ? String.valueOf(command.getData()) : null;
+                out.commands.add(record);
+            }
+        }
+        StartupLoader.getObjectMapper().writeValue(file, out);
+    }
+
+    /**
+     * Loads a journal written by save(). The loaded journal has only its
+     * starting keyframe.
+     */
+    public static CommandJournal load(File file) throws IOException {
+        ObjectMapper mapper = StartupLoader.getObjectMapper();
+        JournalFile in = mapper.readValue(file, JournalFile.class);
+        CommandJournal journal = new CommandJournal(in.seed, in.startTick, in.startRandomState, in.keyframeInterval);
+        journal.setStart(in.startUnits != null ? in.startUnits : Collections.emptyList(), in.startKeyframe);
+        if (in.commands != null) {
+            for (JournalEntry record : in.commands) {
+                journal.record(record.tick, new InputCommand(record.type, record.unitId, record.targetId,
+                                                              record.x, record.y, record.data));
+            }
+        }
+        journal.endTick = Math.max(journal.endTick, in.endTick);
+        return journal;
+    }
+
+    /**
+     * JSON form of a journal.
+     */
+    public static class JournalFile {
+        public long seed;
+        public long startTick;
+        public long endTick;
+        public byte[] startRandomState;
+        public int keyframeInterval = DEFAULT_KEYFRAME_INTERVAL;
+        public List<JournalUnit> startUnits;
+        public StateKeyframe startKeyframe;
+        public List<JournalEntry> commands;
+    }
+
+    /**
+     * JSON form of one recorded command.
+     */
+    public static class JournalEntry {
+        public long tick;
+        public InputCommand.Type type;
+        public int unitId = -1;
+        public int targetId = -1;
+        public double x;
+        public double y;
+        public String data;
+    }
+
+    /**
+     * A starting unit as data: what a keyframe does not hold, i.e. the
+     * character's identity, base stats, skills and weapons, and the unit's id,
+     * position and base color.
+     */
+    public static class JournalUnit {
+        public int unitId;
+        public double x;
+        public double y;
+        public String baseColor;
+        public int characterId;
+        public String nickname;
+        public String firstName;
+        public String lastName;
+        public Date birthdate;
+        public String themeId;
+        public int dexterity;
+        public int health;
+        public int coolness;
+        public int strength;
+        public int reflexes;
+        public Handedness handedness;
+        public double baseMovementSpeed;
+        public Map<String, Integer> skills; // Skill name to level
+        public String weaponId;
+        public boolean weaponIsMelee; // Legacy weapon slot holding a melee weapon
+        public String rangedWeaponId;
+        public String meleeWeaponId;
+
+        static JournalUnit of(Unit unit) {
+            Character character = unit.character;
+            JournalUnit data = new JournalUnit();
+            data.unitId = unit.getId();
+            data.x = unit.x;
+            data.y = unit.y;
+            data.baseColor = unit.baseColor != null ? unit.baseColor.toHex() : null;
+            data.characterId = character.id;
+            data.nickname = character.nickname;
+            data.firstName = character.firstName;
+            data.lastName = character.lastName;
+            data.birthdate = character.birthdate;
+            data.themeId = character.themeId;
+            data.dexterity = character.dexterity;
+            data.health = character.health;
+            data.coolness = character.coolness;
+            data.strength = character.strength;
+            data.reflexes = character.reflexes;
+            data.handedness = character.handedness;
+            data.baseMovementSpeed = character.baseMovementSpeed;
+            data.skills = new LinkedHashMap<>();
+            for (Skill skill : character.getSkills()) {
+                data.skills.put(skill.getSkillName(), skill.getLevel());
+            }
+            data.weaponId = weaponIdOf(character.weapon);
+            data.weaponIsMelee = character.weapon instanceof MeleeWeapon;
+            data.rangedWeaponId = character.rangedWeapon != character.weapon ? weaponIdOf(character.rangedWeapon) : null;
+            data.meleeWeaponId = weaponIdOf(character.meleeWeapon);
+            return data;
+        }
+
+        Unit build() {
+            Character character = new Character(characterId, nickname, firstName, lastName, birthdate, themeId,
+                                                dexterity, health, coolness, strength, reflexes, handedness);
+            character.baseMovementSpeed = baseMovementSpeed;
+            List<Skill> characterSkills = new ArrayList<>();
+            if (skills != null) {
+                skills.forEach((name, level) -> characterSkills.add(new Skill(name, level)));
+            }
+            CharacterSkillsManager.getInstance().setSkills(characterId, characterSkills);
+            if (meleeWeaponId != null) {
+                character.meleeWeapon = MeleeWeaponFactory.createWeapon(meleeWeaponId);
+            }
+            if (weaponId != null) {
+                character.weapon = weaponIsMelee ? MeleeWeaponFactory.createWeapon(weaponId)
+                                                 : WeaponFactory.createWeapon(weaponId);
+            }
+            // Shares the legacy slot's weapon unless a separate one was recorded
+            character.rangedWeapon = rangedWeaponId != null ? WeaponFactory.createWeapon(rangedWeaponId)
+                : character.weapon instanceof RangedWeapon ? (RangedWeapon) character.weapon : null;
+            return new Unit(character, x, y, baseColor != null ? Color.fromHex(baseColor) : null, unitId);
+        }
+
+        private static String weaponIdOf(Weapon weapon) {
+            return weapon != null ? weapon.getWeaponId() : null;
+        }
+    }
+}
\ No newline at end of file
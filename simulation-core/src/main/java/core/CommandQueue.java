@@ -0,0 +1,46 @@
+package core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Queue of input commands between the threads that produce them (UI event
+ * handlers, console input, AI) and the simulation that applies them.
+ *
+ * Any thread may submit; only the simulation thread drains, at a tick
+ * boundary, so commands never mutate units in the middle of a tick. The queue
+ * is lock-free: submit never blocks the UI on the simulation or vice versa.
+ */
+public class CommandQueue {
+    private final Queue<InputCommand> commands = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Adds a command to be applied at the next tick boundary. Safe from any thread.
+     */
+    public void submit(InputCommand command) {
+        commands.offer(command);
+    }
+    
+    /**
+     * Applies queued commands in submission order. Call only from the
+     * simulation thread, between ticks. Commands submitted while draining are
+     * left for the next drain, so a flood of input cannot stall a tick.
+     *
+     * @return the number of commands applied
+     */
+    public int drain(Consumer<InputCommand> handler) {
+        int pending = commands.size();
+        int applied = 0;
+        InputCommand command;
+        while (applied < pending && (command = commands.poll()) != null) {
+            handler.accept(command);
+            applied++;
+        }
+        return applied;
+    }
+    
+    public boolean isEmpty() {
+        return commands.isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,523 @@
+package core;
+
+import platform.api.*;
+import platform.api.Color;
+import game.*;
+import combat.*;
+import combat.managers.TargetingScheduler;
+import combat.telemetry.CombatTelemetry;
+import config.DebugConfig;
+import data.SaveData;
+import data.SaveDataLoader;
+import data.SaveGameManager;
+import java.util.*;
+
+/**
+ * Platform-independent game engine that manages game state and logic.
+ * Processes input commands and generates render commands.
+ */
+public class GameEngine implements JournalTarget {
+    private final GameState gameState;
+    private final Platform platform;
+    private final CommandQueue inputQueue;
+    private final UnitCommandExecutor unitCommandExecutor;
+    
+    // Triple-buffered render commands: the update side records into writeBuffer and
+    // publishes it as readyBuffer; the render side takes readyBuffer as presentBuffer.
+    // Buffers are recycled, so recording a frame allocates nothing once warmed up.
+    private final Object renderBufferLock = new Object();
+    private RenderCommandBuffer writeBuffer;
+    private RenderCommandBuffer readyBuffer;
+    private RenderCommandBuffer presentBuffer;
+    private boolean frameReady;
+    private final GameCallbacks gameCallbacks;
+    
+    // Records applied commands for replay and seeking, if set
+    private CommandJournal journal;
+    
+    // Frame timing
+    private static final long FRAME_TIME_NANOS = 16_666_667; // ~60 FPS
+    private long lastFrameTime;
+    
+    public GameEngine(Platform platform) {
+        this.platform = platform;
+        this.gameState = new GameState();
+        this.inputQueue = new CommandQueue();
+        this.writeBuffer = new RenderCommandBuffer();
+        this.readyBuffer = new RenderCommandBuffer();
+        this.presentBuffer = new RenderCommandBuffer();
+        this.gameCallbacks = createGameCallbacks();
+        this.unitCommandExecutor = new UnitCommandExecutor(gameState::getUnitById,
+                                                           () -> gameState.getGameClock().getCurrentTick(),
+                                                           gameCallbacks);
+        this.unitCommandExecutor.setUnitRemover(gameState::removeUnit);
+        this.lastFrameTime = System.nanoTime();
+        
+        // Combat managers schedule their events through the shared service
+        EventSchedulingService.getInstance().initialize(gameState.getEventQueue(), gameState.getGameClock());
+    }
+    
+    /**
+     * Main game loop that runs independently of platform.
+     */
+    public void run() {
+        while (platform.isRunning()) {
+            long currentTime = System.nanoTime();
+            long deltaTime = currentTime - lastFrameTime;
+            
+            // Fixed timestep with frame skip
+            if (deltaTime >= FRAME_TIME_NANOS) {
+                update();
+                render();
+                lastFrameTime = currentTime;
+                
+                // Sleep if we have extra time
+                long sleepTime = FRAME_TIME_NANOS - (System.nanoTime() - currentTime);
+                if (sleepTime > 0) {
+                    platform.sleep(sleepTime / 1_000_000);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Updates game state for one frame.
+     */
+    private void update() {
+        // Poll platform input
+        platform.getInputProvider().pollEvents();
+        
+        // Process input commands
+        processInputCommands();
+        
+        // Update game state
+        if (!gameState.isPaused()) {
+            stepTick();
+            if (journal != null) {
+                journal.onTickCompleted(this);
+            }
+        }
+    }
+    
+    /**
+     * Advances the simulation by one tick through the same TickPipeline as
+     * OpenFields2: scheduled events, then every unit. The state keeps its unit
+     * registry current itself. Does not poll input or check the pause state.
+     */
+    @Override
+    public void stepTick() {
+        TickPipeline.advance(gameState.getUnitsView(), gameState.getGameClock(), gameState.getEventQueue(), gameCallbacks);
+        
+        // Play the frame's weapon sounds together so the mixer can coalesce them
+        platform.getAudioSystem().flushQueuedSounds();
+    }
+    
+    /**
+     * Renders the current frame.
+     */
+    private void render() {
+        recordFrame();
+        presentLatestFrame();
+    }
+    
+    /**
+     * Records render commands for the current game state and publishes them
+     * as the latest frame. Safe to call from the simulation thread while
+     * another thread is presenting.
+     */
+    public void recordFrame() {
+        writeBuffer.reset();
+        generateRenderCommands(writeBuffer);
+        
+        synchronized (renderBufferLock) {
+            RenderCommandBuffer published = writeBuffer;
+            writeBuffer = readyBuffer;
+            readyBuffer = published;
+            frameReady = true;
+        }
+    }
+    
+    /**
+     * Replays the most recently published frame on the platform renderer.
+     * If no new frame has been published since the last call, the previous
+     * frame is drawn again.
+     */
+    public void presentLatestFrame() {
+        synchronized (renderBufferLock) {
+            if (frameReady) {
+                RenderCommandBuffer latest = readyBuffer;
+                readyBuffer = presentBuffer;
+                presentBuffer = latest;
+                frameReady = false;
+            }
+        }
+        
+        Renderer renderer = platform.getRenderer();
+        renderer.beginFrame();
+        renderer.replay(presentBuffer);
+        renderer.endFrame();
+        renderer.present();
+    }
+    
+    /**
+     * Processes all queued input commands.
+     */
+    private void processInputCommands() {
+        inputQueue.drain(cmd -> {
+            processInputCommand(cmd);
+            if (journal != null) {
+                journal.record(gameState.getGameClock().getCurrentTick(), cmd);
+            }
+        });
+    }
+    
+    /**
+     * Processes a single input command.
+     */
+    private void processInputCommand(InputCommand cmd) {
+        // Movement, combat and weapon commands
+        if (UnitCommandExecutor.handles(cmd.getType())) {
+            unitCommandExecutor.execute(cmd);
+            return;
+        }
+        switch (cmd.getType()) {
+            case SELECT_UNIT:
+                handleSelectUnit(cmd.getUnitId());
+                break;
+                
+            case DESELECT_ALL:
+                gameState.setSelectedUnitId(-1);
+                break;
+                
+            case PAN_CAMERA:
+                gameState.panCamera(cmd.getX(), cmd.getY());
+                break;
+                
+            case ZOOM_IN:
+                gameState.zoomCamera(1.1);
+                break;
+                
+            case ZOOM_OUT:
+                gameState.zoomCamera(0.9);
+                break;
+                
+            case PAUSE_RESUME:
+                gameState.togglePause();
+                break;
+                
+            // Add more command handlers as needed
+        }
+    }
+    
+    /**
+     * Handles unit selection.
+     */
+    private void handleSelectUnit(int unitId) {
+        Unit unit = gameState.getUnitById(unitId);
+        if (unit != null) {
+            gameState.setSelectedUnitId(unitId);
+        }
+    }
+    
+    /**
+     * Generates render commands for the current frame.
+     */
+    private void generateRenderCommands(RenderCommandBuffer commands) {
+        // Clear screen
+        commands.clear(Color.BLACK);
+        
+        // Set camera transform
+        commands.setTransform(
+            gameState.getCameraX(),
+            gameState.getCameraY(),
+            gameState.getCameraZoom()
+        );
+        
+        // Render units
+        for (Unit unit : gameState.getUnits()) {
+            renderUnit(commands, unit);
+        }
+        
+        // Render UI elements
+        renderUI(commands);
+    }
+    
+    /**
+     * Generates render commands for a unit.
+     */
+    private void renderUnit(RenderCommandBuffer commands, Unit unit) {
+        int flags = 0;
+        if (unit.getId() == gameState.getSelectedUnitId()) {
+            flags |= RenderCommandBuffer.UNIT_SELECTED;
+        }
+        if (unit.character.isIncapacitated()) {
+            flags |= RenderCommandBuffer.UNIT_INCAPACITATED;
+        }
+        
+        // Draw unit (unit color is already a platform color)
+        commands.drawUnit(unit.getId(), unit.getX(), unit.getY(), 10.0,
+                          unit.color, unit.character.getDisplayName(), flags);
+        
+        // Draw health bar
+        double percentage = (double) unit.character.currentHealth / unit.character.health;
+        commands.drawHealthBar(
+            unit.getX() - 15, unit.getY() - 25, 30, 5,
+            percentage, Color.WHITE, Color.GREEN, Color.DARK_GRAY
+        );
+    }
+    
+    /**
+     * Generates render commands for UI elements.
+     */
+    private void renderUI(RenderCommandBuffer commands) {
+        // Draw pause indicator if paused
+        if (gameState.isPaused()) {
+            commands.drawText(
+                "PAUSED", 
+                platform.getRenderer().getWidth() / 2 - 30,
+                30,
+                Color.WHITE
+            );
+        }
+        
+        // Draw selected unit info
+        Unit selected = gameState.getSelectedUnit();
+        if (selected != null) {
+            String info = String.format("%s - Health: %d/%d",
+                selected.character.getDisplayName(),
+                selected.character.currentHealth,
+                selected.character.health
+            );
+            commands.drawText(
+                info, 10, platform.getRenderer().getHeight() - 20,
+                Color.WHITE
+            );
+        }
+    }
+    
+    /**
+     * Creates game callbacks for the combat system. Shots and melee attacks
+     * are resolved by CombatCalculator and CombatResolver exactly as in the
+     * desktop game, so scenarios run here play out as they would there.
+     */
+    private GameCallbacks createGameCallbacks() {
+        return new GameCallbacks() {
+            @Override
+            public void playWeaponSound(Weapon weapon) {
+                if (weapon.soundFile != null) {
+                    if (DebugConfig.getInstance().isCombatDebugEnabled()) {
+                        System.out.println("[COMBAT-AUDIO] Playing weapon sound: " + weapon.soundFile + " for weapon: " + weapon.getName());
+                    }
+                    AudioSystem audio = platform.getAudioSystem();
+                    if (!audio.isSoundLoaded(weapon.soundFile)) {
+                        audio.loadSound(weapon.soundFile, weapon.soundFile);
+                    }
+                    audio.queueSound(weapon.soundFile, AudioMixer.SHOT_VOLUME);
+                }
+            }
+            
+            @Override
+            public void scheduleProjectileImpact(Unit shooter, Unit target, 
+                                               Weapon weapon, long fireTick, 
+                                               double distanceFeet) {
+                RangedWeapon ranged = (RangedWeapon) weapon;
+                long impactTick = fireTick + Math.round(distanceFeet / ranged.getVelocityFeetPerSecond() * 60);
+                HitResult hitResult = CombatCalculator.determineHit(shooter, target, distanceFeet, ranged.getMaximumRange(),
+                        weapon.weaponAccuracy, weapon.damage, CombatCalculator.isDebugMode(),
+                        CombatCalculator.DEFAULT_STRESS_MODIFIER, fireTick);
+                
+                shooter.character.career().attacksAttempted++;
+                shooter.character.career().rangedAttacksAttempted++;
+                CombatTelemetry.getInstance().recordShot(shooter, target, weapon, fireTick, distanceFeet, hitResult);
+                
+                CombatCoordinator.getInstance().scheduleProjectileImpact(shooter, target, impactTick, hitResult,
+                        ScheduledEvent.WORLD_OWNER, gameState.getEventQueue(), this);
+            }
+            
+            @Override
+            public void resolveProjectileImpact(Unit shooter, Unit target, Weapon weapon,
+                                                long impactTick, HitResult hitResult) {
+                new CombatResolver(gameState.getUnitsView(), gameState.getEventQueue(), CombatCalculator.isDebugMode())
+                    .resolveCombatImpact(shooter, target, weapon, impactTick, hitResult);
+            }
+            
+            @Override
+            public void scheduleMeleeImpact(Unit attacker, Unit target, 
+                                          MeleeWeapon weapon, long executionTick) {
+                CombatCoordinator.getInstance().scheduleMeleeImpact(attacker, target, executionTick, false,
+                        ScheduledEvent.WORLD_OWNER, gameState.getEventQueue(), this);
+            }
+            
+            @Override
+            public void resolveMeleeImpact(Unit attacker, Unit target, 
+                                           MeleeWeapon weapon, long attackTick) {
+                playWeaponSound(weapon);
+                new CombatResolver(gameState.getUnitsView(), gameState.getEventQueue(), CombatCalculator.isDebugMode())
+                    .resolveMeleeAttack(attacker, target, weapon, attackTick);
+            }
+            
+            @Override
+            public void applyFiringHighlight(Unit shooter, long fireTick) {
+                if (!shooter.isFiringHighlighted) {
+                    shooter.isFiringHighlighted = true;
+                    gameState.getEventQueue().add(new ScheduledEvent(fireTick + 10, CombatEventKind.FIRING_HIGHLIGHT_END,
+                            ScheduledEvent.WORLD_OWNER,
+                            new EventBinding(shooter.character, shooter, null, gameState.getEventQueue(), this)));
+                }
+            }
+            
+            @Override
+            public void addMuzzleFlash(Unit shooter, long fireTick) {
+                // Visual effect for muzzle flash
+            }
+            
+            @Override
+            public void removeAllEventsForOwner(int ownerId) {
+                gameState.getEventQueue().removeIf(e -> e.getOwnerId() == ownerId);
+            }
+            
+            @Override
+            public List<Unit> getUnits() {
+                return gameState.getUnitsView();
+            }
+            
+            @Override
+            public java.util.PriorityQueue<ScheduledEvent> getEventQueue() {
+                return gameState.getEventQueue();
+            }
+        };
+    }
+    
+    // Public API for external control
+    
+    /**
+     * Replaces the field with a loaded save: units, their targets and pending
+     * events, the tick, the pause state and the camera.
+     */
+    public void loadSaveData(SaveData saveData) {
+        for (Unit unit : gameState.getUnits()) {
+            gameState.removeUnit(unit);
+        }
+        gameState.getEventQueue().clear();
+        gameState.setSelectedUnitId(-1);
+        CombatTelemetry.getInstance().reset();
+        TargetingScheduler.getInstance().reset();
+        
+        GameClock clock = gameState.getGameClock();
+        clock.reset();
+        for (long i = 0; i < saveData.gameState.currentTick; i++) {
+            clock.advanceTick();
+        }
+        gameState.setPaused(saveData.gameState.paused);
+        gameState.setCameraX(saveData.gameState.offsetX);
+        gameState.setCameraY(saveData.gameState.offsetY);
+        gameState.setCameraZoom(saveData.gameState.zoom);
+        
+        List<Unit> units = SaveDataLoader.buildUnits(saveData);
+        for (Unit unit : units) {
+            gameState.addUnit(unit);
+        }
+        SaveDataLoader.restoreTargets(units, saveData.units, gameState.getUnitRegistry());
+        SaveDataLoader.restoreEvents(units, saveData.events, gameState.getUnitRegistry(),
+                                     gameState.getEventQueue(), gameCallbacks);
+    }
+    
+    /**
+     * Loads one of the test scenarios in saves/ (test_a.json to test_d.json).
+     *
+     * @return false if the slot could not be read
+     */
+    public boolean loadTestSlot(char testSlot) {
+        SaveData saveData = SaveGameManager.getInstance().loadFromTestSlot(testSlot);
+        if (saveData == null) {
+            return false;
+        }
+        loadSaveData(saveData);
+        return true;
+    }
+    
+    public void queueInputCommand(InputCommand command) {
+        inputQueue.submit(command);
+    }
+    
+    /**
+     * Applies a command immediately, without queueing or journaling it.
+     * Used by JournalReplayer.
+     */
+    @Override
+    public void applyCommand(InputCommand command) {
+        processInputCommand(command);
+    }
+    
+    // JournalTarget
+    
+    @Override
+    public long getCurrentTick() {
+        return gameState.getGameClock().getCurrentTick();
+    }
+    
+    @Override
+    public List<Unit> getUnits() {
+        return gameState.getUnitsView();
+    }
+    
+    @Override
+    public void replaceUnits(List<Unit> units) {
+        for (Unit unit : gameState.getUnits()) {
+            gameState.removeUnit(unit);
+        }
+        for (Unit unit : units) {
+            gameState.addUnit(unit);
+        }
+    }
+    
+    @Override
+    public boolean isPaused() {
+        return gameState.isPaused();
+    }
+    
+    @Override
+    public StateKeyframe captureKeyframe() {
+        return StateKeyframe.capture(gameState);
+    }
+    
+    @Override
+    public boolean restoreKeyframe(StateKeyframe keyframe) {
+        return keyframe.restore(gameState, gameCallbacks);
+    }
+    
+    /**
+     * Starts journaling the commands this engine applies, from the current tick.
+     *
+     * @param keyframeInterval Ticks between keyframes
+     * @return the new journal
+     */
+    public CommandJournal startJournal(int keyframeInterval) {
+        journal = CommandJournal.begin(this, keyframeInterval);
+        return journal;
+    }
+    
+    public CommandJournal getJournal() {
+        return journal;
+    }
+    
+    public void stopJournal() {
+        journal = null;
+    }
+    
+    public GameCallbacks getGameCallbacks() {
+        return gameCallbacks;
+    }
+    
+    public GameState getGameState() {
+        return gameState;
+    }
+    
+    public Platform getPlatform() {
+        return platform;
+    }
+    
+    public void stop() {
+        platform.setRunning(false);
+    }
+}
\ No newline at end of file
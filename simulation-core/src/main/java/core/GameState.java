@@ -2,10 +2,13 @@ package core;
 
 import game.Unit;
 import game.GameClock;
+import game.EventProfiler;
 import game.ScheduledEvent;
+import game.UnitRegistry;
 import combat.Character;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.PriorityQueue;
 import java.util.Map;
 import java.util.HashMap;
@@ -17,6 +20,9 @@ import java.util.HashMap;
 public class GameState {
     // Core game objects
     private final List<Unit> units;
+    private final List<Unit> unitsView;
+    private final Map<Integer, Unit> unitsById;
+    private final UnitRegistry unitRegistry;
     private final PriorityQueue<ScheduledEvent> eventQueue;
     private final GameClock gameClock;
     
@@ -32,6 +38,9 @@ public class GameState {
     
     public GameState() {
         this.units = new ArrayList<>();
+        this.unitsView = Collections.unmodifiableList(units);
+        this.unitsById = new HashMap<>();
+        this.unitRegistry = new UnitRegistry();
         this.eventQueue = new PriorityQueue<>();
         this.gameClock = new GameClock();
         this.paused = false;
@@ -45,23 +54,38 @@ public class GameState {
     // Unit management
     public void addUnit(Unit unit) {
         units.add(unit);
+        unitsById.put(unit.getId(), unit);
+        unitRegistry.register(unit);
     }
     
     public void removeUnit(Unit unit) {
-        units.remove(unit);
+        if (units.remove(unit)) {
+            unitsById.remove(unit.getId(), unit);
+            unitRegistry.release(unit);
+        }
     }
     
     public List<Unit> getUnits() {
         return new ArrayList<>(units);
     }
     
+    /**
+     * Read-only live view of the units, for per-tick loops that should not copy the list.
+     */
+    public List<Unit> getUnitsView() {
+        return unitsView;
+    }
+    
     public Unit getUnitById(int id) {
-        for (Unit unit : units) {
-            if (unit.getId() == id) {
-                return unit;
-            }
-        }
-        return null;
+        return unitsById.get(id);
+    }
+    
+    /**
+     * Registry of this state's units; their characters' target handles
+     * resolve against it. Kept in step by addUnit() and removeUnit().
+     */
+    public UnitRegistry getUnitRegistry() {
+        return unitRegistry;
     }
     
     // Event management
@@ -72,13 +96,16 @@ public class GameState {
     public void processEvents() {
         long currentTick = gameClock.getCurrentTick();
         while (!eventQueue.isEmpty() && eventQueue.peek().getTick() <= currentTick) {
-            ScheduledEvent event = eventQueue.poll();
-            event.getAction().run();
+            EventProfiler.getInstance().run(eventQueue.poll());
         }
     }
     
+    /**
+     * @return the live event queue; combat code schedules follow-up events
+     *         into it through EventBinding and GameCallbacks, so it is not a copy
+     */
     public PriorityQueue<ScheduledEvent> getEventQueue() {
-        return new PriorityQueue<>(eventQueue);
+        return eventQueue;
     }
     
     // Game clock
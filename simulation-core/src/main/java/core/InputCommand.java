@@ -3,6 +3,18 @@ package core;
 /**
  * High-level semantic input commands that are platform-independent.
  * These represent game actions rather than raw input events.
+ *
+ * Unit commands are applied by UnitCommandExecutor. Commands whose parameter
+ * does not fit the unit, target and coordinate fields carry it in data:
+ * - SET_MOVEMENT_SPEED, SET_AIMING_SPEED, SET_POSITION: step as an Integer,
+ *   +1 or -1
+ * - SET_MULTIPLE_SHOT_COUNT: shots per attack as an Integer, 1 to 5
+ * - SET_TARGET_ZONE: x, y are the zone's top-left corner and data is
+ *   "width,height" (see targetZone())
+ * TELEPORT_UNIT and REMOVE_UNIT are edit mode commands; x, y of TELEPORT_UNIT
+ * are the unit's new position.
+ * Data is kept as a string when a journal is saved, so numeric data is read
+ * back with getIntData().
  */
 public class InputCommand {
     private final Type type;
@@ -25,6 +37,7 @@ public class InputCommand {
         // Movement
         MOVE_UNIT,
         STOP_UNIT,
+        RESUME_UNIT,
         SET_MOVEMENT_SPEED,
         
         // Combat
@@ -32,6 +45,24 @@ public class InputCommand {
         STOP_ATTACK,
         SET_AIMING_SPEED,
         TOGGLE_WEAPON_MODE,
+        TOGGLE_AUTO_TARGETING,
+        READY_WEAPON,
+        RELOAD_WEAPON,
+        SET_TARGET_ZONE,
+        CLEAR_TARGET_ZONE,
+        TOGGLE_PERSISTENT_ATTACK,
+        HOLD_AT_TARGET,
+        SET_REACTION,
+        CANCEL_REACTION,
+        SET_POSITION,
+        TOGGLE_COMBAT_MODE,
+        CYCLE_WEAPON_HOLD_STATE,
+        TOGGLE_FIRING_PREFERENCE,
+        SET_MULTIPLE_SHOT_COUNT,
+        
+        // Edit mode
+        TELEPORT_UNIT,
+        REMOVE_UNIT,
         
         // Camera
         PAN_CAMERA,
@@ -96,6 +127,13 @@ public class InputCommand {
         this(type, -1, -1, 0, 0, data);
     }
     
+    /**
+     * Creates a command with a unit and custom data.
+     */
+    public InputCommand(Type type, int unitId, Object data) {
+        this(type, unitId, -1, 0, 0, data);
+    }
+    
     /**
      * Full constructor with all parameters.
      */
@@ -116,6 +154,31 @@ public class InputCommand {
     public double getY() { return y; }
     public Object getData() { return data; }
     
+    /**
+     * @return data as an int, whether it is a Number or its string form, or
+     *         defaultValue if there is no numeric data
+     */
+    public int getIntData(int defaultValue) {
+        if (data instanceof Number) {
+            return ((Number) data).intValue();
+        }
+        if (data != null) {
+            try {
+                return Integer.parseInt(data.toString().trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * Creates a SET_TARGET_ZONE command for a rectangle in world coordinates.
+     */
+    public static InputCommand targetZone(int unitId, int x, int y, int width, int height) {
+        return new InputCommand(Type.SET_TARGET_ZONE, unitId, -1, x, y, width + "," + height);
+    }
+    
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("InputCommand{type=").append(type);
@@ -0,0 +1,100 @@
+package core;
+
+import utils.RandomProvider;
+
+/**
+ * Replays a CommandJournal into a game as fast as the simulation runs,
+ * without rendering or frame pacing.
+ *
+ * The game's units are replaced with the journal's starting units and its
+ * state is put back to the journal's starting keyframe, so the game need not
+ * hold the units the journal was recorded with. A journal without a starting
+ * state (one not begun from a game) can only be replayed into a game holding
+ * the recorded units at the start tick; the random state is reset to the
+ * recorded start and a first keyframe is taken.
+ */
+public class JournalReplayer {
+    private final JournalTarget target;
+    private final CommandJournal journal;
+
+    public JournalReplayer(JournalTarget target, CommandJournal journal) {
+        this.target = target;
+        this.journal = journal;
+
+        if (journal.hasStartUnits()) {
+            target.replaceUnits(journal.buildStartUnits());
+        }
+        StateKeyframe start = journal.getStartKeyframe();
+        if (start != null) {
+            restore(start);
+        } else if (journal.getKeyframeCount() == 0) {
+            if (target.getCurrentTick() != journal.getStartTick()) {
+                throw new IllegalStateException("Game is at tick " + target.getCurrentTick()
+                                                + ", journal starts at " + journal.getStartTick());
+            }
+            if (journal.getStartRandomState() != null) {
+                RandomProvider.restoreState(journal.getStartRandomState());
+            } else {
+                RandomProvider.setSeed(journal.getSeed());
+            }
+            journal.onTickCompleted(target);
+        }
+    }
+
+    /**
+     * Brings the game to the given tick. Seeking backwards, or forwards past
+     * a keyframe, restores the nearest keyframe at or before the tick and
+     * re-simulates only the ticks after it.
+     *
+     * @param tick Target tick, clamped to the journal's start
+     * @return the tick reached; earlier than requested if the recording ended paused
+     */
+    public long seek(long tick) {
+        long goal = Math.max(tick, journal.getStartTick());
+        long currentTick = target.getCurrentTick();
+
+        StateKeyframe keyframe = journal.floorKeyframe(goal);
+        if (keyframe != null && (goal < currentTick || keyframe.getTick() > currentTick)) {
+            restore(keyframe);
+        }
+
+        while (target.getCurrentTick() < goal) {
+            if (!step()) {
+                break;
+            }
+        }
+        return target.getCurrentTick();
+    }
+
+    /**
+     * Replays through the last recorded tick.
+     *
+     * @return the tick reached
+     */
+    public long replayToEnd() {
+        return seek(journal.getEndTick());
+    }
+
+    /**
+     * Applies the commands recorded at the current tick and advances one tick.
+     *
+     * @return false if the game is paused after the commands, so the tick did not advance
+     */
+    public boolean step() {
+        for (InputCommand command : journal.getCommandsAt(target.getCurrentTick())) {
+            target.applyCommand(command);
+        }
+        if (target.isPaused()) {
+            return false;
+        }
+        target.stepTick();
+        journal.onTickCompleted(target);
+        return true;
+    }
+
+    private void restore(StateKeyframe keyframe) {
+        if (!target.restoreKeyframe(keyframe)) {
+            throw new IllegalStateException("Keyframe at tick " + keyframe.getTick() + " does not match the units on the field");
+        }
+    }
+}
\ No newline at end of file
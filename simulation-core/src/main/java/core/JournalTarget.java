@@ -0,0 +1,55 @@
+package core;
+
+import game.Unit;
+import java.util.List;
+
+/**
+ * A game loop a CommandJournal can record from and JournalReplayer can replay
+ * into: GameEngine, or the desktop game through OpenFields2.getJournalTarget().
+ *
+ * stepTick() must run the same per-tick step as the loop's own frame
+ * (TickPipeline), so a replayed tick does exactly what the recorded one did.
+ */
+public interface JournalTarget {
+
+    long getCurrentTick();
+
+    /**
+     * @return the units on the field, in field order
+     */
+    List<Unit> getUnits();
+
+    /**
+     * Replaces every unit on the field, registering the new ones with the
+     * game's unit registry.
+     */
+    void replaceUnits(List<Unit> units);
+
+    /**
+     * Applies a command immediately, without recording it.
+     */
+    void applyCommand(InputCommand command);
+
+    /**
+     * @return true if a command applied so far has paused the game, so the
+     *         tick should not advance
+     */
+    boolean isPaused();
+
+    /**
+     * Advances the simulation by one tick.
+     */
+    void stepTick();
+
+    /**
+     * @return a keyframe of the current state
+     */
+    StateKeyframe captureKeyframe();
+
+    /**
+     * Puts the game back to a keyframe.
+     *
+     * @return false if the keyframe does not match the units on the field
+     */
+    boolean restoreKeyframe(StateKeyframe keyframe);
+}
\ No newline at end of file
@@ -0,0 +1,602 @@
+package core;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import combat.AimingSpeed;
+import combat.BodyPart;
+import combat.Character;
+import combat.CharacterCareer;
+import combat.CombatEventKind;
+import combat.FiringMode;
+import combat.MeleeApproachPrediction;
+import combat.MovementType;
+import combat.PositionState;
+import combat.RangedWeapon;
+import combat.Weapon;
+import combat.WeaponState;
+import combat.Wound;
+import combat.WoundSeverity;
+import combat.managers.CharacterCombatState;
+import combat.managers.ReactionManager;
+import combat.managers.WeaponStateTransitionManager;
+import data.StartupLoader;
+import game.DormancyTracker;
+import game.EventBinding;
+import game.FactionRoster;
+import game.GameCallbacks;
+import game.GameClock;
+import game.ScheduledEvent;
+import game.Unit;
+import game.interfaces.IUnit;
+import platform.api.Color;
+import utils.RandomProvider;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Snapshot of the simulation state at one tick, used by CommandJournal to
+ * seek without re-simulating from the start.
+ *
+ * Everything that changes during play is kept, so a keyframe can be taken at
+ * any tick: unit movement and facing, each character's combat, hesitation,
+ * melee and reaction state, wounds, ammunition, the per-character state the
+ * combat managers hold (CharacterCombatState), dormancy, the random sequence
+ * and the whole event queue. Static character data (names, stats, skills,
+ * weapon choice) is not copied; see CommandJournal.JournalUnit.
+ *
+ * Units are referred to by id and events are kept as data, so a keyframe can
+ * be restored onto other Unit objects with the same ids and can be written to
+ * JSON. Pending events are kept in the queue's internal order, so restoring
+ * rebuilds an identical heap and events due on the same tick run in the same
+ * order as they did when recorded. Every gameplay event is typed (see
+ * CombatEventKind); a Runnable event cannot be kept and is dropped.
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+                getterVisibility = JsonAutoDetect.Visibility.NONE,
+                isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public class StateKeyframe {
+    private long tick;
+    private byte[] randomState;
+    private ViewFrame view; // Only for keyframes of a GameState
+    private UnitFrame[] units;
+    private EventFrame[] events;
+    private int[] dormantUnitIds;
+    private long dormancyEvaluationTick;
+
+    /**
+     * Camera, selection and pause state of a GameState.
+     */
+    public static final class ViewFrame {
+        public boolean paused;
+        public int selectedUnitId;
+        public double cameraX, cameraY, cameraZoom;
+    }
+
+    /**
+     * Per-unit part of a keyframe.
+     */
+    public static final class UnitFrame {
+        public int id;
+        public double x, y;
+        public double targetX, targetY;
+        public boolean hasTarget;
+        public boolean isStopped;
+        public int combatTargetId = -1;
+        public String color;
+        public String preIncapacitationColor;
+        public boolean isHitHighlighted;
+        public boolean isFiringHighlighted;
+        public long lastTickUpdated;
+        public double currentFacing, targetFacing;
+        public boolean isRotating;
+        public CharacterFrame character;
+    }
+
+    /**
+     * Per-character part of a keyframe. Targets are unit ids (-1 for none);
+     * weapon states are a weapon slot and state index as in CombatEventKind.
+     */
+    public static final class CharacterFrame {
+        public int currentDexterity;
+        public int currentHealth;
+        public double baseMovementSpeed; // Zeroed when the character is incapacitated
+        public MovementType currentMovementType;
+        public AimingSpeed currentAimingSpeed;
+        public PositionState currentPosition;
+        public boolean isMeleeCombatMode;
+        public long weaponStateSlot;
+        public long weaponStateIndex = -1;
+        public int currentTargetId = -1;
+        public int previousTargetId = -1;
+        public int meleeTargetId = -1;
+        public int reactionTargetId = -1;
+        public boolean persistentAttack;
+        public boolean isAttacking;
+        public boolean isDefensiveAiming;
+        public int multipleShootCount;
+        public int currentShotInSequence;
+        public long reactionBaselineSlot; // Weapon of the reaction target
+        public long reactionBaselineIndex = -1;
+        public long reactionTriggerTick;
+        public int faction;
+        public boolean usesAutomaticTargeting;
+        public FiringMode preferredFiringMode;
+        public boolean hasProcessedTargetIncapacitation;
+        public List<WoundFrame> wounds;
+        public CharacterCareer career;
+        public long lastAutoTargetDebugTick;
+        public long nextDefenseTick;
+        public long lastAttackScheduledTick;
+        public long lastFiringScheduledTick;
+        public long lastContinueAttackTick;
+        public boolean isReloading;
+        public AimingSpeed savedAimingSpeed;
+        public long lastMeleeAttackTick;
+        public long meleeRecoveryEndTick;
+        public long meleeRecoveryDuration;
+        public boolean isHesitating;
+        public long hesitationEndTick;
+        public long hesitationEndedAtTick;
+        public List<EventFrame> pausedEvents;
+        public int braveryCheckFailures;
+        public long braveryPenaltyEndTick;
+        public int[] targetZone; // x, y, width, height
+        public Double lastTargetFacing;
+        public boolean isFirstAttackOnTarget;
+        public boolean isMovingToMelee;
+        public long lastMeleeMovementUpdate;
+        public MeleeApproachPrediction.Snapshot meleeApproach;
+        public int weaponAmmunition = -1;
+        public FiringMode weaponFiringMode;
+        public int rangedWeaponAmmunition = -1;
+        public FiringMode rangedWeaponFiringMode;
+        public CharacterCombatState combatState;
+    }
+
+    /**
+     * A wound, as data.
+     */
+    public static final class WoundFrame {
+        public BodyPart bodyPart;
+        public WoundSeverity severity;
+        public String projectileName;
+        public String weaponId;
+        public int damage;
+    }
+
+    /**
+     * A pending typed event, with unit ids in place of its binding.
+     */
+    public static final class EventFrame {
+        public long tick;
+        public CombatEventKind kind;
+        public int ownerId;
+        public int characterUnitId; // Unit of the acting character
+        public boolean hasUnit;
+        public int targetId = -1;
+        public long[] params;
+    }
+
+    private StateKeyframe() {
+    }
+
+    /**
+     * Captures the simulation state at the clock's current tick.
+     *
+     * @param units the units on the field
+     * @param gameClock the game clock
+     * @param eventQueue the pending scheduled events
+     */
+    public static StateKeyframe capture(List<Unit> units, GameClock gameClock, PriorityQueue<ScheduledEvent> eventQueue) {
+        StateKeyframe keyframe = new StateKeyframe();
+        keyframe.tick = gameClock.getCurrentTick();
+        keyframe.randomState = RandomProvider.snapshotState();
+
+        // Keyed by identity: characters created outside the registry all have id 0
+        Map<Character, Unit> unitsByCharacter = new IdentityHashMap<>();
+        for (Unit unit : units) {
+            unitsByCharacter.put(unit.character, unit);
+        }
+
+        keyframe.units = new UnitFrame[units.size()];
+        List<Integer> dormant = new ArrayList<>();
+        for (int i = 0; i < units.size(); i++) {
+            Unit unit = units.get(i);
+            keyframe.units[i] = captureUnit(unit, unitsByCharacter);
+            if (DormancyTracker.getInstance().isDormant(unit)) {
+                dormant.add(unit.getId());
+            }
+        }
+        keyframe.dormantUnitIds = dormant.stream().mapToInt(Integer::intValue).toArray();
+        keyframe.dormancyEvaluationTick = DormancyTracker.getInstance().getLastEvaluationTick();
+        keyframe.events = captureEvents(eventQueue, unitsByCharacter).toArray(new EventFrame[0]);
+        return keyframe;
+    }
+
+    /**
+     * Captures the given state at its current tick, including camera,
+     * selection and pause state.
+     */
+    public static StateKeyframe capture(GameState state) {
+        StateKeyframe keyframe = capture(state.getUnitsView(), state.getGameClock(), state.getEventQueue());
+        keyframe.view = new ViewFrame();
+        keyframe.view.paused = state.isPaused();
+        keyframe.view.selectedUnitId = state.getSelectedUnitId();
+        keyframe.view.cameraX = state.getCameraX();
+        keyframe.view.cameraY = state.getCameraY();
+        keyframe.view.cameraZoom = state.getCameraZoom();
+        return keyframe;
+    }
+
+    /**
+     * Puts the simulation back to this keyframe: clock, random sequence, every
+     * unit and the managers' state for its character, dormancy and the event
+     * queue. The units must already be registered with the game's unit
+     * registry, since targets are restored as handles.
+     *
+     * @param units the units on the field
+     * @param gameClock the game clock
+     * @param eventQueue the event queue, replaced with the captured events
+     * @param gameCallbacks Callbacks the restored events schedule follow-up events through
+     * @return false if the units are not the ones captured (nothing is changed then)
+     */
+    public boolean restore(List<Unit> units, GameClock gameClock, PriorityQueue<ScheduledEvent> eventQueue,
+                           GameCallbacks gameCallbacks) {
+        if (units.size() != this.units.length) {
+            return false;
+        }
+        Map<Integer, Unit> unitsById = new HashMap<>();
+        for (int i = 0; i < this.units.length; i++) {
+            if (units.get(i).getId() != this.units[i].id) {
+                return false;
+            }
+            unitsById.put(units.get(i).getId(), units.get(i));
+        }
+
+        eventQueue.clear();
+        gameClock.setCurrentTick(tick);
+        RandomProvider.restoreState(randomState);
+
+        for (int i = 0; i < this.units.length; i++) {
+            restoreUnit(units.get(i), this.units[i], unitsById, eventQueue, gameCallbacks);
+        }
+
+        // Managers last, once health, targets and weapon states are back
+        FactionRoster.getInstance().sync(units);
+        for (int i = 0; i < this.units.length; i++) {
+            this.units[i].character.combatState.restore(units.get(i).character.id);
+        }
+        ReactionManager.getInstance().rebuild(units);
+        List<Unit> dormant = new ArrayList<>();
+        for (int id : dormantUnitIds) {
+            dormant.add(unitsById.get(id));
+        }
+        DormancyTracker.getInstance().restore(dormant, dormancyEvaluationTick);
+
+        for (EventFrame frame : events) {
+            ScheduledEvent event = restoreEvent(frame, unitsById, eventQueue, gameCallbacks);
+            if (event != null) {
+                eventQueue.add(event);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Puts the state back to this keyframe, including camera, selection and
+     * pause state if they were captured.
+     *
+     * @param gameCallbacks Callbacks the restored events schedule follow-up events through
+     * @return false if the state's units are not the ones captured (nothing is changed then)
+     */
+    public boolean restore(GameState state, GameCallbacks gameCallbacks) {
+        if (!restore(state.getUnitsView(), state.getGameClock(), state.getEventQueue(), gameCallbacks)) {
+            return false;
+        }
+        if (view != null) {
+            state.setPaused(view.paused);
+            state.setSelectedUnitId(view.selectedUnitId);
+            state.setCameraX(view.cameraX);
+            state.setCameraY(view.cameraY);
+            state.setCameraZoom(view.cameraZoom);
+        }
+        return true;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    // Capture
+
+    private static UnitFrame captureUnit(Unit unit, Map<Character, Unit> unitsByCharacter) {
+        UnitFrame frame = new UnitFrame();
+        frame.id = unit.getId();
+        frame.x = unit.x;
+        frame.y = unit.y;
+        frame.targetX = unit.targetX;
+        frame.targetY = unit.targetY;
+        frame.hasTarget = unit.hasTarget;
+        frame.isStopped = unit.isStopped;
+        frame.combatTargetId = idOf(unit.combatTarget);
+        frame.color = unit.color != null ? unit.color.toHex() : null;
+        frame.preIncapacitationColor = unit.getPreIncapacitationColor() != null ? unit.getPreIncapacitationColor().toHex() : null;
+        frame.isHitHighlighted = unit.isHitHighlighted;
+        frame.isFiringHighlighted = unit.isFiringHighlighted;
+        frame.lastTickUpdated = unit.getLastTickUpdated();
+        frame.currentFacing = unit.currentFacing;
+        frame.targetFacing = unit.targetFacing;
+        frame.isRotating = unit.isRotating;
+        frame.character = captureCharacter(unit.character, unitsByCharacter);
+        return frame;
+    }
+
+    private static CharacterFrame captureCharacter(Character character, Map<Character, Unit> unitsByCharacter) {
+        CharacterFrame frame = new CharacterFrame();
+        frame.currentDexterity = character.currentDexterity;
+        frame.currentHealth = character.currentHealth;
+        frame.baseMovementSpeed = character.baseMovementSpeed;
+        frame.currentMovementType = character.currentMovementType;
+        frame.currentAimingSpeed = character.currentAimingSpeed;
+        frame.currentPosition = character.currentPosition;
+        frame.isMeleeCombatMode = character.isMeleeCombatMode;
+        long[] weaponState = locateState(character, character.currentWeaponState);
+        frame.weaponStateSlot = weaponState[0];
+        frame.weaponStateIndex = weaponState[1];
+        frame.currentTargetId = idOf(character.getCurrentTarget());
+        frame.previousTargetId = idOf(character.getPreviousTarget());
+        frame.meleeTargetId = idOf(character.getMeleeTarget());
+        IUnit reactionTarget = character.getReactionTarget();
+        frame.reactionTargetId = idOf(reactionTarget);
+        frame.persistentAttack = character.persistentAttack;
+        frame.isAttacking = character.isAttacking;
+        frame.isDefensiveAiming = character.isDefensiveAiming;
+        frame.multipleShootCount = character.multipleShootCount;
+        frame.currentShotInSequence = character.currentShotInSequence;
+        if (reactionTarget != null) {
+            long[] baseline = locateState(reactionTarget.getCharacter(), character.reactionBaselineState);
+            frame.reactionBaselineSlot = baseline[0];
+            frame.reactionBaselineIndex = baseline[1];
+        }
+        frame.reactionTriggerTick = character.reactionTriggerTick;
+        frame.faction = character.faction;
+        frame.usesAutomaticTargeting = character.usesAutomaticTargeting;
+        frame.preferredFiringMode = character.preferredFiringMode;
+        frame.hasProcessedTargetIncapacitation = character.hasProcessedTargetIncapacitation;
+        frame.wounds = new ArrayList<>();
+        for (Wound wound : character.getWounds()) {
+            frame.wounds.add(captureWound(wound));
+        }
+        frame.career = StartupLoader.getObjectMapper().convertValue(character.career(), CharacterCareer.class);
+        frame.lastAutoTargetDebugTick = character.lastAutoTargetDebugTick;
+        frame.nextDefenseTick = character.nextDefenseTick;
+        frame.lastAttackScheduledTick = character.lastAttackScheduledTick;
+        frame.lastFiringScheduledTick = character.lastFiringScheduledTick;
+        frame.lastContinueAttackTick = character.lastContinueAttackTick;
+        frame.isReloading = character.isReloading;
+        frame.savedAimingSpeed = character.savedAimingSpeed;
+        frame.lastMeleeAttackTick = character.lastMeleeAttackTick;
+        frame.meleeRecoveryEndTick = character.meleeRecoveryEndTick;
+        frame.meleeRecoveryDuration = character.meleeRecoveryDuration;
+        frame.isHesitating = character.isHesitating;
+        frame.hesitationEndTick = character.hesitationEndTick;
+        frame.hesitationEndedAtTick = character.hesitationEndedAtTick;
+        frame.pausedEvents = captureEvents(character.pausedEvents, unitsByCharacter);
+        frame.braveryCheckFailures = character.braveryCheckFailures;
+        frame.braveryPenaltyEndTick = character.braveryPenaltyEndTick;
+        if (character.targetZone != null) {
+            java.awt.Rectangle zone = character.targetZone;
+            frame.targetZone = new int[] {zone.x, zone.y, zone.width, zone.height};
+        }
+        frame.lastTargetFacing = character.lastTargetFacing;
+        frame.isFirstAttackOnTarget = character.isFirstAttackOnTarget;
+        frame.isMovingToMelee = character.isMovingToMelee;
+        frame.lastMeleeMovementUpdate = character.lastMeleeMovementUpdate;
+        frame.meleeApproach = character.meleeApproachPrediction != null ? character.meleeApproachPrediction.snapshot() : null;
+        if (character.weapon instanceof RangedWeapon) {
+            RangedWeapon ranged = (RangedWeapon) character.weapon;
+            frame.weaponAmmunition = ranged.ammunition;
+            frame.weaponFiringMode = ranged.currentFiringMode;
+        }
+        if (character.rangedWeapon != null && character.rangedWeapon != character.weapon) {
+            frame.rangedWeaponAmmunition = character.rangedWeapon.ammunition;
+            frame.rangedWeaponFiringMode = character.rangedWeapon.currentFiringMode;
+        }
+        frame.combatState = CharacterCombatState.capture(character.id);
+        return frame;
+    }
+
+    private static WoundFrame captureWound(Wound wound) {
+        WoundFrame frame = new WoundFrame();
+        frame.bodyPart = wound.bodyPart;
+        frame.severity = wound.severity;
+        frame.projectileName = wound.projectileName;
+        frame.weaponId = wound.weaponId;
+        frame.damage = wound.damage;
+        return frame;
+    }
+
+    /**
+     * Captures typed events in iteration order, which for a PriorityQueue is
+     * its heap order.
+     */
+    private static List<EventFrame> captureEvents(Iterable<ScheduledEvent> queue, Map<Character, Unit> unitsByCharacter) {
+        List<EventFrame> frames = new ArrayList<>();
+        for (ScheduledEvent event : queue) {
+            Unit unit = event.isTyped() ? unitsByCharacter.get(event.getBinding().getCharacter()) : null;
+            if (unit == null) {
+                continue;
+            }
+            EventFrame frame = new EventFrame();
+            EventBinding binding = event.getBinding();
+            frame.tick = event.getTick();
+            frame.kind = event.getKind();
+            frame.ownerId = event.getOwnerId();
+            frame.characterUnitId = unit.getId();
+            frame.hasUnit = binding.getUnit() != null;
+            frame.targetId = binding.getTargetId();
+            frame.params = event.getParams();
+            frames.add(frame);
+        }
+        return frames;
+    }
+
+    /**
+     * @return the weapon slot and index of a state among the character's
+     *         weapons, preferring the active one; index -1 if not found
+     */
+    private static long[] locateState(Character character, WeaponState state) {
+        if (state == null) {
+            return new long[] {0, -1};
+        }
+        Weapon[] candidates = character.isMeleeCombatMode
+            ? new Weapon[] {character.meleeWeapon, character.weapon, character.rangedWeapon}
+            : new Weapon[] {character.weapon, character.rangedWeapon, character.meleeWeapon};
+        for (Weapon weapon : candidates) {
+            if (weapon != null && weapon.states != null) {
+                int index = weapon.states.indexOf(state);
+                if (index >= 0) {
+                    return new long[] {WeaponStateTransitionManager.weaponSlot(character, weapon), index};
+                }
+            }
+        }
+        return new long[] {0, -1};
+    }
+
+    private static int idOf(IUnit unit) {
+        return unit != null ? unit.getId() : -1;
+    }
+
+    // Restore
+
+    private static void restoreUnit(Unit unit, UnitFrame frame, Map<Integer, Unit> unitsById,
+                                    PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        unit.x = frame.x;
+        unit.y = frame.y;
+        unit.targetX = frame.targetX;
+        unit.targetY = frame.targetY;
+        unit.hasTarget = frame.hasTarget;
+        unit.isStopped = frame.isStopped;
+        unit.combatTarget = frame.combatTargetId >= 0 ? unitsById.get(frame.combatTargetId) : null;
+        unit.color = restoreColor(frame.color, unit.baseColor);
+        unit.setPreIncapacitationColor(frame.preIncapacitationColor != null
+            ? restoreColor(frame.preIncapacitationColor, unit.baseColor) : null);
+        unit.isHitHighlighted = frame.isHitHighlighted;
+        unit.isFiringHighlighted = frame.isFiringHighlighted;
+        unit.setLastTickUpdated(frame.lastTickUpdated);
+        unit.currentFacing = frame.currentFacing;
+        unit.targetFacing = frame.targetFacing;
+        unit.isRotating = frame.isRotating;
+        restoreCharacter(unit.character, frame.character, unitsById, eventQueue, gameCallbacks);
+    }
+
+    private static void restoreCharacter(Character character, CharacterFrame frame, Map<Integer, Unit> unitsById,
+                                         PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        character.currentDexterity = frame.currentDexterity;
+        character.currentHealth = frame.currentHealth;
+        character.baseMovementSpeed = frame.baseMovementSpeed;
+        character.currentMovementType = frame.currentMovementType;
+        character.currentAimingSpeed = frame.currentAimingSpeed;
+        character.currentPosition = frame.currentPosition;
+        character.isMeleeCombatMode = frame.isMeleeCombatMode;
+        // Set directly: listeners are told about changes in play, not about a restore
+        character.currentWeaponState = WeaponStateTransitionManager.stateAt(
+            WeaponStateTransitionManager.weaponInSlot(character, frame.weaponStateSlot), frame.weaponStateIndex);
+        character.setCurrentTarget(unitsById.get(frame.currentTargetId));
+        character.setPreviousTarget(unitsById.get(frame.previousTargetId));
+        character.setMeleeTarget(unitsById.get(frame.meleeTargetId));
+        Unit reactionTarget = unitsById.get(frame.reactionTargetId);
+        character.setReactionTarget(reactionTarget);
+        character.persistentAttack = frame.persistentAttack;
+        character.isAttacking = frame.isAttacking;
+        character.isDefensiveAiming = frame.isDefensiveAiming;
+        character.multipleShootCount = frame.multipleShootCount;
+        character.currentShotInSequence = frame.currentShotInSequence;
+        character.reactionBaselineState = reactionTarget != null
+            ? WeaponStateTransitionManager.stateAt(WeaponStateTransitionManager.weaponInSlot(reactionTarget.character,
+                frame.reactionBaselineSlot), frame.reactionBaselineIndex)
+            : null;
+        character.reactionTriggerTick = frame.reactionTriggerTick;
+        character.faction = frame.faction;
+        character.usesAutomaticTargeting = frame.usesAutomaticTargeting;
+        character.preferredFiringMode = frame.preferredFiringMode;
+        character.hasProcessedTargetIncapacitation = frame.hasProcessedTargetIncapacitation;
+        List<Wound> wounds = new ArrayList<>();
+        for (WoundFrame wound : frame.wounds) {
+            wounds.add(new Wound(wound.bodyPart, wound.severity, wound.projectileName, wound.weaponId, wound.damage));
+        }
+        character.setWounds(wounds);
+        try {
+            StartupLoader.getObjectMapper().updateValue(character.career(), frame.career);
+        } catch (com.fasterxml.jackson.databind.JsonMappingException e) {
+            throw new IllegalStateException("Could not restore career counters", e);
+        }
+        character.lastAutoTargetDebugTick = frame.lastAutoTargetDebugTick;
+        character.nextDefenseTick = frame.nextDefenseTick;
+        character.lastAttackScheduledTick = frame.lastAttackScheduledTick;
+        character.lastFiringScheduledTick = frame.lastFiringScheduledTick;
+        character.lastContinueAttackTick = frame.lastContinueAttackTick;
+        character.isReloading = frame.isReloading;
+        character.savedAimingSpeed = frame.savedAimingSpeed;
+        character.lastMeleeAttackTick = frame.lastMeleeAttackTick;
+        character.meleeRecoveryEndTick = frame.meleeRecoveryEndTick;
+        character.meleeRecoveryDuration = frame.meleeRecoveryDuration;
+        character.isHesitating = frame.isHesitating;
+        character.hesitationEndTick = frame.hesitationEndTick;
+        character.hesitationEndedAtTick = frame.hesitationEndedAtTick;
+        character.pausedEvents = new ArrayList<>();
+        for (EventFrame paused : frame.pausedEvents) {
+            ScheduledEvent event = restoreEvent(paused, unitsById, eventQueue, gameCallbacks);
+            if (event != null) {
+                character.pausedEvents.add(event);
+            }
+        }
+        character.braveryCheckFailures = frame.braveryCheckFailures;
+        character.braveryPenaltyEndTick = frame.braveryPenaltyEndTick;
+        character.targetZone = frame.targetZone != null
+            ? new java.awt.Rectangle(frame.targetZone[0], frame.targetZone[1], frame.targetZone[2], frame.targetZone[3])
+            : null;
+        character.lastTargetFacing = frame.lastTargetFacing;
+        character.isFirstAttackOnTarget = frame.isFirstAttackOnTarget;
+        character.isMovingToMelee = frame.isMovingToMelee;
+        character.lastMeleeMovementUpdate = frame.lastMeleeMovementUpdate;
+        character.meleeApproachPrediction = frame.meleeApproach != null
+            ? MeleeApproachPrediction.fromSnapshot(frame.meleeApproach, unitsById::get) : null;
+        if (frame.weaponAmmunition >= 0 && character.weapon instanceof RangedWeapon) {
+            RangedWeapon ranged = (RangedWeapon) character.weapon;
+            ranged.ammunition = frame.weaponAmmunition;
+            ranged.currentFiringMode = frame.weaponFiringMode;
+        }
+        if (frame.rangedWeaponAmmunition >= 0 && character.rangedWeapon != null) {
+            character.rangedWeapon.ammunition = frame.rangedWeaponAmmunition;
+            character.rangedWeapon.currentFiringMode = frame.rangedWeaponFiringMode;
+        }
+        character.refreshIncapacitatedState();
+    }
+
+    private static ScheduledEvent restoreEvent(EventFrame frame, Map<Integer, Unit> unitsById,
+                                               PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        Unit unit = unitsById.get(frame.characterUnitId);
+        Unit target = frame.targetId >= 0 ? unitsById.get(frame.targetId) : null;
+        if (unit == null || (frame.targetId >= 0 && target == null)) {
+            return null;
+        }
+        EventBinding binding = new EventBinding(unit.character, frame.hasUnit ? unit : null, target,
+                                                eventQueue, gameCallbacks);
+        return new ScheduledEvent(frame.tick, frame.kind, frame.ownerId, binding, frame.params.clone());
+    }
+
+    /**
+     * The unit's base color object when the saved color is the base color, so
+     * code that compares colors by identity sees no change.
+     */
+    private static Color restoreColor(String hex, Color baseColor) {
+        if (hex == null) {
+            return null;
+        }
+        return baseColor != null && hex.equals(baseColor.toHex()) ? baseColor : Color.fromHex(hex);
+    }
+}
\ No newline at end of file
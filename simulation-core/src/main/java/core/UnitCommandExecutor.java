@@ -0,0 +1,471 @@
+package core;
+
+import combat.Character;
+import combat.CombatCoordinator;
+import combat.MovementType;
+import combat.Weapon;
+import combat.managers.BurstFireManager;
+import combat.managers.ReactionManager;
+import combat.managers.WeaponStateManager;
+import game.DormancyTracker;
+import game.GameCallbacks;
+import game.ScheduledEvent;
+import game.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Applies unit commands (movement, position, firing mode, aiming, weapon
+ * readiness, target zones, attacks, reactions) to the simulation.
+ *
+ * This is the one place gameplay commands mutate units and characters, so
+ * input handlers only have to build InputCommands and submit them to a
+ * CommandQueue. The executor runs on the simulation thread, at a tick boundary.
+ *
+ * Commands for unknown or incapacitated units are ignored, except the edit mode
+ * commands, which also move and remove incapacitated units. A listener is told
+ * about each command that was applied, after the change, so UI code can
+ * report the unit's new state.
+ */
+public class UnitCommandExecutor {
+    
+    /**
+     * Told about each applied command, on the simulation thread.
+     */
+    public interface Listener {
+        void commandApplied(InputCommand command, Unit unit);
+    }
+    
+    private final IntFunction<Unit> unitLookup;
+    private final LongSupplier tickSource;
+    private final GameCallbacks gameCallbacks;
+    private Listener listener;
+    private Consumer<Unit> unitRemover;
+    
+    /**
+     * @param unitLookup Finds a unit by id, or returns null
+     * @param tickSource Supplies the current game tick
+     * @param gameCallbacks Callbacks and event queue for the attacks and weapon sequences commands start
+     */
+    public UnitCommandExecutor(IntFunction<Unit> unitLookup, LongSupplier tickSource, GameCallbacks gameCallbacks) {
+        this.unitLookup = unitLookup;
+        this.tickSource = tickSource;
+        this.gameCallbacks = gameCallbacks;
+    }
+    
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+    
+    /**
+     * Sets how REMOVE_UNIT takes a unit off the field. Without one, REMOVE_UNIT
+     * is not applied.
+     */
+    public void setUnitRemover(Consumer<Unit> unitRemover) {
+        this.unitRemover = unitRemover;
+    }
+    
+    /**
+     * @return true if the command is a unit command this executor applies
+     */
+    public static boolean handles(InputCommand.Type type) {
+        switch (type) {
+            case MOVE_UNIT:
+            case STOP_UNIT:
+            case RESUME_UNIT:
+            case SET_MOVEMENT_SPEED:
+            case ATTACK_TARGET:
+            case STOP_ATTACK:
+            case SET_AIMING_SPEED:
+            case TOGGLE_WEAPON_MODE:
+            case TOGGLE_AUTO_TARGETING:
+            case READY_WEAPON:
+            case RELOAD_WEAPON:
+            case SET_TARGET_ZONE:
+            case CLEAR_TARGET_ZONE:
+            case TOGGLE_PERSISTENT_ATTACK:
+            case HOLD_AT_TARGET:
+            case SET_REACTION:
+            case CANCEL_REACTION:
+            case SET_POSITION:
+            case TOGGLE_COMBAT_MODE:
+            case CYCLE_WEAPON_HOLD_STATE:
+            case TOGGLE_FIRING_PREFERENCE:
+            case SET_MULTIPLE_SHOT_COUNT:
+            case TELEPORT_UNIT:
+            case REMOVE_UNIT:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Applies a unit command.
+     *
+     * @return true if the command changed or started something
+     */
+    public boolean execute(InputCommand command) {
+        if (!handles(command.getType())) {
+            return false;
+        }
+        Unit unit = unitLookup.apply(command.getUnitId());
+        boolean editCommand = command.getType() == InputCommand.Type.TELEPORT_UNIT
+                              || command.getType() == InputCommand.Type.REMOVE_UNIT;
+        if (unit == null || (unit.character.isIncapacitated() && !editCommand)) {
+            return false;
+        }
+        // A commanded unit rejoins the tick loop
+        DormancyTracker.getInstance().wake(unit);
+        
+        boolean applied = apply(command, unit, unit.character);
+        if (applied && listener != null) {
+            listener.commandApplied(command, unit);
+        }
+        return applied;
+    }
+    
+    private boolean apply(InputCommand command, Unit unit, Character character) {
+        long currentTick = tickSource.getAsLong();
+        switch (command.getType()) {
+            case MOVE_UNIT:
+                // A new movement order cancels any approach to a melee target
+                character.isMovingToMelee = false;
+                character.setMeleeTarget(null);
+                unit.setTarget(command.getX(), command.getY());
+                return true;
+                
+            case STOP_UNIT:
+                unit.stopMovement();
+                return true;
+                
+            case RESUME_UNIT:
+                if (!unit.isStopped) {
+                    return false;
+                }
+                unit.resumeMovement();
+                return true;
+                
+            case SET_MOVEMENT_SPEED:
+                return changeMovementType(unit, character, command.getIntData(0));
+                
+            case SET_AIMING_SPEED: {
+                int step = command.getIntData(0);
+                if (step > 0) {
+                    character.increaseAimingSpeed();
+                } else if (step < 0) {
+                    character.decreaseAimingSpeed();
+                }
+                return step != 0;
+            }
+                
+            case TOGGLE_WEAPON_MODE:
+                if (!character.hasMultipleFiringModes()) {
+                    return false;
+                }
+                character.cycleFiringMode();
+                return true;
+                
+            case TOGGLE_AUTO_TARGETING:
+                character.setUsesAutomaticTargeting(!character.isUsesAutomaticTargeting());
+                return true;
+                
+            case READY_WEAPON:
+                character.startReadyWeaponSequence(unit, currentTick, gameCallbacks.getEventQueue(), unit.getId());
+                return true;
+                
+            case RELOAD_WEAPON:
+                if (!character.canReload() || character.isReloading()) {
+                    return false;
+                }
+                character.startReloadSequence(unit, currentTick, gameCallbacks.getEventQueue(), unit.getId(), gameCallbacks);
+                return true;
+                
+            case SET_TARGET_ZONE:
+                return setTargetZone(character, command);
+                
+            case CLEAR_TARGET_ZONE:
+                if (character.targetZone == null) {
+                    return false;
+                }
+                character.targetZone = null;
+                return true;
+                
+            case ATTACK_TARGET:
+                return attack(unit, unitLookup.apply(command.getTargetId()), currentTick);
+                
+            case STOP_ATTACK:
+                ceaseFire(unit, character);
+                return true;
+                
+            case TOGGLE_PERSISTENT_ATTACK:
+                return togglePersistentAttack(unit, unitLookup.apply(command.getTargetId()), currentTick);
+                
+            case HOLD_AT_TARGET:
+                return holdAtTarget(unit, unitLookup.apply(command.getTargetId()), currentTick);
+                
+            case SET_REACTION:
+                return setReaction(unit, unitLookup.apply(command.getTargetId()), currentTick);
+                
+            case CANCEL_REACTION:
+                if (character.getReactionTarget() == null) {
+                    return false;
+                }
+                ReactionManager.getInstance().stopMonitoring(character);
+                return true;
+                
+            case SET_POSITION: {
+                int step = command.getIntData(0);
+                if (step > 0) {
+                    character.increasePosition();
+                } else if (step < 0) {
+                    character.decreasePosition();
+                }
+                return step != 0;
+            }
+                
+            case TOGGLE_COMBAT_MODE:
+                character.toggleCombatMode();
+                return true;
+                
+            case CYCLE_WEAPON_HOLD_STATE:
+                character.cycleWeaponHoldState();
+                return true;
+                
+            case TOGGLE_FIRING_PREFERENCE:
+                character.toggleFiringPreference(currentTick);
+                return true;
+                
+            case SET_MULTIPLE_SHOT_COUNT: {
+                int count = command.getIntData(0);
+                if (character.isMeleeCombatMode || count < 1 || count > 5) {
+                    return false;
+                }
+                character.multipleShootCount = count;
+                return true;
+            }
+                
+            case TELEPORT_UNIT:
+                unit.x = command.getX();
+                unit.y = command.getY();
+                unit.targetX = unit.x;
+                unit.targetY = unit.y;
+                unit.hasTarget = false;
+                unit.isStopped = false;
+                return true;
+                
+            case REMOVE_UNIT:
+                return removeUnit(unit);
+                
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Cancels the unit's pending events, clears it as anyone's target and
+     * takes it off the field.
+     */
+    private boolean removeUnit(Unit unit) {
+        if (unitRemover == null) {
+            return false;
+        }
+        // Drop events the unit owns and events still to land on it
+        gameCallbacks.getEventQueue().removeIf(event -> event.getOwnerId() == unit.getId()
+            || (event.getBinding() != null
+                && (event.getBinding().getUnit() == unit || event.getBinding().getTarget() == unit)));
+        
+        if (unit.character.isAttacking) {
+            unit.character.isAttacking = false;
+            unit.character.setCurrentTarget(null);
+        }
+        for (Unit other : new ArrayList<>(gameCallbacks.getUnits())) {
+            if (other.character.getCurrentTarget() == unit) {
+                other.character.setCurrentTarget(null);
+                other.character.isAttacking = false;
+            }
+        }
+        unitRemover.accept(unit);
+        return true;
+    }
+    
+    /**
+     * Steps the movement type up or down. Stepping up resumes a stopped unit;
+     * stepping down from crawl stops it.
+     */
+    private boolean changeMovementType(Unit unit, Character character, int step) {
+        if (step > 0) {
+            if (unit.isStopped) {
+                unit.resumeMovement();
+            }
+            character.increaseMovementType();
+            return true;
+        }
+        if (step < 0) {
+            if (character.getCurrentMovementType() == MovementType.CRAWL) {
+                unit.stopMovement();
+            } else {
+                character.decreaseMovementType();
+            }
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean setTargetZone(Character character, InputCommand command) {
+        String[] size = String.valueOf(command.getData()).split(",");
+        if (size.length != 2) {
+            return false;
+        }
+        try {
+            int width = Integer.parseInt(size[0].trim());
+            int height = Integer.parseInt(size[1].trim());
+            character.targetZone = new java.awt.Rectangle((int) command.getX(), (int) command.getY(), width, height);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Starts a melee approach or a ranged attack sequence, depending on the
+     * attacker's combat mode.
+     */
+    private boolean attack(Unit attacker, Unit target, long currentTick) {
+        if (target == null || target == attacker || target.character.isIncapacitated()) {
+            return false;
+        }
+        Character character = attacker.character;
+        if (character.isMeleeCombatMode) {
+            // Move to the target and attack once in reach
+            attacker.setTarget(target.x, target.y);
+            character.setMeleeTarget(target);
+            character.isMovingToMelee = true;
+            if (character.meleeWeapon != null) {
+                character.startReadyWeaponSequence(attacker, currentTick, gameCallbacks.getEventQueue(), attacker.getId());
+            }
+        } else {
+            // Ranged attacks set a combat target only; the attacker does not move
+            attacker.setCombatTarget(target);
+            CombatCoordinator.getInstance().startAttackSequence(attacker, target, currentTick, gameCallbacks);
+        }
+        return true;
+    }
+    
+    /**
+     * Toggles persistent attack on the target. Turning it on targets the unit
+     * and starts an attack sequence; turning it off drops the target.
+     */
+    private boolean togglePersistentAttack(Unit attacker, Unit target, long currentTick) {
+        if (target == null || target == attacker) {
+            return false;
+        }
+        Character character = attacker.character;
+        character.setPersistentAttack(!character.isPersistentAttack());
+        attacker.setTargetFacing(target.x, target.y);
+        if (character.isPersistentAttack()) {
+            character.setCurrentTarget(target);
+            CombatCoordinator.getInstance().startAttackSequence(attacker, target, currentTick, gameCallbacks);
+        } else {
+            character.setCurrentTarget(null);
+        }
+        return true;
+    }
+    
+    /**
+     * Targets the unit and readies the weapon only as far as the character's
+     * weapon hold state, without attacking.
+     */
+    private boolean holdAtTarget(Unit attacker, Unit target, long currentTick) {
+        if (target == null || target == attacker || target.character.isIncapacitated()) {
+            return false;
+        }
+        attacker.setCombatTarget(target);
+        attacker.character.setCurrentTarget(target);
+        attacker.faceToward(target.x, target.y);
+        progressToHoldState(attacker, attacker.character.getCurrentWeaponHoldState(), currentTick);
+        return true;
+    }
+    
+    /**
+     * Watches the target for weapon state changes, holding the weapon at the
+     * character's preferred firing state until it reacts.
+     */
+    private boolean setReaction(Unit unit, Unit target, long currentTick) {
+        if (target == null || target == unit) {
+            return false;
+        }
+        Character character = unit.character;
+        // Records the target's baseline weapon state
+        ReactionManager.getInstance().startMonitoring(character, target);
+        if (character.weapon != null) {
+            progressToHoldState(unit, character.getFiresFromAimingState() ? "aiming" : "pointedfromhip", currentTick);
+        }
+        unit.setTargetFacing(target.x, target.y);
+        return true;
+    }
+    
+    /**
+     * Runs the normal weapon ready sequence, stopping at holdState.
+     */
+    private void progressToHoldState(Unit unit, String holdState, long currentTick) {
+        Character character = unit.character;
+        Weapon activeWeapon = character.isMeleeCombatMode() ? character.meleeWeapon : character.weapon;
+        if (activeWeapon == null) {
+            return;
+        }
+        if (character.currentWeaponState == null) {
+            character.setCurrentWeaponState(activeWeapon.getInitialState());
+        }
+        WeaponStateManager.getInstance().setTargetHoldState(character.id, holdState);
+        character.scheduleReadyFromCurrentState(unit, currentTick, gameCallbacks.getEventQueue(), unit.getId());
+    }
+    
+    /**
+     * Cancels the unit's scheduled attacks and automatic fire, keeping its
+     * target and, where it was already aiming or firing, its aim.
+     */
+    private void ceaseFire(Unit unit, Character character) {
+        PriorityQueue<ScheduledEvent> eventQueue = gameCallbacks.getEventQueue();
+        List<ScheduledEvent> toRemove = new ArrayList<>();
+        for (ScheduledEvent event : eventQueue) {
+            if (event.getOwnerId() == unit.getId()) {
+                toRemove.add(event);
+            }
+        }
+        eventQueue.removeAll(toRemove);
+        
+        // Reset attack state but maintain target and weapon state
+        character.isAttacking = false;
+        character.persistentAttack = false;
+        
+        // Reset automatic firing state
+        BurstFireManager.getInstance().setAutomaticFiring(character.id, false);
+        BurstFireManager.getInstance().setBurstShotsFired(character.id, 0);
+        character.savedAimingSpeed = null;
+        
+        // Maintain weapon in ready state if possible
+        if (character.weapon != null && character.currentWeaponState != null) {
+            String currentState = character.currentWeaponState.getState();
+            if ("aiming".equals(currentState) || "firing".equals(currentState) || "recovering".equals(currentState)) {
+                character.setCurrentWeaponState(character.weapon.getStateByName("aiming"));
+                System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire, maintains aiming at " + 
+                                 (character.getCurrentTarget() != null ? character.getCurrentTarget().getCharacter().getDisplayName() : "last target"));
+            } else {
+                System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire");
+            }
+        } else {
+            System.out.println("*** CEASE FIRE: " + character.getDisplayName() + " ceases fire");
+        }
+        
+        // Log number of cancelled events
+        if (!toRemove.isEmpty()) {
+            System.out.println("*** Cancelled " + toRemove.size() + " scheduled combat events");
+        }
+    }
+}
\ No newline at end of file
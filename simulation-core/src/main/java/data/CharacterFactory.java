@@ -15,16 +15,33 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.InputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Factory for creating characters with pre-defined archetypes and themes
  */
 public class CharacterFactory {
+    // Faction ID meaning "registry only" for bulk generation
+    public static final int NO_FACTION = -1;
+    
+    // How often bulk generation reports progress
+    public static final long PROGRESS_INTERVAL_MS = 250;
+    
     // Deprecated: Use RandomProvider instead for centralized random number generation
     private static final Random random = new Random();
     
-    // Theme-based name data cache
-    private static Map<String, Map<String, Object>> themeNameCache = new HashMap<>();
+    // Theme-based name data cache, shared by bulk generation threads
+    private static Map<String, Map<String, Object>> themeNameCache = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> weightedNameCache = new ConcurrentHashMap<>();
     private static final UniversalCharacterRegistry registry = UniversalCharacterRegistry.getInstance();
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final ThemeManager themeManager = ThemeManager.getInstance();
@@ -35,7 +52,7 @@ public class CharacterFactory {
      * @return The character ID in the registry
      */
     public static int createCharacter(String archetype) {
-        Character character = createCharacterByArchetype(archetype);
+        Character character = createCharacterByArchetype(archetype, 0, RandomProvider.getCurrentRandom());
         return registry.registerCharacter(character);
     }
     
@@ -55,47 +72,240 @@ public class CharacterFactory {
         return registry.registerCharacter(character);
     }
     
+    /**
+     * Progress callback for bulk character generation.
+     */
+    public interface BulkProgressListener {
+        /**
+         * Called on the thread that started the generation.
+         * @param completed Characters generated so far
+         * @param total Characters requested
+         * @param charactersPerSecond Generation rate so far
+         */
+        void onProgress(int completed, int total, double charactersPerSecond);
+    }
+    
+    /**
+     * Outcome of a bulk character generation.
+     */
+    public static class BulkResult {
+        private final int firstId;
+        private final int count;
+        private final long elapsedNanos;
+        
+        BulkResult(int firstId, int count, long elapsedNanos) {
+            this.firstId = firstId;
+            this.count = count;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        /** @return ID of the first character; the rest follow consecutively */
+        public int getFirstId() {
+            return firstId;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        public int[] getCharacterIds() {
+            return IntStream.range(firstId, firstId + count).toArray();
+        }
+        
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+        
+        public double getCharactersPerSecond() {
+            return elapsedNanos > 0 ? count * 1e9 / elapsedNanos : 0.0;
+        }
+    }
+    
+    /**
+     * Creates many characters of one archetype and registers them in the universal registry.
+     * @see #createCharacters(String, int, long, int, BulkProgressListener)
+     */
+    public static BulkResult createCharacters(String archetype, int count, long seed, BulkProgressListener progress) {
+        return createCharacters(archetype, count, seed, NO_FACTION, progress);
+    }
+    
+    /**
+     * Creates many characters of one archetype, registers them in the universal
+     * registry and adds them to a faction's file.
+     * 
+     * An ID block is reserved from FactionRegistry up front and the characters
+     * are generated in parallel, each from its own Random seeded from the seed
+     * and its index, so the result does not depend on thread scheduling. The
+     * registry and faction file are written once at the end instead of once
+     * per character.
+     * 
+     * @param archetype The character archetype to create
+     * @param count Number of characters
+     * @param seed Seed for the per-character random streams
+     * @param factionId Faction to add the characters to, or NO_FACTION for none
+     * @param progress Receives progress about every PROGRESS_INTERVAL_MS, may be null
+     * @return The reserved ID block and throughput
+     */
+    public static BulkResult createCharacters(String archetype, int count, long seed, int factionId, BulkProgressListener progress) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Character count must be positive: " + count);
+        }
+        FactionRegistry factionRegistry = FactionRegistry.getInstance();
+        if (factionId != NO_FACTION && !factionRegistry.hasFaction(factionId)) {
+            throw new IllegalArgumentException("Unknown faction: " + factionId);
+        }
+        
+        // Keep the reserved block clear of IDs the universal registry has handed out itself
+        if (factionRegistry.getNextCharacterId() < registry.getNextCharacterId()) {
+            factionRegistry.updateNextCharacterId(registry.getNextCharacterId());
+        }
+        int firstId = factionRegistry.allocateCharacterIds(count);
+        
+        long startTime = System.nanoTime();
+        Character[] characters = generateCharacters(archetype, firstId, count, seed, factionId, progress);
+        
+        // Commit once
+        registry.registerCharacters(Arrays.asList(characters));
+        if (factionId != NO_FACTION) {
+            CharacterPersistenceManager persistenceManager = CharacterPersistenceManager.getInstance();
+            persistenceManager.beginBatch();
+            try {
+                for (Character character : characters) {
+                    persistenceManager.saveCharacter(character);
+                }
+            } finally {
+                persistenceManager.endBatch();
+            }
+        }
+        
+        long elapsed = System.nanoTime() - startTime;
+        if (progress != null) {
+            progress.onProgress(count, count, rate(count, startTime));
+        }
+        BulkResult result = new BulkResult(firstId, count, elapsed);
+        System.out.println("*** Generated " + count + " " + archetype + " characters (IDs " + firstId + "-" + (firstId + count - 1) + ") in " +
+                           result.getElapsedMillis() + " ms, " + String.format("%.0f", result.getCharactersPerSecond()) + " characters/s");
+        return result;
+    }
+    
+    /**
+     * Generates characters with consecutive IDs from firstId without reserving
+     * the IDs, registering the characters or writing any file; the generation
+     * half of createCharacters. The same arguments always produce the same
+     * characters.
+     * 
+     * @param archetype The character archetype to create
+     * @param firstId ID of the first character
+     * @param count Number of characters
+     * @param seed Seed for the per-character random streams
+     * @param factionId Faction to set on the characters, or NO_FACTION for none
+     * @param progress Receives progress about every PROGRESS_INTERVAL_MS, may be null
+     * @return The characters, in ID order
+     */
+    public static Character[] generateCharacters(String archetype, int firstId, int count, long seed, int factionId, BulkProgressListener progress) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Character count must be positive: " + count);
+        }
+        
+        // Name data is shared by the worker threads, so load it before they start
+        loadThemeNames(themeManager.getCurrentThemeId());
+        
+        long startTime = System.nanoTime();
+        Character[] characters = new Character[count];
+        AtomicInteger completed = new AtomicInteger();
+        IntConsumer generate = i -> {
+            Character character = createCharacterByArchetype(archetype, firstId + i, new Random(streamSeed(seed, i)));
+            if (factionId != NO_FACTION) {
+                character.setFaction(factionId);
+            }
+            characters[i] = character;
+            completed.incrementAndGet();
+        };
+        
+        // The first character is made here so the lazily created managers it touches exist before the workers start
+        generate.accept(0);
+        ForkJoinTask<?> task = ForkJoinPool.commonPool().submit(() ->
+            IntStream.range(1, count).parallel().forEach(generate));
+        
+        while (true) {
+            try {
+                task.get(PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                break;
+            } catch (TimeoutException e) {
+                if (progress != null) {
+                    progress.onProgress(completed.get(), count, rate(completed.get(), startTime));
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Bulk character generation failed", e.getCause());
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Bulk character generation interrupted", e);
+            }
+        }
+        return characters;
+    }
+    
+    private static double rate(int completed, long startTime) {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed > 0 ? completed * 1e9 / elapsed : 0.0;
+    }
+    
+    /**
+     * Seed of the random stream for one character (SplitMix64 finalizer), so
+     * neighbouring indexes get unrelated streams.
+     */
+    private static long streamSeed(long seed, int index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
     /**
      * Creates a character based on archetype
      */
-    private static Character createCharacterByArchetype(String archetype) {
+    private static Character createCharacterByArchetype(String archetype, int id, Random rng) {
         switch (archetype.toLowerCase()) {
             case "gunslinger":
-                return createGunslinger();
+                return createGunslinger(id, rng);
             case "soldier":
-                return createSoldier();
+                return createSoldier(id, rng);
             case "medic":
-                return createMedic();
+                return createMedic(id, rng);
             case "scout":
-                return createScout();
+                return createScout(id, rng);
             case "marksman":
-                return createMarksman();
+                return createMarksman(id, rng);
             case "brawler":
-                return createBrawler();
+                return createBrawler(id, rng);
             case "confederate_soldier":
-                return createConfederateSoldier();
+                return createConfederateSoldier(id, rng);
             case "union_soldier":
-                return createUnionSoldier();
+                return createUnionSoldier(id, rng);
             case "weighted_random":
-                return createWeightedRandom();
+                return createWeightedRandom(id, rng);
             default:
-                return createBalanced();
+                return createBalanced(id, rng);
         }
     }
     
-    private static Character createGunslinger() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createGunslinger(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0, // ID assigned by registry
+            id, // Reserved ID, or 0 for the registry to assign
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null, // No theme
             85, // High dexterity
-            generateArchetypeHealth("gunslinger"), 
+            generateArchetypeHealth(rng, "gunslinger"), 
             80, // High coolness
             60,
             90, // High reflexes
@@ -110,19 +320,19 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createSoldier() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createSoldier(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             75,
-            generateArchetypeHealth("soldier"), // Base health
+            generateArchetypeHealth(rng, "soldier"), // Base health
             70,
             80, // High strength
             70,
@@ -136,19 +346,19 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createMedic() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createMedic(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             80, // Good dexterity for medical work
-            generateArchetypeHealth("medic"),
+            generateArchetypeHealth(rng, "medic"),
             85, // High coolness under pressure
             65,
             75,
@@ -162,19 +372,19 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createScout() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createScout(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             90, // Very high dexterity
-            generateArchetypeHealth("scout"),
+            generateArchetypeHealth(rng, "scout"),
             75,
             70,
             85, // High reflexes
@@ -189,16 +399,16 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createMarksman() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createMarksman(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             95, // Excellent dexterity
             100,
@@ -215,16 +425,16 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createBrawler() {
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+    private static Character createBrawler(int id, Random rng) {
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             70,
             100, // Base health
@@ -241,19 +451,19 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createBalanced() {
+    private static Character createBalanced(int id, Random rng) {
         // 50/50 gender split for balanced characters
-        String gender = RandomProvider.nextBoolean() ? "male" : "female";
+        String gender = rng.nextBoolean() ? "male" : "female";
         String themeId = themeManager.getCurrentThemeId();
-        String firstName = generateThemeBasedFirstName(gender, themeId);
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeId);
+        String firstName = generateThemeBasedFirstName(rng, gender, themeId);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeId);
         
         Character character = new Character(
-            0,
+            id,
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null,
             75, // Balanced stats
             100,
@@ -270,43 +480,43 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createWeightedRandom() {
+    private static Character createWeightedRandom(int id, Random rng) {
         // Generate stats using dual-roll averaging and reroll any stat <= 20
         int avgDexterity, avgCoolness, avgStrength, avgReflexes, avgHealth;
         
         // Generate dexterity with reroll if <= 20
         do {
-            int dex1 = RandomProvider.nextInt(100) + 1, dex2 = RandomProvider.nextInt(100) + 1;
+            int dex1 = rng.nextInt(100) + 1, dex2 = rng.nextInt(100) + 1;
             avgDexterity = Math.max(1, (dex1 + dex2) / 2);
         } while (avgDexterity <= 20);
         
         // Generate coolness with reroll if <= 20
         do {
-            int cool1 = RandomProvider.nextInt(100) + 1, cool2 = RandomProvider.nextInt(100) + 1;
+            int cool1 = rng.nextInt(100) + 1, cool2 = rng.nextInt(100) + 1;
             avgCoolness = Math.max(1, (cool1 + cool2) / 2);
         } while (avgCoolness <= 20);
         
         // Generate strength with reroll if <= 20
         do {
-            int str1 = RandomProvider.nextInt(100) + 1, str2 = RandomProvider.nextInt(100) + 1;
+            int str1 = rng.nextInt(100) + 1, str2 = rng.nextInt(100) + 1;
             avgStrength = Math.max(1, (str1 + str2) / 2);
         } while (avgStrength <= 20);
         
         // Generate reflexes with reroll if <= 20
         do {
-            int ref1 = RandomProvider.nextInt(100) + 1, ref2 = RandomProvider.nextInt(100) + 1;
+            int ref1 = rng.nextInt(100) + 1, ref2 = rng.nextInt(100) + 1;
             avgReflexes = Math.max(1, (ref1 + ref2) / 2);
         } while (avgReflexes <= 20);
         
         // Generate health with reroll if <= 20
         do {
-            int health1 = RandomProvider.nextInt(100) + 1, health2 = RandomProvider.nextInt(100) + 1;
+            int health1 = rng.nextInt(100) + 1, health2 = rng.nextInt(100) + 1;
             avgHealth = Math.max(1, (health1 + health2) / 2);
         } while (avgHealth <= 20);
         
         // Realistic handedness distribution: 89% right, 10% left, 1% ambidextrous
         Handedness randomHandedness;
-        int handednessRoll = RandomProvider.nextInt(100) + 1; // 1-100
+        int handednessRoll = rng.nextInt(100) + 1; // 1-100
         if (handednessRoll <= 89) {
             randomHandedness = Handedness.RIGHT_HANDED; // 89%
         } else if (handednessRoll <= 99) {
@@ -316,17 +526,17 @@ public class CharacterFactory {
         }
         
         // 50/50 gender split for weighted_random
-        String gender = RandomProvider.nextBoolean() ? "male" : "female";
+        String gender = rng.nextBoolean() ? "male" : "female";
         String themeId = themeManager.getCurrentThemeId();
-        String firstName = generateThemeBasedFirstName(gender, themeId);
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeId);
+        String firstName = generateThemeBasedFirstName(rng, gender, themeId);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeId);
         
         Character character = new Character(
-            0, // ID assigned by registry
+            id, // Reserved ID, or 0 for the registry to assign
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null, // No theme
             avgDexterity,
             avgHealth, // Use dual-roll averaged health like other stats
@@ -340,13 +550,13 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createConfederateSoldier() {
+    private static Character createConfederateSoldier(int id, Random rng) {
         // Use the same random stat generation as weighted_random
-        int dex1 = RandomProvider.nextInt(100) + 1, dex2 = RandomProvider.nextInt(100) + 1;
+        int dex1 = rng.nextInt(100) + 1, dex2 = rng.nextInt(100) + 1;
         int health1 = 100, health2 = 100; // Health base 100 consistent with character stats
-        int cool1 = RandomProvider.nextInt(100) + 1, cool2 = RandomProvider.nextInt(100) + 1;
-        int str1 = RandomProvider.nextInt(100) + 1, str2 = RandomProvider.nextInt(100) + 1;
-        int ref1 = RandomProvider.nextInt(100) + 1, ref2 = RandomProvider.nextInt(100) + 1;
+        int cool1 = rng.nextInt(100) + 1, cool2 = rng.nextInt(100) + 1;
+        int str1 = rng.nextInt(100) + 1, str2 = rng.nextInt(100) + 1;
+        int ref1 = rng.nextInt(100) + 1, ref2 = rng.nextInt(100) + 1;
         
         // Calculate averages
         int avgDexterity = (dex1 + dex2) / 2;
@@ -356,21 +566,21 @@ public class CharacterFactory {
         int avgReflexes = (ref1 + ref2) / 2;
         
         // Random handedness
-        Handedness randomHandedness = RandomProvider.nextBoolean() ? 
+        Handedness randomHandedness = rng.nextBoolean() ? 
             Handedness.LEFT_HANDED : Handedness.RIGHT_HANDED;
         
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0, // ID assigned by registry
+            id, // Reserved ID, or 0 for the registry to assign
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null, // No theme
             avgDexterity,
-            generateArchetypeHealth("confederate_soldier"),
+            generateArchetypeHealth(rng, "confederate_soldier"),
             avgCoolness,
             avgStrength,
             avgReflexes,
@@ -383,12 +593,12 @@ public class CharacterFactory {
         return character;
     }
     
-    private static Character createUnionSoldier() {
+    private static Character createUnionSoldier(int id, Random rng) {
         // Use the same random stat generation as weighted_random
-        int dex1 = RandomProvider.nextInt(100) + 1, dex2 = RandomProvider.nextInt(100) + 1;
-        int cool1 = RandomProvider.nextInt(100) + 1, cool2 = RandomProvider.nextInt(100) + 1;
-        int str1 = RandomProvider.nextInt(100) + 1, str2 = RandomProvider.nextInt(100) + 1;
-        int ref1 = RandomProvider.nextInt(100) + 1, ref2 = RandomProvider.nextInt(100) + 1;
+        int dex1 = rng.nextInt(100) + 1, dex2 = rng.nextInt(100) + 1;
+        int cool1 = rng.nextInt(100) + 1, cool2 = rng.nextInt(100) + 1;
+        int str1 = rng.nextInt(100) + 1, str2 = rng.nextInt(100) + 1;
+        int ref1 = rng.nextInt(100) + 1, ref2 = rng.nextInt(100) + 1;
         
         // Calculate averages
         int avgDexterity = (dex1 + dex2) / 2;
@@ -397,21 +607,21 @@ public class CharacterFactory {
         int avgReflexes = (ref1 + ref2) / 2;
         
         // Random handedness
-        Handedness randomHandedness = RandomProvider.nextBoolean() ? 
+        Handedness randomHandedness = rng.nextBoolean() ? 
             Handedness.LEFT_HANDED : Handedness.RIGHT_HANDED;
         
-        String firstName = generateFirstName();
-        String nickname = (RandomProvider.nextInt(100) < 80) ? firstName : generateCreativeNickname(themeManager.getCurrentThemeId());
+        String firstName = generateFirstName(rng);
+        String nickname = (rng.nextInt(100) < 80) ? firstName : generateCreativeNickname(rng, themeManager.getCurrentThemeId());
         
         Character character = new Character(
-            0, // ID assigned by registry
+            id, // Reserved ID, or 0 for the registry to assign
             nickname,
             firstName,
-            generateLastName(),
-            generateBirthdate(),
+            generateLastName(rng),
+            generateBirthdate(rng),
             null, // No theme
             avgDexterity,
-            generateArchetypeHealth("union_soldier"),
+            generateArchetypeHealth(rng, "union_soldier"),
             avgCoolness,
             avgStrength,
             avgReflexes,
@@ -425,22 +635,22 @@ public class CharacterFactory {
     }
     
     // Helper methods for generating character attributes
-    private static String generateName(String archetype) {
+    private static String generateName(Random rng, String archetype) {
         String themeId = themeManager.getCurrentThemeId();
-        String firstName = generateThemeBasedFirstName("male", themeId);
+        String firstName = generateThemeBasedFirstName(rng, "male", themeId);
         
         // 80% of time use first name, 20% use creative nickname
-        if (RandomProvider.nextInt(100) < 80) {
+        if (rng.nextInt(100) < 80) {
             return firstName;
         } else {
-            return generateCreativeNickname(themeId);
+            return generateCreativeNickname(rng, themeId);
         }
     }
     
     /**
      * Generate an appropriate nickname based on first name and theme
      */
-    private static String generateNicknameFromFirstName(String firstName, String themeId) {
+    private static String generateNicknameFromFirstName(Random rng, String firstName, String themeId) {
         try {
             InputStream is = CharacterFactory.class.getResourceAsStream("/data/themes/" + themeId + "/names.json");
             if (is == null) {
@@ -457,8 +667,8 @@ public class CharacterFactory {
             JsonNode nameNicknames = nicknames.get(firstName);
             if (nameNicknames.isArray() && nameNicknames.size() > 0) {
                 // 50% chance to use nickname vs first name
-                if (RandomProvider.nextBoolean()) {
-                    int index = RandomProvider.nextInt(nameNicknames.size());
+                if (rng.nextBoolean()) {
+                    int index = rng.nextInt(nameNicknames.size());
                     return nameNicknames.get(index).asText();
                 } else {
                     return firstName;
@@ -472,26 +682,26 @@ public class CharacterFactory {
         }
     }
     
-    private static String generateFirstName() {
+    private static String generateFirstName(Random rng) {
         String themeId = themeManager.getCurrentThemeId();
-        return generateThemeBasedFirstName("male", themeId);
+        return generateThemeBasedFirstName(rng, "male", themeId);
     }
     
     /**
      * Generate a theme-based first name using frequency-weighted selection
      */
-    private static String generateThemeBasedFirstName(String themeId) {
+    private static String generateThemeBasedFirstName(Random rng, String themeId) {
         try {
             InputStream is = CharacterFactory.class.getResourceAsStream("/data/themes/" + themeId + "/names.json");
             if (is == null) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
             JsonNode root = objectMapper.readTree(is);
             JsonNode maleNames = root.get("maleNames");
             
             if (maleNames == null) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
             // Create weighted list for frequency-based selection
@@ -507,24 +717,24 @@ public class CharacterFactory {
             });
             
             if (weightedNames.isEmpty()) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
-            return weightedNames.get(RandomProvider.nextInt(weightedNames.size()));
+            return weightedNames.get(rng.nextInt(weightedNames.size()));
             
         } catch (Exception e) {
-            return generateFallbackFirstName();
+            return generateFallbackFirstName(rng);
         }
     }
     
-    private static String generateFallbackFirstName() {
+    private static String generateFallbackFirstName(Random rng) {
         String[] maleNames = {"John", "William", "James", "Charles", "George", "Frank", "Joseph", "Thomas", "Henry", "Robert"};
-        return maleNames[RandomProvider.nextInt(maleNames.length)];
+        return maleNames[rng.nextInt(maleNames.length)];
     }
     
-    private static String generateLastName() {
+    private static String generateLastName(Random rng) {
         String themeId = themeManager.getCurrentThemeId();
-        return generateThemeBasedLastName(themeId);
+        return generateThemeBasedLastName(rng, themeId);
     }
     
     /**
@@ -577,133 +787,130 @@ public class CharacterFactory {
     /**
      * Generate a theme-based first name using frequency-weighted selection
      */
-    private static String generateThemeBasedFirstName(String gender, String themeId) {
+    private static String generateThemeBasedFirstName(Random rng, String gender, String themeId) {
         loadThemeNames(themeId);
         
         try {
             Map<String, Object> themeNames = themeNameCache.get(themeId);
             if (themeNames == null) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
             String namesKey = gender.equals("female") ? "femaleNames" : "maleNames";
             JsonNode names = (JsonNode) themeNames.get(namesKey);
             
             if (names == null) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
-            // Create weighted list for frequency-based selection
-            List<String> weightedNames = new ArrayList<>();
-            names.fields().forEachRemaining(entry -> {
-                String name = entry.getKey();
-                double frequency = entry.getValue().asDouble();
-                int weight = Math.max(1, (int) Math.round(frequency * 10)); // Scale frequency to integer weight
-                
-                for (int i = 0; i < weight; i++) {
-                    weightedNames.add(name);
-                }
-            });
-            
+            List<String> weightedNames = getWeightedNames(themeId, namesKey, names);
             if (weightedNames.isEmpty()) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
-            return weightedNames.get(RandomProvider.nextInt(weightedNames.size()));
+            return weightedNames.get(rng.nextInt(weightedNames.size()));
             
         } catch (Exception e) {
-            return generateFallbackFirstName();
+            return generateFallbackFirstName(rng);
         }
     }
     
     /**
      * Generate a theme-based last name using frequency-weighted selection
      */
-    private static String generateThemeBasedLastName(String themeId) {
+    private static String generateThemeBasedLastName(Random rng, String themeId) {
         loadThemeNames(themeId);
         
         try {
             Map<String, Object> themeNames = themeNameCache.get(themeId);
             if (themeNames == null) {
-                return generateFallbackLastName();
+                return generateFallbackLastName(rng);
             }
             
             JsonNode lastNames = (JsonNode) themeNames.get("lastNames");
             if (lastNames == null) {
-                return generateFallbackLastName();
+                return generateFallbackLastName(rng);
             }
             
-            // Create weighted list for frequency-based selection
-            List<String> weightedLastNames = new ArrayList<>();
-            lastNames.fields().forEachRemaining(entry -> {
+            List<String> weightedLastNames = getWeightedNames(themeId, "lastNames", lastNames);
+            if (weightedLastNames.isEmpty()) {
+                return generateFallbackLastName(rng);
+            }
+            
+            return weightedLastNames.get(rng.nextInt(weightedLastNames.size()));
+            
+        } catch (Exception e) {
+            return generateFallbackLastName(rng);
+        }
+    }
+    
+    /**
+     * Returns the frequency-weighted selection list for a theme's names, building it on first use
+     */
+    private static List<String> getWeightedNames(String themeId, String namesKey, JsonNode names) {
+        return weightedNameCache.computeIfAbsent(themeId + "/" + namesKey, key -> {
+            List<String> weightedNames = new ArrayList<>();
+            names.fields().forEachRemaining(entry -> {
                 String name = entry.getKey();
                 double frequency = entry.getValue().asDouble();
                 int weight = Math.max(1, (int) Math.round(frequency * 10)); // Scale frequency to integer weight
                 
                 for (int i = 0; i < weight; i++) {
-                    weightedLastNames.add(name);
+                    weightedNames.add(name);
                 }
             });
-            
-            if (weightedLastNames.isEmpty()) {
-                return generateFallbackLastName();
-            }
-            
-            return weightedLastNames.get(RandomProvider.nextInt(weightedLastNames.size()));
-            
-        } catch (Exception e) {
-            return generateFallbackLastName();
-        }
+            return weightedNames;
+        });
     }
     
     /**
      * Generate a creative nickname from theme-specific nickname list
      */
-    private static String generateCreativeNickname(String themeId) {
+    private static String generateCreativeNickname(Random rng, String themeId) {
         loadThemeNames(themeId);
         
         try {
             Map<String, Object> themeNames = themeNameCache.get(themeId);
             if (themeNames == null) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
             JsonNode nicknames = (JsonNode) themeNames.get("nicknames");
             if (nicknames == null || !nicknames.isArray()) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
             List<String> nicknameList = new ArrayList<>();
             nicknames.forEach(node -> nicknameList.add(node.asText()));
             
             if (nicknameList.isEmpty()) {
-                return generateFallbackFirstName();
+                return generateFallbackFirstName(rng);
             }
             
-            return nicknameList.get(RandomProvider.nextInt(nicknameList.size()));
+            return nicknameList.get(rng.nextInt(nicknameList.size()));
             
         } catch (Exception e) {
-            return generateFallbackFirstName();
+            return generateFallbackFirstName(rng);
         }
     }
     
-    private static String generateFallbackLastName() {
+    private static String generateFallbackLastName(Random rng) {
         String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Wilson", "Moore", "Taylor"};
-        return lastNames[RandomProvider.nextInt(lastNames.length)];
+        return lastNames[rng.nextInt(lastNames.length)];
     }
 
     
-    private static Date generateBirthdate() {
-        return generateBirthdateForTheme(themeManager.getCurrentThemeId());
+    private static Date generateBirthdate(Random rng) {
+        return generateBirthdateForTheme(rng, themeManager.getCurrentThemeId());
     }
     
     /**
      * Generate a theme-based birthdate for ages 18-45 based on theme's currentDate
      */
-    private static Date generateBirthdateForTheme(String themeId) {
+    private static Date generateBirthdateForTheme(Random rng, String themeId) {
         ThemeData theme = themeManager.getTheme(themeId);
         if (theme == null) {
-            return generateFallbackBirthdate();
+            return generateFallbackBirthdate(rng);
         }
         
         try {
@@ -720,27 +927,27 @@ public class CharacterFactory {
                 } else if (themeId.equals("civil_war")) {
                     current.set(1861, Calendar.APRIL, 16);
                 } else {
-                    return generateFallbackBirthdate();
+                    return generateFallbackBirthdate(rng);
                 }
             }
             
             // Generate age between 18-45
-            int age = 18 + RandomProvider.nextInt(28);
+            int age = 18 + rng.nextInt(28);
             Calendar birthdate = Calendar.getInstance();
             birthdate.setTime(current.getTime());
             birthdate.add(Calendar.YEAR, -age);
             
             return birthdate.getTime();
         } catch (Exception e) {
-            return generateFallbackBirthdate();
+            return generateFallbackBirthdate(rng);
         }
     }
     
-    private static Date generateFallbackBirthdate() {
+    private static Date generateFallbackBirthdate(Random rng) {
         Calendar cal = Calendar.getInstance();
-        int year = 1850 + RandomProvider.nextInt(20);
-        int month = RandomProvider.nextInt(12);
-        int day = 1 + RandomProvider.nextInt(28);
+        int year = 1850 + rng.nextInt(20);
+        int month = rng.nextInt(12);
+        int day = 1 + rng.nextInt(28);
         cal.set(year, month, day);
         return cal.getTime();
     }
@@ -750,28 +957,28 @@ public class CharacterFactory {
      * @param archetype The character archetype
      * @return Health value within archetype-appropriate range
      */
-    private static int generateArchetypeHealth(String archetype) {
+    private static int generateArchetypeHealth(Random rng, String archetype) {
         switch (archetype.toLowerCase()) {
             case "gunslinger":
-                return 70 + RandomProvider.nextInt(31); // 70-100 (hardy background)
+                return 70 + rng.nextInt(31); // 70-100 (hardy background)
             case "soldier":
-                return 80 + RandomProvider.nextInt(21); // 80-100 (very hardy, military training)
+                return 80 + rng.nextInt(21); // 80-100 (very hardy, military training)
             case "medic":
-                return 60 + RandomProvider.nextInt(31); // 60-90 (average physical condition)
+                return 60 + rng.nextInt(31); // 60-90 (average physical condition)
             case "scout":
-                return 50 + RandomProvider.nextInt(41); // 50-90 (varied backgrounds)
+                return 50 + rng.nextInt(41); // 50-90 (varied backgrounds)
             case "marksman":
-                return 40 + RandomProvider.nextInt(41); // 40-80 (focused, less hardy)
+                return 40 + rng.nextInt(41); // 40-80 (focused, less hardy)
             case "brawler":
-                return 85 + RandomProvider.nextInt(16); // 85-100 (very hardy, physical background)
+                return 85 + rng.nextInt(16); // 85-100 (very hardy, physical background)
             case "confederate_soldier":
             case "union_soldier":
-                return 75 + RandomProvider.nextInt(26); // 75-100 (military training)
+                return 75 + rng.nextInt(26); // 75-100 (military training)
             case "balanced":
-                return 65 + RandomProvider.nextInt(36); // 65-100 (well-rounded)
+                return 65 + rng.nextInt(36); // 65-100 (well-rounded)
             case "weighted_random":
             default:
-                return 21 + RandomProvider.nextInt(80); // 21-100 (general range)
+                return 21 + rng.nextInt(80); // 21-100 (general range)
         }
     }
 
@@ -26,30 +26,33 @@ public class CharacterPersistenceManager {
         int factionId = character.getFaction();
         CharacterData characterData = convertToCharacterData(character);
         
-        // Get the faction file data
-        FactionRegistry.FactionFileData factionFile = loadFactionFileData(factionId);
+        // Get the cached faction file
+        FactionRegistry.CachedFactionFile factionFile = getCachedFactionFile(factionId);
         if (factionFile == null) {
             System.err.println("Error: Cannot find faction file for faction " + factionId);
             return;
         }
         
         // Update or add character in the faction file
-        boolean found = false;
-        for (int i = 0; i < factionFile.characters.size(); i++) {
-            CharacterData existing = factionFile.characters.get(i);
-            if (existing.id == character.id) {
-                factionFile.characters.set(i, characterData);
-                found = true;
-                break;
-            }
-        }
-        
-        if (!found) {
-            factionFile.characters.add(characterData);
-        }
+        factionFile.putCharacter(characterData);
         
-        // Save the faction file
-        saveFactionFileData(factionId, factionFile);
+        // Written now, or at the end of the current batch
+        factionRegistry.markFactionFileDirty(factionId);
+    }
+    
+    /**
+     * Starts a batch of character saves. Faction files touched during the
+     * batch are written once each when the batch ends.
+     */
+    public void beginBatch() {
+        factionRegistry.beginBatch();
+    }
+    
+    /**
+     * Ends a batch of character saves and writes the changed faction files.
+     */
+    public void endBatch() {
+        factionRegistry.endBatch();
     }
     
     /**
@@ -57,10 +60,10 @@ public class CharacterPersistenceManager {
      */
     public List<Character> loadCharactersFromFaction(int factionId) {
         List<Character> characters = new ArrayList<>();
-        FactionRegistry.FactionFileData factionFile = loadFactionFileData(factionId);
+        FactionRegistry.CachedFactionFile factionFile = getCachedFactionFile(factionId);
         
         if (factionFile != null) {
-            for (CharacterData characterData : factionFile.characters) {
+            for (CharacterData characterData : factionFile.data.characters) {
                 Character character = convertFromCharacterData(characterData);
                 characters.add(character);
             }
@@ -73,13 +76,12 @@ public class CharacterPersistenceManager {
      * Load a specific character by ID from its faction file
      */
     public Character loadCharacter(int characterId, int factionId) {
-        List<Character> characters = loadCharactersFromFaction(factionId);
-        for (Character character : characters) {
-            if (character.id == characterId) {
-                return character;
-            }
+        FactionRegistry.CachedFactionFile factionFile = getCachedFactionFile(factionId);
+        if (factionFile == null) {
+            return null;
         }
-        return null;
+        CharacterData characterData = factionFile.getCharacter(characterId);
+        return characterData != null ? convertFromCharacterData(characterData) : null;
     }
     
     /**
@@ -102,51 +104,47 @@ public class CharacterPersistenceManager {
      * Remove a character from its faction file
      */
     public void removeCharacter(int characterId, int factionId) {
-        FactionRegistry.FactionFileData factionFile = loadFactionFileData(factionId);
+        FactionRegistry.CachedFactionFile factionFile = getCachedFactionFile(factionId);
         if (factionFile == null) {
             return;
         }
         
-        factionFile.characters.removeIf(characterData -> characterData.id == characterId);
-        
-        saveFactionFileData(factionId, factionFile);
+        if (factionFile.removeCharacter(characterId)) {
+            factionRegistry.markFactionFileDirty(factionId);
+        }
     }
     
     /**
      * Update battle statistics for all characters in a faction
      */
     public void updateFactionBattleStatistics(int factionId, boolean victory) {
-        List<Character> characters = loadCharactersFromFaction(factionId);
+        FactionRegistry.CachedFactionFile factionFile = getCachedFactionFile(factionId);
+        if (factionFile == null) {
+            return;
+        }
         
-        for (Character character : characters) {
-            character.battlesParticipated++;
+        // Statistics are plain counters, so update the cached records in place
+        for (CharacterData characterData : factionFile.data.characters) {
+            characterData.battlesParticipated++;
             if (victory) {
-                character.victories++;
+                characterData.victories++;
             } else {
-                character.defeats++;
+                characterData.defeats++;
             }
-            saveCharacter(character);
         }
+        factionRegistry.markFactionFileDirty(factionId);
     }
     
     // Helper methods
-    private FactionRegistry.FactionFileData loadFactionFileData(int factionId) {
+    private FactionRegistry.CachedFactionFile getCachedFactionFile(int factionId) {
         try {
-            return factionRegistry.loadFactionFileData(factionId);
+            return factionRegistry.getCachedFactionFile(factionId);
         } catch (Exception e) {
             System.err.println("Error loading faction file data for faction " + factionId + ": " + e.getMessage());
             return null;
         }
     }
     
-    private void saveFactionFileData(int factionId, FactionRegistry.FactionFileData factionFile) {
-        try {
-            factionRegistry.saveFactionFileData(factionId, factionFile);
-        } catch (Exception e) {
-            System.err.println("Error saving faction file data for faction " + factionId + ": " + e.getMessage());
-        }
-    }
-    
     private CharacterData convertToCharacterData(Character character) {
         CharacterData data = new CharacterData();
         
@@ -177,27 +175,27 @@ public class CharacterPersistenceManager {
         data.preferredFiringMode = character.preferredFiringMode;
         
         // Battle statistics
-        data.combatEngagements = character.combatEngagements;
-        data.woundsReceived = character.woundsReceived;
-        data.woundsInflictedScratch = character.woundsInflictedScratch;
-        data.woundsInflictedLight = character.woundsInflictedLight;
-        data.woundsInflictedSerious = character.woundsInflictedSerious;
-        data.woundsInflictedCritical = character.woundsInflictedCritical;
-        data.attacksAttempted = character.attacksAttempted;
-        data.attacksSuccessful = character.attacksSuccessful;
-        data.targetsIncapacitated = character.targetsIncapacitated;
-        data.headshotsAttempted = character.headshotsAttempted;
-        data.headshotsSuccessful = character.headshotsSuccessful;
-        data.headshotIncapacitations = character.headshotIncapacitations;
-        data.battlesParticipated = character.battlesParticipated;
-        data.victories = character.victories;
-        data.defeats = character.defeats;
+        data.combatEngagements = character.career().combatEngagements;
+        data.woundsReceived = character.career().woundsReceived;
+        data.woundsInflictedScratch = character.career().woundsInflictedScratch;
+        data.woundsInflictedLight = character.career().woundsInflictedLight;
+        data.woundsInflictedSerious = character.career().woundsInflictedSerious;
+        data.woundsInflictedCritical = character.career().woundsInflictedCritical;
+        data.attacksAttempted = character.career().attacksAttempted;
+        data.attacksSuccessful = character.career().attacksSuccessful;
+        data.targetsIncapacitated = character.career().targetsIncapacitated;
+        data.headshotsAttempted = character.career().headshotsAttempted;
+        data.headshotsSuccessful = character.career().headshotsSuccessful;
+        data.headshotIncapacitations = character.career().headshotIncapacitations;
+        data.battlesParticipated = character.career().battlesParticipated;
+        data.victories = character.career().victories;
+        data.defeats = character.career().defeats;
         
         // Defensive statistics (DevCycle 23)
-        data.defensiveAttempts = character.defensiveAttempts;
-        data.defensiveSuccesses = character.defensiveSuccesses;
-        data.counterAttacksExecuted = character.counterAttacksExecuted;
-        data.counterAttacksSuccessful = character.counterAttacksSuccessful;
+        data.defensiveAttempts = character.career().defensiveAttempts;
+        data.defensiveSuccesses = character.career().defensiveSuccesses;
+        data.counterAttacksExecuted = character.career().counterAttacksExecuted;
+        data.counterAttacksSuccessful = character.career().counterAttacksSuccessful;
         
         // DevCycle 28: Multiple shot control
         data.multipleShootCount = character.multipleShootCount;
@@ -249,27 +247,27 @@ public class CharacterPersistenceManager {
         character.setFaction(data.faction);
         
         // Set battle statistics
-        character.combatEngagements = data.combatEngagements;
-        character.woundsReceived = data.woundsReceived;
-        character.woundsInflictedScratch = data.woundsInflictedScratch;
-        character.woundsInflictedLight = data.woundsInflictedLight;
-        character.woundsInflictedSerious = data.woundsInflictedSerious;
-        character.woundsInflictedCritical = data.woundsInflictedCritical;
-        character.attacksAttempted = data.attacksAttempted;
-        character.attacksSuccessful = data.attacksSuccessful;
-        character.targetsIncapacitated = data.targetsIncapacitated;
-        character.headshotsAttempted = data.headshotsAttempted;
-        character.headshotsSuccessful = data.headshotsSuccessful;
-        character.headshotIncapacitations = data.headshotIncapacitations;
-        character.battlesParticipated = data.battlesParticipated;
-        character.victories = data.victories;
-        character.defeats = data.defeats;
+        character.career().combatEngagements = data.combatEngagements;
+        character.career().woundsReceived = data.woundsReceived;
+        character.career().woundsInflictedScratch = data.woundsInflictedScratch;
+        character.career().woundsInflictedLight = data.woundsInflictedLight;
+        character.career().woundsInflictedSerious = data.woundsInflictedSerious;
+        character.career().woundsInflictedCritical = data.woundsInflictedCritical;
+        character.career().attacksAttempted = data.attacksAttempted;
+        character.career().attacksSuccessful = data.attacksSuccessful;
+        character.career().targetsIncapacitated = data.targetsIncapacitated;
+        character.career().headshotsAttempted = data.headshotsAttempted;
+        character.career().headshotsSuccessful = data.headshotsSuccessful;
+        character.career().headshotIncapacitations = data.headshotIncapacitations;
+        character.career().battlesParticipated = data.battlesParticipated;
+        character.career().victories = data.victories;
+        character.career().defeats = data.defeats;
         
         // Set defensive statistics (DevCycle 23)
-        character.defensiveAttempts = data.defensiveAttempts;
-        character.defensiveSuccesses = data.defensiveSuccesses;
-        character.counterAttacksExecuted = data.counterAttacksExecuted;
-        character.counterAttacksSuccessful = data.counterAttacksSuccessful;
+        character.career().defensiveAttempts = data.defensiveAttempts;
+        character.career().defensiveSuccesses = data.defensiveSuccesses;
+        character.career().counterAttacksExecuted = data.counterAttacksExecuted;
+        character.career().counterAttacksSuccessful = data.counterAttacksSuccessful;
         
         // DevCycle 28: Multiple shot control
         character.multipleShootCount = data.multipleShootCount;
@@ -0,0 +1,526 @@
+package data;
+
+import combat.BodyPart;
+import combat.Character;
+import combat.Handedness;
+import combat.Skill;
+import combat.Wound;
+import combat.WoundSeverity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compact on-disk store of universal characters, read lazily.
+ *
+ * The file holds a header, one length-prefixed binary record per character and
+ * an index of (id, record offset) pairs sorted by id. It is read through a
+ * read-only memory mapping: lookups binary search the mapped index and decode
+ * the record on demand into a bounded LRU cache, so opening the store costs the
+ * same for ten characters or a million and only recently used characters are
+ * on the heap.
+ *
+ * Characters put since the last save are held in memory until save(), which
+ * writes the next generation of the file (characters.dat.1, .2, ...), copying
+ * unchanged records byte for byte, and remaps to it. A mapped file is never
+ * replaced or truncated, which Windows refuses; the previous generation is
+ * deleted once that is allowed. Opening picks the newest readable generation,
+ * or the plain path for a store written before generations.
+ *
+ * Records hold the same universal attributes as UniversalCharacterData. Skills
+ * are read from and decoded into the Character.skills field; they reach
+ * CharacterSkillsManager only when UniversalCharacterRegistry copies a
+ * character out for play.
+ */
+public class CharacterRecordStore {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final int MAGIC = 0x4F464352; // "OFCR"
+    private static final int VERSION = 1;
+    // magic, version, nextCharacterId, count, indexOffset
+    private static final int HEADER_BYTES = 24;
+    // id, record offset
+    private static final int INDEX_ENTRY_BYTES = 12;
+    private static final long NO_BIRTHDATE = Long.MIN_VALUE;
+
+    private final Path path;
+    private final int cacheSize;
+
+    private MappedByteBuffer mapped;
+    private Path mappedFile;
+    // Highest generation seen on disk; the next save writes the one after it
+    private long lastGeneration;
+    // Earlier generations still to be deleted
+    private final List<Path> retired = new ArrayList<>();
+    private int count;
+    private long indexOffset;
+    private int nextCharacterId;
+
+    // Characters put since the last save, by id
+    private final TreeMap<Integer, Character> pending = new TreeMap<>();
+    private final LinkedHashMap<Integer, Character> cache;
+
+    private long decodeCount;
+
+    /**
+     * Opens the store at the given path. A missing file is an empty store that
+     * is created on the first save.
+     *
+     * @param path Record file, without its generation suffix
+     * @param cacheSize Maximum number of decoded characters kept in memory
+     */
+    public CharacterRecordStore(Path path, int cacheSize) throws IOException {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Character cache size must be positive: " + cacheSize);
+        }
+        this.path = path;
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<Integer, Character>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Character> eldest) {
+                return size() > CharacterRecordStore.this.cacheSize;
+            }
+        };
+        open();
+    }
+
+    /**
+     * @return true if a store has been saved at the given path
+     */
+    public static boolean exists(Path path) throws IOException {
+        return !findGenerations(path).isEmpty();
+    }
+
+    /**
+     * Maps the newest generation that reads cleanly, so a save interrupted
+     * before its header was written falls back to the one before it.
+     */
+    private void open() throws IOException {
+        List<Long> generations = findGenerations(path);
+        IOException failure = null;
+        long openedGeneration = -1;
+        for (long generation : generations) {
+            try {
+                map(fileFor(generation));
+                openedGeneration = generation;
+                break;
+            } catch (IOException e) {
+                System.err.println("Warning: skipping unreadable character records: " + e.getMessage());
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null && mapped == null) {
+            throw failure;
+        }
+        if (!generations.isEmpty()) {
+            lastGeneration = generations.get(0);
+        }
+        // Older generations are left behind when they could not be deleted in time
+        for (long generation : generations) {
+            if (generation < openedGeneration) {
+                retired.add(fileFor(generation));
+            }
+        }
+        deleteRetired();
+    }
+
+    private void map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a character record file: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported character record version " + buffer.getInt(4) + " in " + file);
+        }
+        long newIndexOffset = buffer.getLong(16);
+        if (newIndexOffset + (long) buffer.getInt(12) * INDEX_ENTRY_BYTES > buffer.capacity()) {
+            throw new IOException("Truncated character record file: " + file);
+        }
+        mapped = buffer;
+        mappedFile = file;
+        nextCharacterId = buffer.getInt(8);
+        count = buffer.getInt(12);
+        indexOffset = newIndexOffset;
+    }
+
+    /**
+     * @return The file holding a generation; generation 0 is the plain path
+     */
+    private Path fileFor(long generation) {
+        return generation == 0 ? path : path.resolveSibling(path.getFileName() + "." + generation);
+    }
+
+    /**
+     * @return The generations on disk, newest first
+     */
+    private static List<Long> findGenerations(Path path) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        Path directory = path.toAbsolutePath().getParent();
+        String prefix = path.getFileName() + ".";
+        if (directory != null && Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+                for (Path file : files) {
+                    String suffix = file.getFileName().toString().substring(prefix.length());
+                    if (!suffix.isEmpty() && suffix.chars().allMatch(java.lang.Character::isDigit)) {
+                        generations.add(Long.parseLong(suffix));
+                    }
+                }
+            }
+        }
+        if (Files.exists(path)) {
+            generations.add(0L);
+        }
+        generations.sort(Collections.reverseOrder());
+        return generations;
+    }
+
+    /**
+     * Gets a character by ID. The returned character is shared with the cache;
+     * callers that modify it should copy it first.
+     *
+     * @param id The character ID
+     * @return The character, or null if not found
+     */
+    public synchronized Character get(int id) {
+        Character character = pending.get(id);
+        if (character != null) {
+            return character;
+        }
+        character = cache.get(id);
+        if (character != null) {
+            return character;
+        }
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return null;
+        }
+        character = decode(recordAt(slot));
+        decodeCount++;
+        cache.put(id, character);
+        return character;
+    }
+
+    public synchronized boolean contains(int id) {
+        return pending.containsKey(id) || findSlot(id) >= 0;
+    }
+
+    /**
+     * Adds or replaces a character. It is written to disk by the next save().
+     */
+    public synchronized void put(Character character) {
+        pending.put(character.id, character);
+        cache.remove(character.id);
+    }
+
+    /**
+     * @return Number of distinct characters, saved or pending
+     */
+    public synchronized int size() {
+        int size = count;
+        for (Integer id : pending.keySet()) {
+            if (findSlot(id) < 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Builds the set of all character IDs. Unlike lookups this walks the whole
+     * index, so avoid it in per-frame code.
+     */
+    public synchronized Set<Integer> ids() {
+        Set<Integer> ids = new TreeSet<>(pending.keySet());
+        for (int slot = 0; slot < count; slot++) {
+            ids.add(idAt(slot));
+        }
+        return ids;
+    }
+
+    /**
+     * @return The next character ID recorded by the last save, or 0 for a new store
+     */
+    public synchronized int getNextCharacterId() {
+        return nextCharacterId;
+    }
+
+    public synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /** @return Records decoded from the file since the store was opened */
+    public synchronized long getDecodeCount() {
+        return decodeCount;
+    }
+
+    // Index
+
+    private int idAt(int slot) {
+        return mapped.getInt((int) (indexOffset + (long) slot * INDEX_ENTRY_BYTES));
+    }
+
+    private long offsetAt(int slot) {
+        return mapped.getLong((int) (indexOffset + (long) slot * INDEX_ENTRY_BYTES + 4));
+    }
+
+    private int findSlot(int id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = idAt(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The record at an index slot, without its length prefix
+     */
+    private ByteBuffer recordAt(int slot) {
+        int offset = (int) offsetAt(slot);
+        int length = mapped.getInt(offset);
+        return mapped.slice(offset + 4, length);
+    }
+
+    // Saving
+
+    /**
+     * Writes all characters to the next generation of the file, remaps to it
+     * and clears the pending set. The header is written and flushed last, so a
+     * failed save leaves the previous generation as the newest readable one.
+     *
+     * @param nextCharacterId Next ID the registry will assign
+     */
+    public synchronized void save(int nextCharacterId) throws IOException {
+        long generation = lastGeneration + 1;
+        Path file = fileFor(generation);
+        int total = size();
+        int[] ids = new int[total];
+        long[] offsets = new long[total];
+
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = HEADER_BYTES;
+            int slot = 0;
+            int written = 0;
+            // Merge the sorted index with the sorted pending characters
+            for (Map.Entry<Integer, Character> next : pending.entrySet()) {
+                while (slot < count && idAt(slot) < next.getKey()) {
+                    ids[written] = idAt(slot);
+                    offsets[written++] = position;
+                    position += writeFully(out, copyRecord(slot++), position);
+                }
+                if (slot < count && idAt(slot) == next.getKey()) {
+                    slot++; // Replaced by the pending character
+                }
+                ids[written] = next.getKey();
+                offsets[written++] = position;
+                position += writeFully(out, encode(next.getValue()), position);
+            }
+            while (slot < count) {
+                ids[written] = idAt(slot);
+                offsets[written++] = position;
+                position += writeFully(out, copyRecord(slot++), position);
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(written * INDEX_ENTRY_BYTES);
+            for (int i = 0; i < written; i++) {
+                index.putInt(ids[i]).putLong(offsets[i]);
+            }
+            long newIndexOffset = position;
+            writeFully(out, index.flip(), position);
+            out.force(false);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(nextCharacterId).putInt(written).putLong(newIndexOffset);
+            writeFully(out, header.flip(), 0);
+            out.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        lastGeneration = generation;
+
+        Path previous = mappedFile;
+        map(file);
+        if (previous != null) {
+            retired.add(previous);
+        }
+        deleteRetired();
+        // Saved characters are now read back from the file
+        for (Map.Entry<Integer, Character> saved : pending.entrySet()) {
+            cache.put(saved.getKey(), saved.getValue());
+        }
+        pending.clear();
+    }
+
+    /**
+     * Deletes earlier generations. Windows will not delete a file while it is
+     * mapped, and a mapping is only released once its buffer is garbage
+     * collected, so a file that cannot be deleted yet is retried on the next
+     * save or open.
+     */
+    private void deleteRetired() {
+        retired.removeIf(file -> {
+            try {
+                Files.deleteIfExists(file);
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        });
+    }
+
+    private ByteBuffer copyRecord(int slot) {
+        int offset = (int) offsetAt(slot);
+        return mapped.slice(offset, 4 + mapped.getInt(offset));
+    }
+
+    private static int writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            out.write(buffer, position + length - buffer.remaining());
+        }
+        return length;
+    }
+
+    // Record encoding
+
+    /**
+     * @return The length-prefixed record for a character
+     */
+    static ByteBuffer encode(Character character) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(0); // Length, filled in below
+        data.writeInt(character.id);
+        writeString(data, character.nickname);
+        writeString(data, character.firstName);
+        writeString(data, character.lastName);
+        data.writeLong(character.birthdate != null ? character.birthdate.getTime() : NO_BIRTHDATE);
+        data.writeInt(character.dexterity);
+        data.writeInt(character.health);
+        data.writeInt(character.coolness);
+        data.writeInt(character.strength);
+        data.writeInt(character.reflexes);
+        data.writeByte(character.handedness != null ? character.handedness.ordinal() : -1);
+        data.writeDouble(character.baseMovementSpeed);
+
+        data.writeShort(character.skills != null ? character.skills.size() : 0);
+        if (character.skills != null) {
+            for (Skill skill : character.skills) {
+                writeString(data, skill.getSkillName());
+                data.writeInt(skill.getLevel());
+            }
+        }
+        data.writeShort(character.wounds != null ? character.wounds.size() : 0);
+        if (character.wounds != null) {
+            for (Wound wound : character.wounds) {
+                data.writeByte(wound.getBodyPart().ordinal());
+                data.writeByte(wound.getSeverity().ordinal());
+            }
+        }
+        data.flush();
+
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        record.putInt(0, record.capacity() - 4);
+        return record;
+    }
+
+    /**
+     * Decodes a record, without its length prefix, the way
+     * UniversalCharacterRegistry restores UniversalCharacterData.
+     */
+    static Character decode(ByteBuffer record) {
+        int id = record.getInt();
+        String nickname = readString(record);
+        String firstName = readString(record);
+        String lastName = readString(record);
+        long birthdate = record.getLong();
+        int dexterity = record.getInt();
+        int health = record.getInt();
+        int coolness = record.getInt();
+        int strength = record.getInt();
+        int reflexes = record.getInt();
+        byte handedness = record.get();
+
+        Character character = new Character(
+            id,
+            nickname,
+            firstName,
+            lastName,
+            birthdate != NO_BIRTHDATE ? new Date(birthdate) : new Date(),
+            null, // No theme ID in universal registry
+            dexterity,
+            health,
+            coolness,
+            strength,
+            reflexes,
+            handedness >= 0 ? Handedness.values()[handedness] : null
+        );
+        character.baseMovementSpeed = record.getDouble();
+
+        // Skills stay on the decoded character rather than going through
+        // CharacterSkillsManager, so evicting it from the cache frees them
+        character.skills.clear();
+        int skillCount = record.getShort();
+        for (int i = 0; i < skillCount; i++) {
+            String skillName = readString(record);
+            character.skills.add(new Skill(skillName, record.getInt()));
+        }
+        character.wounds.clear();
+        int woundCount = record.getShort();
+        for (int i = 0; i < woundCount; i++) {
+            BodyPart bodyPart = BodyPart.values()[record.get()];
+            character.addWound(new Wound(bodyPart, WoundSeverity.values()[record.get()]));
+        }
+        return character;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        data.writeShort(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getShort() & 0xFFFF];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
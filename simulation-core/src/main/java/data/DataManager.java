@@ -9,24 +9,34 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DataManager {
     private static DataManager instance;
     private final ObjectMapper objectMapper;
     private final ThemeManager themeManager;
     
-    private Map<String, WeaponData> weapons;
-    private Map<WeaponType, WeaponTypeData> weaponTypes;
+    // Theme-specific weapon tables, loaded the first time each theme is used
+    private final Map<String, ThemeWeaponTables> themeWeaponTables;
     private Map<String, SkillData> skills;
-    private Map<String, MeleeWeaponData> meleeWeapons;
+    
+    /**
+     * Ranged weapons, weapon types and melee weapons for one theme.
+     */
+    private static class ThemeWeaponTables {
+        Map<String, WeaponData> weapons = new HashMap<>();
+        Map<WeaponType, WeaponTypeData> weaponTypes = new HashMap<>();
+        Map<String, MeleeWeaponData> meleeWeapons = new HashMap<>();
+    }
     
     private DataManager() {
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = StartupLoader.getObjectMapper();
         this.themeManager = ThemeManager.getInstance();
+        this.themeWeaponTables = new ConcurrentHashMap<>();
         loadAllData();
     }
     
-    public static DataManager getInstance() {
+    public static synchronized DataManager getInstance() {
         if (instance == null) {
             instance = new DataManager();
         }
@@ -35,37 +45,61 @@ public class DataManager {
     
     private void loadAllData() {
         try {
-            loadWeapons();
-            loadWeaponTypes();
-            loadMeleeWeaponTypes();
             loadSkills();
-            loadMeleeWeapons();
-            System.out.println("*** Data loaded successfully: " + weapons.size() + " weapons, " + 
-                             weaponTypes.size() + " weapon types, " + skills.size() + " skills, " +
-                             meleeWeapons.size() + " melee weapons");
+            System.out.println("*** Data loaded successfully: " + skills.size() + " skills");
         } catch (Exception e) {
             System.err.println("Error loading data: " + e.getMessage());
             e.printStackTrace();
             
-            // Initialize empty maps to prevent null pointer exceptions
-            weapons = new HashMap<>();
-            weaponTypes = new HashMap<>();
+            // Initialize empty map to prevent null pointer exceptions
             skills = new HashMap<>();
-            meleeWeapons = new HashMap<>();
         }
     }
     
-    private void loadWeapons() throws IOException {
-        String themePath = themeManager.getCurrentThemeDataPath();
+    /**
+     * Returns the weapon tables of the current theme, loading them on first use.
+     */
+    private ThemeWeaponTables currentTables() {
+        String themeId = themeManager.getCurrentThemeId();
+        ThemeWeaponTables tables = themeWeaponTables.get(themeId);
+        if (tables == null) {
+            tables = themeWeaponTables.computeIfAbsent(themeId,
+                id -> StartupLoader.timed("weapon tables (" + id + ")", () -> loadThemeWeaponTables(id)));
+        }
+        return tables;
+    }
+    
+    private ThemeWeaponTables loadThemeWeaponTables(String themeId) {
+        ThemeWeaponTables tables = new ThemeWeaponTables();
+        try {
+            tables.weapons = loadWeapons(themeId);
+            tables.weaponTypes = loadWeaponTypes(themeId);
+            loadMeleeWeaponTypes(themeId, tables.weaponTypes);
+            tables.meleeWeapons = loadMeleeWeapons(themeId);
+            System.out.println("*** Weapon data loaded for theme " + themeId + ": " +
+                             tables.weapons.size() + " weapons, " + tables.weaponTypes.size() + " weapon types, " +
+                             tables.meleeWeapons.size() + " melee weapons");
+        } catch (Exception e) {
+            System.err.println("Error loading weapon data: " + e.getMessage());
+            e.printStackTrace();
+            
+            // Empty tables to prevent null pointer exceptions
+            tables = new ThemeWeaponTables();
+        }
+        return tables;
+    }
+    
+    private Map<String, WeaponData> loadWeapons(String themeId) throws IOException {
+        String themePath = themeManager.getThemeDataPath(themeId);
         InputStream is = getClass().getResourceAsStream("/data/" + themePath + "/ranged-weapons.json");
         if (is == null) {
-            throw new IOException("Could not find ranged-weapons.json file for theme: " + themeManager.getCurrentThemeId());
+            throw new IOException("Could not find ranged-weapons.json file for theme: " + themeId);
         }
         
         JsonNode rootNode = objectMapper.readTree(is);
         JsonNode weaponsNode = rootNode.get("weapons");
         
-        weapons = new HashMap<>();
+        Map<String, WeaponData> weapons = new HashMap<>();
         weaponsNode.fields().forEachRemaining(entry -> {
             try {
                 WeaponData weaponData = objectMapper.treeToValue(entry.getValue(), WeaponData.class);
@@ -75,19 +109,20 @@ public class DataManager {
                 System.err.println("Error loading weapon " + entry.getKey() + ": " + e.getMessage());
             }
         });
+        return weapons;
     }
     
-    private void loadWeaponTypes() throws IOException {
-        String themePath = themeManager.getCurrentThemeDataPath();
+    private Map<WeaponType, WeaponTypeData> loadWeaponTypes(String themeId) throws IOException {
+        String themePath = themeManager.getThemeDataPath(themeId);
         InputStream is = getClass().getResourceAsStream("/data/" + themePath + "/ranged-weapon-types.json");
         if (is == null) {
-            throw new IOException("Could not find ranged-weapon-types.json file for theme: " + themeManager.getCurrentThemeId());
+            throw new IOException("Could not find ranged-weapon-types.json file for theme: " + themeId);
         }
         
         JsonNode rootNode = objectMapper.readTree(is);
         JsonNode weaponTypesNode = rootNode.get("weaponTypes");
         
-        weaponTypes = new HashMap<>();
+        Map<WeaponType, WeaponTypeData> weaponTypes = new HashMap<>();
         weaponTypesNode.fields().forEachRemaining(entry -> {
             try {
                 WeaponType weaponType = WeaponType.valueOf(entry.getKey());
@@ -97,13 +132,14 @@ public class DataManager {
                 System.err.println("Error loading weapon type " + entry.getKey() + ": " + e.getMessage());
             }
         });
+        return weaponTypes;
     }
     
-    private void loadMeleeWeaponTypes() throws IOException {
-        String themePath = themeManager.getCurrentThemeDataPath();
+    private void loadMeleeWeaponTypes(String themeId, Map<WeaponType, WeaponTypeData> weaponTypes) throws IOException {
+        String themePath = themeManager.getThemeDataPath(themeId);
         InputStream is = getClass().getResourceAsStream("/data/" + themePath + "/melee-weapon-types.json");
         if (is == null) {
-            throw new IOException("Could not find melee-weapon-types.json file for theme: " + themeManager.getCurrentThemeId());
+            throw new IOException("Could not find melee-weapon-types.json file for theme: " + themeId);
         }
         
         JsonNode rootNode = objectMapper.readTree(is);
@@ -144,19 +180,19 @@ public class DataManager {
         });
     }
     
-    private void loadMeleeWeapons() throws IOException {
-        String themePath = themeManager.getCurrentThemeDataPath();
+    private Map<String, MeleeWeaponData> loadMeleeWeapons(String themeId) throws IOException {
+        String themePath = themeManager.getThemeDataPath(themeId);
         InputStream is = getClass().getResourceAsStream("/data/" + themePath + "/melee-weapons.json");
         if (is == null) {
-            System.err.println("Could not find melee-weapons.json file for theme: " + themeManager.getCurrentThemeId() + ". Exiting gracefully.");
+            System.err.println("Could not find melee-weapons.json file for theme: " + themeId + ". Exiting gracefully.");
             System.exit(1);
-            return;
+            return new HashMap<>();
         }
         
         JsonNode rootNode = objectMapper.readTree(is);
         JsonNode meleeWeaponsNode = rootNode.get("meleeWeapons");
         
-        meleeWeapons = new HashMap<>();
+        Map<String, MeleeWeaponData> meleeWeapons = new HashMap<>();
         meleeWeaponsNode.fields().forEachRemaining(entry -> {
             try {
                 MeleeWeaponData meleeWeaponData = objectMapper.treeToValue(entry.getValue(), MeleeWeaponData.class);
@@ -166,15 +202,16 @@ public class DataManager {
                 System.err.println("Error loading melee weapon " + entry.getKey() + ": " + e.getMessage());
             }
         });
+        return meleeWeapons;
     }
     
     // Getters
     public WeaponData getWeapon(String weaponId) {
-        return weapons.get(weaponId);
+        return currentTables().weapons.get(weaponId);
     }
     
     public WeaponTypeData getWeaponType(WeaponType weaponType) {
-        return weaponTypes.get(weaponType);
+        return currentTables().weaponTypes.get(weaponType);
     }
     
     public SkillData getSkill(String skillName) {
@@ -182,11 +219,11 @@ public class DataManager {
     }
     
     public Map<String, WeaponData> getAllWeapons() {
-        return new HashMap<>(weapons);
+        return new HashMap<>(currentTables().weapons);
     }
     
     public Map<WeaponType, WeaponTypeData> getAllWeaponTypes() {
-        return new HashMap<>(weaponTypes);
+        return new HashMap<>(currentTables().weaponTypes);
     }
     
     public Map<String, SkillData> getAllSkills() {
@@ -194,16 +231,16 @@ public class DataManager {
     }
     
     public MeleeWeaponData getMeleeWeapon(String meleeWeaponId) {
-        return meleeWeapons.get(meleeWeaponId);
+        return currentTables().meleeWeapons.get(meleeWeaponId);
     }
     
     public Map<String, MeleeWeaponData> getAllMeleeWeapons() {
-        return new HashMap<>(meleeWeapons);
+        return new HashMap<>(currentTables().meleeWeapons);
     }
     
     // Utility methods
     public boolean hasWeapon(String weaponId) {
-        return weapons.containsKey(weaponId);
+        return currentTables().weapons.containsKey(weaponId);
     }
     
     public boolean hasSkill(String skillName) {
@@ -211,6 +248,6 @@ public class DataManager {
     }
     
     public boolean hasMeleeWeapon(String meleeWeaponId) {
-        return meleeWeapons.containsKey(meleeWeaponId);
+        return currentTables().meleeWeapons.containsKey(meleeWeaponId);
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package data;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import javafx.scene.paint.Color;
+import platform.api.Color;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -101,10 +101,7 @@ public class Faction {
     // Color conversion methods
     private String colorToString(Color color) {
         if (color == null) return "#808080"; // Default gray
-        return String.format("#%02X%02X%02X", 
-            (int)(color.getRed() * 255),
-            (int)(color.getGreen() * 255),
-            (int)(color.getBlue() * 255));
+        return color.toHex();
     }
     
     @com.fasterxml.jackson.annotation.JsonIgnore
@@ -113,7 +110,7 @@ public class Faction {
             return Color.GRAY;
         }
         try {
-            return Color.web(colorString);
+            return Color.fromHex(colorString);
         } catch (IllegalArgumentException e) {
             return Color.GRAY;
         }
@@ -2,7 +2,7 @@ package data;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import javafx.scene.paint.Color;
+import platform.api.Color;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -22,6 +22,11 @@ public class FactionRegistry {
     private Map<Integer, Faction> factions;
     private int nextCharacterId;
     
+    // Write-back cache of faction files, so character updates do not re-read
+    // and re-write the whole file each time
+    private final Map<Integer, CachedFactionFile> factionFileCache;
+    private int batchDepth;
+    
     // Registry file structure
     public static class RegistryData {
         @JsonProperty("nextCharacterId")
@@ -68,14 +73,68 @@ public class FactionRegistry {
         }
     }
     
+    /**
+     * Cached contents of one faction file with an index from character id to
+     * position in the character list and a dirty flag for write-back.
+     */
+    static class CachedFactionFile {
+        final FactionFileData data;
+        private final Map<Integer, Integer> indexById;
+        boolean dirty;
+        
+        CachedFactionFile(FactionFileData data) {
+            this.data = data;
+            this.indexById = new HashMap<>();
+            if (data.characters == null) {
+                data.characters = new ArrayList<>();
+            }
+            rebuildIndex();
+        }
+        
+        CharacterData getCharacter(int characterId) {
+            Integer index = indexById.get(characterId);
+            return index != null ? data.characters.get(index) : null;
+        }
+        
+        void putCharacter(CharacterData characterData) {
+            Integer index = indexById.get(characterData.id);
+            if (index != null) {
+                data.characters.set(index, characterData);
+            } else {
+                indexById.put(characterData.id, data.characters.size());
+                data.characters.add(characterData);
+            }
+            dirty = true;
+        }
+        
+        boolean removeCharacter(int characterId) {
+            Integer index = indexById.get(characterId);
+            if (index == null) {
+                return false;
+            }
+            data.characters.remove((int) index);
+            rebuildIndex();
+            dirty = true;
+            return true;
+        }
+        
+        private void rebuildIndex() {
+            indexById.clear();
+            for (int i = 0; i < data.characters.size(); i++) {
+                indexById.put(data.characters.get(i).id, i);
+            }
+        }
+    }
+    
     private FactionRegistry() {
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = StartupLoader.getObjectMapper();
         this.factions = new HashMap<>();
+        this.factionFileCache = new HashMap<>();
         this.nextCharacterId = 1;
         loadRegistry();
     }
     
-    public static FactionRegistry getInstance() {
+    public static synchronized FactionRegistry getInstance() {
         if (instance == null) {
             instance = new FactionRegistry();
         }
@@ -122,6 +181,7 @@ public class FactionRegistry {
             if (factionFile.exists()) {
                 FactionFileData data = objectMapper.readValue(factionFile, FactionFileData.class);
                 factions.put(factionId, data.faction);
+                factionFileCache.put(factionId, new CachedFactionFile(data));
             } else {
                 System.err.println("Warning: Faction file not found: " + filename);
             }
@@ -132,23 +192,23 @@ public class FactionRegistry {
     
     private void createDefaultFactions() {
         // NONE faction (ID: 0)
-        Faction none = new Faction(0, "NONE", "No faction affiliation", Color.ORANGE);
+        Faction none = new Faction(0, "NONE", "No faction affiliation", Color.fromRGB(255, 165, 0));
         factions.put(0, none);
         
         // Union faction (ID: 1)
-        Faction union = new Faction(1, "Union", "Union Army", Color.BLUE);
+        Faction union = new Faction(1, "Union", "Union Army", Color.fromRGB(0, 0, 255));
         union.addAlly(3); // Allied with Southern Unionists
         union.addEnemy(2); // Enemy with Confederacy
         factions.put(1, union);
         
         // Confederacy faction (ID: 2)
-        Faction confederacy = new Faction(2, "Confederacy", "Confederate States", Color.DARKGRAY);
+        Faction confederacy = new Faction(2, "Confederacy", "Confederate States", Color.fromRGB(169, 169, 169));
         confederacy.addEnemy(1); // Enemy with Union
         confederacy.addEnemy(3); // Enemy with Southern Unionists
         factions.put(2, confederacy);
         
         // Southern Unionists faction (ID: 3)
-        Faction southernUnionists = new Faction(3, "Southern Unionists", "Pro-Union Southerners", Color.LIGHTBLUE);
+        Faction southernUnionists = new Faction(3, "Southern Unionists", "Pro-Union Southerners", Color.fromRGB(173, 216, 230));
         southernUnionists.addAlly(1); // Allied with Union
         southernUnionists.addEnemy(2); // Enemy with Confederacy
         factions.put(3, southernUnionists);
@@ -174,14 +234,22 @@ public class FactionRegistry {
         }
     }
     
+    /**
+     * Saves a faction's details, keeping the characters already in its file.
+     */
     public void saveFactionFile(Faction faction) {
-        try {
-            String filename = factionsDir + "/" + faction.getId() + ".json";
-            FactionFileData data = new FactionFileData(faction);
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filename), data);
-        } catch (IOException e) {
-            System.err.println("Error saving faction file " + faction.getId() + ".json: " + e.getMessage());
+        CachedFactionFile cached = factionFileCache.get(faction.getId());
+        if (cached == null) {
+            try {
+                cached = getCachedFactionFile(faction.getId());
+            } catch (IOException e) {
+                // New faction without a file yet
+                cached = new CachedFactionFile(new FactionFileData(faction));
+                factionFileCache.put(faction.getId(), cached);
+            }
         }
+        cached.data.faction = faction;
+        markFactionFileDirty(faction.getId());
     }
     
     // Public API methods
@@ -244,18 +312,102 @@ public class FactionRegistry {
     }
     
     // Additional methods for CharacterPersistenceManager
+    
+    /**
+     * Returns the cached contents of a faction file, reading it from disk on first use.
+     * The returned data is shared with the cache; pass it to saveFactionFileData after changing it.
+     */
     public FactionFileData loadFactionFileData(int factionId) throws IOException {
-        String filename = factionsDir + "/" + factionId + ".json";
-        File factionFile = new File(filename);
-        if (factionFile.exists()) {
-            return objectMapper.readValue(factionFile, FactionFileData.class);
+        return getCachedFactionFile(factionId).data;
+    }
+    
+    public void saveFactionFileData(int factionId, FactionFileData data) throws IOException {
+        CachedFactionFile cached = factionFileCache.get(factionId);
+        if (cached == null || cached.data != data) {
+            cached = new CachedFactionFile(data);
+            factionFileCache.put(factionId, cached);
         } else {
-            throw new IOException("Faction file not found: " + filename);
+            cached.rebuildIndex();
         }
+        cached.dirty = true;
+        writeFactionFile(factionId, cached);
     }
     
-    public void saveFactionFileData(int factionId, FactionFileData data) throws IOException {
+    CachedFactionFile getCachedFactionFile(int factionId) throws IOException {
+        CachedFactionFile cached = factionFileCache.get(factionId);
+        if (cached == null) {
+            String filename = factionsDir + "/" + factionId + ".json";
+            File factionFile = new File(filename);
+            if (!factionFile.exists()) {
+                throw new IOException("Faction file not found: " + filename);
+            }
+            cached = new CachedFactionFile(objectMapper.readValue(factionFile, FactionFileData.class));
+            factionFileCache.put(factionId, cached);
+        }
+        return cached;
+    }
+    
+    /**
+     * Marks a cached faction file as changed. Outside a batch the file is
+     * written straight away; inside a batch it is written when the batch ends.
+     */
+    void markFactionFileDirty(int factionId) {
+        CachedFactionFile cached = factionFileCache.get(factionId);
+        if (cached == null) {
+            return;
+        }
+        cached.dirty = true;
+        if (batchDepth == 0) {
+            flushFactionFile(factionId);
+        }
+    }
+    
+    /**
+     * Starts a batch of faction file changes. Dirty files are held in memory
+     * until the matching endBatch(). Batches may be nested.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+    
+    /**
+     * Ends a batch, writing every dirty faction file once when the outermost batch ends.
+     */
+    public void endBatch() {
+        if (batchDepth > 0) {
+            batchDepth--;
+        }
+        if (batchDepth == 0) {
+            flushFactionFiles();
+        }
+    }
+    
+    /**
+     * Writes a faction file if it has unsaved changes.
+     */
+    public void flushFactionFile(int factionId) {
+        CachedFactionFile cached = factionFileCache.get(factionId);
+        if (cached != null && cached.dirty) {
+            try {
+                writeFactionFile(factionId, cached);
+            } catch (IOException e) {
+                System.err.println("Error saving faction file " + factionId + ".json: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Writes every faction file that has unsaved changes.
+     */
+    public void flushFactionFiles() {
+        for (Integer factionId : factionFileCache.keySet()) {
+            flushFactionFile(factionId);
+        }
+    }
+    
+    private void writeFactionFile(int factionId, CachedFactionFile cached) throws IOException {
         String filename = factionsDir + "/" + factionId + ".json";
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filename), data);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filename), cached.data);
+        cached.dirty = false;
     }
 }
\ No newline at end of file
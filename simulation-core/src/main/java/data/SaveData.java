@@ -18,10 +18,15 @@ public class SaveData {
     @JsonProperty("characters")
     public List<CharacterData> characters;
     
+    // Pending typed events (shots, recoveries, reloads, burst follow-ups...)
+    @JsonProperty("events")
+    public List<ScheduledEventData> events;
+    
     public SaveData() {
         // Default constructor for Jackson
         this.units = new ArrayList<>();
         this.characters = new ArrayList<>();
+        this.events = new ArrayList<>();
     }
     
     public SaveData(SaveMetadata metadata, GameStateData gameState, List<UnitData> units) {
@@ -29,6 +34,7 @@ public class SaveData {
         this.gameState = gameState;
         this.units = units != null ? units : new ArrayList<>();
         this.characters = new ArrayList<>(); // Empty - characters are in universal registry
+        this.events = new ArrayList<>();
     }
     
     // Legacy constructor for backward compatibility
@@ -38,5 +44,6 @@ public class SaveData {
         this.gameState = gameState;
         this.characters = characters != null ? characters : new ArrayList<>();
         this.units = units != null ? units : new ArrayList<>();
+        this.events = new ArrayList<>();
     }
 }
\ No newline at end of file
@@ -0,0 +1,290 @@
+package data;
+
+import combat.BodyPart;
+import combat.Character;
+import combat.CombatEventKind;
+import combat.FiringMode;
+import combat.MeleeWeaponFactory;
+import combat.RangedWeapon;
+import combat.Skill;
+import combat.Wound;
+import combat.WoundSeverity;
+import game.EventBinding;
+import game.GameCallbacks;
+import game.ScheduledEvent;
+import game.Unit;
+import game.UnitRegistry;
+import game.interfaces.IUnit;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Turns loaded SaveData back into units, targets and pending events.
+ *
+ * Shared by the desktop game's SaveGameController and GameEngine, so a save
+ * loads the same whichever loop runs it. Legacy saves carry their characters;
+ * newer saves refer to characters in the UniversalCharacterRegistry and carry
+ * only the scenario's weapon and state.
+ */
+public final class SaveDataLoader {
+
+    /**
+     * Builds the saved units, in save order. Units whose character cannot be
+     * found are skipped with a warning.
+     */
+    public static List<Unit> buildUnits(SaveData saveData) {
+        List<Unit> units = new ArrayList<>();
+        if (saveData.characters != null && !saveData.characters.isEmpty()) {
+            // Legacy format - deserialize characters from save data
+            for (int i = 0; i < saveData.characters.size() && i < saveData.units.size(); i++) {
+                Character character = deserializeCharacter(saveData.characters.get(i));
+                units.add(deserializeUnit(saveData.units.get(i), character));
+            }
+            return units;
+        }
+
+        // New format - load characters from universal registry and apply unit data
+        UniversalCharacterRegistry characterRegistry = UniversalCharacterRegistry.getInstance();
+        for (UnitData unitData : saveData.units) {
+            Character character = characterRegistry.getCharacter(unitData.characterId);
+            if (character == null) {
+                System.err.println("Warning: Character " + unitData.characterId + " not found in universal registry");
+                continue;
+            }
+
+            // Apply scenario-specific weapon and state
+            if (unitData.weaponId != null && !unitData.weaponId.isEmpty()) {
+                applyWeapon(character, unitData.weaponId, unitData.currentWeaponState);
+
+                // Debug output showing what weapons are being loaded
+                String weaponName = (character.weapon != null) ? character.weapon.name : "Failed to create";
+                System.out.println("  Loading " + character.getDisplayName() + ": weaponId=" + unitData.weaponId + " → " + weaponName);
+            } else {
+                System.out.println("  Loading " + character.getDisplayName() + ": no weapon data");
+            }
+
+            units.add(deserializeUnit(unitData, character));
+        }
+        return units;
+    }
+
+    /**
+     * Registers the loaded units so saved ids resolve straight to live units,
+     * then restores each unit's current target.
+     */
+    public static void restoreTargets(List<Unit> units, List<UnitData> unitDataList, UnitRegistry registry) {
+        registry.sync(units);
+
+        for (UnitData unitData : unitDataList) {
+            Unit unit = asUnit(registry.getById(unitData.id));
+            if (unit != null && unitData.currentTargetId != null) {
+                Unit targetUnit = asUnit(registry.getById(unitData.currentTargetId));
+                if (targetUnit != null) {
+                    unit.character.setCurrentTarget(targetUnit);
+                    System.out.println("  Restored target: " + unit.character.getDisplayName() + " → " + targetUnit.character.getDisplayName());
+                } else {
+                    System.out.println("  Warning: Target unit " + unitData.currentTargetId + " not found for " + unit.character.getDisplayName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds saved typed events, binding them to the restored units.
+     * Events whose character or target is no longer on the field are dropped.
+     *
+     * @param eventDataList Saved events, may be null for older saves
+     * @return the number of events restored
+     */
+    public static int restoreEvents(List<Unit> units, List<ScheduledEventData> eventDataList, UnitRegistry registry,
+                                    PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        if (eventDataList == null || eventDataList.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, Unit> unitsByCharacterId = new HashMap<>();
+        for (Unit unit : units) {
+            unitsByCharacterId.put(unit.character.id, unit);
+        }
+
+        int restored = 0;
+        for (ScheduledEventData eventData : eventDataList) {
+            CombatEventKind kind;
+            try {
+                kind = CombatEventKind.valueOf(eventData.kind);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                System.out.println("  Warning: Unknown event kind " + eventData.kind + " not restored");
+                continue;
+            }
+            Unit unit = unitsByCharacterId.get(eventData.characterId);
+            Unit target = eventData.targetId >= 0 ? asUnit(registry.getById(eventData.targetId)) : null;
+            if (unit == null || (eventData.targetId >= 0 && target == null)) {
+                continue;
+            }
+
+            EventBinding binding = new EventBinding(unit.character, eventData.hasUnit ? unit : null, target,
+                                                    eventQueue, gameCallbacks);
+            long[] params = eventData.params != null ? eventData.params : new long[0];
+            eventQueue.add(new ScheduledEvent(eventData.tick, kind, eventData.ownerId, binding, params));
+            restored++;
+        }
+        System.out.println("*** Restored " + restored + " of " + eventDataList.size() + " pending events ***");
+        return restored;
+    }
+
+    /**
+     * Deserialize character from CharacterData (legacy save format)
+     *
+     * @param data CharacterData object
+     * @return Character object
+     */
+    public static Character deserializeCharacter(CharacterData data) {
+        // Handle both old and new save formats
+        String nickname = data.nickname != null ? data.nickname : "";
+        String firstName = data.firstName != null ? data.firstName : "";
+        String lastName = data.lastName != null ? data.lastName : "";
+        Date birthdate = data.birthdate != null ? data.birthdate : new Date(0); // Default to epoch if null
+
+        Character character = new Character(
+            data.id, nickname, firstName, lastName, birthdate, data.themeId, data.dexterity, data.health,
+            data.coolness, data.strength, data.reflexes, data.handedness
+        );
+
+        character.currentDexterity = data.currentDexterity;
+        character.currentHealth = data.currentHealth;
+        character.baseMovementSpeed = data.baseMovementSpeed;
+        character.currentMovementType = data.currentMovementType;
+        character.currentAimingSpeed = data.currentAimingSpeed;
+
+        // Restore weapon - handle both ranged and melee weapons (DevCycle 40)
+        if (data.weaponId != null && !data.weaponId.isEmpty()) {
+            applyWeapon(character, data.weaponId, data.currentWeaponState);
+        }
+
+        // Restore melee combat mode (DevCycle 40)
+        character.isMeleeCombatMode = data.isMeleeCombatMode;
+
+        // Restore defense timing (DevCycle 40)
+        character.nextDefenseTick = data.nextDefenseTick;
+
+        // Restore skills - clear both compatibility field and manager storage
+        character.skills.clear();
+        combat.managers.CharacterSkillsManager.getInstance().cleanupCharacter(character.id); // Clear manager storage
+        for (CharacterData.SkillData skillData : data.skills) {
+            character.addSkill(new Skill(skillData.skillName, skillData.level));
+        }
+
+        // Restore wounds
+        character.wounds.clear();
+        for (CharacterData.WoundData woundData : data.wounds) {
+            try {
+                BodyPart bodyPart = BodyPart.valueOf(woundData.bodyPart);
+                WoundSeverity severity = WoundSeverity.valueOf(woundData.severity);
+                // Use damage value from save data, default to 1 for backwards compatibility
+                int damage = (woundData.damage > 0) ? woundData.damage : 1;
+                character.addWound(new Wound(bodyPart, severity, "Saved wound", "", damage));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Warning: Invalid wound data: " + woundData.bodyPart + "/" + woundData.severity);
+            }
+        }
+
+        // Restore character preferences (with defaults for backward compatibility)
+        character.usesAutomaticTargeting = data.usesAutomaticTargeting;
+        character.preferredFiringMode = data.preferredFiringMode != null ? data.preferredFiringMode : FiringMode.SINGLE_SHOT;
+
+        // DevCycle 28: Multiple shot control (default to 1 for backward compatibility)
+        character.multipleShootCount = data.multipleShootCount > 0 ? data.multipleShootCount : 1;
+
+        return character;
+    }
+
+    /**
+     * Deserialize unit for a character, from either save format
+     *
+     * @param data UnitData object
+     * @param character Character from the save or the universal registry
+     * @return Unit object
+     */
+    public static Unit deserializeUnit(UnitData data, Character character) {
+        Color color = stringToColor(data.color);
+        Color baseColor = stringToColor(data.baseColor);
+
+        // Create unit with the base color initially, then set current color
+        Unit unit = new Unit(character, data.x, data.y, baseColor, data.id);
+        unit.color = color; // Set the current color (which might be different due to highlighting)
+        unit.targetX = data.targetX;
+        unit.targetY = data.targetY;
+        unit.hasTarget = data.hasTarget;
+        unit.isStopped = data.isStopped;
+        unit.isHitHighlighted = data.isHitHighlighted;
+        // Handle backward compatibility for isFiringHighlighted (defaults to false if not present)
+        unit.isFiringHighlighted = data.isFiringHighlighted;
+
+        // Restore weapon firing mode if available (new field, may be null in legacy saves)
+        if (character.weapon != null && data.currentFiringMode != null && character.weapon instanceof RangedWeapon) {
+            ((RangedWeapon)character.weapon).setCurrentFiringMode(data.currentFiringMode);
+        }
+
+        // Restore automatic targeting setting (defaults to false for legacy saves)
+        character.usesAutomaticTargeting = data.usesAutomaticTargeting;
+
+        // Restore faction information (defaults to 1 for legacy saves if not present)
+        character.faction = data.faction;
+
+        return unit;
+    }
+
+    /**
+     * Convert string representation to platform.api.Color
+     *
+     * @param colorString String representation of color
+     * @return platform.api.Color object
+     */
+    public static Color stringToColor(String colorString) {
+        switch (colorString) {
+            case "RED": return Color.RED;
+            case "BLUE": return Color.BLUE;
+            case "GREEN": return Color.GREEN;
+            case "PURPLE": return Color.PURPLE;
+            case "ORANGE": return Color.ORANGE;
+            case "YELLOW": return Color.YELLOW;
+            case "DARKGRAY": return Color.DARK_GRAY;
+            case "GRAY": return Color.GRAY;
+            case "CYAN": return Color.CYAN;
+            default: return Color.RED;
+        }
+    }
+
+    private static void applyWeapon(Character character, String weaponId, String weaponState) {
+        // First try to create as melee weapon
+        if (DataManager.getInstance().getMeleeWeapon(weaponId) != null) {
+            character.meleeWeapon = MeleeWeaponFactory.createWeapon(weaponId);
+            character.weapon = character.meleeWeapon; // Set as primary weapon
+        } else {
+            // Fall back to ranged weapon
+            character.weapon = WeaponFactory.createWeapon(weaponId);
+        }
+
+        if (character.weapon != null && weaponState != null) {
+            character.setCurrentWeaponState(character.weapon.getStateByName(weaponState));
+            if (character.currentWeaponState == null) {
+                character.setCurrentWeaponState(character.weapon.getInitialState());
+            }
+        }
+    }
+
+    private static Unit asUnit(IUnit unit) {
+        return unit instanceof Unit ? (Unit) unit : null;
+    }
+
+    // Private constructor to prevent instantiation
+    private SaveDataLoader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Patch written by a delta save: the units and characters that changed since
+ * the previous save to the same slot, on top of the slot's base SaveData.
+ * Game state and pending events are small and always change, so they are
+ * written in full. See SaveGameManager.
+ */
+public class SaveDelta {
+    @JsonProperty("metadata")
+    public SaveMetadata metadata;
+
+    // Timestamp of the base save the patch applies to
+    @JsonProperty("baseTimestamp")
+    public String baseTimestamp;
+
+    // Position in the slot's patch chain, from 1
+    @JsonProperty("sequence")
+    public int sequence;
+
+    @JsonProperty("gameState")
+    public GameStateData gameState;
+
+    // Units added or changed since the previous save
+    @JsonProperty("units")
+    public List<UnitData> units;
+
+    @JsonProperty("removedUnitIds")
+    public List<Integer> removedUnitIds;
+
+    // Legacy characters added or changed since the previous save
+    @JsonProperty("characters")
+    public List<CharacterData> characters;
+
+    @JsonProperty("removedCharacterIds")
+    public List<Integer> removedCharacterIds;
+
+    @JsonProperty("events")
+    public List<ScheduledEventData> events;
+
+    public SaveDelta() {
+        // Default constructor for Jackson
+        this.units = new ArrayList<>();
+        this.removedUnitIds = new ArrayList<>();
+        this.characters = new ArrayList<>();
+        this.removedCharacterIds = new ArrayList<>();
+        this.events = new ArrayList<>();
+    }
+}
\ No newline at end of file
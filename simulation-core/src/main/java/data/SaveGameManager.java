@@ -4,19 +4,75 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Reads and writes save slots.
+ *
+ * Delta saves (-Dopenfields.deltaSaves=true, or setDeltaSavesEnabled) make
+ * repeated saves to a numbered slot cheap on large battles. The first save to
+ * a slot writes the full slot_N.json as usual. Later saves compare each unit
+ * and legacy character with what was last written to the slot and write only
+ * the ones that changed, plus game state and pending events, to a patch file
+ * slot_N.delta_M.json that names its base by timestamp. After
+ * deltasBeforeCompaction patches the next save writes a full base again and
+ * deletes the patches. Loading a slot applies its patches to the base in order.
+ *
+ * Bases and patches are written to a temporary file and moved into place, so
+ * a crash mid-save leaves the previous file intact. If a patch still cannot be
+ * read, loading stops at it: the slot loads as of the last good patch, and the
+ * unreadable patch and any after it are deleted.
+ *
+ * What was last written is remembered per slot for the session, and rebuilt
+ * when a slot is loaded; a slot with nothing remembered gets a full save.
+ */
 public class SaveGameManager {
+    public static final int DEFAULT_DELTAS_BEFORE_COMPACTION = 8;
+    
     private static SaveGameManager instance;
+    private static volatile boolean deltaSavesEnabled = Boolean.getBoolean("openfields.deltaSaves");
+    
     private final ObjectMapper objectMapper;
-    private final String saveDirectory = "saves/";
+    private final String saveDirectory;
     private final String gameVersion = "1.0";
+    private int deltasBeforeCompaction =
+        Integer.getInteger("openfields.deltaSaves.compactAfter", DEFAULT_DELTAS_BEFORE_COMPACTION);
+    private final Map<Integer, SlotChain> slotChains = new HashMap<>();
+    
+    /**
+     * Saved content of a slot as of its last save or load: base timestamp,
+     * patch count and the JSON of every unit and character, by id.
+     */
+    private static class SlotChain {
+        final String baseTimestamp;
+        int deltaCount;
+        final Map<Integer, JsonNode> units = new HashMap<>();
+        final Map<Integer, JsonNode> characters = new HashMap<>();
+        
+        SlotChain(String baseTimestamp) {
+            this.baseTimestamp = baseTimestamp;
+        }
+    }
     
     private SaveGameManager() {
+        this("saves/");
+    }
+    
+    /**
+     * Manager for saves in the given directory, for tools and tests; the game uses getInstance().
+     */
+    public SaveGameManager(String saveDirectory) {
         this.objectMapper = new ObjectMapper();
+        this.saveDirectory = saveDirectory.endsWith("/") ? saveDirectory : saveDirectory + "/";
         createSaveDirectory();
     }
     
@@ -37,6 +93,25 @@ public class SaveGameManager {
         }
     }
     
+    public static boolean isDeltaSavesEnabled() {
+        return deltaSavesEnabled;
+    }
+    
+    public static void setDeltaSavesEnabled(boolean enabled) {
+        deltaSavesEnabled = enabled;
+    }
+    
+    public int getDeltasBeforeCompaction() {
+        return deltasBeforeCompaction;
+    }
+    
+    /**
+     * Sets how many patches a slot collects before the next save rewrites its base.
+     */
+    public void setDeltasBeforeCompaction(int deltas) {
+        this.deltasBeforeCompaction = Math.max(0, deltas);
+    }
+    
     private boolean isDebugModeActive() {
         try {
             // Use reflection to access GameRenderer's debug mode since it's in default package
@@ -63,7 +138,14 @@ public class SaveGameManager {
             saveData.metadata.gameVersion = gameVersion;
             saveData.metadata.saveSlot = slot;
             
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filename), saveData);
+            SlotChain chain = slotChains.get(slot);
+            if (deltaSavesEnabled && chain != null && chain.deltaCount < deltasBeforeCompaction) {
+                return saveDelta(slot, chain, saveData);
+            }
+            
+            writeAtomically(new File(filename), saveData);
+            deletePatchesFrom(slot, 1);
+            rememberSlot(slot, saveData.metadata.timestamp, saveData, 0);
             System.out.println("*** Game saved to slot " + slot + ": " + filename);
             return true;
             
@@ -96,7 +178,18 @@ public class SaveGameManager {
                 return null;
             }
             
-            System.out.println("*** Game loaded from slot " + slot + ": " + filename);
+            String baseTimestamp = saveData.metadata.timestamp;
+            int patches = 0;
+            for (SaveDelta delta : readPatches(slot, baseTimestamp)) {
+                applyDelta(saveData, delta);
+                patches++;
+            }
+            // Drop patches that were not applied, so later saves do not chain onto them
+            deletePatchesFrom(slot, patches + 1);
+            rememberSlot(slot, baseTimestamp, saveData, patches);
+            
+            System.out.println("*** Game loaded from slot " + slot + ": " + filename +
+                               (patches > 0 ? " + " + patches + " patches" : ""));
             return saveData;
             
         } catch (IOException e) {
@@ -105,6 +198,158 @@ public class SaveGameManager {
         }
     }
     
+    private boolean saveDelta(int slot, SlotChain chain, SaveData saveData) throws IOException {
+        SaveDelta delta = new SaveDelta();
+        delta.metadata = saveData.metadata;
+        delta.baseTimestamp = chain.baseTimestamp;
+        delta.sequence = chain.deltaCount + 1;
+        delta.gameState = saveData.gameState;
+        delta.events = saveData.events;
+        
+        Map<Integer, JsonNode> units = new HashMap<>();
+        for (UnitData unit : saveData.units) {
+            JsonNode node = objectMapper.valueToTree(unit);
+            units.put(unit.id, node);
+            if (!node.equals(chain.units.get(unit.id))) {
+                delta.units.add(unit);
+            }
+        }
+        Map<Integer, JsonNode> characters = new HashMap<>();
+        for (CharacterData character : saveData.characters) {
+            JsonNode node = objectMapper.valueToTree(character);
+            characters.put(character.id, node);
+            if (!node.equals(chain.characters.get(character.id))) {
+                delta.characters.add(character);
+            }
+        }
+        for (Integer id : chain.units.keySet()) {
+            if (!units.containsKey(id)) {
+                delta.removedUnitIds.add(id);
+            }
+        }
+        for (Integer id : chain.characters.keySet()) {
+            if (!characters.containsKey(id)) {
+                delta.removedCharacterIds.add(id);
+            }
+        }
+        
+        File patchFile = patchFile(slot, delta.sequence);
+        writeAtomically(patchFile, delta);
+        chain.deltaCount = delta.sequence;
+        chain.units.clear();
+        chain.units.putAll(units);
+        chain.characters.clear();
+        chain.characters.putAll(characters);
+        System.out.println("*** Game saved to slot " + slot + ": " + patchFile.getPath() + " (" +
+                           delta.units.size() + " of " + saveData.units.size() + " units changed)");
+        return true;
+    }
+    
+    private void rememberSlot(int slot, String baseTimestamp, SaveData saveData, int deltaCount) {
+        if (!deltaSavesEnabled) {
+            slotChains.remove(slot);
+            return;
+        }
+        SlotChain chain = new SlotChain(baseTimestamp);
+        chain.deltaCount = deltaCount;
+        for (UnitData unit : saveData.units) {
+            chain.units.put(unit.id, objectMapper.valueToTree(unit));
+        }
+        for (CharacterData character : saveData.characters) {
+            chain.characters.put(character.id, objectMapper.valueToTree(character));
+        }
+        slotChains.put(slot, chain);
+    }
+    
+    private File patchFile(int slot, int sequence) {
+        return new File(saveDirectory + "slot_" + slot + ".delta_" + sequence + ".json");
+    }
+    
+    /**
+     * Writes the value to a temporary file beside the target, then moves it over the target.
+     */
+    private void writeAtomically(File target, Object value) throws IOException {
+        File temp = new File(target.getPath() + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp, value);
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * @return the slot's patches for the given base, in order, up to the first missing, unreadable or foreign one
+     */
+    private List<SaveDelta> readPatches(int slot, String baseTimestamp) {
+        List<SaveDelta> patches = new ArrayList<>();
+        for (int sequence = 1; patchFile(slot, sequence).exists(); sequence++) {
+            SaveDelta delta;
+            try {
+                delta = objectMapper.readValue(patchFile(slot, sequence), SaveDelta.class);
+            } catch (IOException e) {
+                System.err.println("Warning: Unreadable save patch " + patchFile(slot, sequence).getPath() + ": " + e.getMessage());
+                break;
+            }
+            if (delta.baseTimestamp == null || !delta.baseTimestamp.equals(baseTimestamp)) {
+                break;
+            }
+            patches.add(delta);
+        }
+        return patches;
+    }
+    
+    private void deletePatchesFrom(int slot, int firstSequence) {
+        for (int sequence = firstSequence; patchFile(slot, sequence).exists(); sequence++) {
+            if (!patchFile(slot, sequence).delete()) {
+                System.err.println("Warning: Could not delete " + patchFile(slot, sequence).getPath());
+            }
+        }
+    }
+    
+    private static void applyDelta(SaveData saveData, SaveDelta delta) {
+        saveData.metadata = delta.metadata;
+        saveData.gameState = delta.gameState;
+        saveData.events = delta.events;
+        
+        Map<Integer, UnitData> units = new LinkedHashMap<>();
+        for (UnitData unit : saveData.units) {
+            units.put(unit.id, unit);
+        }
+        delta.removedUnitIds.forEach(units::remove);
+        for (UnitData unit : delta.units) {
+            units.put(unit.id, unit);
+        }
+        saveData.units = new ArrayList<>(units.values());
+        
+        Map<Integer, CharacterData> characters = new LinkedHashMap<>();
+        for (CharacterData character : saveData.characters) {
+            characters.put(character.id, character);
+        }
+        delta.removedCharacterIds.forEach(characters::remove);
+        for (CharacterData character : delta.characters) {
+            characters.put(character.id, character);
+        }
+        saveData.characters = new ArrayList<>(characters.values());
+    }
+    
+    /**
+     * @return the file holding the slot's latest metadata and game state: its last patch, or the base
+     */
+    private File latestSlotFile(int slot) {
+        File saveFile = new File(saveDirectory + "slot_" + slot + ".json");
+        if (!patchFile(slot, 1).exists()) {
+            return saveFile;
+        }
+        try {
+            String baseTimestamp = objectMapper.readTree(saveFile).path("metadata").path("timestamp").asText();
+            int patches = readPatches(slot, baseTimestamp).size();
+            return patches > 0 ? patchFile(slot, patches) : saveFile;
+        } catch (IOException e) {
+            return saveFile;
+        }
+    }
+    
     public List<SaveSlotInfo> listAvailableSlots() {
         List<SaveSlotInfo> slots = new ArrayList<>();
         
@@ -114,7 +359,7 @@ public class SaveGameManager {
             
             if (saveFile.exists()) {
                 try {
-                    JsonNode rootNode = objectMapper.readTree(saveFile);
+                    JsonNode rootNode = objectMapper.readTree(latestSlotFile(i));
                     JsonNode metadataNode = rootNode.get("metadata");
                     JsonNode gameStateNode = rootNode.get("gameState");
                     
@@ -223,7 +468,7 @@ public class SaveGameManager {
             
             if (saveFile.exists()) {
                 try {
-                    JsonNode rootNode = objectMapper.readTree(saveFile);
+                    JsonNode rootNode = objectMapper.readTree(latestSlotFile(i));
                     JsonNode metadataNode = rootNode.get("metadata");
                     JsonNode gameStateNode = rootNode.get("gameState");
                     
@@ -0,0 +1,45 @@
+package data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Saved form of a typed scheduled event (see combat.CombatEventKind).
+ * Units are referenced by id and rebound when the game is loaded.
+ */
+public class ScheduledEventData {
+    @JsonProperty("tick")
+    public long tick;
+    
+    @JsonProperty("kind")
+    public String kind;
+    
+    @JsonProperty("ownerId")
+    public int ownerId;
+    
+    @JsonProperty("characterId")
+    public int characterId;
+    
+    @JsonProperty("hasUnit")
+    public boolean hasUnit;
+    
+    @JsonProperty("targetId")
+    public int targetId = -1;
+    
+    @JsonProperty("params")
+    public long[] params;
+    
+    public ScheduledEventData() {
+        // Default constructor for Jackson
+    }
+    
+    public ScheduledEventData(long tick, String kind, int ownerId, int characterId, boolean hasUnit,
+                              int targetId, long[] params) {
+        this.tick = tick;
+        this.kind = kind;
+        this.ownerId = ownerId;
+        this.characterId = characterId;
+        this.hasUnit = hasUnit;
+        this.targetId = targetId;
+        this.params = params;
+    }
+}
\ No newline at end of file
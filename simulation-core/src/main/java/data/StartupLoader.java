@@ -0,0 +1,125 @@
+package data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import config.GameConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Loads startup data concurrently and owns the shared ObjectMapper.
+ *
+ * The data singletons (GameConfig, ThemeManager, DataManager, FactionRegistry,
+ * UniversalCharacterRegistry) do not depend on each other's results except for
+ * ThemeManager, which their synchronized getInstance() methods wait for. They
+ * are therefore initialized on a small worker pool instead of one after another
+ * on the launching thread. Theme-specific weapon tables are not part of startup;
+ * DataManager loads them when a theme is first used.
+ *
+ * Time spent on each resource is recorded and printed as a short report.
+ */
+public final class StartupLoader {
+    // ObjectMapper is thread-safe once configured, so one instance serves every loader
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Map<String, Long> resourceTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private static boolean loaded = false;
+
+    private StartupLoader() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @return the ObjectMapper shared by all data loaders
+     */
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Initializes all startup data singletons concurrently and waits for them.
+     * Calling it again after a successful load does nothing.
+     */
+    public static synchronized void loadAll() {
+        if (loaded) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<CompletableFuture<?>> tasks = new ArrayList<>();
+            tasks.add(submit(executor, "game config", GameConfig::getInstance));
+            tasks.add(submit(executor, "themes", ThemeManager::getInstance));
+            tasks.add(submit(executor, "skills", DataManager::getInstance));
+            tasks.add(submit(executor, "factions", FactionRegistry::getInstance));
+            tasks.add(submit(executor, "character registry", UniversalCharacterRegistry::getInstance));
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        loaded = true;
+        recordTiming("startup total", System.nanoTime() - start);
+        printTimingReport();
+    }
+
+    private static CompletableFuture<Void> submit(ExecutorService executor, String resource, Supplier<?> loader) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                timed(resource, loader);
+            } catch (Exception e) {
+                System.err.println("Error loading " + resource + ": " + e.getMessage());
+            }
+        }, executor);
+    }
+
+    /**
+     * Runs a loader and records how long it took under the given resource name.
+     */
+    public static <T> T timed(String resource, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            recordTiming(resource, System.nanoTime() - start);
+        }
+    }
+
+    public static void recordTiming(String resource, long nanos) {
+        resourceTimings.put(resource, nanos);
+    }
+
+    /**
+     * @return time spent per resource in milliseconds, in completion order
+     */
+    public static Map<String, Double> getResourceTimings() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        synchronized (resourceTimings) {
+            for (Map.Entry<String, Long> entry : resourceTimings.entrySet()) {
+                result.put(entry.getKey(), entry.getValue() / 1_000_000.0);
+            }
+        }
+        return result;
+    }
+
+    public static void printTimingReport() {
+        System.out.println("*** Startup loading times:");
+        for (Map.Entry<String, Double> entry : getResourceTimings().entrySet()) {
+            System.out.println(String.format("***   %-30s %8.1f ms", entry.getKey(), entry.getValue()));
+        }
+    }
+}
\ No newline at end of file
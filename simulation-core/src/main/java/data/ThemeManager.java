@@ -17,11 +17,11 @@ public class ThemeManager {
     private String currentThemeId;
     
     private ThemeManager() {
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = StartupLoader.getObjectMapper();
         loadThemes();
     }
     
-    public static ThemeManager getInstance() {
+    public static synchronized ThemeManager getInstance() {
         if (instance == null) {
             instance = new ThemeManager();
         }
@@ -11,6 +11,9 @@ import combat.Wound;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,19 +21,36 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Registry of universal (theme-independent) characters.
+ *
+ * By default every character is loaded from characters.json into memory at
+ * startup. Running with -Dopenfields.characterStore=indexed keeps them in a
+ * CharacterRecordStore (characters.dat) instead, decoding characters on demand,
+ * for campaign registries too large to hold in memory. The first indexed run
+ * imports an existing characters.json.
+ */
 public class UniversalCharacterRegistry {
+    private static final String INDEXED_STORE_PROPERTY = "openfields.characterStore";
+    private static final String INDEXED_STORE_PATH = "characters.dat";
+
     private static UniversalCharacterRegistry instance;
     private final ObjectMapper objectMapper;
     private final Map<Integer, Character> characters;
     private final AtomicInteger nextCharacterId;
     private final String registryFilePath;
+    private CharacterRecordStore store; // Null unless the indexed store is enabled
     
     private UniversalCharacterRegistry() {
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = StartupLoader.getObjectMapper();
         this.characters = new ConcurrentHashMap<>();
         this.nextCharacterId = new AtomicInteger(1000); // Start from 1000 to avoid conflicts
         this.registryFilePath = "characters.json";
-        loadRegistry();
+        if ("indexed".equals(System.getProperty(INDEXED_STORE_PROPERTY))) {
+            openIndexedStore(Paths.get(INDEXED_STORE_PATH));
+        } else {
+            loadRegistry();
+        }
         loadTestFactionCharacters();
     }
     
@@ -53,19 +73,39 @@ public class UniversalCharacterRegistry {
     public int registerCharacter(Character character) {
         int id = nextCharacterId.getAndIncrement();
         character.id = id; // Set the ID on the character
-        characters.put(id, character);
+        putCharacter(character);
         saveRegistry();
         System.out.println("*** Registered character: " + character.getDisplayName() + " with ID: " + id);
         return id;
     }
     
+    /**
+     * Registers characters that already carry reserved IDs, saving the registry once
+     * @param newCharacters The characters to register, IDs already assigned
+     */
+    public void registerCharacters(Collection<Character> newCharacters) {
+        int maxId = nextCharacterId.get() - 1;
+        for (Character character : newCharacters) {
+            if (hasCharacter(character.id)) {
+                throw new IllegalStateException("Character ID already registered: " + character.id);
+            }
+        }
+        for (Character character : newCharacters) {
+            putCharacter(character);
+            maxId = Math.max(maxId, character.id);
+        }
+        nextCharacterId.accumulateAndGet(maxId + 1, Math::max);
+        saveRegistry();
+        System.out.println("*** Registered " + newCharacters.size() + " characters");
+    }
+    
     /**
      * Gets a character by ID (returns a copy to prevent modification of registry)
      * @param id The character ID
      * @return A copy of the character, or null if not found
      */
     public Character getCharacter(int id) {
-        Character original = characters.get(id);
+        Character original = store != null ? store.get(id) : characters.get(id);
         if (original == null) {
             return null;
         }
@@ -78,17 +118,18 @@ public class UniversalCharacterRegistry {
      * @return Set of all character IDs
      */
     public Set<Integer> getAllCharacterIds() {
-        return characters.keySet();
+        return store != null ? store.ids() : characters.keySet();
     }
     
     /**
-     * Gets all characters (as copies)
+     * Gets all characters (as copies). With the indexed store this decodes
+     * every character, so prefer getCharacter() for large registries.
      * @return Map of all characters by ID
      */
     public Map<Integer, Character> getAllCharacters() {
         Map<Integer, Character> result = new HashMap<>();
-        for (Map.Entry<Integer, Character> entry : characters.entrySet()) {
-            result.put(entry.getKey(), createCharacterCopy(entry.getValue()));
+        for (Integer id : getAllCharacterIds()) {
+            result.put(id, getCharacter(id));
         }
         return result;
     }
@@ -99,7 +140,22 @@ public class UniversalCharacterRegistry {
      * @return true if character exists
      */
     public boolean hasCharacter(int id) {
-        return characters.containsKey(id);
+        return store != null ? store.contains(id) : characters.containsKey(id);
+    }
+    
+    /**
+     * @return The indexed character store, or null when characters are held in memory
+     */
+    public CharacterRecordStore getIndexedStore() {
+        return store;
+    }
+    
+    private void putCharacter(Character character) {
+        if (store != null) {
+            store.put(character);
+        } else {
+            characters.put(character.id, character);
+        }
     }
     
     /**
@@ -180,6 +236,36 @@ public class UniversalCharacterRegistry {
         }
     }
     
+    /**
+     * Opens the indexed store, importing characters.json the first time
+     */
+    private void openIndexedStore(Path storePath) {
+        try {
+            boolean importJson = !CharacterRecordStore.exists(storePath);
+            if (importJson) {
+                loadRegistry();
+            }
+            store = new CharacterRecordStore(storePath, CharacterRecordStore.DEFAULT_CACHE_SIZE);
+            if (importJson) {
+                for (Character character : characters.values()) {
+                    store.put(character);
+                }
+                characters.clear();
+                store.save(nextCharacterId.get());
+                System.out.println("*** Imported " + store.size() + " characters into " + storePath);
+            } else if (store.getNextCharacterId() > 0) {
+                nextCharacterId.set(store.getNextCharacterId());
+            }
+            System.out.println("*** Opened indexed character store: " + store.size() + " characters");
+        } catch (IOException e) {
+            // Fall back to the JSON registry rather than start with no characters
+            System.err.println("Error opening indexed character store, using " + registryFilePath + ": " + e.getMessage());
+            store = null;
+            characters.clear();
+            loadRegistry();
+        }
+    }
+    
     private void loadFromInputStream(InputStream is) throws IOException {
         JsonNode rootNode = objectMapper.readTree(is);
         CharacterRegistryData data = objectMapper.treeToValue(rootNode, CharacterRegistryData.class);
@@ -210,6 +296,15 @@ public class UniversalCharacterRegistry {
      * Saves the character registry to file
      */
     public void saveRegistry() {
+        if (store != null) {
+            try {
+                store.save(nextCharacterId.get());
+            } catch (IOException e) {
+                System.err.println("Error saving indexed character store: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
         try {
             CharacterRegistryData data = new CharacterRegistryData();
             data.nextCharacterId = nextCharacterId.get();
@@ -399,7 +494,7 @@ public class UniversalCharacterRegistry {
                 for (JsonNode characterNode : charactersNode) {
                     CharacterData charData = objectMapper.treeToValue(characterNode, CharacterData.class);
                     Character character = convertCharacterDataToCharacter(charData);
-                    characters.put(character.id, character);
+                    putCharacter(character);
                     System.out.println("*** Loaded test character: " + character.getDisplayName() + " (ID: " + character.id + ")");
                 }
             }
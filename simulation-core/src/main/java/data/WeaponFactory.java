@@ -5,10 +5,18 @@ import combat.WeaponState;
 import combat.WeaponType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class WeaponFactory {
     private static final DataManager dataManager = DataManager.getInstance();
     
+    // Weapon states are never changed after loading, so all weapons built from
+    // the same state definitions share one list instead of copying it
+    private static final Map<List<WeaponStateData>, List<WeaponState>> sharedStates = new IdentityHashMap<>();
+    
     public static RangedWeapon createWeapon(String weaponId) {
         WeaponData weaponData = dataManager.getWeapon(weaponId);
         if (weaponData == null) {
@@ -47,17 +55,12 @@ public class WeaponFactory {
         weapon.availableFiringModes = new ArrayList<>(weaponData.availableFiringModes);
         
         // Set up the weapon states from the individual weapon definition (if available)
-        weapon.states = new ArrayList<>();
         if (weaponData.states != null && !weaponData.states.isEmpty()) {
             // Use individual weapon states
-            for (WeaponStateData stateData : weaponData.states) {
-                weapon.states.add(new WeaponState(stateData.state, stateData.action, stateData.ticks));
-            }
+            weapon.states = sharedStates(weaponData.states);
         } else {
             // Fallback to weapon type states for backwards compatibility
-            for (WeaponStateData stateData : weaponTypeData.states) {
-                weapon.states.add(new WeaponState(stateData.state, stateData.action, stateData.ticks));
-            }
+            weapon.states = sharedStates(weaponTypeData.states);
         }
         
         weapon.initialStateName = weaponTypeData.initialState;
@@ -65,6 +68,23 @@ public class WeaponFactory {
         return weapon;
     }
     
+    /**
+     * Returns the weapon states for a list of state definitions. The list is
+     * unmodifiable and shared by every weapon created from the same definitions.
+     */
+    public static synchronized List<WeaponState> sharedStates(List<WeaponStateData> definitions) {
+        List<WeaponState> states = sharedStates.get(definitions);
+        if (states == null) {
+            List<WeaponState> built = new ArrayList<>(definitions.size());
+            for (WeaponStateData stateData : definitions) {
+                built.add(new WeaponState(stateData.state, stateData.action, stateData.ticks));
+            }
+            states = Collections.unmodifiableList(built);
+            sharedStates.put(definitions, states);
+        }
+        return states;
+    }
+    
     // Utility methods for weapon management
     public static boolean isValidWeaponId(String weaponId) {
         return dataManager.hasWeapon(weaponId);
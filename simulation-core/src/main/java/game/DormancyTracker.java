@@ -0,0 +1,298 @@
+package game;
+
+import combat.Character;
+import combat.RangedWeapon;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Simulation level of detail: lets units with nothing to do drop out of the
+ * per-tick update loop.
+ *
+ * Every EVALUATION_INTERVAL_TICKS the tracker puts to sleep units that are
+ * incapacitated, or that are not moving, rotating, highlighted, attacking,
+ * reacting or closing to melee, own no scheduled events and have no live
+ * hostile within their engagement range plus WAKE_MARGIN_FEET. The tick loop
+ * then updates only getActiveUnits(). Scheduled events still run for dormant
+ * units.
+ *
+ * A dormant unit wakes when:
+ * - a hostile that is still active comes within its engagement range (checked
+ *   at each evaluation; the margin covers movement between evaluations),
+ * - an attack against it is resolved, including stray hits,
+ * - it is given a movement target (Unit.setTarget) or a player command.
+ * Units matching the keep-awake filter (the player's selection in the desktop
+ * game) never go dormant, so keyboard commands reach them immediately.
+ *
+ * Two dormant units never move, so only active hostiles are checked against
+ * dormant units, and tick cost follows the number of engaged units rather
+ * than the size of the roster.
+ *
+ * Disabled by default; enable with setEnabled(true) or -Dopenfields.dormancy=true.
+ */
+public final class DormancyTracker {
+
+    public static final int EVALUATION_INTERVAL_TICKS = 15;
+    public static final double WAKE_MARGIN_FEET = 30.0;
+
+    private static final double PIXELS_PER_FOOT = 7.0;
+
+    private static final DormancyTracker instance = new DormancyTracker();
+
+    private static volatile boolean enabled = Boolean.getBoolean("openfields.dormancy");
+
+    private final Set<Unit> dormant = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Unit> activeUnits = new ArrayList<>();
+    private List<Unit> trackedUnits;
+    private int trackedSize = -1;
+    private int trackedRevision = -1;
+    private boolean activeDirty = true;
+
+    private long lastEvaluationTick = -EVALUATION_INTERVAL_TICKS;
+    private long wakeCount;
+    private Predicate<Unit> keepAwake = unit -> false;
+
+    private DormancyTracker() {
+    }
+
+    public static DormancyTracker getInstance() {
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables dormancy. Disabling wakes every unit.
+     */
+    public static void setEnabled(boolean enabled) {
+        DormancyTracker.enabled = enabled;
+        if (!enabled) {
+            instance.reset();
+        }
+    }
+
+    /**
+     * Sets which units are never put to sleep, e.g. the selected units.
+     */
+    public void setKeepAwake(Predicate<Unit> keepAwake) {
+        this.keepAwake = keepAwake != null ? keepAwake : unit -> false;
+    }
+
+    /**
+     * Units to update this tick, in unit list order. Returns the list itself
+     * while dormancy is disabled. The returned list is reused; do not keep it
+     * across ticks.
+     *
+     * @param units the units on the field
+     */
+    public List<Unit> getActiveUnits(List<Unit> units) {
+        if (!enabled) {
+            return units;
+        }
+        int revision = FactionRoster.getInstance().getRevision();
+        if (units != trackedUnits || units.size() != trackedSize || revision != trackedRevision) {
+            // Units joined or left; forget dormant units that are no longer on the field
+            trackedUnits = units;
+            trackedSize = units.size();
+            trackedRevision = revision;
+            if (!dormant.isEmpty()) {
+                Set<Unit> onField = Collections.newSetFromMap(new IdentityHashMap<>());
+                onField.addAll(units);
+                dormant.retainAll(onField);
+            }
+            activeDirty = true;
+        }
+        if (activeDirty) {
+            activeUnits.clear();
+            for (int i = 0, n = units.size(); i < n; i++) {
+                Unit unit = units.get(i);
+                if (!dormant.contains(unit)) {
+                    activeUnits.add(unit);
+                }
+            }
+            activeDirty = false;
+        }
+        return activeUnits;
+    }
+
+    /**
+     * Puts idle units to sleep and wakes dormant units that an active hostile
+     * has come near. Call once per tick after the unit updates; does work only
+     * every EVALUATION_INTERVAL_TICKS.
+     *
+     * @param units the units on the field
+     * @param currentTick the tick just simulated
+     * @param events the pending scheduled events
+     */
+    public void evaluate(List<Unit> units, long currentTick, Collection<ScheduledEvent> events) {
+        if (!enabled || (currentTick >= lastEvaluationTick && currentTick - lastEvaluationTick < EVALUATION_INTERVAL_TICKS)) {
+            return;
+        }
+        lastEvaluationTick = currentTick;
+        List<Unit> active = getActiveUnits(units);
+        Map<Integer, List<Unit>> liveByFaction = FactionRoster.getInstance().getLiveUnitsByFaction();
+
+        Set<Integer> eventOwners = new HashSet<>();
+        for (ScheduledEvent event : events) {
+            eventOwners.add(event.getOwnerId());
+        }
+
+        // Wake dormant units that an active hostile has come within range of
+        List<Unit> woken = new ArrayList<>();
+        if (!dormant.isEmpty()) {
+            for (Unit sleeper : dormant) {
+                if (keepAwake.test(sleeper)
+                        || (!sleeper.character.isIncapacitated() && hostileWithinRange(sleeper, active, null))) {
+                    woken.add(sleeper);
+                }
+            }
+        }
+
+        boolean changed = !woken.isEmpty();
+        for (Unit unit : woken) {
+            dormant.remove(unit);
+            wakeCount++;
+        }
+        for (Unit unit : active) {
+            if (!keepAwake.test(unit) && isIdle(unit, eventOwners) && !hostileWithinRange(unit, null, liveByFaction)) {
+                dormant.add(unit);
+                changed = true;
+            }
+        }
+        if (changed) {
+            activeDirty = true;
+        }
+    }
+
+    private static boolean isIdle(Unit unit, Set<Integer> eventOwners) {
+        Character character = unit.character;
+        if (character.isIncapacitated()) {
+            return true;
+        }
+        if ((unit.hasTarget && !unit.isStopped) || unit.isRotating() || unit.movementPending) {
+            return false;
+        }
+        if (unit.isHitHighlighted() || unit.isFiringHighlighted() || unit.color != unit.getBaseColor()) {
+            return false;
+        }
+        if (character.isAttacking || character.getCurrentTarget() != null || character.isMovingToMelee
+                || character.getReactionTarget() != null) {
+            return false;
+        }
+        return !eventOwners.contains(unit.getId());
+    }
+
+    /**
+     * Checks for a live hostile within the unit's engagement range, looking
+     * either at the given candidate units or at every live unit by faction.
+     */
+    private static boolean hostileWithinRange(Unit unit, List<Unit> candidates, Map<Integer, List<Unit>> liveByFaction) {
+        double range = engagementRangePixels(unit.character);
+        int faction = unit.character.getFaction();
+        if (candidates != null) {
+            return anyWithin(unit, candidates, faction, range);
+        }
+        for (Map.Entry<Integer, List<Unit>> entry : liveByFaction.entrySet()) {
+            if (entry.getKey() != faction && anyWithin(unit, entry.getValue(), faction, range)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyWithin(Unit unit, List<Unit> others, int faction, double range) {
+        double rangeSquared = range * range;
+        for (int i = 0, n = others.size(); i < n; i++) {
+            Unit other = others.get(i);
+            if (other == unit || other.character.getFaction() == faction || other.character.isIncapacitated()) {
+                continue;
+            }
+            double dx = other.x - unit.x;
+            double dy = other.y - unit.y;
+            if (dx * dx + dy * dy <= rangeSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distance in pixels at which the character could start to act on a hostile.
+     * Automatic targeting without a ranged weapon pursues hostiles at any distance.
+     */
+    private static double engagementRangePixels(Character character) {
+        if (character.weapon instanceof RangedWeapon && !character.isMeleeCombatMode()) {
+            return (((RangedWeapon) character.weapon).getMaximumRange() + WAKE_MARGIN_FEET) * PIXELS_PER_FOOT;
+        }
+        if (character.usesAutomaticTargeting) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double reach = character.meleeWeapon != null ? character.meleeWeapon.getTotalReach() : 0;
+        return (reach + WAKE_MARGIN_FEET) * PIXELS_PER_FOOT;
+    }
+
+    /**
+     * Returns a dormant unit to the tick loop from the next tick on.
+     */
+    public void wake(Unit unit) {
+        if (enabled && unit != null && dormant.remove(unit)) {
+            activeDirty = true;
+            wakeCount++;
+        }
+    }
+
+    public boolean isDormant(Unit unit) {
+        return dormant.contains(unit);
+    }
+
+    public int getDormantCount() {
+        return dormant.size();
+    }
+
+    /** @return the tick evaluate() last did its work at, as kept in keyframes */
+    public long getLastEvaluationTick() {
+        return lastEvaluationTick;
+    }
+
+    /**
+     * Puts the tracker back to a recorded state: exactly the given units are
+     * dormant, and the next evaluation falls due as it did then.
+     */
+    public void restore(Collection<Unit> dormantUnits, long lastEvaluationTick) {
+        dormant.clear();
+        if (enabled) {
+            dormant.addAll(dormantUnits);
+        }
+        this.lastEvaluationTick = lastEvaluationTick;
+        activeDirty = true;
+    }
+
+    /** @return units woken since the tracker was last reset */
+    public long getWakeCount() {
+        return wakeCount;
+    }
+
+    /**
+     * Wakes every unit, e.g. when a game is loaded.
+     */
+    public void reset() {
+        dormant.clear();
+        activeUnits.clear();
+        trackedUnits = null;
+        trackedSize = -1;
+        trackedRevision = -1;
+        activeDirty = true;
+        lastEvaluationTick = -EVALUATION_INTERVAL_TICKS;
+        wakeCount = 0;
+    }
+}
\ No newline at end of file
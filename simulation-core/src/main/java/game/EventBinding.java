@@ -0,0 +1,66 @@
+package game;
+
+import combat.Character;
+import game.interfaces.IUnit;
+import java.util.PriorityQueue;
+
+/**
+ * Live references a typed ScheduledEvent works with: the acting character and
+ * its unit, the target unit, and the event queue and callbacks to schedule
+ * follow-up events through.
+ *
+ * Only the ids are saved with an event (character id, target unit id); loading
+ * a game builds a new binding from the restored units. Unit, target, queue and
+ * callbacks may be null where the scheduling code had none.
+ */
+public final class EventBinding {
+    private final Character character;
+    private final IUnit unit;
+    private final IUnit target;
+    private final PriorityQueue<ScheduledEvent> eventQueue;
+    private final GameCallbacks gameCallbacks;
+
+    public EventBinding(Character character, IUnit unit, IUnit target,
+                        PriorityQueue<ScheduledEvent> eventQueue, GameCallbacks gameCallbacks) {
+        this.character = character;
+        this.unit = unit;
+        this.target = target;
+        this.eventQueue = eventQueue;
+        this.gameCallbacks = gameCallbacks;
+    }
+
+    /**
+     * Binding for events that only act on a character.
+     */
+    public static EventBinding of(Character character) {
+        return new EventBinding(character, null, null, null, null);
+    }
+
+    public Character getCharacter() {
+        return character;
+    }
+
+    public IUnit getUnit() {
+        return unit;
+    }
+
+    public IUnit getTarget() {
+        return target;
+    }
+
+    public PriorityQueue<ScheduledEvent> getEventQueue() {
+        return eventQueue;
+    }
+
+    public GameCallbacks getGameCallbacks() {
+        return gameCallbacks;
+    }
+
+    public int getCharacterId() {
+        return character.id;
+    }
+
+    public int getTargetId() {
+        return target != null ? target.getId() : -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package game;
+
+/**
+ * Game-level label carried by every scheduled event, so profiles and traces
+ * can say what an event does rather than naming an anonymous lambda.
+ * Typed events take their category from their CombatEventKind; Runnable
+ * events name it when they are scheduled.
+ */
+public enum EventCategory {
+    /** Ranged shot leaves the weapon */
+    FIRE,
+    /** Ranged projectile reaches its target */
+    IMPACT,
+    /** Firing or melee recovery ends */
+    RECOVER,
+    /** Follow-up round of a burst or full-auto string */
+    BURST_ROUND,
+    /** Persistent attack resumes or continues */
+    CONTINUE_ATTACK,
+    /** New target picked after the last one went down */
+    RETARGET,
+    /** Weapon moves to its next state */
+    WEAPON_STATE,
+    /** Magazine or single round reloaded */
+    RELOAD,
+    /** Wound hesitation ends or its aftermath resumes */
+    HESITATION_END,
+    /** Bravery penalty wears off */
+    BRAVERY_RECOVERY,
+    /** Reaction to a watched target */
+    REACTION,
+    /** Melee attack or counter-attack resolves */
+    MELEE_ATTACK,
+    /** Attacker closing to melee rechecks the range */
+    MELEE_RANGE_CHECK,
+    /** Hit or firing highlight fades */
+    HIGHLIGHT,
+    /** Scheduled without a category */
+    UNCATEGORIZED
+}
\ No newline at end of file
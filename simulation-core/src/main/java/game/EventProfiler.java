@@ -0,0 +1,208 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional profiler for the scheduled event drain loop, attributing event
+ * cost to EventCategory rather than to anonymous lambdas.
+ *
+ * Every event run through run() is counted under its category. One event in
+ * getSampleInterval() is also timed, recording execution time and queue
+ * residency - the wall-clock time between the event being created and being
+ * run, which includes time spent paused. Totals for unsampled events are
+ * estimated from the sampled mean; see formatReport().
+ *
+ * The drain loop and the report are expected to run on the same thread.
+ *
+ * Disabled by default; enable with setEnabled(true) or
+ * -Dopenfields.eventProfiler=true. The sample interval defaults to 1 (every
+ * event timed) and can be set with -Dopenfields.eventProfiler.sampleEvery=N.
+ */
+public final class EventProfiler {
+
+    private static final EventProfiler instance = new EventProfiler();
+
+    private static volatile boolean enabled = Boolean.getBoolean("openfields.eventProfiler");
+
+    /**
+     * Counters for one category. Times are in nanoseconds and cover sampled
+     * events only.
+     */
+    public static final class CategoryStats {
+        private final EventCategory category;
+        private long count;
+        private long sampled;
+        private long totalNanos;
+        private long maxNanos;
+        private long residencySamples;
+        private long totalResidencyNanos;
+        private long maxResidencyNanos;
+
+        CategoryStats(EventCategory category) {
+            this.category = category;
+        }
+
+        CategoryStats(CategoryStats other) {
+            this.category = other.category;
+            this.count = other.count;
+            this.sampled = other.sampled;
+            this.totalNanos = other.totalNanos;
+            this.maxNanos = other.maxNanos;
+            this.residencySamples = other.residencySamples;
+            this.totalResidencyNanos = other.totalResidencyNanos;
+            this.maxResidencyNanos = other.maxResidencyNanos;
+        }
+
+        public EventCategory getCategory() { return category; }
+        public long getCount() { return count; }
+        public long getSampledCount() { return sampled; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public long getMaxResidencyNanos() { return maxResidencyNanos; }
+
+        public double getMeanNanos() {
+            return sampled > 0 ? (double) totalNanos / sampled : 0.0;
+        }
+
+        public double getMeanResidencyNanos() {
+            return residencySamples > 0 ? (double) totalResidencyNanos / residencySamples : 0.0;
+        }
+
+        /** @return mean execution time scaled up to every event counted */
+        public double getEstimatedTotalNanos() {
+            return getMeanNanos() * count;
+        }
+    }
+
+    private final Map<EventCategory, CategoryStats> stats = new EnumMap<>(EventCategory.class);
+    private int sampleInterval = Math.max(1, Integer.getInteger("openfields.eventProfiler.sampleEvery", 1));
+    private long eventsSinceSample;
+
+    private EventProfiler() {
+        reset();
+    }
+
+    public static EventProfiler getInstance() {
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables profiling. Collected counters are kept; see reset().
+     */
+    public static void setEnabled(boolean enabled) {
+        EventProfiler.enabled = enabled;
+    }
+
+    /**
+     * @return the current time for stamping a newly created event, or 0 while
+     *         profiling is disabled
+     */
+    static long enqueueStamp() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Times one event in every interval events; 1 times them all.
+     */
+    public void setSampleInterval(int interval) {
+        this.sampleInterval = Math.max(1, interval);
+        this.eventsSinceSample = 0;
+    }
+
+    /**
+     * Runs the event's action, recording it under its category while
+     * profiling is enabled.
+     */
+    public void run(ScheduledEvent event) {
+        if (!enabled) {
+            event.getAction().run();
+            return;
+        }
+        CategoryStats entry = stats.get(event.getCategory());
+        entry.count++;
+        if (++eventsSinceSample < sampleInterval) {
+            event.getAction().run();
+            return;
+        }
+        eventsSinceSample = 0;
+
+        long start = System.nanoTime();
+        try {
+            event.getAction().run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            entry.sampled++;
+            entry.totalNanos += elapsed;
+            entry.maxNanos = Math.max(entry.maxNanos, elapsed);
+            // Events created before profiling was enabled carry no stamp
+            if (event.getEnqueuedNanos() != 0L) {
+                long residency = start - event.getEnqueuedNanos();
+                entry.residencySamples++;
+                entry.totalResidencyNanos += residency;
+                entry.maxResidencyNanos = Math.max(entry.maxResidencyNanos, residency);
+            }
+        }
+    }
+
+    /**
+     * @return a copy of the counters for one category
+     */
+    public CategoryStats getStats(EventCategory category) {
+        return new CategoryStats(stats.get(category));
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public void reset() {
+        for (EventCategory category : EventCategory.values()) {
+            stats.put(category, new CategoryStats(category));
+        }
+        eventsSinceSample = 0;
+    }
+
+    /**
+     * @return table of the categories that ran, most expensive first by
+     *         estimated total time
+     */
+    public String formatReport() {
+        List<CategoryStats> ran = new ArrayList<>();
+        long totalCount = 0;
+        for (CategoryStats entry : stats.values()) {
+            if (entry.count > 0) {
+                ran.add(entry);
+                totalCount += entry.count;
+            }
+        }
+        ran.sort((a, b) -> Double.compare(b.getEstimatedTotalNanos(), a.getEstimatedTotalNanos()));
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Scheduled event profile (%d events, 1 in %d timed)%n", totalCount, sampleInterval));
+        report.append(String.format("%-18s %9s %9s %11s %10s %10s %12s %12s%n",
+                "Category", "Count", "Sampled", "Est. ms", "Mean us", "Max us", "Mean wait ms", "Max wait ms"));
+        for (CategoryStats entry : ran) {
+            report.append(String.format("%-18s %9d %9d %11.3f %10.2f %10.2f %12.1f %12.1f%n",
+                    entry.category, entry.count, entry.sampled,
+                    entry.getEstimatedTotalNanos() / 1_000_000.0,
+                    entry.getMeanNanos() / 1_000.0,
+                    entry.maxNanos / 1_000.0,
+                    entry.getMeanResidencyNanos() / 1_000_000.0,
+                    entry.maxResidencyNanos / 1_000_000.0));
+        }
+        if (ran.isEmpty()) {
+            report.append(enabled ? "No events run yet\n" : "Profiling is disabled (-Dopenfields.eventProfiler=true)\n");
+        }
+        return report.toString();
+    }
+}
\ No newline at end of file
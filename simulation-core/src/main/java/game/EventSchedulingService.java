@@ -64,6 +64,17 @@ public class EventSchedulingService implements IEventSchedulingService {
         eventQueue.add(event);
     }
     
+    @Override
+    public void scheduleEvent(ScheduledEvent event) {
+        if (!initialized) {
+            throw new IllegalStateException("EventSchedulingService not initialized");
+        }
+        if (event.tick < gameClock.getCurrentTick()) {
+            throw new IllegalArgumentException("Cannot schedule events in the past");
+        }
+        eventQueue.add(event);
+    }
+    
     @Override
     public void scheduleEventWithDelay(long delayTicks, Runnable action, int ownerId) {
         if (!initialized) {
@@ -0,0 +1,188 @@
+package game;
+
+import combat.Character;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-faction rosters of the units on the field.
+ *
+ * Keeps every unit grouped by faction, plus a separate list of the units that are
+ * still able to fight. Target searches walk only the live units of hostile
+ * factions, and faction headcounts are plain size reads.
+ *
+ * The roster follows one unit list. sync() is called once per tick and rebuilds
+ * the roster only when units were added, removed, changed faction or changed
+ * incapacitation state. Incapacitation during a tick is reported directly by
+ * HealthManager through onIncapacitated(), so the live lists are current
+ * between syncs too.
+ *
+ * Every rebuild increments the roster revision, which lets callers notice that
+ * units have joined, left or switched sides without walking the lists.
+ */
+public class FactionRoster {
+
+    private static FactionRoster instance;
+
+    private List<Unit> trackedUnits;
+    private Unit[] snapshotUnits = new Unit[0];
+    private int[] snapshotFactions = new int[0];
+    private boolean[] snapshotIncapacitated = new boolean[0];
+    private int snapshotSize = 0;
+    private int revision = 0;
+
+    // Sorted by faction id so iteration order is deterministic
+    private final Map<Integer, List<Unit>> unitsByFaction = new TreeMap<>();
+    private final Map<Integer, List<Unit>> liveUnitsByFaction = new TreeMap<>();
+    private final Map<Character, Unit> unitByCharacter = new IdentityHashMap<>();
+
+    private FactionRoster() {
+    }
+
+    public static FactionRoster getInstance() {
+        if (instance == null) {
+            instance = new FactionRoster();
+        }
+        return instance;
+    }
+
+    /**
+     * Brings the roster up to date with the unit list, rebuilding it if the
+     * list, a unit's faction or a unit's incapacitation state has changed.
+     *
+     * @param units the units on the field
+     */
+    public void sync(List<Unit> units) {
+        if (units != trackedUnits || units.size() != snapshotSize) {
+            rebuild(units);
+            return;
+        }
+        for (int i = 0; i < snapshotSize; i++) {
+            Unit unit = units.get(i);
+            if (unit != snapshotUnits[i]
+                    || unit.character.getFaction() != snapshotFactions[i]
+                    || unit.character.isIncapacitated() != snapshotIncapacitated[i]) {
+                rebuild(units);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cheap check used by callers outside the tick loop: rebuilds only if the
+     * roster follows a different list or the list has changed size.
+     *
+     * @param units the units on the field
+     */
+    public void ensureTracking(List<Unit> units) {
+        if (units != trackedUnits || units.size() != snapshotSize) {
+            rebuild(units);
+        }
+    }
+
+    /**
+     * Removes a newly incapacitated character's unit from its faction's live list.
+     *
+     * @param character the character that has just become incapacitated
+     */
+    public void onIncapacitated(Character character) {
+        Unit unit = unitByCharacter.get(character);
+        if (unit == null) {
+            return;
+        }
+        List<Unit> live = liveUnitsByFaction.get(character.getFaction());
+        if (live != null) {
+            live.remove(unit);
+        }
+        for (int i = 0; i < snapshotSize; i++) {
+            if (snapshotUnits[i] == unit) {
+                snapshotIncapacitated[i] = true;
+                break;
+            }
+        }
+    }
+
+    private void rebuild(List<Unit> units) {
+        revision++;
+        trackedUnits = units;
+        snapshotSize = units.size();
+        if (snapshotUnits.length < snapshotSize) {
+            snapshotUnits = new Unit[snapshotSize];
+            snapshotFactions = new int[snapshotSize];
+            snapshotIncapacitated = new boolean[snapshotSize];
+        }
+
+        unitsByFaction.clear();
+        liveUnitsByFaction.clear();
+        unitByCharacter.clear();
+
+        for (int i = 0; i < snapshotSize; i++) {
+            Unit unit = units.get(i);
+            int faction = unit.character.getFaction();
+            boolean incapacitated = unit.character.isIncapacitated();
+
+            snapshotUnits[i] = unit;
+            snapshotFactions[i] = faction;
+            snapshotIncapacitated[i] = incapacitated;
+
+            unitByCharacter.put(unit.character, unit);
+            unitsByFaction.computeIfAbsent(faction, f -> new ArrayList<>()).add(unit);
+            List<Unit> live = liveUnitsByFaction.computeIfAbsent(faction, f -> new ArrayList<>());
+            if (!incapacitated) {
+                live.add(unit);
+            }
+        }
+        for (int i = snapshotSize; i < snapshotUnits.length; i++) {
+            snapshotUnits[i] = null;
+        }
+    }
+
+    /**
+     * @return a counter that changes whenever the roster is rebuilt
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return live units per faction, in faction id order; read only
+     */
+    public Map<Integer, List<Unit>> getLiveUnitsByFaction() {
+        return Collections.unmodifiableMap(liveUnitsByFaction);
+    }
+
+    /**
+     * @return all units of the faction, live or not; read only
+     */
+    public List<Unit> getUnits(int faction) {
+        List<Unit> factionUnits = unitsByFaction.get(faction);
+        return factionUnits != null ? Collections.unmodifiableList(factionUnits) : Collections.emptyList();
+    }
+
+    /**
+     * @return the faction's units that can still fight; read only
+     */
+    public List<Unit> getLiveUnits(int faction) {
+        List<Unit> live = liveUnitsByFaction.get(faction);
+        return live != null ? Collections.unmodifiableList(live) : Collections.emptyList();
+    }
+
+    public int getUnitCount(int faction) {
+        List<Unit> factionUnits = unitsByFaction.get(faction);
+        return factionUnits != null ? factionUnits.size() : 0;
+    }
+
+    public int getLiveCount(int faction) {
+        List<Unit> live = liveUnitsByFaction.get(faction);
+        return live != null ? live.size() : 0;
+    }
+
+    public int getIncapacitatedCount(int faction) {
+        return getUnitCount(faction) - getLiveCount(faction);
+    }
+}
\ No newline at end of file
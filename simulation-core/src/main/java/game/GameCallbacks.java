@@ -1,5 +1,6 @@
 package game;
 
+import combat.HitResult;
 import combat.Weapon;
 import combat.MeleeWeapon;
 import java.util.List;
@@ -8,6 +9,9 @@ public interface GameCallbacks {
     void playWeaponSound(Weapon weapon);
     void scheduleProjectileImpact(Unit shooter, Unit target, Weapon weapon, long fireTick, double distanceFeet);
     void scheduleMeleeImpact(Unit attacker, Unit target, MeleeWeapon weapon, long attackTick);
+    // Run by the typed IMPACT and MELEE_ATTACK events the two methods above schedule
+    void resolveProjectileImpact(Unit shooter, Unit target, Weapon weapon, long impactTick, HitResult hitResult);
+    void resolveMeleeImpact(Unit attacker, Unit target, MeleeWeapon weapon, long attackTick);
     void applyFiringHighlight(Unit shooter, long fireTick);
     void addMuzzleFlash(Unit shooter, long fireTick);
     void removeAllEventsForOwner(int ownerId);
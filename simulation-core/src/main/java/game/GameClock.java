@@ -14,4 +14,8 @@ public class GameClock {
     public void reset() {
         currentTick = 0;
     }
+
+    public void setCurrentTick(long tick) {
+        currentTick = tick;
+    }
 }
\ No newline at end of file
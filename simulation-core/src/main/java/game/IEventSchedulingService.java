@@ -16,6 +16,14 @@ public interface IEventSchedulingService {
      */
     void scheduleEvent(long tick, Runnable action, int ownerId);
     
+    /**
+     * Schedule a prepared event, typically a typed one.
+     * 
+     * @param event The event to schedule
+     * @throws IllegalArgumentException if the event's tick is in the past
+     */
+    void scheduleEvent(ScheduledEvent event);
+    
     /**
      * Schedule an event to occur after a delay.
      * 
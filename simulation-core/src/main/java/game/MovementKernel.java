@@ -0,0 +1,197 @@
+package game;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Optional batched movement integration.
+ *
+ * When enabled, Unit.update() does everything except the position step and
+ * marks the unit as pending. After all units have been updated for the tick,
+ * integratePending() gathers the pending units into parallel primitive arrays
+ * (positions, movement targets, speeds), advances them in one pass and writes
+ * the results back. The pass uses the jdk.incubator.vector API when
+ * VectorMovementKernel was compiled in (mvn -Pvector) and the module is present
+ * at run time (--add-modules jdk.incubator.vector), and a scalar loop otherwise.
+ * The vector class is looked up reflectively so the default build neither
+ * needs nor warns about the incubator module.
+ *
+ * Both paths perform exactly the same floating point operations in the same
+ * order as Unit.update(), so each unit ends up at the same position as with
+ * per-unit movement. What differs is ordering within a tick: with the kernel,
+ * every unit observes the others' positions from before the movement step.
+ *
+ * Disabled by default; enable with setEnabled(true) or -Dopenfields.movementKernel=true.
+ */
+public final class MovementKernel {
+
+    private static final MovementKernel instance = new MovementKernel();
+
+    private static volatile boolean enabled = Boolean.getBoolean("openfields.movementKernel");
+
+    // VectorMovementKernel.step, or null when the vector path is unavailable
+    private static final MethodHandle VECTOR_STEP = findVectorStep();
+    private static final boolean VECTOR_AVAILABLE = VECTOR_STEP != null;
+    private volatile boolean vectorizationEnabled = VECTOR_AVAILABLE;
+
+    // Struct-of-arrays working set, reused between ticks
+    private Unit[] units = new Unit[64];
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] targetX = new double[64];
+    private double[] targetY = new double[64];
+    private double[] speed = new double[64];
+    private boolean[] arrived = new boolean[64];
+
+    private MovementKernel() {
+    }
+
+    public static MovementKernel getInstance() {
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        MovementKernel.enabled = enabled;
+    }
+
+    /**
+     * @return true if the vector module is available at runtime
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * @return true if the next pass will use the vector implementation
+     */
+    public boolean isVectorized() {
+        return vectorizationEnabled && VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Allows forcing the scalar path even when vectors are available.
+     */
+    public void setVectorizationEnabled(boolean vectorizationEnabled) {
+        this.vectorizationEnabled = vectorizationEnabled;
+    }
+
+    /**
+     * Advances every unit whose Unit.update() left its movement step pending.
+     * Does nothing while the kernel is disabled.
+     *
+     * @param allUnits the units on the field
+     */
+    public void integratePending(List<Unit> allUnits) {
+        if (!enabled) {
+            return;
+        }
+
+        int count = 0;
+        for (int i = 0, n = allUnits.size(); i < n; i++) {
+            Unit unit = allUnits.get(i);
+            if (!unit.movementPending) {
+                continue;
+            }
+            unit.movementPending = false;
+            ensureCapacity(count + 1);
+            units[count] = unit;
+            x[count] = unit.x;
+            y[count] = unit.y;
+            targetX[count] = unit.targetX;
+            targetY[count] = unit.targetY;
+            speed[count] = unit.character.getEffectiveMovementSpeed();
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        int done = isVectorized() ? vectorStep(count) : 0;
+        stepScalar(x, y, targetX, targetY, speed, arrived, done, count);
+
+        for (int i = 0; i < count; i++) {
+            Unit unit = units[i];
+            unit.x = x[i];
+            unit.y = y[i];
+            if (arrived[i]) {
+                unit.hasTarget = false;
+            }
+        }
+        Arrays.fill(units, 0, count, null);
+    }
+
+    /**
+     * Scalar movement step for elements [from, to). Same operations as Unit.update().
+     */
+    static void stepScalar(double[] x, double[] y, double[] targetX, double[] targetY,
+                           double[] speed, boolean[] arrived, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double dx = targetX[i] - x[i];
+            double dy = targetY[i] - y[i];
+            double distance = Math.sqrt(dx * dx + dy * dy);
+
+            if (distance <= 1) {
+                x[i] = targetX[i];
+                y[i] = targetY[i];
+                arrived[i] = true;
+                continue;
+            }
+            arrived[i] = false;
+
+            double moveX = speed[i] / 60.0 * (dx / distance);
+            double moveY = speed[i] / 60.0 * (dy / distance);
+
+            if (Math.abs(moveX) > Math.abs(dx)) x[i] = targetX[i]; else x[i] += moveX;
+            if (Math.abs(moveY) > Math.abs(dy)) y[i] = targetY[i]; else y[i] += moveY;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= x.length) {
+            return;
+        }
+        int size = Math.max(needed, x.length * 2);
+        units = Arrays.copyOf(units, size);
+        x = Arrays.copyOf(x, size);
+        y = Arrays.copyOf(y, size);
+        targetX = Arrays.copyOf(targetX, size);
+        targetY = Arrays.copyOf(targetY, size);
+        speed = Arrays.copyOf(speed, size);
+        arrived = Arrays.copyOf(arrived, size);
+    }
+
+    private int vectorStep(int count) {
+        try {
+            return (int) VECTOR_STEP.invokeExact(x, y, targetX, targetY, speed, arrived, count);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Vector movement step failed", e);
+        }
+    }
+
+    private static MethodHandle findVectorStep() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> kernel = Class.forName("game.VectorMovementKernel");
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            int lanes = (int) lookup.findStatic(kernel, "laneCount", MethodType.methodType(int.class)).invoke();
+            if (lanes <= 1) {
+                return null;
+            }
+            return lookup.findStatic(kernel, "step", MethodType.methodType(int.class,
+                    double[].class, double[].class, double[].class, double[].class,
+                    double[].class, boolean[].class, int.class));
+        } catch (Throwable e) {
+            // Not compiled in (built without -Pvector) or not linkable
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -133,7 +133,7 @@ public class PlatformUnit {
     private void onReachedTarget() {
         // Reset movement-related states
         character.isMovingToMelee = false;
-        character.meleeTarget = null;
+        character.setMeleeTarget(null);
     }
     
     private void updateIncapacitationColor() {
@@ -0,0 +1,124 @@
+package game;
+
+import combat.CombatEventKind;
+
+public class ScheduledEvent implements Comparable<ScheduledEvent> {
+    public final long tick;
+    public final Runnable action;
+
+    private final int ownerId; // -1 for world-owned events
+
+    // Typed events describe their action as data (kind, actor, target, params)
+    // so they can be saved and rebuilt; kind is null for Runnable events
+    private final CombatEventKind kind;
+    private final EventBinding binding;
+    private final long[] params;
+
+    // What the event does, for profiling; see EventCategory
+    private final EventCategory category;
+    // When the event was created, while EventProfiler is enabled (0 otherwise)
+    private final long enqueuedNanos;
+
+    public static final int WORLD_OWNER = -1;
+
+    /*
+    public ScheduledEvent(long tick, Runnable action) {
+        this.tick = tick;
+        this.action = action;
+        this.ownerId = WORLD_OWNER;
+    }
+
+     */
+    public ScheduledEvent(long tick, Runnable action, int ownerId) {
+        this(tick, action, ownerId, EventCategory.UNCATEGORIZED);
+    }
+
+    /**
+     * Creates a Runnable event labelled with what it does.
+     */
+    public ScheduledEvent(long tick, Runnable action, int ownerId, EventCategory category) {
+        this.tick = tick;
+        this.action = action;
+        this.ownerId = ownerId;
+        this.kind = null;
+        this.binding = null;
+        this.params = null;
+        this.category = category;
+        this.enqueuedNanos = EventProfiler.enqueueStamp();
+    }
+
+    /**
+     * Creates a typed event. Running its action hands the event to the kind's handler.
+     *
+     * @param tick Tick the event executes at
+     * @param kind What the event does
+     * @param ownerId Owner for cancellation (e.g. removeAllEventsForOwner)
+     * @param binding Character, units, queue and callbacks the handler works with
+     * @param params Kind-specific parameters, see CombatEventKind
+     */
+    public ScheduledEvent(long tick, CombatEventKind kind, int ownerId, EventBinding binding, long... params) {
+        this.tick = tick;
+        this.kind = kind;
+        this.ownerId = ownerId;
+        this.binding = binding;
+        this.params = params;
+        this.action = () -> kind.handle(this);
+        this.category = kind.getCategory();
+        this.enqueuedNanos = EventProfiler.enqueueStamp();
+    }
+
+    /**
+     * @return a copy of this event executing at another tick, typed if this one is
+     */
+    public ScheduledEvent rescheduleAt(long newTick) {
+        if (kind != null) {
+            return new ScheduledEvent(newTick, kind, ownerId, binding, params);
+        }
+        return new ScheduledEvent(newTick, action, ownerId, category);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public Runnable getAction() {
+        return action;
+    }
+
+    public int getOwnerId() {
+        return ownerId;
+    }
+
+    public boolean isTyped() {
+        return kind != null;
+    }
+
+    public CombatEventKind getKind() {
+        return kind;
+    }
+
+    public EventBinding getBinding() {
+        return binding;
+    }
+
+    public long getParam(int index) {
+        return params[index];
+    }
+
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    long getEnqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    public long[] getParams() {
+        return params != null ? params.clone() : new long[0];
+    }
+
+    @Override
+    public int compareTo(ScheduledEvent other) {
+        return Long.compare(this.tick, other.tick);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package game;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The per-tick simulation step shared by every game loop (OpenFields2,
+ * GameEngine, and journal replay through either), so a replayed tick runs
+ * exactly what the recorded tick ran.
+ *
+ * One tick: the clock advances, due scheduled events run, the faction roster
+ * catches up with the unit list, then each active unit moves and runs its
+ * automatic targeting, melee approach, melee recovery and reaction
+ * monitoring. Deferred movement and dormancy are settled last. Rendering and
+ * audio are left to the caller.
+ */
+public final class TickPipeline {
+
+    private TickPipeline() {
+    }
+
+    /**
+     * Advances the simulation by one tick. Does not check any pause state.
+     *
+     * @param units the units on the field
+     * @param gameClock clock to advance
+     * @param eventQueue pending scheduled events
+     * @param gameCallbacks callbacks the units' combat code schedules and resolves through
+     */
+    public static void advance(List<Unit> units, GameClock gameClock, PriorityQueue<ScheduledEvent> eventQueue,
+                               GameCallbacks gameCallbacks) {
+        gameClock.advanceTick();
+        long currentTick = gameClock.getCurrentTick();
+        EventProfiler profiler = EventProfiler.getInstance();
+        while (!eventQueue.isEmpty() && eventQueue.peek().getTick() <= currentTick) {
+            profiler.run(eventQueue.poll());
+        }
+        // Keep per-faction live rosters in step with the unit list
+        FactionRoster.getInstance().sync(units);
+        // Dormant units far from any hostile are skipped (all units unless dormancy is enabled)
+        for (Unit u : DormancyTracker.getInstance().getActiveUnits(units)) {
+            u.update(currentTick);
+            // Update automatic targeting for characters that have it enabled
+            u.character.updateAutomaticTargeting(u, currentTick, eventQueue, gameCallbacks);
+            // Update melee movement progress and trigger attacks when in range
+            u.character.updateMeleeMovement(u, currentTick, eventQueue, gameCallbacks);
+            // Defense state updates are now handled internally by DefenseManager (DevCycle 23)
+            // Update melee recovery state (Bug #1 fix)
+            u.character.updateMeleeRecovery(currentTick);
+            // Update reaction monitoring (DevCycle 28)
+            u.character.updateReactionMonitoring(u, currentTick, eventQueue, gameCallbacks);
+        }
+        // Advance positions deferred to the batched movement kernel (no-op unless enabled)
+        MovementKernel.getInstance().integratePending(units);
+        DormancyTracker.getInstance().evaluate(units, currentTick, eventQueue);
+    }
+}
\ No newline at end of file
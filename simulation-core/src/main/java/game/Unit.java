@@ -20,6 +20,7 @@ public class Unit implements IUnit {
     public boolean isFiringHighlighted = false;
     private platform.api.Color preIncapacitationColor = null;
     long lastTickUpdated = -1;
+    boolean movementPending = false; // Position step deferred to MovementKernel this tick
     
     // Rotation system
     public double currentFacing = 0.0; // Current facing direction in degrees (0-360, North = 0)
@@ -155,6 +156,21 @@ public class Unit implements IUnit {
         this.isFiringHighlighted = highlighted;
     }
     
+    /**
+     * Ends a hit highlight, as scheduled by a HIT_HIGHLIGHT_END event.
+     */
+    public void endHitHighlight() {
+        color = baseColor;
+        isHitHighlighted = false;
+    }
+    
+    /**
+     * Ends a firing highlight, as scheduled by a FIRING_HIGHLIGHT_END event.
+     */
+    public void endFiringHighlight() {
+        isFiringHighlighted = false;
+    }
+    
     @Override
     public platform.api.Color getPreIncapacitationColor() {
         return preIncapacitationColor;
@@ -209,6 +225,7 @@ public class Unit implements IUnit {
         this.targetY = y;
         this.hasTarget = true;
         this.isStopped = false;
+        DormancyTracker.getInstance().wake(this);
     }
     
     @Override
@@ -277,11 +294,17 @@ public class Unit implements IUnit {
         }
         
         // Face movement direction while moving, unless auto-targeting with a target
-        if (!(character.usesAutomaticTargeting && character.currentTarget != null)) {
+        if (!(character.usesAutomaticTargeting && character.getCurrentTarget() != null)) {
             setTargetFacing(targetX, targetY);
         } else {
             // Update facing toward auto-targeting target as character position changes
-            setTargetFacing(character.currentTarget.getX(), character.currentTarget.getY());
+            setTargetFacing(character.getCurrentTarget().getX(), character.getCurrentTarget().getY());
+        }
+
+        // Batched movement: MovementKernel advances the position once every unit has updated
+        if (MovementKernel.isEnabled()) {
+            movementPending = true;
+            return;
         }
 
         double dx = targetX - x;
@@ -316,6 +339,7 @@ public class Unit implements IUnit {
      * Gets the current velocity vector of this unit
      * @return double array [vx, vy] representing velocity in pixels per tick
      */
+    @Override
     public double[] getVelocityVector() {
         if (!isMoving()) {
             return new double[]{0.0, 0.0};
@@ -0,0 +1,192 @@
+package game;
+
+import game.interfaces.IUnit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the units on one field, giving each one a generational handle.
+ *
+ * A handle packs a dense slot index with the slot's generation. Resolving a
+ * handle is an array read, and a handle whose unit has left the field resolves
+ * to null rather than to whatever unit reuses the slot, because the slot's
+ * generation moves on when it is reused. Code that remembers a unit across
+ * ticks (a character's targets, for one) can hold a handle instead of a
+ * reference, so a removed unit is not kept alive and is never mistaken for a
+ * live one.
+ *
+ * Each game owns its own registry - GameState for an engine, OpenFields2 for
+ * the desktop game - so handles issued by one game are untouched by another.
+ * Registering a unit makes its character resolve target handles against this
+ * registry. The owner either registers and releases units as they join and
+ * leave, or calls sync() once per tick with its unit list, which registers
+ * units that have joined the list and releases units that have left it. Units
+ * can also be registered on demand, e.g. when a unit that has not been synced
+ * yet is targeted.
+ */
+public class UnitRegistry {
+
+    /** Handle of no unit; never issued */
+    public static final long NO_HANDLE = 0L;
+
+    private IUnit[] slots = new IUnit[64];
+    private int[] generations = new int[64];
+    private int[] freeSlots = new int[64];
+    private int freeCount = 0;
+    private int slotCount = 0;
+    private final Map<IUnit, Integer> slotByUnit = new IdentityHashMap<>();
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+
+    // Last synced list, to skip sync() when nothing has changed
+    private List<? extends IUnit> trackedUnits;
+    private IUnit[] snapshotUnits = new IUnit[0];
+    private int snapshotSize = 0;
+
+    public UnitRegistry() {
+    }
+
+    /**
+     * @return the registry the unit's character resolves targets against, or,
+     *         for a unit no game has registered yet, a new registry holding it
+     */
+    public static UnitRegistry of(IUnit unit) {
+        UnitRegistry registry = unit.getCharacter().getUnitRegistry();
+        if (registry == null) {
+            registry = new UnitRegistry();
+            registry.register(unit);
+        }
+        return registry;
+    }
+
+    /**
+     * Brings the registry up to date with the unit list: units new to the list
+     * are registered and registered units missing from it are released.
+     *
+     * @param units the units on the field
+     */
+    public void sync(List<? extends IUnit> units) {
+        if (units == trackedUnits && units.size() == snapshotSize && matchesSnapshot(units)) {
+            return;
+        }
+        Set<IUnit> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        present.addAll(units);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null && !present.contains(slots[slot])) {
+                release(slots[slot]);
+            }
+        }
+        for (IUnit unit : units) {
+            register(unit);
+        }
+
+        trackedUnits = units;
+        snapshotSize = units.size();
+        if (snapshotUnits.length < snapshotSize) {
+            snapshotUnits = new IUnit[snapshotSize];
+        }
+        for (int i = 0; i < snapshotUnits.length; i++) {
+            snapshotUnits[i] = i < snapshotSize ? units.get(i) : null;
+        }
+    }
+
+    private boolean matchesSnapshot(List<? extends IUnit> units) {
+        for (int i = 0; i < snapshotSize; i++) {
+            if (units.get(i) != snapshotUnits[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a unit if it is not registered already, and points its
+     * character at this registry.
+     *
+     * @return the unit's handle
+     */
+    public long register(IUnit unit) {
+        Integer existing = slotByUnit.get(unit);
+        if (existing != null) {
+            return handle(existing);
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            if (slot == slots.length) {
+                slots = Arrays.copyOf(slots, slot * 2);
+                generations = Arrays.copyOf(generations, slot * 2);
+                freeSlots = Arrays.copyOf(freeSlots, slot * 2);
+            }
+        }
+        // A new generation per occupant invalidates handles to earlier ones
+        generations[slot]++;
+        slots[slot] = unit;
+        slotByUnit.put(unit, slot);
+        slotById.put(unit.getId(), slot);
+        unit.getCharacter().setUnitRegistry(this);
+        return handle(slot);
+    }
+
+    /**
+     * Releases a unit's slot. Handles to the unit resolve to null from now on.
+     *
+     * @return true if the unit was registered
+     */
+    public boolean release(IUnit unit) {
+        Integer slot = slotByUnit.remove(unit);
+        if (slot == null) {
+            return false;
+        }
+        slots[slot] = null;
+        slotById.remove(unit.getId(), slot);
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    /**
+     * @return the unit the handle refers to, or null if it has been released
+     */
+    public IUnit resolve(long handle) {
+        int slot = (int) handle;
+        if (slot < 0 || slot >= slotCount || generations[slot] != (int) (handle >>> 32)) {
+            return null;
+        }
+        return slots[slot];
+    }
+
+    /**
+     * @return the unit's handle, or NO_HANDLE if it is not registered
+     */
+    public long handleOf(IUnit unit) {
+        Integer slot = slotByUnit.get(unit);
+        return slot != null ? handle(slot) : NO_HANDLE;
+    }
+
+    /**
+     * @return the registered unit with the given id, or null. Ids are expected
+     *         to be unique among the units of the synced list.
+     */
+    public IUnit getById(int unitId) {
+        Integer slot = slotById.get(unitId);
+        return slot != null ? slots[slot] : null;
+    }
+
+    /**
+     * @return the number of registered units
+     */
+    public int size() {
+        return slotByUnit.size();
+    }
+
+    private long handle(int slot) {
+        return ((long) generations[slot] << 32) | slot;
+    }
+}
\ No newline at end of file
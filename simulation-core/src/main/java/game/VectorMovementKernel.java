@@ -0,0 +1,58 @@
+package game;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector implementation of the MovementKernel step.
+ * Compiled only by the vector profile (mvn -Pvector) and looked up
+ * reflectively by MovementKernel when the jdk.incubator.vector module is
+ * present; MovementKernel falls back to its scalar loop otherwise.
+ */
+final class VectorMovementKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorMovementKernel() {
+    }
+
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Advances whole vectors of units from index 0 and returns the number of
+     * units processed; the caller handles the remainder with the scalar step.
+     */
+    static int step(double[] x, double[] y, double[] targetX, double[] targetY,
+                    double[] speed, boolean[] arrived, int count) {
+        int upperBound = SPECIES.loopBound(count);
+        for (int i = 0; i < upperBound; i += SPECIES.length()) {
+            DoubleVector px = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector py = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector tx = DoubleVector.fromArray(SPECIES, targetX, i);
+            DoubleVector ty = DoubleVector.fromArray(SPECIES, targetY, i);
+            DoubleVector sp = DoubleVector.fromArray(SPECIES, speed, i);
+
+            DoubleVector dx = tx.sub(px);
+            DoubleVector dy = ty.sub(py);
+            DoubleVector distance = dx.mul(dx).add(dy.mul(dy)).sqrt();
+            VectorMask<Double> arrivedMask = distance.compare(VectorOperators.LE, 1.0);
+
+            // Lanes that arrived may divide by zero here; they are replaced by the target below
+            DoubleVector perTick = sp.div(60.0);
+            DoubleVector moveX = perTick.mul(dx.div(distance));
+            DoubleVector moveY = perTick.mul(dy.div(distance));
+
+            DoubleVector nx = px.add(moveX).blend(tx, moveX.abs().compare(VectorOperators.GT, dx.abs()).or(arrivedMask));
+            DoubleVector ny = py.add(moveY).blend(ty, moveY.abs().compare(VectorOperators.GT, dy.abs()).or(arrivedMask));
+
+            nx.intoArray(x, i);
+            ny.intoArray(y, i);
+            arrivedMask.intoArray(arrived, i);
+        }
+        return upperBound;
+    }
+}
\ No newline at end of file
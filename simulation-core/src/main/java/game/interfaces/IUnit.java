@@ -236,6 +236,12 @@ public interface IUnit {
      */
     double getVelocity();
     
+    /**
+     * Gets the current velocity vector in pixels per tick.
+     * @return [vx, vy], zero when not moving
+     */
+    double[] getVelocityVector();
+    
     /**
      * Gets the perpendicular velocity relative to another unit.
      * @param shooter the observing unit
@@ -0,0 +1,165 @@
+package platform.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Platform-independent mixing layer in front of an AudioSystem's playback.
+ *
+ * Sounds are queued during a frame and played when the frame is flushed:
+ * - requests for the same sound within a frame are coalesced into one play,
+ *   louder for each extra request;
+ * - a sound is not played again until minIntervalNanos after its last play;
+ * - no more than maxVoices sounds are assumed to be playing at once, each
+ *   counted for voiceNanos after it starts. When voices run short, the sounds
+ *   with the most requests this frame are played first.
+ *
+ * Not thread-safe; queue and flush from the thread that drives the game loop.
+ */
+public class AudioMixer {
+
+    /**
+     * Plays one voice on the underlying audio system.
+     */
+    public interface VoiceOutput {
+        void play(String soundId, float volume);
+    }
+
+    public static final int DEFAULT_MAX_VOICES = 8;
+    public static final long DEFAULT_MIN_INTERVAL_NANOS = 50_000_000L;  // About three frames
+    public static final long DEFAULT_VOICE_NANOS = 400_000_000L;        // Typical gunshot clip length
+
+    // Volume to queue a single gunshot at; the headroom above it is what
+    // makes a coalesced volley louder than one shot
+    public static final float SHOT_VOLUME = 0.6f;
+
+    // Extra volume per doubling of coalesced requests
+    private static final float COALESCE_GAIN = 0.25f;
+
+    /**
+     * Requests for one sound in the current frame.
+     */
+    private static final class Pending {
+        final String soundId;
+        int requests;
+        float volume;
+
+        Pending(String soundId) {
+            this.soundId = soundId;
+        }
+    }
+
+    private final VoiceOutput output;
+    private final int maxVoices;
+    private final long minIntervalNanos;
+    private final long voiceNanos;
+
+    private final Map<String, Pending> pending = new LinkedHashMap<>();
+    private final Map<String, Long> lastPlayed = new HashMap<>();
+    private final ArrayDeque<Long> voiceEndTimes = new ArrayDeque<>();
+
+    private long requested;
+    private long played;
+    private long dropped;
+
+    public AudioMixer(VoiceOutput output) {
+        this(output, DEFAULT_MAX_VOICES, DEFAULT_MIN_INTERVAL_NANOS, DEFAULT_VOICE_NANOS);
+    }
+
+    public AudioMixer(VoiceOutput output, int maxVoices, long minIntervalNanos, long voiceNanos) {
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("Mixer needs at least one voice: " + maxVoices);
+        }
+        this.output = output;
+        this.maxVoices = maxVoices;
+        this.minIntervalNanos = minIntervalNanos;
+        this.voiceNanos = voiceNanos;
+    }
+
+    /**
+     * Queues a sound for the current frame.
+     * @param soundId identifier of the sound to play
+     * @param volume volume level (0.0 to 1.0)
+     */
+    public void queue(String soundId, float volume) {
+        Pending request = pending.computeIfAbsent(soundId, Pending::new);
+        request.requests++;
+        request.volume = Math.max(request.volume, volume);
+        requested++;
+    }
+
+    /**
+     * Plays the sounds queued since the last flush.
+     * @param nowNanos current time from System.nanoTime()
+     * @return number of voices started
+     */
+    public int flush(long nowNanos) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        while (!voiceEndTimes.isEmpty() && voiceEndTimes.peekFirst() <= nowNanos) {
+            voiceEndTimes.pollFirst();
+        }
+
+        List<Pending> frame = new ArrayList<>(pending.values());
+        pending.clear();
+        frame.sort((a, b) -> Integer.compare(b.requests, a.requests));
+
+        int started = 0;
+        for (Pending request : frame) {
+            Long last = lastPlayed.get(request.soundId);
+            if (voiceEndTimes.size() >= maxVoices || (last != null && nowNanos - last < minIntervalNanos)) {
+                dropped += request.requests;
+                continue;
+            }
+            output.play(request.soundId, coalescedVolume(request));
+            lastPlayed.put(request.soundId, nowNanos);
+            voiceEndTimes.addLast(nowNanos + voiceNanos);
+            played += request.requests;
+            started++;
+        }
+        return started;
+    }
+
+    private static float coalescedVolume(Pending request) {
+        float gain = 1.0f + COALESCE_GAIN * (float) (Math.log(request.requests) / Math.log(2));
+        return Math.min(1.0f, request.volume * gain);
+    }
+
+    /**
+     * Drops queued sounds and forgets playing voices, e.g. after stopAllSounds().
+     */
+    public void clear() {
+        pending.clear();
+        voiceEndTimes.clear();
+    }
+
+    public int getActiveVoices(long nowNanos) {
+        int active = 0;
+        for (long end : voiceEndTimes) {
+            if (end > nowNanos) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /** @return sound requests queued since the mixer was created */
+    public long getRequestedCount() {
+        return requested;
+    }
+
+    /** @return requests that were heard, alone or coalesced into a shared play */
+    public long getPlayedCount() {
+        return played;
+    }
+
+    /** @return requests skipped by the rate or voice limits */
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
\ No newline at end of file
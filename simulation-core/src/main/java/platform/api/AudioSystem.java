@@ -26,6 +26,24 @@ public interface AudioSystem {
      */
     void playSound(String soundId, float volume);
     
+    /**
+     * Queues a sound to be played at the end of the current frame, so that
+     * implementations can limit voices and coalesce repeated sounds (see
+     * AudioMixer). Plays immediately unless overridden.
+     * @param soundId identifier of the sound to play
+     * @param volume volume level (0.0 to 1.0)
+     */
+    default void queueSound(String soundId, float volume) {
+        playSound(soundId, volume);
+    }
+    
+    /**
+     * Plays the sounds queued during the frame. Called once per frame by the
+     * game loop; does nothing unless queueSound() is overridden.
+     */
+    default void flushQueuedSounds() {
+    }
+    
     /**
      * Stops a currently playing sound.
      * @param soundId identifier of the sound to stop
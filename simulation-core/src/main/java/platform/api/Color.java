@@ -72,25 +72,34 @@ public class Color {
     }
     
     /**
-     * Converts from JavaFX Color.
-     * @param javafxColor the JavaFX color to convert
-     * @return platform-independent Color
+     * Parses a web color string ("#RRGGBB", "#RRGGBBAA" or without the '#').
+     * JavaFX conversions live in platform.impl.javafx.JavaFXColors.
+     * @param hex the color string
+     * @return the parsed color
+     * @throws IllegalArgumentException if the string is not a hex color
      */
-    public static Color fromJavaFX(javafx.scene.paint.Color javafxColor) {
-        return new Color(
-            (float) javafxColor.getRed(),
-            (float) javafxColor.getGreen(),
-            (float) javafxColor.getBlue(),
-            (float) javafxColor.getOpacity()
-        );
+    public static Color fromHex(String hex) {
+        String digits = hex.startsWith("#") ? hex.substring(1) : hex;
+        if (digits.length() != 6 && digits.length() != 8) {
+            throw new IllegalArgumentException("Invalid color string: " + hex);
+        }
+        try {
+            int red = Integer.parseInt(digits.substring(0, 2), 16);
+            int green = Integer.parseInt(digits.substring(2, 4), 16);
+            int blue = Integer.parseInt(digits.substring(4, 6), 16);
+            int alpha = digits.length() == 8 ? Integer.parseInt(digits.substring(6, 8), 16) : 255;
+            return fromRGB(red, green, blue, alpha);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid color string: " + hex, e);
+        }
     }
     
     /**
-     * Converts to JavaFX Color.
-     * @return JavaFX Color representation
+     * Formats the color as "#RRGGBB", ignoring alpha.
+     * @return web color string
      */
-    public javafx.scene.paint.Color toJavaFX() {
-        return new javafx.scene.paint.Color(r, g, b, a);
+    public String toHex() {
+        return String.format("#%02X%02X%02X", getRed(), getGreen(), getBlue());
     }
     
     /**
@@ -0,0 +1,329 @@
+package platform.api;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, flat render command buffer.
+ * Commands are stored as a struct of arrays: one opcode per command plus packed
+ * double, int, colour and text operand arrays that are consumed in order during
+ * replay. The arrays grow when a frame needs more room and are then reused, so a
+ * steady-state frame allocates nothing.
+ */
+public final class RenderCommandBuffer {
+    // Opcodes
+    public static final byte CLEAR = 0;
+    public static final byte SET_TRANSFORM = 1;
+    public static final byte PUSH_TRANSFORM = 2;
+    public static final byte POP_TRANSFORM = 3;
+    public static final byte DRAW_UNIT = 4;
+    public static final byte DRAW_HEALTH_BAR = 5;
+    public static final byte DRAW_TEXT = 6;
+    public static final byte DRAW_LINE = 7;
+    public static final byte FILL_RECT = 8;
+    public static final byte DRAW_RECT = 9;
+    public static final byte FILL_CIRCLE = 10;
+    public static final byte DRAW_CIRCLE = 11;
+
+    // Unit flags packed into the int operand of DRAW_UNIT
+    public static final int UNIT_SELECTED = 1;
+    public static final int UNIT_INCAPACITATED = 2;
+
+    private static final int INITIAL_COMMANDS = 256;
+
+    private byte[] opcodes = new byte[INITIAL_COMMANDS];
+    private double[] doubles = new double[INITIAL_COMMANDS * 4];
+    private int[] ints = new int[INITIAL_COMMANDS];
+    private Color[] colors = new Color[INITIAL_COMMANDS * 2];
+    private String[] texts = new String[INITIAL_COMMANDS];
+
+    private final Cursor cursor = new Cursor();
+
+    private int commandCount;
+    private int doubleCount;
+    private int intCount;
+    private int colorCount;
+    private int textCount;
+
+    /**
+     * Empties the buffer for a new frame, keeping the allocated capacity.
+     */
+    public void reset() {
+        // Drop references so recorded colours and labels can be collected
+        Arrays.fill(colors, 0, colorCount, null);
+        Arrays.fill(texts, 0, textCount, null);
+        commandCount = 0;
+        doubleCount = 0;
+        intCount = 0;
+        colorCount = 0;
+        textCount = 0;
+    }
+
+    public int size() {
+        return commandCount;
+    }
+
+    public boolean isEmpty() {
+        return commandCount == 0;
+    }
+
+    public byte getOpcode(int index) {
+        return opcodes[index];
+    }
+
+    // Recording
+
+    public void clear(Color backgroundColor) {
+        opcode(CLEAR);
+        color(backgroundColor);
+    }
+
+    public void setTransform(double offsetX, double offsetY, double zoom) {
+        opcode(SET_TRANSFORM);
+        ensureDoubles(3);
+        doubles[doubleCount++] = offsetX;
+        doubles[doubleCount++] = offsetY;
+        doubles[doubleCount++] = zoom;
+    }
+
+    public void pushTransform() {
+        opcode(PUSH_TRANSFORM);
+    }
+
+    public void popTransform() {
+        opcode(POP_TRANSFORM);
+    }
+
+    public void drawUnit(int unitId, double x, double y, double radius, Color color, String label, int flags) {
+        opcode(DRAW_UNIT);
+        ensureDoubles(3);
+        doubles[doubleCount++] = x;
+        doubles[doubleCount++] = y;
+        doubles[doubleCount++] = radius;
+        ensureInts(2);
+        ints[intCount++] = unitId;
+        ints[intCount++] = flags;
+        color(color);
+        text(label);
+    }
+
+    public void drawHealthBar(double x, double y, double width, double height, double healthPercentage,
+                              Color borderColor, Color fillColor, Color backgroundColor) {
+        opcode(DRAW_HEALTH_BAR);
+        ensureDoubles(5);
+        doubles[doubleCount++] = x;
+        doubles[doubleCount++] = y;
+        doubles[doubleCount++] = width;
+        doubles[doubleCount++] = height;
+        doubles[doubleCount++] = healthPercentage;
+        color(borderColor);
+        color(fillColor);
+        color(backgroundColor);
+    }
+
+    public void drawText(String text, double x, double y, Color color) {
+        opcode(DRAW_TEXT);
+        ensureDoubles(2);
+        doubles[doubleCount++] = x;
+        doubles[doubleCount++] = y;
+        color(color);
+        text(text);
+    }
+
+    public void drawLine(double x1, double y1, double x2, double y2, Color color, double width) {
+        opcode(DRAW_LINE);
+        ensureDoubles(5);
+        doubles[doubleCount++] = x1;
+        doubles[doubleCount++] = y1;
+        doubles[doubleCount++] = x2;
+        doubles[doubleCount++] = y2;
+        doubles[doubleCount++] = width;
+        color(color);
+    }
+
+    public void fillRect(double x, double y, double width, double height, Color color) {
+        opcode(FILL_RECT);
+        ensureDoubles(4);
+        doubles[doubleCount++] = x;
+        doubles[doubleCount++] = y;
+        doubles[doubleCount++] = width;
+        doubles[doubleCount++] = height;
+        color(color);
+    }
+
+    public void drawRect(double x, double y, double width, double height, Color color, double lineWidth) {
+        opcode(DRAW_RECT);
+        ensureDoubles(5);
+        doubles[doubleCount++] = x;
+        doubles[doubleCount++] = y;
+        doubles[doubleCount++] = width;
+        doubles[doubleCount++] = height;
+        doubles[doubleCount++] = lineWidth;
+        color(color);
+    }
+
+    public void fillCircle(double centerX, double centerY, double radius, Color color) {
+        opcode(FILL_CIRCLE);
+        ensureDoubles(3);
+        doubles[doubleCount++] = centerX;
+        doubles[doubleCount++] = centerY;
+        doubles[doubleCount++] = radius;
+        color(color);
+    }
+
+    public void drawCircle(double centerX, double centerY, double radius, Color color, double lineWidth) {
+        opcode(DRAW_CIRCLE);
+        ensureDoubles(4);
+        doubles[doubleCount++] = centerX;
+        doubles[doubleCount++] = centerY;
+        doubles[doubleCount++] = radius;
+        doubles[doubleCount++] = lineWidth;
+        color(color);
+    }
+
+    // Replay
+
+    /**
+     * Replays every recorded command, in order, against the renderer's primitives.
+     * Renderers that can do better in bulk override {@link Renderer#replay} and
+     * walk the buffer themselves with a {@link Cursor}.
+     *
+     * @param renderer the renderer to draw with
+     */
+    public void replay(Renderer renderer) {
+        Cursor c = cursor();
+        for (int i = 0; i < commandCount; i++) {
+            switch (opcodes[i]) {
+                case CLEAR:
+                    renderer.setColor(c.color());
+                    renderer.clear();
+                    break;
+                case SET_TRANSFORM:
+                    renderer.setTransform(c.d(), c.d(), c.d());
+                    break;
+                case PUSH_TRANSFORM:
+                    renderer.pushTransform();
+                    break;
+                case POP_TRANSFORM:
+                    renderer.popTransform();
+                    break;
+                case DRAW_UNIT: {
+                    double x = c.d(), y = c.d(), radius = c.d();
+                    c.i();
+                    c.i();
+                    renderer.drawUnit(x, y, c.color(), c.text(), radius);
+                    break;
+                }
+                case DRAW_HEALTH_BAR:
+                    renderer.drawHealthBar(c.d(), c.d(), c.d(), c.d(), c.d(), c.color(), c.color(), c.color());
+                    break;
+                case DRAW_TEXT: {
+                    double x = c.d(), y = c.d();
+                    Color color = c.color();
+                    renderer.drawText(c.text(), x, y, color);
+                    break;
+                }
+                case DRAW_LINE: {
+                    double x1 = c.d(), y1 = c.d(), x2 = c.d(), y2 = c.d(), width = c.d();
+                    renderer.drawLine(x1, y1, x2, y2, c.color(), width);
+                    break;
+                }
+                case FILL_RECT:
+                    renderer.fillRect(c.d(), c.d(), c.d(), c.d(), c.color());
+                    break;
+                case DRAW_RECT: {
+                    double x = c.d(), y = c.d(), width = c.d(), height = c.d(), lineWidth = c.d();
+                    renderer.drawRect(x, y, width, height, c.color(), lineWidth);
+                    break;
+                }
+                case FILL_CIRCLE:
+                    renderer.fillCircle(c.d(), c.d(), c.d(), c.color());
+                    break;
+                case DRAW_CIRCLE: {
+                    double x = c.d(), y = c.d(), radius = c.d(), lineWidth = c.d();
+                    renderer.drawCircle(x, y, radius, c.color(), lineWidth);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown render opcode: " + opcodes[i]);
+            }
+        }
+    }
+
+    /**
+     * Sequential reader over the operand arrays.
+     * Operands must be read in the order they were recorded for each opcode.
+     */
+    public final class Cursor {
+        private int doubleIndex;
+        private int intIndex;
+        private int colorIndex;
+        private int textIndex;
+
+        private void rewind() {
+            doubleIndex = 0;
+            intIndex = 0;
+            colorIndex = 0;
+            textIndex = 0;
+        }
+
+        public double d() {
+            return doubles[doubleIndex++];
+        }
+
+        public int i() {
+            return ints[intIndex++];
+        }
+
+        public Color color() {
+            return colors[colorIndex++];
+        }
+
+        public String text() {
+            return texts[textIndex++];
+        }
+    }
+
+    /**
+     * Returns this buffer's cursor, rewound to the first command.
+     * The cursor is shared, so only one replay may walk the buffer at a time.
+     */
+    public Cursor cursor() {
+        cursor.rewind();
+        return cursor;
+    }
+
+    // Storage
+
+    private void opcode(byte opcode) {
+        if (commandCount == opcodes.length) {
+            opcodes = Arrays.copyOf(opcodes, opcodes.length * 2);
+        }
+        opcodes[commandCount++] = opcode;
+    }
+
+    private void color(Color color) {
+        if (colorCount == colors.length) {
+            colors = Arrays.copyOf(colors, colors.length * 2);
+        }
+        colors[colorCount++] = color;
+    }
+
+    private void text(String text) {
+        if (textCount == texts.length) {
+            texts = Arrays.copyOf(texts, texts.length * 2);
+        }
+        texts[textCount++] = text;
+    }
+
+    private void ensureDoubles(int needed) {
+        if (doubleCount + needed > doubles.length) {
+            doubles = Arrays.copyOf(doubles, Math.max(doubles.length * 2, doubleCount + needed));
+        }
+    }
+
+    private void ensureInts(int needed) {
+        if (intCount + needed > ints.length) {
+            ints = Arrays.copyOf(ints, Math.max(ints.length * 2, intCount + needed));
+        }
+    }
+}
\ No newline at end of file
@@ -148,4 +148,14 @@ public interface Renderer {
      * Called after all drawing operations for a frame.
      */
     void endFrame();
+    
+    /**
+     * Replays a recorded frame of drawing commands.
+     * The default implementation dispatches each command to the primitives above;
+     * backends may override it to draw the whole buffer in bulk.
+     * @param commands the recorded commands, in drawing order
+     */
+    default void replay(RenderCommandBuffer commands) {
+        commands.replay(this);
+    }
 }
\ No newline at end of file
@@ -274,6 +274,21 @@ public class ConsoleEntityFactory implements EntityFactory {
             return character.getEffectiveMovementSpeed() / 60.0;
         }
         
+        @Override
+        public double[] getVelocityVector() {
+            if (!isMoving()) {
+                return new double[]{0.0, 0.0};
+            }
+            double dx = targetX - x;
+            double dy = targetY - y;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance <= 1) {
+                return new double[]{0.0, 0.0};
+            }
+            double speed = character.getEffectiveMovementSpeed() / 60.0;
+            return new double[]{speed * dx / distance, speed * dy / distance};
+        }
+        
         @Override
         public double getPerpendicularVelocity(IUnit other) {
             if (!isMoving()) {
@@ -8,6 +8,13 @@ import java.util.Arrays;
 /**
  * Console/terminal implementation of the Renderer interface.
  * Renders game state as ASCII art to the console.
+ *
+ * Drawing goes to a back buffer of cells. On present() the back buffer is
+ * compared with a front buffer holding what the terminal currently shows, and
+ * only the changed cells are written, using cursor positioning, in a single
+ * write per frame. Output is capped at its own frame rate, independent of the
+ * game loop; cells that change between capped frames are picked up by the next
+ * diff.
  */
 public class ConsoleRenderer implements Renderer {
     private static final int DEFAULT_WIDTH = 80;
@@ -15,8 +22,18 @@ public class ConsoleRenderer implements Renderer {
     private static final int GAME_AREA_HEIGHT = 19; // Reserve lines for UI
     
     private final PrintStream out;
+    
+    // Back buffer: what the current frame draws
     private final char[][] buffer;
     private final Color[][] colorBuffer;
+    
+    // Front buffer: what the terminal is showing, as characters and ANSI codes
+    private final char[][] frontBuffer;
+    private final String[][] frontAnsiBuffer;
+    private boolean frontBufferValid = false;
+    
+    // Reused for every frame so presenting does not allocate
+    private final StringBuilder frameOutput;
     private final int width;
     private final int height;
     
@@ -47,9 +64,12 @@ public class ConsoleRenderer implements Renderer {
     private final boolean ansiSupported;
     
     // Console-specific frame limiting (much slower than 60fps)
-    private static final long CONSOLE_REFRESH_INTERVAL_MS = 200; // 5 FPS max
+    private static final int DEFAULT_MAX_FRAMES_PER_SECOND = 5;
+    // Repaint everything now and then in case other output has scrolled the terminal
+    private static final int FULL_REPAINT_INTERVAL_FRAMES = 50;
+    private long refreshIntervalMs = 1000 / DEFAULT_MAX_FRAMES_PER_SECOND;
     private long lastPresentTime = 0;
-    private boolean needsRedraw = true;
+    private int framesSinceFullRepaint = 0;
     
     public ConsoleRenderer() {
         this(System.out, DEFAULT_WIDTH, DEFAULT_HEIGHT);
@@ -61,6 +81,9 @@ public class ConsoleRenderer implements Renderer {
         this.height = height;
         this.buffer = new char[height][width];
         this.colorBuffer = new Color[height][width];
+        this.frontBuffer = new char[height][width];
+        this.frontAnsiBuffer = new String[height][width];
+        this.frameOutput = new StringBuilder(width * height * 2);
         this.ansiSupported = checkAnsiSupport();
         clear();
     }
@@ -77,8 +100,6 @@ public class ConsoleRenderer implements Renderer {
             Arrays.fill(buffer[y], ' ');
             Arrays.fill(colorBuffer[y], null);
         }
-        // Don't set needsRedraw here - clear() is called every frame
-        // needsRedraw will be set by actual drawing operations
     }
     
     @Override
@@ -190,7 +211,6 @@ public class ConsoleRenderer implements Renderer {
         int sw = (int) (width / (7.0 * zoom)); // Convert pixels to characters
         int sh = (int) (height / (7.0 * zoom));
         
-        boolean changed = false;
         for (int dy = 0; dy < sh; dy++) {
             for (int dx = 0; dx < sw; dx++) {
                 int px = sx + dx;
@@ -198,13 +218,9 @@ public class ConsoleRenderer implements Renderer {
                 if (px >= 0 && px < this.width && py >= 0 && py < GAME_AREA_HEIGHT) {
                     buffer[py][px] = '#';
                     colorBuffer[py][px] = color;
-                    changed = true;
                 }
             }
         }
-        if (changed) {
-            needsRedraw = true;
-        }
     }
     
     @Override
@@ -286,49 +302,116 @@ public class ConsoleRenderer implements Renderer {
         long currentTime = System.currentTimeMillis();
         
         // Only refresh console at a reasonable rate
-        if (!needsRedraw && (currentTime - lastPresentTime) < CONSOLE_REFRESH_INTERVAL_MS) {
+        if (frontBufferValid && (currentTime - lastPresentTime) < refreshIntervalMs) {
             return;
         }
-        
         lastPresentTime = currentTime;
-        needsRedraw = false;
         
-        // Clear screen (ANSI escape code)
+        if (++framesSinceFullRepaint >= FULL_REPAINT_INTERVAL_FRAMES) {
+            frontBufferValid = false;
+        }
+        
+        frameOutput.setLength(0);
         if (ansiSupported) {
-            out.print("\033[H\033[2J");
+            appendAnsiFrame();
         } else {
-            // Poor man's clear screen
-            for (int i = 0; i < 50; i++) out.println();
+            appendPlainFrame();
+        }
+        
+        if (frameOutput.length() > 0) {
+            out.print(frameOutput);
+            out.flush();
+        }
+    }
+    
+    /**
+     * Sets the maximum number of frames per second written to the terminal.
+     * @param framesPerSecond frame cap, at least 1
+     */
+    public void setMaxFramesPerSecond(int framesPerSecond) {
+        this.refreshIntervalMs = 1000 / Math.max(1, framesPerSecond);
+    }
+    
+    /**
+     * Forces the next presented frame to repaint the whole screen.
+     * Call this after anything else has written to the terminal.
+     */
+    public void invalidate() {
+        frontBufferValid = false;
+    }
+    
+    /**
+     * Appends cursor moves, colour changes and characters for the cells that
+     * differ from the front buffer, or for every cell after a screen clear.
+     */
+    private void appendAnsiFrame() {
+        boolean fullRepaint = !frontBufferValid;
+        if (fullRepaint) {
+            frameOutput.append("\033[H\033[2J");
+            framesSinceFullRepaint = 0;
         }
         
-        // Draw buffer to console
+        String emittedAnsi = null;
+        int cursorX = -1;
+        int cursorY = -1;
+        
         for (int y = 0; y < height; y++) {
-            StringBuilder line = new StringBuilder();
-            Color lastColor = null;
-            
             for (int x = 0; x < width; x++) {
-                Color currentColor = colorBuffer[y][x];
+                char c = buffer[y][x];
+                Color color = colorBuffer[y][x];
+                String ansi = color != null ? getAnsiColor(color) : RESET;
                 
-                if (ansiSupported && currentColor != lastColor) {
-                    if (currentColor != null) {
-                        line.append(getAnsiColor(currentColor));
-                    } else {
-                        line.append(RESET);
-                    }
-                    lastColor = currentColor;
+                if (!fullRepaint && frontBuffer[y][x] == c && frontAnsiBuffer[y][x] == ansi) {
+                    continue;
                 }
                 
-                line.append(buffer[y][x]);
-            }
-            
-            if (ansiSupported) {
-                line.append(RESET);
+                if (cursorX != x || cursorY != y) {
+                    // ANSI cursor positions are 1-based
+                    frameOutput.append("\033[").append(y + 1).append(';').append(x + 1).append('H');
+                }
+                if (ansi != emittedAnsi) {
+                    frameOutput.append(ansi);
+                    emittedAnsi = ansi;
+                }
+                frameOutput.append(c);
+                cursorX = x + 1;
+                cursorY = y;
+                
+                frontBuffer[y][x] = c;
+                frontAnsiBuffer[y][x] = ansi;
             }
-            
-            out.println(line.toString());
         }
         
-        out.flush();
+        if (emittedAnsi != null) {
+            // Park the cursor below the screen with default colours
+            frameOutput.append(RESET).append("\033[").append(height + 1).append(";1H");
+        }
+        frontBufferValid = true;
+    }
+    
+    /**
+     * Without cursor positioning the whole screen has to be rewritten, so only
+     * do so when some cell has actually changed.
+     */
+    private void appendPlainFrame() {
+        boolean changed = !frontBufferValid;
+        for (int y = 0; y < height && !changed; y++) {
+            changed = !Arrays.equals(frontBuffer[y], buffer[y]);
+        }
+        if (!changed) {
+            return;
+        }
+        
+        // Poor man's clear screen
+        for (int i = 0; i < 50; i++) {
+            frameOutput.append(System.lineSeparator());
+        }
+        for (int y = 0; y < height; y++) {
+            frameOutput.append(buffer[y]).append(System.lineSeparator());
+            System.arraycopy(buffer[y], 0, frontBuffer[y], 0, width);
+        }
+        frontBufferValid = true;
+        framesSinceFullRepaint = 0;
     }
     
     @Override
@@ -362,7 +445,6 @@ public class ConsoleRenderer implements Renderer {
         if (x >= 0 && x < width && y >= 0 && y < GAME_AREA_HEIGHT) {
             buffer[y][x] = c;
             colorBuffer[y][x] = color;
-            needsRedraw = true;
         }
     }
     
@@ -5,6 +5,11 @@
 
 package utils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Random;
 
 /**
@@ -19,16 +24,53 @@ import java.util.Random;
  */
 public final class RandomProvider {
     
-    private static Random random = new Random();
+    // Even in normal mode the seed is chosen explicitly so a session can be reproduced
+    private static long seed = new Random().nextLong();
+    private static Random random = new Random(seed);
     
     /**
      * Sets the seed for deterministic random number generation.
      * @param seed The seed value to use
      */
     public static void setSeed(long seed) {
+        RandomProvider.seed = seed;
         random = new Random(seed);
     }
     
+    /**
+     * Gets the seed the current random sequence was started from.
+     * @return The seed passed to the last setSeed() call, or the generated startup seed
+     */
+    public static long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Captures the exact position in the random sequence.
+     * @return Opaque state for restoreState()
+     */
+    public static byte[] snapshotState() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(random);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not capture random state", e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Continues the random sequence from a state captured by snapshotState().
+     * @param state State returned by snapshotState()
+     */
+    public static void restoreState(byte[] state) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+            random = (Random) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Could not restore random state", e);
+        }
+    }
+    
     /**
      * Returns the next pseudorandom double value between 0.0 and 1.0.
      * Replacement for Math.random().
@@ -0,0 +1,82 @@
+import org.junit.jupiter.api.Test;
+import platform.api.AudioMixer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the audio mixer coalesces a frame's repeated sounds, rate
+ * limits each sound and caps the number of voices.
+ */
+public class AudioMixerTest {
+
+    private static final long FRAME = 16_666_667L;
+    private static final long MS = 1_000_000L;
+
+    private final List<String> plays = new ArrayList<>();
+    private final List<Float> volumes = new ArrayList<>();
+
+    private AudioMixer createMixer() {
+        return new AudioMixer((soundId, volume) -> {
+            plays.add(soundId);
+            volumes.add(volume);
+        }, 3, 50 * MS, 400 * MS);
+    }
+
+    @Test
+    public void fullAutoFireIsCoalescedAndRateLimited() {
+        AudioMixer mixer = createMixer();
+        long now = 0;
+        // 20 shooters firing the same rifle every frame for one second
+        for (int frame = 0; frame < 60; frame++) {
+            for (int shooter = 0; shooter < 20; shooter++) {
+                mixer.queue("/rifle.wav", AudioMixer.SHOT_VOLUME);
+            }
+            mixer.flush(now);
+            now += FRAME;
+        }
+
+        assertEquals(1200, mixer.getRequestedCount());
+        // Three voices at 50 ms spacing, then a gap until they end at 400 ms: 0, 50, 100, 400, 450, 500, 800, 850, 900
+        assertEquals(9, plays.size(), "Expected a handful of plays instead of one per round");
+        assertTrue(volumes.get(0) > AudioMixer.SHOT_VOLUME, "Coalesced play should be louder than a single shot");
+        assertTrue(volumes.get(0) <= 1.0f);
+        assertEquals(mixer.getRequestedCount(), mixer.getPlayedCount() + mixer.getDroppedCount());
+    }
+
+    @Test
+    public void differentSoundsShareVoicesByRequestCount() {
+        AudioMixer mixer = createMixer();
+        mixer.queue("/pistol.wav", 1.0f);
+        for (int i = 0; i < 5; i++) {
+            mixer.queue("/rifle.wav", 1.0f);
+        }
+        mixer.queue("/shotgun.wav", 1.0f);
+        mixer.queue("/knife.wav", 1.0f);
+        assertEquals(3, mixer.flush(0));
+        assertEquals("/rifle.wav", plays.get(0), "Busiest sound should get the first voice");
+        assertFalse(plays.contains("/knife.wav"));
+
+        // Same sound again too soon is rate limited; after the voices end it plays
+        mixer.queue("/rifle.wav", 1.0f);
+        assertEquals(0, mixer.flush(20 * MS));
+        mixer.queue("/rifle.wav", 1.0f);
+        assertEquals(1, mixer.flush(500 * MS));
+        assertEquals(1, mixer.getActiveVoices(500 * MS));
+    }
+
+    @Test
+    public void singleShotKeepsItsVolume() {
+        AudioMixer mixer = createMixer();
+        mixer.queue("/pistol.wav", AudioMixer.SHOT_VOLUME);
+        mixer.flush(0);
+        mixer.queue("/pistol.wav", AudioMixer.SHOT_VOLUME);
+        mixer.queue("/pistol.wav", AudioMixer.SHOT_VOLUME);
+        mixer.flush(500 * MS);
+
+        assertEquals(AudioMixer.SHOT_VOLUME, volumes.get(0), 1e-6f);
+        assertTrue(volumes.get(1) > volumes.get(0), "Two shots in a frame should play louder than one");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.Test;
+import combat.Character;
+import data.CharacterFactory;
+import data.UniversalCharacterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that bulk character generation is reproducible from its seed and
+ * fills an ID block the universal registry has not used. Uses the
+ * generate-only path so no registry or faction file is written.
+ */
+public class CharacterFactoryTest {
+
+    private static final int COUNT = 500;
+
+    @Test
+    public void sameSeedGeneratesTheSameCharacters() {
+        int firstId = UniversalCharacterRegistry.getInstance().getNextCharacterId();
+        Character[] first = CharacterFactory.generateCharacters("weighted_random", firstId, COUNT, 42L, CharacterFactory.NO_FACTION, null);
+        Character[] second = CharacterFactory.generateCharacters("weighted_random", firstId, COUNT, 42L, CharacterFactory.NO_FACTION, null);
+
+        assertEquals(COUNT, first.length);
+        assertEquals(COUNT, second.length);
+        for (int i = 0; i < COUNT; i++) {
+            assertSameCharacter(first[i], second[i]);
+        }
+
+        Character[] reseeded = CharacterFactory.generateCharacters("weighted_random", firstId, COUNT, 43L, CharacterFactory.NO_FACTION, null);
+        boolean differs = false;
+        for (int i = 0; i < COUNT && !differs; i++) {
+            differs = !describe(first[i]).equals(describe(reseeded[i]));
+        }
+        assertTrue(differs, "A different seed should generate different characters");
+    }
+
+    @Test
+    public void generatedBlockIsClearOfRegisteredIds() {
+        UniversalCharacterRegistry registry = UniversalCharacterRegistry.getInstance();
+        // createCharacters never reserves a block below the registry's next ID
+        int firstId = registry.getNextCharacterId();
+        for (int id : registry.getAllCharacterIds()) {
+            assertTrue(id < firstId, "Registered ID " + id + " is inside the block starting at " + firstId);
+        }
+
+        Character[] characters = CharacterFactory.generateCharacters("soldier", firstId, COUNT, 7L, CharacterFactory.NO_FACTION, null);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(firstId + i, characters[i].id, "IDs should be consecutive from the first");
+            assertFalse(registry.hasCharacter(characters[i].id));
+        }
+    }
+
+    private static void assertSameCharacter(Character expected, Character actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static String describe(Character character) {
+        return String.join("|", character.nickname, character.firstName, character.lastName,
+                           String.valueOf(character.birthdate), String.valueOf(character.dexterity),
+                           String.valueOf(character.health), String.valueOf(character.coolness),
+                           String.valueOf(character.strength), String.valueOf(character.reflexes),
+                           String.valueOf(character.handedness), String.valueOf(character.baseMovementSpeed));
+    }
+}
\ No newline at end of file
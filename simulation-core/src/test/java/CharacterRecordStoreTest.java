@@ -0,0 +1,193 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import combat.BodyPart;
+import combat.Character;
+import combat.Handedness;
+import combat.Skill;
+import combat.Wound;
+import combat.WoundSeverity;
+import combat.managers.CharacterSkillsManager;
+import data.CharacterRecordStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the indexed character store round-trips characters through
+ * its record file and keeps only a bounded number decoded.
+ */
+public class CharacterRecordStoreTest {
+
+    private static final int CHARACTERS = 20_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void savedCharactersAreDecodedOnDemand() throws Exception {
+        Path file = tempDir.resolve("characters.dat");
+        CharacterRecordStore store = new CharacterRecordStore(file, 64);
+        for (int i = 0; i < CHARACTERS; i++) {
+            store.put(createCharacter(1000 + i * 2));
+        }
+        store.save(1000 + CHARACTERS * 2);
+
+        CharacterRecordStore reopened = new CharacterRecordStore(file, 64);
+        assertEquals(CHARACTERS, reopened.size());
+        assertEquals(1000 + CHARACTERS * 2, reopened.getNextCharacterId());
+        assertEquals(0, reopened.getDecodeCount(), "Opening the store should not decode characters");
+
+        for (int i = 0; i < CHARACTERS; i += 97) {
+            assertSameCharacter(createCharacter(1000 + i * 2), reopened.get(1000 + i * 2));
+        }
+        assertNull(reopened.get(1001), "Odd IDs were never stored");
+        assertFalse(reopened.contains(999));
+        assertTrue(reopened.getCachedCount() <= 64);
+
+        // Cached lookups do not decode again
+        long decodes = reopened.getDecodeCount();
+        reopened.get(1000);
+        reopened.get(1000);
+        assertEquals(decodes + 1, reopened.getDecodeCount());
+    }
+
+    @Test
+    public void pendingCharactersAreMergedOnSave() throws Exception {
+        Path file = tempDir.resolve("characters.dat");
+        CharacterRecordStore store = new CharacterRecordStore(file, 8);
+        for (int i = 0; i < 100; i++) {
+            store.put(createCharacter(1000 + i * 10));
+        }
+        store.save(2000);
+
+        Character changed = createCharacter(1500);
+        changed.nickname = "Changed";
+        changed.addWound(new Wound(BodyPart.HEAD, WoundSeverity.CRITICAL));
+        store.put(changed);
+        store.put(createCharacter(1005));
+        store.put(createCharacter(5000));
+        assertEquals(102, store.size());
+        assertSame(changed, store.get(1500), "Pending characters are returned before saving");
+        store.save(5001);
+        assertEquals(0, store.getPendingCount());
+
+        CharacterRecordStore reopened = new CharacterRecordStore(file, 8);
+        assertEquals(102, reopened.size());
+        assertEquals(102, reopened.ids().size());
+        assertSameCharacter(changed, reopened.get(1500));
+        assertSameCharacter(createCharacter(1005), reopened.get(1005));
+        assertSameCharacter(createCharacter(5000), reopened.get(5000));
+        assertSameCharacter(createCharacter(1990), reopened.get(1990));
+    }
+
+    @Test
+    public void decodedSkillsAreNotHeldByTheSkillsManager() throws Exception {
+        Path file = tempDir.resolve("characters.dat");
+        CharacterRecordStore store = new CharacterRecordStore(file, 4);
+        for (int i = 0; i < 50; i++) {
+            store.put(createCharacter(7_000_000 + i));
+        }
+        store.save(7_000_050);
+
+        CharacterRecordStore reopened = new CharacterRecordStore(file, 4);
+        for (int i = 0; i < 50; i++) {
+            Character character = reopened.get(7_000_000 + i);
+            assertEquals(2, character.skills.size());
+            assertTrue(CharacterSkillsManager.getInstance().getSkills(character.id).isEmpty(),
+                       "Decoded skills should be freed with the cached character");
+        }
+        assertTrue(reopened.getCachedCount() <= 4);
+    }
+
+    @Test
+    public void savesWriteNewGenerationsInsteadOfReplacingTheMappedFile() throws Exception {
+        Path file = tempDir.resolve("characters.dat");
+        assertFalse(CharacterRecordStore.exists(file));
+        CharacterRecordStore store = new CharacterRecordStore(file, 8);
+        store.put(createCharacter(1000));
+        store.save(1001);
+        assertTrue(CharacterRecordStore.exists(file));
+        assertTrue(Files.exists(tempDir.resolve("characters.dat.1")));
+        assertNotNull(store.get(1000));
+
+        store.put(createCharacter(1001));
+        store.save(1002);
+        assertTrue(Files.exists(tempDir.resolve("characters.dat.2")));
+        assertFalse(Files.exists(tempDir.resolve("characters.dat.1")), "The previous generation should be deleted");
+        assertFalse(Files.exists(file), "Nothing should be written to the plain path");
+        assertSameCharacter(createCharacter(1000), store.get(1000));
+
+        // A save that stopped before its header was written is skipped on open
+        Files.write(tempDir.resolve("characters.dat.3"), new byte[64]);
+        CharacterRecordStore reopened = new CharacterRecordStore(file, 8);
+        assertEquals(2, reopened.size());
+        assertEquals(1002, reopened.getNextCharacterId());
+        reopened.put(createCharacter(1002));
+        reopened.save(1003);
+        assertTrue(Files.exists(tempDir.resolve("characters.dat.4")), "Saves should go past the unreadable generation");
+        assertEquals(3, new CharacterRecordStore(file, 8).size());
+    }
+
+    @Test
+    public void storeFromBeforeGenerationsIsOpenedAndMovedOn() throws Exception {
+        Path written = tempDir.resolve("written.dat");
+        CharacterRecordStore store = new CharacterRecordStore(written, 8);
+        store.put(createCharacter(1000));
+        store.save(1001);
+
+        Path file = tempDir.resolve("characters.dat");
+        Files.copy(tempDir.resolve("written.dat.1"), file, StandardCopyOption.REPLACE_EXISTING);
+        CharacterRecordStore legacy = new CharacterRecordStore(file, 8);
+        assertSameCharacter(createCharacter(1000), legacy.get(1000));
+        legacy.put(createCharacter(1001));
+        legacy.save(1002);
+        assertTrue(Files.exists(tempDir.resolve("characters.dat.1")));
+        assertFalse(Files.exists(file), "The plain file is retired once a generation replaces it");
+        assertEquals(2, new CharacterRecordStore(file, 8).size());
+    }
+
+    private static Character createCharacter(int id) {
+        Character character = new Character(id, "Nick" + id, "First" + id, "Lást" + id, new Date(86_400_000L * (id % 20_000)),
+                                            null, 30 + id % 50, 40 + id % 40, 20 + id % 60, 50 + id % 30, 10 + id % 80,
+                                            Handedness.values()[id % Handedness.values().length]);
+        character.baseMovementSpeed = 42.0 + id % 7;
+        character.skills.clear();
+        character.skills.add(new Skill("pistol", id % 5));
+        character.skills.add(new Skill("rifle", id % 3));
+        character.wounds.clear();
+        if (id % 4 == 0) {
+            character.addWound(new Wound(BodyPart.LEFT_ARM, WoundSeverity.LIGHT));
+        }
+        return character;
+    }
+
+    private static void assertSameCharacter(Character expected, Character actual) {
+        assertNotNull(actual);
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.nickname, actual.nickname);
+        assertEquals(expected.firstName, actual.firstName);
+        assertEquals(expected.lastName, actual.lastName);
+        assertEquals(expected.birthdate, actual.birthdate);
+        assertEquals(expected.dexterity, actual.dexterity);
+        assertEquals(expected.health, actual.health);
+        assertEquals(expected.coolness, actual.coolness);
+        assertEquals(expected.strength, actual.strength);
+        assertEquals(expected.reflexes, actual.reflexes);
+        assertEquals(expected.handedness, actual.handedness);
+        assertEquals(expected.baseMovementSpeed, actual.baseMovementSpeed, 1e-9);
+        assertEquals(expected.skills.size(), actual.skills.size());
+        for (int i = 0; i < expected.skills.size(); i++) {
+            assertEquals(expected.skills.get(i).getSkillName(), actual.skills.get(i).getSkillName());
+            assertEquals(expected.skills.get(i).getLevel(), actual.skills.get(i).getLevel());
+        }
+        assertEquals(expected.wounds.size(), actual.wounds.size());
+        for (int i = 0; i < expected.wounds.size(); i++) {
+            assertEquals(expected.wounds.get(i).getBodyPart(), actual.wounds.get(i).getBodyPart());
+            assertEquals(expected.wounds.get(i).getSeverity(), actual.wounds.get(i).getSeverity());
+        }
+    }
+}
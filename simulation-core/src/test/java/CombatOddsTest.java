@@ -0,0 +1,163 @@
+import org.junit.jupiter.api.Test;
+import combat.BodyPart;
+import combat.CombatCalculator;
+import combat.CombatOdds;
+import combat.Handedness;
+import combat.HitResult;
+import combat.RangedWeapon;
+import combat.WoundSeverity;
+import data.WeaponFactory;
+import game.Unit;
+import platform.api.Color;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the analytic odds against the dice: CombatCalculator.determineHit
+ * rolled many times should reproduce the hit, location and severity odds and
+ * the mean shots to incapacitate that CombatOdds works out.
+ */
+public class CombatOddsTest {
+
+    private static final int ROLLS = 200_000;
+    private static final double DISTANCE_FEET = 60;
+
+    @Test
+    public void shotOddsMatchRolledShots() {
+        Unit shooter = createShooter();
+        Unit target = createTarget();
+        RangedWeapon weapon = (RangedWeapon) shooter.character.weapon;
+        shooter.character.isFirstAttackOnTarget = false;
+
+        double chanceToHit = CombatOdds.chanceToHit(shooter, target, DISTANCE_FEET, 0, false);
+        CombatOdds.ShotOdds odds = CombatOdds.shotOdds(chanceToHit, weapon.getDamage());
+
+        Random random = new Random(1234);
+        int hits = 0;
+        int heads = 0;
+        int criticals = 0;
+        long damage = 0;
+        for (int i = 0; i < ROLLS; i++) {
+            HitResult result = roll(shooter, target, random);
+            assertEquals(result.getChanceToHit(), chanceToHit, 1e-9, "Odds should use determineHit's chance to hit");
+            if (result.isHit()) {
+                hits++;
+                heads += result.getHitLocation() == BodyPart.HEAD ? 1 : 0;
+                criticals += result.getWoundSeverity() == WoundSeverity.CRITICAL ? 1 : 0;
+                damage += result.getActualDamage();
+            }
+        }
+
+        assertEquals(odds.getHitProbability(), hits / (double) ROLLS, 0.005);
+        assertEquals(odds.getLocationProbability(BodyPart.HEAD), heads / (double) ROLLS, 0.005);
+        assertEquals(odds.getSeverityProbability(WoundSeverity.CRITICAL), criticals / (double) ROLLS, 0.005);
+        assertEquals(odds.getExpectedDamage(), damage / (double) ROLLS, odds.getExpectedDamage() * 0.03);
+
+        double total = 0;
+        for (BodyPart bodyPart : BodyPart.values()) {
+            total += odds.getLocationProbability(bodyPart);
+        }
+        assertEquals(odds.getHitProbability(), total, 1e-12, "Locations should account for every hit");
+    }
+
+    @Test
+    public void expectedShotsToIncapacitateMatchRolledExchanges() {
+        Unit shooter = createShooter();
+        Unit target = createTarget();
+        CombatOdds.TimeToIncapacitate ttk = CombatOdds.timeToIncapacitate(shooter, target, DISTANCE_FEET, 0);
+
+        Random random = new Random(5678);
+        int exchanges = 20_000;
+        long totalShots = 0;
+        for (int i = 0; i < exchanges; i++) {
+            int health = target.character.currentHealth;
+            int shots = 0;
+            boolean down = false;
+            shooter.character.isFirstAttackOnTarget = true;
+            while (!down) {
+                HitResult result = roll(shooter, target, random);
+                shooter.character.isFirstAttackOnTarget = false;
+                shots++;
+                if (result.isHit()) {
+                    health -= result.getActualDamage();
+                    down = result.getWoundSeverity() == WoundSeverity.CRITICAL || health <= 0;
+                }
+            }
+            totalShots += shots;
+        }
+
+        assertEquals(1.0, ttk.getIncapacitationProbability(), 1e-6);
+        assertEquals(ttk.getExpectedShots(), totalShots / (double) exchanges, ttk.getExpectedShots() * 0.03);
+        assertTrue(ttk.getExpectedTicks() > ttk.getExpectedShots(), "Each shot should take time");
+    }
+
+    @Test
+    public void rangeTableCoversTheWeaponsReach() {
+        Unit shooter = createShooter();
+        RangedWeapon weapon = (RangedWeapon) shooter.character.weapon;
+        long start = System.nanoTime();
+        List<CombatOdds.RangeOdds> table = CombatOdds.rangeTable(shooter, createTarget(), 5, 0);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals((int) Math.floor(weapon.getMaximumRange() / 5), table.size());
+        for (int i = 1; i < table.size(); i++) {
+            assertTrue(table.get(i).followUpShot.getHitProbability() <= table.get(i - 1).followUpShot.getHitProbability(),
+                       "Hit chance should not rise with distance");
+        }
+        assertTrue(elapsedMillis < 1000, "Range table took " + elapsedMillis + " ms");
+        System.out.println(CombatOdds.formatRangeTable(table));
+    }
+
+    @Test
+    public void chanceToHitMatchesDetermineHitUnderStress() {
+        Unit target = createTarget();
+        int[] coolnessValues = {1, 50, 100};
+        int[] stressModifiers = {CombatCalculator.DEFAULT_STRESS_MODIFIER, -10, 0};
+        for (int coolness : coolnessValues) {
+            Unit shooter = createShooter();
+            shooter.character.coolness = coolness;
+            for (int stressModifier : stressModifiers) {
+                for (boolean firstShot : new boolean[] {true, false}) {
+                    shooter.character.isFirstAttackOnTarget = firstShot;
+                    double chanceToHit = CombatOdds.chanceToHit(shooter, target, DISTANCE_FEET, 0, firstShot, stressModifier);
+                    HitResult result = roll(shooter, target, new Random(42), stressModifier);
+                    assertEquals(result.getChanceToHit(), chanceToHit, 1e-9,
+                                 "coolness " + coolness + ", stress " + stressModifier + ", first shot " + firstShot);
+                }
+            }
+        }
+
+        Unit shooter = createShooter();
+        shooter.character.isFirstAttackOnTarget = false;
+        assertEquals(roll(shooter, target, new Random(42)).getChanceToHit(),
+                     CombatOdds.chanceToHit(shooter, target, DISTANCE_FEET, 0, false), 1e-9,
+                     "Odds should default to the game's stress");
+        assertTrue(CombatOdds.chanceToHit(shooter, target, DISTANCE_FEET, 0, false)
+                   < CombatOdds.chanceToHit(shooter, target, DISTANCE_FEET, 0, false, 0),
+                   "The game's stress should lower the chance to hit");
+    }
+
+    private static HitResult roll(Unit shooter, Unit target, Random random) {
+        return roll(shooter, target, random, CombatCalculator.DEFAULT_STRESS_MODIFIER);
+    }
+
+    private static HitResult roll(Unit shooter, Unit target, Random random, int stressModifier) {
+        RangedWeapon weapon = (RangedWeapon) shooter.character.weapon;
+        return CombatCalculator.determineHit(shooter, target, DISTANCE_FEET, weapon.getMaximumRange(), weapon.getWeaponAccuracy(),
+                                             weapon.getDamage(), false, stressModifier, 0, false, random);
+    }
+
+    private static Unit createShooter() {
+        RangedWeapon weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
+        combat.Character character = new combat.Character("Shooter", 60, 50, 50, 50, 50, Handedness.RIGHT_HANDED, weapon);
+        return new Unit(character, 0, 0, Color.BLUE, 1);
+    }
+
+    private static Unit createTarget() {
+        combat.Character character = new combat.Character("Target", 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+        return new Unit(character, DISTANCE_FEET * 7, 0, Color.RED, 2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+import combat.BodyPart;
+import combat.WoundSeverity;
+import combat.telemetry.CombatTelemetry;
+import combat.telemetry.CombatTelemetry.RowKind;
+import combat.telemetry.TelemetrySummary;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that combat telemetry queries give the same answers whether rows are
+ * on the heap or spilled to the memory-mapped file.
+ */
+public class CombatTelemetryTest {
+
+    private static final int ROWS = 50_000;
+    private static final String[] WEAPONS = {"wpn_colt_peacemaker", "wpn_winchester_1873", "wpn_bowie_knife"};
+
+    @Test
+    public void spilledRowsQueryLikeHeapRows() {
+        CombatTelemetry heapOnly = new CombatTelemetry(ROWS, 1);
+        CombatTelemetry spilling = new CombatTelemetry(1000, 2);
+        fill(heapOnly);
+        fill(spilling);
+
+        assertEquals(0, heapOnly.getSpilledChunkCount());
+        assertTrue(spilling.getSpilledChunkCount() > 40, "Expected most chunks to be spilled");
+        assertEquals(ROWS, spilling.getRowCount());
+
+        for (RowKind kind : RowKind.values()) {
+            assertSameGroups(heapOnly.groupByWeapon(kind), spilling.groupByWeapon(kind));
+            assertSameGroups(heapOnly.groupByFaction(kind), spilling.groupByFaction(kind));
+            assertSameGroups(heapOnly.groupByRange(kind, 25.0), spilling.groupByRange(kind, 25.0));
+        }
+        spilling.reset();
+        assertEquals(0, spilling.getRowCount());
+        assertEquals(0, spilling.summarize(RowKind.SHOT).getCount());
+    }
+
+    @Test
+    public void groupsAggregateShotsAndWounds() {
+        CombatTelemetry telemetry = new CombatTelemetry(4, 1);
+        telemetry.record(RowKind.SHOT, 10, 1, 2, "wpn_colt_peacemaker", 1, 20.0, 60.0, 30.0, true, BodyPart.CHEST, null, 0);
+        telemetry.record(RowKind.SHOT, 20, 1, 2, "wpn_colt_peacemaker", 1, 30.0, 40.0, 70.0, false, null, null, 0);
+        telemetry.record(RowKind.SHOT, 30, 3, 1, "wpn_winchester_1873", 2, 120.0, 50.0, 10.0, true, BodyPart.HEAD, null, 0);
+        telemetry.record(RowKind.WOUND, 35, 1, 2, "wpn_colt_peacemaker", 1, 20.0, -1, -1, true, BodyPart.CHEST, WoundSeverity.SERIOUS, 6);
+        telemetry.record(RowKind.WOUND, 40, 3, 1, "wpn_winchester_1873", 2, 120.0, -1, -1, true, BodyPart.HEAD, WoundSeverity.CRITICAL, 12);
+        telemetry.record(RowKind.SHOT, 50, 4, 1, null, 2, 2.0, 70.0, 90.0, false, null, null, 0);
+
+        Map<String, TelemetrySummary> byWeapon = telemetry.groupByWeapon(RowKind.SHOT);
+        assertEquals(2, byWeapon.get("wpn_colt_peacemaker").getCount());
+        assertEquals(50.0, byWeapon.get("wpn_colt_peacemaker").getHitPercentage(), 1e-9);
+        assertEquals(50.0, byWeapon.get("wpn_colt_peacemaker").getMeanChanceToHit(), 1e-6);
+        assertEquals(1, byWeapon.get("none").getCount());
+
+        Map<Integer, TelemetrySummary> woundsByFaction = telemetry.groupByFaction(RowKind.WOUND);
+        assertEquals(6, woundsByFaction.get(1).getTotalDamage());
+        assertEquals(1, woundsByFaction.get(2).getCount(WoundSeverity.CRITICAL));
+
+        Map<Double, TelemetrySummary> byRange = telemetry.groupByRange(RowKind.SHOT, 50.0);
+        assertEquals(3, byRange.get(0.0).getCount());
+        assertEquals(1, byRange.get(100.0).getCount());
+        assertEquals(4, telemetry.summarize(RowKind.SHOT).getCount());
+    }
+
+    private void fill(CombatTelemetry telemetry) {
+        Random random = new Random(77);
+        BodyPart[] parts = BodyPart.values();
+        WoundSeverity[] severities = WoundSeverity.values();
+        for (int i = 0; i < ROWS; i++) {
+            RowKind kind = RowKind.values()[random.nextInt(3)];
+            boolean hit = kind != RowKind.SHOT || random.nextBoolean();
+            double chance = kind == RowKind.WOUND ? -1 : random.nextDouble() * 100;
+            WoundSeverity severity = kind == RowKind.SHOT ? null : severities[random.nextInt(severities.length)];
+            telemetry.record(kind, i, random.nextInt(40), random.nextInt(40), WEAPONS[random.nextInt(WEAPONS.length)],
+                             random.nextInt(3), random.nextDouble() * 300, chance, random.nextDouble() * 100, hit,
+                             hit ? parts[random.nextInt(parts.length)] : null, severity, severity != null ? random.nextInt(20) : 0);
+        }
+    }
+
+    private <K> void assertSameGroups(Map<K, TelemetrySummary> expected, Map<K, TelemetrySummary> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (K key : expected.keySet()) {
+            assertEquals(expected.get(key).toString(), actual.get(key).toString(), "Group " + key);
+            for (WoundSeverity severity : WoundSeverity.values()) {
+                assertEquals(expected.get(key).getCount(severity), actual.get(key).getCount(severity));
+            }
+        }
+    }
+}
\ No newline at end of file
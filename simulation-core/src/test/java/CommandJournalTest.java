@@ -0,0 +1,244 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import combat.BodyPart;
+import combat.CombatCoordinator;
+import combat.Handedness;
+import combat.HitResult;
+import combat.WoundSeverity;
+import core.CommandJournal;
+import core.GameEngine;
+import core.GameState;
+import core.InputCommand;
+import core.JournalReplayer;
+import core.StateKeyframe;
+import data.WeaponFactory;
+import game.ScheduledEvent;
+import game.Unit;
+import platform.TestPlatform;
+import platform.api.Color;
+import utils.GameConfiguration;
+
+import java.io.File;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that a recorded command journal replays to the same unit positions,
+ * both straight through and when seeking backwards and forwards via keyframes,
+ * and after a save/load round trip, and that keyframes keep shots in flight.
+ * A firefight, with real hit rolls, must replay the same into a fresh engine,
+ * with keyframes taken mid-fight.
+ */
+public class CommandJournalTest {
+
+    private static final int UNIT_COUNT = 6;
+    private static final int TICKS = 900;
+    private static final int KEYFRAME_INTERVAL = 120;
+    private static final int FIREFIGHT_TICKS = 1500;
+
+    @Test
+    public void seekingMatchesRecordedRun() {
+        GameEngine engine = createEngine();
+        CommandJournal journal = engine.startJournal(KEYFRAME_INTERVAL);
+        double[][] trace = record(engine, journal);
+        assertTrue(journal.getKeyframeCount() > 1, "Expected keyframes during the recording");
+
+        JournalReplayer replayer = new JournalReplayer(engine, journal);
+        for (long tick : new long[] {250, 40, 700, 699, TICKS}) {
+            assertEquals(tick, replayer.seek(tick));
+            assertPositions(trace[(int) tick], engine.getGameState(), tick);
+        }
+    }
+
+    @Test
+    public void loadedJournalReplaysOnFreshEngine(@TempDir File tempDir) throws Exception {
+        GameEngine recorder = createEngine();
+        CommandJournal journal = recorder.startJournal(KEYFRAME_INTERVAL);
+        double[][] trace = record(recorder, journal);
+
+        File file = new File(tempDir, "journal.json");
+        journal.save(file);
+        CommandJournal loaded = CommandJournal.load(file);
+        assertEquals(journal.getSeed(), loaded.getSeed());
+        assertEquals(journal.getCommandCount(), loaded.getCommandCount());
+
+        GameEngine engine = createEngine();
+        JournalReplayer replayer = new JournalReplayer(engine, loaded);
+        assertEquals(TICKS, replayer.replayToEnd());
+        assertPositions(trace[TICKS], engine.getGameState(), TICKS);
+
+        assertEquals(333, replayer.seek(333));
+        assertPositions(trace[333], engine.getGameState(), 333);
+    }
+
+    @Test
+    public void keyframeKeepsProjectileInFlight() {
+        GameEngine engine = createEngine();
+        GameState state = engine.getGameState();
+        Unit shooter = state.getUnitsView().get(0);
+        Unit target = state.getUnitsView().get(UNIT_COUNT - 1);
+        shooter.character.weapon = WeaponFactory.createWeapon("wpn_colt_peacemaker");
+        HitResult hit = new HitResult(true, BodyPart.CHEST, WoundSeverity.LIGHT, shooter.character.weapon.damage);
+        CombatCoordinator.getInstance().scheduleProjectileImpact(shooter, target, 30, hit, ScheduledEvent.WORLD_OWNER,
+                                                                 state.getEventQueue(), engine.getGameCallbacks());
+
+        StateKeyframe keyframe = StateKeyframe.capture(state);
+        int wounds = target.character.getWounds().size();
+        for (int tick = 0; tick < 120; tick++) {
+            engine.stepTick();
+        }
+        assertEquals(wounds + 1, target.character.getWounds().size(), "The projectile should have landed");
+
+        assertTrue(keyframe.restore(state, engine.getGameCallbacks()));
+        assertEquals(wounds, target.character.getWounds().size());
+        assertEquals(1, state.getEventQueue().size(), "The impact should be pending again");
+        for (int tick = 0; tick < 120; tick++) {
+            engine.stepTick();
+        }
+        assertEquals(wounds + 1, target.character.getWounds().size(), "The restored projectile should land");
+    }
+
+    @Test
+    public void recordedFirefightReplaysIntoFreshEngine(@TempDir File tempDir) throws Exception {
+        GameConfiguration.setDeterministicMode(true, 2718281828L);
+        try {
+            GameEngine recorder = createFirefight();
+            CommandJournal journal = recorder.startJournal(KEYFRAME_INTERVAL);
+            double[][] trace = recordFirefight(recorder, journal);
+            assertTrue(journal.getKeyframeCount() > 1, "Expected keyframes during the fight");
+            int wounds = 0;
+            for (Unit unit : recorder.getUnits()) {
+                wounds += unit.character.getWounds().size();
+            }
+            assertTrue(wounds > 0, "Expected the firefight to wound someone");
+
+            File file = new File(tempDir, "firefight.json");
+            journal.save(file);
+            CommandJournal loaded = CommandJournal.load(file);
+
+            GameEngine engine = new GameEngine(new TestPlatform());
+            JournalReplayer replayer = new JournalReplayer(engine, loaded);
+            assertEquals(FIREFIGHT_TICKS, replayer.replayToEnd());
+            assertCombatState(trace[FIREFIGHT_TICKS], engine, FIREFIGHT_TICKS);
+            for (long tick : new long[] {700, 130, 1210, 1209, 455, FIREFIGHT_TICKS}) {
+                assertEquals(tick, replayer.seek(tick));
+                assertCombatState(trace[(int) tick], engine, tick);
+            }
+        } finally {
+            GameConfiguration.reset();
+        }
+    }
+
+    /**
+     * Two sides of three gunfighters, 30 feet apart.
+     */
+    private GameEngine createFirefight() {
+        GameEngine engine = new GameEngine(new TestPlatform());
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            int faction = 1 + i % 2;
+            combat.Character character = new combat.Character("Gunfighter" + i, 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED,
+                                                              WeaponFactory.createWeapon("wpn_colt_peacemaker"));
+            character.faction = faction;
+            character.setCurrentWeaponState(character.weapon.getInitialState());
+            engine.getGameState().addUnit(new Unit(character, faction == 1 ? 100 : 310, 100 + (i / 2) * 60,
+                                                   faction == 1 ? Color.BLUE : Color.RED, i + 1));
+        }
+        return engine;
+    }
+
+    /**
+     * Sets every unit to pick its own targets, sends one side forward part way
+     * through, and returns every unit's combat state after every tick.
+     */
+    private double[][] recordFirefight(GameEngine engine, CommandJournal journal) {
+        for (Unit unit : engine.getUnits()) {
+            InputCommand command = new InputCommand(InputCommand.Type.TOGGLE_AUTO_TARGETING, unit.getId());
+            engine.applyCommand(command);
+            journal.record(0, command);
+        }
+        double[][] trace = new double[FIREFIGHT_TICKS + 1][];
+        trace[0] = combatState(engine);
+        for (int tick = 0; tick < FIREFIGHT_TICKS; tick++) {
+            if (tick == 400) {
+                for (Unit unit : engine.getUnits()) {
+                    if (unit.character.getFaction() == 1) {
+                        InputCommand command = new InputCommand(InputCommand.Type.MOVE_UNIT, unit.getId(), unit.x + 60, unit.y + 90);
+                        engine.applyCommand(command);
+                        journal.record(tick, command);
+                    }
+                }
+            }
+            engine.stepTick();
+            journal.onTickCompleted(engine);
+            trace[tick + 1] = combatState(engine);
+        }
+        return trace;
+    }
+
+    private double[] combatState(GameEngine engine) {
+        java.util.List<Unit> units = engine.getUnits();
+        double[] result = new double[units.size() * 5];
+        for (int i = 0; i < units.size(); i++) {
+            Unit unit = units.get(i);
+            result[i * 5] = unit.x;
+            result[i * 5 + 1] = unit.y;
+            result[i * 5 + 2] = unit.character.currentHealth;
+            result[i * 5 + 3] = unit.character.getWounds().size();
+            result[i * 5 + 4] = unit.character.getAttacksAttempted();
+        }
+        return result;
+    }
+
+    private void assertCombatState(double[] expected, GameEngine engine, long tick) {
+        assertArrayEquals(expected, combatState(engine), "Combat state differs at tick " + tick);
+    }
+
+    private GameEngine createEngine() {
+        GameEngine engine = new GameEngine(new TestPlatform());
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            combat.Character character = new combat.Character("Walker" + i, 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+            engine.getGameState().addUnit(new Unit(character, 100 + i * 40, 100, Color.BLUE, i + 1));
+        }
+        return engine;
+    }
+
+    /**
+     * Issues random move and stop commands through the journal and returns
+     * every unit's position after every tick (index 0 is the start).
+     */
+    private double[][] record(GameEngine engine, CommandJournal journal) {
+        GameState state = engine.getGameState();
+        Random random = new Random(4242);
+        double[][] trace = new double[TICKS + 1][];
+        trace[0] = positions(state);
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick % 37 == 0) {
+                InputCommand command = random.nextInt(5) == 0
+                    ? new InputCommand(InputCommand.Type.STOP_UNIT, 1 + random.nextInt(UNIT_COUNT))
+                    : new InputCommand(InputCommand.Type.MOVE_UNIT, 1 + random.nextInt(UNIT_COUNT),
+                                       random.nextDouble() * 800, random.nextDouble() * 600);
+                engine.applyCommand(command);
+                journal.record(tick, command);
+            }
+            engine.stepTick();
+            journal.onTickCompleted(state);
+            trace[tick + 1] = positions(state);
+        }
+        return trace;
+    }
+
+    private double[] positions(GameState state) {
+        double[] result = new double[UNIT_COUNT * 2];
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            Unit unit = state.getUnitsView().get(i);
+            result[i * 2] = unit.x;
+            result[i * 2 + 1] = unit.y;
+        }
+        return result;
+    }
+
+    private void assertPositions(double[] expected, GameState state, long tick) {
+        assertArrayEquals(expected, positions(state), "Positions differ at tick " + tick);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+import org.junit.jupiter.api.Test;
+import combat.CombatEventKind;
+import combat.Handedness;
+import combat.MovementType;
+import core.CommandQueue;
+import core.InputCommand;
+import core.UnitCommandExecutor;
+import game.EventBinding;
+import game.GameCallbacks;
+import game.ScheduledEvent;
+import game.Unit;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that commands submitted from several threads reach units only when
+ * the simulation drains the queue, in each thread's submission order, and
+ * that unit commands apply the same after a journal save turns their data
+ * into strings. Also covers the edit mode teleport and remove commands.
+ */
+public class CommandQueueTest {
+
+    private final List<Unit> units = new ArrayList<>();
+    private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>();
+
+    @Test
+    public void commandsFromManyThreadsApplyAtTheDrain() throws Exception {
+        int producers = 4;
+        int commandsEach = 500;
+        for (int i = 0; i < producers; i++) {
+            addUnit(0, 0);
+        }
+        CommandQueue queue = new CommandQueue();
+        UnitCommandExecutor executor = newExecutor();
+        List<InputCommand> applied = new ArrayList<>();
+        executor.setListener((command, unit) -> applied.add(command));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int unitId = p + 1;
+            Thread thread = new Thread(() -> {
+                for (int i = 1; i <= commandsEach; i++) {
+                    queue.submit(new InputCommand(InputCommand.Type.MOVE_UNIT, unitId, i, unitId));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Nothing touches the units until the simulation drains at its tick boundary
+        for (Unit unit : units) {
+            assertFalse(unit.hasTarget, "Units should not change before the drain");
+        }
+        assertEquals(producers * commandsEach, queue.drain(executor::execute));
+        assertTrue(queue.isEmpty());
+
+        int[] lastX = new int[producers + 1];
+        for (InputCommand command : applied) {
+            int x = (int) command.getX();
+            assertEquals(lastX[command.getUnitId()] + 1, x, "Each producer's commands should apply in order");
+            lastX[command.getUnitId()] = x;
+        }
+        for (Unit unit : units) {
+            assertEquals(commandsEach, unit.targetX, 0.001);
+        }
+    }
+
+    @Test
+    public void stringDataFromAJournalAppliesLikeTheOriginal() {
+        Unit unit = addUnit(100, 100);
+        Unit casualty = addUnit(200, 200);
+        casualty.character.currentHealth = 0;
+        UnitCommandExecutor executor = newExecutor();
+
+        // Step down to crawl, then stop at the minimum movement type
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.MOVE_UNIT, unit.getId(), 300, 100)));
+        while (unit.character.getCurrentMovementType() != MovementType.CRAWL) {
+            assertTrue(executor.execute(new InputCommand(InputCommand.Type.SET_MOVEMENT_SPEED, unit.getId(), "-1")));
+        }
+        assertFalse(unit.isStopped);
+        executor.execute(new InputCommand(InputCommand.Type.SET_MOVEMENT_SPEED, unit.getId(), "-1"));
+        assertTrue(unit.isStopped);
+        executor.execute(new InputCommand(InputCommand.Type.SET_MOVEMENT_SPEED, unit.getId(), Integer.valueOf(1)));
+        assertFalse(unit.isStopped, "Stepping up from a stop should resume movement");
+
+        InputCommand zone = InputCommand.targetZone(unit.getId(), 10, 20, 40, 30);
+        InputCommand reloaded = new InputCommand(zone.getType(), zone.getUnitId(), zone.getTargetId(),
+                                                 zone.getX(), zone.getY(), String.valueOf(zone.getData()));
+        assertTrue(executor.execute(reloaded));
+        assertEquals(new java.awt.Rectangle(10, 20, 40, 30), unit.character.targetZone);
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.CLEAR_TARGET_ZONE, unit.getId())));
+        assertNull(unit.character.targetZone);
+
+        // Incapacitated and unknown units ignore commands
+        assertFalse(executor.execute(new InputCommand(InputCommand.Type.MOVE_UNIT, casualty.getId(), 0, 0)));
+        assertFalse(casualty.hasTarget);
+        assertFalse(executor.execute(new InputCommand(InputCommand.Type.STOP_UNIT, 99)));
+    }
+
+    @Test
+    public void positionCombatModeAndShotCountApplyThroughCommands() {
+        Unit unit = addUnit(100, 100);
+        UnitCommandExecutor executor = newExecutor();
+        combat.PositionState standing = unit.character.getCurrentPosition();
+
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.SET_POSITION, unit.getId(), "-1")));
+        assertNotEquals(standing, unit.character.getCurrentPosition());
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.SET_POSITION, unit.getId(), Integer.valueOf(1))));
+        assertEquals(standing, unit.character.getCurrentPosition());
+
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.SET_MULTIPLE_SHOT_COUNT, unit.getId(), "3")));
+        assertEquals(3, unit.character.multipleShootCount);
+        assertFalse(executor.execute(new InputCommand(InputCommand.Type.SET_MULTIPLE_SHOT_COUNT, unit.getId(), "9")));
+        assertEquals(3, unit.character.multipleShootCount);
+
+        // Shot count applies to ranged combat only
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.TOGGLE_COMBAT_MODE, unit.getId())));
+        assertTrue(unit.character.isMeleeCombatMode());
+        assertFalse(executor.execute(new InputCommand(InputCommand.Type.SET_MULTIPLE_SHOT_COUNT, unit.getId(), "1")));
+        assertEquals(3, unit.character.multipleShootCount);
+    }
+
+    @Test
+    public void editCommandsTeleportAndRemoveUnits() {
+        Unit unit = addUnit(100, 100);
+        Unit shooter = addUnit(300, 100);
+        Unit casualty = addUnit(200, 200);
+        casualty.character.currentHealth = 0;
+        UnitCommandExecutor executor = newExecutor();
+
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.MOVE_UNIT, unit.getId(), 400, 400)));
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.TELEPORT_UNIT, unit.getId(), 50, 60)));
+        assertEquals(50, unit.x, 0.001);
+        assertEquals(60, unit.y, 0.001);
+        assertFalse(unit.hasTarget, "A teleported unit should not carry on to its old destination");
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.TELEPORT_UNIT, casualty.getId(), 10, 10)),
+                   "Edit mode moves incapacitated units too");
+        assertEquals(10, casualty.x, 0.001);
+
+        shooter.character.setCurrentTarget(unit);
+        shooter.character.isAttacking = true;
+        events.add(new ScheduledEvent(5, () -> {}, unit.getId()));
+        events.add(new ScheduledEvent(6, CombatEventKind.HIT_HIGHLIGHT_END, ScheduledEvent.WORLD_OWNER,
+                                      new EventBinding(unit.character, unit, null, events, new QueueOnlyCallbacks())));
+        events.add(new ScheduledEvent(7, () -> {}, shooter.getId()));
+
+        assertFalse(executor.execute(new InputCommand(InputCommand.Type.REMOVE_UNIT, unit.getId())),
+                    "Removal needs a remover");
+        assertTrue(units.contains(unit));
+        executor.setUnitRemover(units::remove);
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.REMOVE_UNIT, unit.getId())));
+        assertFalse(units.contains(unit));
+        assertNull(shooter.character.getCurrentTarget(), "Units targeting the removed unit should drop it");
+        assertFalse(shooter.character.isAttacking);
+        assertEquals(1, events.size(), "Only events for units still on the field should remain");
+        assertEquals(shooter.getId(), events.peek().getOwnerId());
+
+        assertTrue(executor.execute(new InputCommand(InputCommand.Type.REMOVE_UNIT, casualty.getId())));
+        assertFalse(units.contains(casualty));
+    }
+
+    private UnitCommandExecutor newExecutor() {
+        return new UnitCommandExecutor(id -> units.stream().filter(unit -> unit.getId() == id).findFirst().orElse(null),
+                                       () -> 0L, new QueueOnlyCallbacks());
+    }
+
+    private Unit addUnit(double x, double y) {
+        combat.Character character = new combat.Character("Unit" + units.size(), 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+        Unit unit = new Unit(character, x, y, Color.BLUE, units.size() + 1);
+        units.add(unit);
+        return unit;
+    }
+
+    private class QueueOnlyCallbacks implements GameCallbacks {
+        @Override public List<Unit> getUnits() { return units; }
+        @Override public PriorityQueue<ScheduledEvent> getEventQueue() { return events; }
+        @Override public void playWeaponSound(combat.Weapon weapon) {}
+        @Override public void scheduleProjectileImpact(Unit shooter, Unit target, combat.Weapon weapon, long fireTick, double distanceFeet) {}
+        @Override public void scheduleMeleeImpact(Unit attacker, Unit target, combat.MeleeWeapon weapon, long attackTick) {}
+        @Override public void resolveProjectileImpact(Unit shooter, Unit target, combat.Weapon weapon, long impactTick, combat.HitResult hitResult) {}
+        @Override public void resolveMeleeImpact(Unit attacker, Unit target, combat.MeleeWeapon weapon, long attackTick) {}
+        @Override public void applyFiringHighlight(Unit shooter, long fireTick) {}
+        @Override public void addMuzzleFlash(Unit shooter, long fireTick) {}
+        @Override public void removeAllEventsForOwner(int ownerId) {}
+    }
+}
\ No newline at end of file
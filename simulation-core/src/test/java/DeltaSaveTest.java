@@ -0,0 +1,151 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import data.GameStateData;
+import data.SaveData;
+import data.SaveGameManager;
+import data.SaveMetadata;
+import data.UnitData;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that delta saves write only changed units, load back as base plus
+ * patches, compact into a new base after the configured number of patches and
+ * survive a patch cut short by a crash.
+ */
+public class DeltaSaveTest {
+
+    private static final int UNITS = 500;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void tearDown() {
+        SaveGameManager.setDeltaSavesEnabled(false);
+    }
+
+    @Test
+    public void patchesHoldOnlyChangedUnits() throws Exception {
+        SaveGameManager.setDeltaSavesEnabled(true);
+        SaveGameManager manager = new SaveGameManager(tempDir.toString());
+        manager.setDeltasBeforeCompaction(2);
+        List<UnitData> units = new ArrayList<>();
+        for (int i = 1; i <= UNITS; i++) {
+            units.add(unit(i, i * 10));
+        }
+
+        assertTrue(manager.saveToSlot(1, saveData(100, units)));
+        assertFalse(Files.exists(tempDir.resolve("slot_1.delta_1.json")), "First save should write a full base");
+
+        // One unit moves, one leaves and one joins
+        units.get(0).x = -5;
+        units.remove(1);
+        units.add(unit(UNITS + 1, 42));
+        assertTrue(manager.saveToSlot(1, saveData(200, units)));
+        Path patch = tempDir.resolve("slot_1.delta_1.json");
+        assertTrue(Files.exists(patch));
+        assertTrue(Files.size(patch) * 20 < Files.size(tempDir.resolve("slot_1.json")),
+                   "Patch should be a small fraction of the base");
+
+        SaveData loaded = new SaveGameManager(tempDir.toString()).loadFromSlot(1);
+        assertEquals(200, loaded.gameState.currentTick);
+        assertEquals(UNITS, loaded.units.size());
+        assertEquals(-5, findUnit(loaded, 1).x);
+        assertNull(findUnit(loaded, 2), "Removed unit should stay removed");
+        assertEquals(42, findUnit(loaded, UNITS + 1).x);
+        assertEquals(100 * 10, findUnit(loaded, 100).x);
+        assertEquals(200, manager.listAvailableSlots().get(0).currentTick, "Slot list should show the latest patch");
+
+        // The second patch fills the chain; the save after it rewrites the base
+        units.get(5).y = 7;
+        assertTrue(manager.saveToSlot(1, saveData(300, units)));
+        assertTrue(Files.exists(tempDir.resolve("slot_1.delta_2.json")));
+        assertTrue(manager.saveToSlot(1, saveData(400, units)));
+        assertFalse(Files.exists(tempDir.resolve("slot_1.delta_1.json")), "Compaction should delete the patches");
+        assertFalse(Files.exists(tempDir.resolve("slot_1.delta_2.json")));
+
+        SaveData compacted = manager.loadFromSlot(1);
+        assertEquals(400, compacted.gameState.currentTick);
+        assertEquals(7, findUnit(compacted, units.get(5).id).y);
+    }
+
+    @Test
+    public void truncatedPatchLoadsAsOfTheLastGoodPatch() throws Exception {
+        SaveGameManager.setDeltaSavesEnabled(true);
+        SaveGameManager manager = new SaveGameManager(tempDir.toString());
+        List<UnitData> units = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            units.add(unit(i, i * 10));
+        }
+        assertTrue(manager.saveToSlot(1, saveData(100, units)));
+        units.get(0).x = -1;
+        assertTrue(manager.saveToSlot(1, saveData(200, units)));
+        units.get(0).x = -2;
+        assertTrue(manager.saveToSlot(1, saveData(300, units)));
+        units.get(0).x = -3;
+        assertTrue(manager.saveToSlot(1, saveData(400, units)));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")), "Temporary files should be moved into place");
+        }
+
+        // A crash mid-write leaves the second patch cut short
+        Path second = tempDir.resolve("slot_1.delta_2.json");
+        byte[] content = Files.readAllBytes(second);
+        Files.write(second, Arrays.copyOf(content, content.length / 2));
+
+        SaveGameManager restarted = new SaveGameManager(tempDir.toString());
+        SaveData loaded = restarted.loadFromSlot(1);
+        assertNotNull(loaded, "Base and good patches should still load");
+        assertEquals(200, loaded.gameState.currentTick);
+        assertEquals(-1, findUnit(loaded, 1).x);
+        assertFalse(Files.exists(second), "Unreadable patch should be dropped");
+        assertFalse(Files.exists(tempDir.resolve("slot_1.delta_3.json")), "Patches after it no longer apply");
+
+        // Saving again continues the chain from the last good patch
+        units.get(0).x = -4;
+        assertTrue(restarted.saveToSlot(1, saveData(500, units)));
+        SaveData reloaded = new SaveGameManager(tempDir.toString()).loadFromSlot(1);
+        assertEquals(500, reloaded.gameState.currentTick);
+        assertEquals(-4, findUnit(reloaded, 1).x);
+    }
+
+    private static SaveData saveData(long tick, List<UnitData> units) {
+        List<UnitData> copies = new ArrayList<>();
+        for (UnitData unit : units) {
+            UnitData copy = unit(unit.id, unit.x);
+            copy.y = unit.y;
+            copies.add(copy);
+        }
+        return new SaveData(new SaveMetadata("", "1.0", "test_theme", 1),
+                            new GameStateData(tick, false, 0, 0, 1.0, 0, UNITS + 2), copies);
+    }
+
+    private static UnitData unit(int id, double x) {
+        UnitData unit = new UnitData();
+        unit.id = id;
+        unit.characterId = 1000 + id;
+        unit.x = x;
+        unit.color = "BLUE";
+        unit.baseColor = "BLUE";
+        unit.weaponId = "wpn_colt_peacemaker";
+        return unit;
+    }
+
+    private static UnitData findUnit(SaveData saveData, int id) {
+        for (UnitData unit : saveData.units) {
+            if (unit.id == id) {
+                return unit;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import combat.Handedness;
+import game.DormancyTracker;
+import game.FactionRoster;
+import game.ScheduledEvent;
+import game.Unit;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that units far from any hostile leave the tick loop and come back
+ * when a hostile approaches, when they are shot at or when they are commanded.
+ */
+public class DormancyTrackerTest {
+
+    private final List<Unit> units = new ArrayList<>();
+    private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>();
+    private long tick;
+
+    @AfterEach
+    public void tearDown() {
+        DormancyTracker.setEnabled(false);
+        DormancyTracker.getInstance().setKeepAwake(null);
+    }
+
+    @Test
+    public void reservesSleepUntilAHostileApproaches() {
+        DormancyTracker.setEnabled(true);
+        DormancyTracker tracker = DormancyTracker.getInstance();
+        Unit reserveA = addUnit(1, 0, 0);
+        Unit reserveB = addUnit(1, 20, 0);
+        Unit hostile = addUnit(2, 2000, 0);
+
+        runTicks(DormancyTracker.EVALUATION_INTERVAL_TICKS + 1);
+        assertEquals(3, tracker.getDormantCount(), "Idle units far apart should all go dormant");
+        assertTrue(tracker.getActiveUnits(units).isEmpty());
+
+        // A move order wakes the hostile; the reserves wake once it is within range
+        hostile.setTarget(0, 0);
+        assertFalse(tracker.isDormant(hostile));
+        int ticks = 0;
+        while (tracker.isDormant(reserveA) && ticks++ < 5000) {
+            runTicks(1);
+        }
+        assertFalse(tracker.isDormant(reserveA));
+        assertFalse(tracker.isDormant(reserveB));
+        double rangePixels = (reserveA.character.meleeWeapon.getTotalReach() + DormancyTracker.WAKE_MARGIN_FEET) * 7.0;
+        double distance = Math.hypot(hostile.x - reserveA.x, hostile.y - reserveA.y);
+        assertTrue(distance <= rangePixels && distance > rangePixels - 50,
+                   "Reserve should wake as the hostile enters its engagement range, was " + distance);
+    }
+
+    @Test
+    public void shotAtAndSelectedUnitsStayAwake() {
+        DormancyTracker.setEnabled(true);
+        DormancyTracker tracker = DormancyTracker.getInstance();
+        Unit sentry = addUnit(1, 0, 0);
+        Unit selected = addUnit(1, 50, 0);
+        Unit incapacitated = addUnit(2, 3000, 0);
+        incapacitated.character.currentHealth = 0;
+        tracker.setKeepAwake(unit -> unit == selected);
+
+        runTicks(DormancyTracker.EVALUATION_INTERVAL_TICKS + 1);
+        assertTrue(tracker.isDormant(sentry));
+        assertTrue(tracker.isDormant(incapacitated));
+        assertFalse(tracker.isDormant(selected));
+
+        // Combat resolution wakes the target of an attack
+        tracker.wake(sentry);
+        assertEquals(List.of(sentry, selected), tracker.getActiveUnits(units));
+
+        // A unit with a scheduled event of its own stays awake
+        events.add(new ScheduledEvent(tick + 100, () -> { }, sentry.getId()));
+        runTicks(DormancyTracker.EVALUATION_INTERVAL_TICKS + 1);
+        assertFalse(tracker.isDormant(sentry));
+        events.clear();
+        runTicks(DormancyTracker.EVALUATION_INTERVAL_TICKS + 1);
+        assertTrue(tracker.isDormant(sentry));
+    }
+
+    private Unit addUnit(int faction, double x, double y) {
+        combat.Character character = new combat.Character("Unit" + units.size(), 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+        character.setFaction(faction);
+        Unit unit = new Unit(character, x, y, Color.BLUE, units.size() + 1);
+        units.add(unit);
+        return unit;
+    }
+
+    /**
+     * Runs the per-tick unit loop the way OpenFields2.run() does.
+     */
+    private void runTicks(int count) {
+        DormancyTracker tracker = DormancyTracker.getInstance();
+        for (int i = 0; i < count; i++) {
+            tick++;
+            FactionRoster.getInstance().sync(units);
+            for (Unit unit : tracker.getActiveUnits(units)) {
+                unit.update(tick);
+            }
+            tracker.evaluate(units, tick, events);
+        }
+    }
+}
\ No newline at end of file
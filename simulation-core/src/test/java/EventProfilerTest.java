@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import combat.CombatEventKind;
+import game.EventBinding;
+import game.EventCategory;
+import game.EventProfiler;
+import game.ScheduledEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the event profiler attributes drained events to their
+ * categories and only times the sampled ones.
+ */
+public class EventProfilerTest {
+
+    @AfterEach
+    public void tearDown() {
+        EventProfiler.setEnabled(false);
+        EventProfiler.getInstance().setSampleInterval(1);
+        EventProfiler.getInstance().reset();
+    }
+
+    @Test
+    public void eventsAreAttributedToTheirCategory() {
+        EventProfiler.setEnabled(true);
+        EventProfiler profiler = EventProfiler.getInstance();
+        profiler.reset();
+        int[] runs = new int[1];
+
+        for (int i = 0; i < 3; i++) {
+            profiler.run(new ScheduledEvent(i, () -> runs[0]++, 1, EventCategory.MELEE_RANGE_CHECK));
+        }
+        profiler.run(new ScheduledEvent(5, () -> runs[0]++, 1));
+
+        assertEquals(4, runs[0], "Profiling must still run every action");
+        EventProfiler.CategoryStats rangeChecks = profiler.getStats(EventCategory.MELEE_RANGE_CHECK);
+        assertEquals(3, rangeChecks.getCount());
+        assertEquals(3, rangeChecks.getSampledCount());
+        assertTrue(rangeChecks.getMaxNanos() >= 0 && rangeChecks.getMeanResidencyNanos() >= 0);
+        assertEquals(1, profiler.getStats(EventCategory.UNCATEGORIZED).getCount());
+        assertTrue(profiler.formatReport().contains("MELEE_RANGE_CHECK"));
+
+        // Typed events take their category from their kind, also when rescheduled
+        ScheduledEvent typed = new ScheduledEvent(10, CombatEventKind.HESITATION_END, 1, EventBinding.of(null));
+        assertEquals(EventCategory.HESITATION_END, typed.getCategory());
+        assertEquals(EventCategory.HESITATION_END, typed.rescheduleAt(20).getCategory());
+    }
+
+    @Test
+    public void onlySampledEventsAreTimed() {
+        EventProfiler.setEnabled(true);
+        EventProfiler profiler = EventProfiler.getInstance();
+        profiler.reset();
+        profiler.setSampleInterval(4);
+
+        for (int i = 0; i < 10; i++) {
+            profiler.run(new ScheduledEvent(i, () -> { }, 1, EventCategory.BURST_ROUND));
+        }
+
+        EventProfiler.CategoryStats bursts = profiler.getStats(EventCategory.BURST_ROUND);
+        assertEquals(10, bursts.getCount());
+        assertEquals(2, bursts.getSampledCount());
+    }
+
+    @Test
+    public void disabledProfilerRecordsNothing() {
+        EventProfiler profiler = EventProfiler.getInstance();
+        profiler.reset();
+        boolean[] ran = new boolean[1];
+
+        profiler.run(new ScheduledEvent(1, () -> ran[0] = true, 1, EventCategory.FIRE));
+
+        assertTrue(ran[0]);
+        assertEquals(0, profiler.getStats(EventCategory.FIRE).getCount());
+    }
+}
\ No newline at end of file
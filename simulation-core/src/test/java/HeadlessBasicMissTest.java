@@ -0,0 +1,94 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.openfields.testutils.TestCharacterFactory;
+import com.openfields.testutils.VirtualTimeHarness;
+import combat.Character;
+import combat.RangedWeapon;
+import game.Unit;
+
+/**
+ * Headless, virtual-time version of the BasicMissTestAutomated scenario.
+ *
+ * Runs the same test_a.json scenario as BasicMissTestAutomated through
+ * VirtualTimeHarness instead of the JavaFX Timeline. Shots, reload initiation
+ * and the second reloaded round are detected tick by tick rather than by a
+ * 100ms polling thread, so the scenario completes in a fraction of a second.
+ *
+ * SEED MANAGEMENT:
+ * mvn test -Dtest=HeadlessBasicMissTest                     # Random seed testing
+ * mvn test -Dtest=HeadlessBasicMissTest -Dtest.seed=54321   # Seed reproduction
+ *
+ * Success Criteria: All 6 shots fired, reload initiated, 2nd round successfully loaded
+ */
+public class HeadlessBasicMissTest {
+
+    private static final char MISS_TEST_SLOT = 'a';
+    private static final int MAX_TEST_TICKS = 30 * VirtualTimeHarness.TICKS_PER_SECOND;
+
+    private VirtualTimeHarness harness;
+
+    @BeforeEach
+    public void setUp() {
+        harness = VirtualTimeHarness.create(VirtualTimeHarness.generateOrExtractSeed());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (harness != null) {
+            harness.shutdown();
+        }
+    }
+
+    @Test
+    public void testBasicMissHeadless() {
+        harness.loadTestSlot(MISS_TEST_SLOT);
+
+        Unit missBotUnit = harness.findUnit(TestCharacterFactory.MISS_BOT_ID);
+        Unit targetDummyUnit = harness.findUnit(TestCharacterFactory.TARGET_DUMMY_ID);
+        assertNotNull(missBotUnit, "Should find MissBot after save load");
+        assertNotNull(targetDummyUnit, "Should find TargetDummy after save load");
+
+        Character missBot = missBotUnit.character;
+        missBot.usesAutomaticTargeting = true;
+        missBotUnit.combatTarget = targetDummyUnit;
+
+        RangedWeapon weapon = (RangedWeapon) missBot.weapon;
+        int[] shotsFired = {0};
+        int[] lastAmmo = {weapon.getAmmunition()};
+        boolean[] wasReloading = {false};
+        boolean[] reloadInitiated = {false};
+        boolean[] secondRoundLoaded = {false};
+
+        harness.unpause();
+        boolean complete = harness.runUntil(() -> {
+            int currentAmmo = weapon.getAmmunition();
+            boolean reloading = "reloading".equals(missBot.currentWeaponState.getState());
+
+            if (currentAmmo < lastAmmo[0]) {
+                shotsFired[0] += lastAmmo[0] - currentAmmo;
+            }
+            if (reloading && !wasReloading[0]) {
+                reloadInitiated[0] = true;
+            }
+            if (reloading && currentAmmo >= 2) {
+                secondRoundLoaded[0] = true;
+            }
+
+            lastAmmo[0] = currentAmmo;
+            wasReloading[0] = reloading;
+            return shotsFired[0] >= 6 && reloadInitiated[0] && secondRoundLoaded[0];
+        }, MAX_TEST_TICKS);
+        harness.pause();
+
+        harness.printSummary("HeadlessBasicMissTest");
+
+        assertTrue(complete, "Scenario should complete within " + MAX_TEST_TICKS + " ticks. Shots fired: " + shotsFired[0]
+            + ", reload initiated: " + reloadInitiated[0] + ", 2nd round loaded: " + secondRoundLoaded[0]);
+        assertEquals(6, shotsFired[0], "MissBot should fire exactly 6 shots");
+        assertTrue(reloadInitiated[0], "Reload sequence should be initiated");
+        assertTrue(secondRoundLoaded[0], "Second round should be loaded during reload");
+    }
+}
\ No newline at end of file
@@ -3,37 +3,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.*;
 
-import platform.TestPlatform;
-import platform.api.Platform;
+import com.openfields.testutils.VirtualTimeHarness;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 import combat.Character;
-import combat.CombatCoordinator;
 import combat.AimingSpeed;
-import combat.MovementType;
-import combat.Weapon;
-import combat.RangedWeapon;
-import combat.Handedness;
 import game.Unit;
-import game.GameCallbacks;
-import game.ScheduledEvent;
-import game.GameClock;
-import java.util.Random;
-import utils.GameConfiguration;
-import java.security.SecureRandom;
 
 /**
- * Enhanced headless gunfight test using real OpenFields2 game instance - DevCycle 39.
+ * Enhanced headless gunfight test using the real game engine - DevCycle 39.
  * Enhanced in DevCycle 41 with deterministic mode and random seed generation.
  * 
  * This test provides a complete JavaFX-independent version of the gunfight test scenario,
- * using the real OpenFields2 game instance in headless mode to ensure actual combat
- * mechanics are tested rather than mock implementations.
+ * running GameEngine through VirtualTimeHarness so actual combat mechanics are tested
+ * rather than mock implementations, with no JavaFX on the classpath.
  * 
  * Key features:
- * - Real OpenFields2 game instance running in headless mode
- * - Real CombatCoordinator and weapon systems
+ * - GameEngine stepping the same TickPipeline as the desktop game
+ * - Real CombatCoordinator, CombatCalculator and weapon systems
  * - Actual combat calculations and mechanics
  * - Deterministic execution with controlled randomness
  * - Performance advantages of headless operation
@@ -74,16 +60,15 @@ import java.security.SecureRandom;
  */
 public class HeadlessGunfightTest {
     
-    private TestPlatform testPlatform;
-    private OpenFields2 gameInstance;
+    private VirtualTimeHarness harness;
     
     // Random seed for deterministic testing with reproducibility
     private long testSeed;
     
     // Test configuration
-    private static final String TEST_SAVE_FILE = "test_b.json";
+    private static final char GUNFIGHT_TEST_SLOT = 'b';
     private static final int MAX_COMBAT_DURATION_SECONDS = 60;
-    private static final int TICKS_PER_SECOND = 60;
+    private static final int TICKS_PER_SECOND = VirtualTimeHarness.TICKS_PER_SECOND;
     private static final int MAX_COMBAT_TICKS = MAX_COMBAT_DURATION_SECONDS * TICKS_PER_SECOND;
     
     // Test validation thresholds
@@ -96,33 +81,8 @@ public class HeadlessGunfightTest {
         System.out.println("=== HeadlessGunfightTest Setup ===");
         
         // DevCycle 41: System 8 - Deterministic mode and seed management
-        String seedProperty = System.getProperty("test.seed");
-        if (seedProperty != null && !seedProperty.isEmpty()) {
-            try {
-                testSeed = Long.parseLong(seedProperty);
-                System.out.println("=== MANUAL SEED OVERRIDE ===");
-                System.out.println("Using manual seed: " + testSeed);
-                System.out.println("============================");
-            } catch (NumberFormatException e) {
-                System.out.println("Invalid seed format: " + seedProperty + ", generating random seed");
-                testSeed = new SecureRandom().nextLong();
-            }
-        } else {
-            testSeed = new SecureRandom().nextLong();
-        }
-        
-        // Initialize headless platform
-        testPlatform = new TestPlatform();
-        assertTrue(testPlatform.initialize(800, 600, "Headless Gunfight Test"),
-                  "TestPlatform should initialize successfully");
-        
-        // Create OpenFields2 instance in headless mode
-        gameInstance = new OpenFields2(true);
-        assertTrue(gameInstance.initializeHeadless(), "Game should initialize in headless mode");
-        
-        // Set up deterministic random seed for consistent test results
-        GameConfiguration.setDeterministicMode(true, testSeed);
-        System.out.println("✓ Deterministic mode enabled with seed " + testSeed);
+        testSeed = VirtualTimeHarness.generateOrExtractSeed();
+        harness = VirtualTimeHarness.create(testSeed);
         
         System.out.println("✓ Headless gunfight test environment initialized");
     }
@@ -131,19 +91,10 @@ public class HeadlessGunfightTest {
     public void tearDown() {
         System.out.println("=== HeadlessGunfightTest Teardown ===");
         
-        if (gameInstance != null) {
-            gameInstance.setPaused(true);
-            // Game instance will be garbage collected
-        }
-        
-        if (testPlatform != null) {
-            testPlatform.shutdown();
+        if (harness != null) {
+            harness.shutdown();
         }
         
-        // Reset deterministic mode to avoid interfering with other tests
-        GameConfiguration.reset();
-        System.out.println("✓ Deterministic mode reset");
-        
         System.out.println("✓ Headless test environment cleaned up");
     }
     
@@ -180,7 +131,7 @@ public class HeadlessGunfightTest {
         
         try {
             // Load test_b.json save file like GunfightTestAutomated does
-            gameInstance.getSaveGameController().loadGameFromTestSlot('b');
+            harness.loadTestSlot(GUNFIGHT_TEST_SLOT);
             
             System.out.println("✓ Test save file loaded (test_b.json)");
             
@@ -192,7 +143,7 @@ public class HeadlessGunfightTest {
     private void validateInitialSetup() {
         System.out.println("Validating initial test setup...");
         
-        List<Unit> units = gameInstance.getUnits();
+        List<Unit> units = harness.getUnits();
         
         // Find GunfighterAlpha and GunfighterBeta by their character IDs (like GunfightTestAutomated)
         Unit gunfighterAlphaUnit = null;
@@ -244,7 +195,7 @@ public class HeadlessGunfightTest {
     private void initializeCombatScenario() {
         System.out.println("Initializing combat scenario...");
         
-        List<Unit> units = gameInstance.getUnits();
+        List<Unit> units = harness.getUnits();
         
         // Find GunfighterAlpha and GunfighterBeta by their character IDs
         Unit gunfighterAlphaUnit = null;
@@ -281,20 +232,20 @@ public class HeadlessGunfightTest {
         long startTime = System.currentTimeMillis();
         
         // Unpause the game to start combat
-        gameInstance.setPaused(false);
+        harness.unpause();
         
         // Run simulation for maximum duration or until combat ends
         boolean combatComplete = false;
         int ticksRun = 0;
-        int maxTicks = MAX_COMBAT_DURATION_SECONDS * TICKS_PER_SECOND;
+        int maxTicks = MAX_COMBAT_TICKS;
         
         while (!combatComplete && ticksRun < maxTicks) {
             // Run one tick of the game
-            gameInstance.runSingleTick();
+            harness.tick();
             ticksRun++;
             
             // Check if combat is complete (one character incapacitated)
-            List<Unit> units = gameInstance.getUnits();
+            List<Unit> units = harness.getUnits();
             Character gunfighterAlpha = null;
             Character gunfighterBeta = null;
             
@@ -321,7 +272,7 @@ public class HeadlessGunfightTest {
         }
         
         // Pause the game
-        gameInstance.setPaused(true);
+        harness.pause();
         
         long endTime = System.currentTimeMillis();
         long realTimeMs = endTime - startTime;
@@ -340,7 +291,7 @@ public class HeadlessGunfightTest {
     private void validateCombatResults() {
         System.out.println("Validating combat results...");
         
-        List<Unit> units = gameInstance.getUnits();
+        List<Unit> units = harness.getUnits();
         
         // Find GunfighterAlpha and GunfighterBeta by their character IDs
         Character gunfighterAlpha = null;
@@ -404,70 +355,19 @@ public class HeadlessGunfightTest {
     }
     
     /**
-     * Display character stats using DisplayCoordinator, exactly like GunfightTestAutomated
+     * Display both gunfighters' stats, like GunfightTestAutomated
      */
     private void displayCharacterStats() {
-        List<Unit> units = gameInstance.getUnits();
-        
-        // Find GunfighterAlpha and GunfighterBeta by their character IDs
-        Unit gunfighterAlphaUnit = null;
-        Unit gunfighterBetaUnit = null;
-        
-        for (Unit unit : units) {
-            Character character = unit.character;
-            if (character.id == -1002) {
-                gunfighterAlphaUnit = unit;
-            } else if (character.id == -2002) {
-                gunfighterBetaUnit = unit;
-            }
-        }
-        
-        if (gunfighterAlphaUnit == null || gunfighterBetaUnit == null) {
-            System.out.println("Could not find GunfighterAlpha and GunfighterBeta for stats display");
-            return;
-        }
-        
-        Unit gunfighter1 = gunfighterAlphaUnit;
-        Unit gunfighter2 = gunfighterBetaUnit;
-        
-        // Create DisplayCoordinator instance directly since OpenFields2 implements InputManagerCallbacks
-        try {
-            // Cast gameInstance to InputManagerCallbacks since OpenFields2 implements it
-            input.interfaces.InputManagerCallbacks callbacks = (input.interfaces.InputManagerCallbacks) gameInstance;
-            
-            // Create DisplayCoordinator with the required dependencies
-            Object displayCoordinatorObj = createDisplayCoordinator(gameInstance.getSelectionManager(), gameInstance.getGameClock(), callbacks);
-            
-            if (displayCoordinatorObj != null) {
-                // Display stats for Gunfighter1 using actual DisplayCoordinator
-                System.out.println("=== " + gunfighter1.character.getName() + " Stats (via DisplayCoordinator) ===");
-                callDisplayCharacterStats(displayCoordinatorObj, gunfighter1);
-                
-                System.out.println();  // Blank line between characters
-                
-                // Display stats for Gunfighter2 using actual DisplayCoordinator
-                System.out.println("=== " + gunfighter2.character.getName() + " Stats (via DisplayCoordinator) ===");
-                callDisplayCharacterStats(displayCoordinatorObj, gunfighter2);
-                return; // Success - exit method
+        for (Unit unit : harness.getUnits()) {
+            if (unit.character.id == -1002 || unit.character.id == -2002) {
+                displayBasicStats(unit, unit.character.getName());
+                System.out.println();
             }
-            
-            // Fallback if DisplayCoordinator creation failed
-            System.out.println("DisplayCoordinator creation failed - using fallback stats display");
-            displayBasicStats(gunfighter1, gunfighter1.character.getName());
-            System.out.println();
-            displayBasicStats(gunfighter2, gunfighter2.character.getName());
-            
-        } catch (Exception e) {
-            System.err.println("Error creating DisplayCoordinator: " + e.getMessage());
-            // Fallback to basic stats display
-            displayBasicStats(gunfighter1, gunfighter1.character.getName());
-            System.out.println();
-            displayBasicStats(gunfighter2, gunfighter2.character.getName());
         }
     }
     
     /**
-     * Simple fallback stats display if DisplayCoordinator is not available
+     * Simple stats display
      */
     private void displayBasicStats(Unit unit, String characterName) {
         Character character = unit.character;
@@ -477,54 +377,12 @@ public class HeadlessGunfightTest {
         System.out.println("Incapacitated: " + (character.isIncapacitated() ? "YES" : "NO"));
         
         // Calculate wounds inflicted manually since getTotalWoundsInflicted() might not exist
-        int totalWoundsInflicted = character.woundsInflictedScratch + character.woundsInflictedLight + 
-                                 character.woundsInflictedSerious + character.woundsInflictedCritical;
+        int totalWoundsInflicted = character.career().woundsInflictedScratch + character.career().woundsInflictedLight + 
+                                 character.career().woundsInflictedSerious + character.career().woundsInflictedCritical;
         
         System.out.println("Combat Stats:");
         System.out.println("  Attacks: " + character.getAttacksAttempted() + " attempted, " + character.getAttacksSuccessful() + " successful");
         System.out.println("  Wounds Inflicted: " + totalWoundsInflicted);
         System.out.println("=== End " + characterName + " Stats ===");
     }
-    
-    /**
-     * Helper method to create DisplayCoordinator instance using reflection
-     */
-    private Object createDisplayCoordinator(SelectionManager selectionManager, GameClock gameClock, input.interfaces.InputManagerCallbacks callbacks) {
-        try {
-            Class<?> displayCoordinatorClass = Class.forName("DisplayCoordinator");
-            java.lang.reflect.Constructor<?> constructor = displayCoordinatorClass.getConstructor(
-                SelectionManager.class, GameClock.class, input.interfaces.InputManagerCallbacks.class);
-            return constructor.newInstance(selectionManager, gameClock, callbacks);
-        } catch (Exception e) {
-            System.err.println("Failed to create DisplayCoordinator: " + e.getMessage());
-            return null;
-        }
-    }
-    
-    /**
-     * Helper method to call displayCharacterStats using reflection
-     */
-    private void callDisplayCharacterStats(Object displayCoordinator, Unit unit) {
-        try {
-            Class<?> displayCoordinatorClass = displayCoordinator.getClass();
-            java.lang.reflect.Method method = displayCoordinatorClass.getMethod("displayCharacterStats", Unit.class);
-            method.invoke(displayCoordinator, unit);
-        } catch (Exception e) {
-            System.err.println("Failed to call displayCharacterStats: " + e.getMessage());
-            displayBasicStats(unit, unit.character.getName());
-        }
-    }
-    
-    /**
-     * Helper method to access private fields using reflection
-     */
-    private Object getPrivateField(Object obj, String fieldName) {
-        try {
-            java.lang.reflect.Field field = obj.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(obj);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
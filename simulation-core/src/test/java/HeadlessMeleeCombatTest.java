@@ -0,0 +1,148 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.openfields.testutils.TestCharacterFactory;
+import com.openfields.testutils.VirtualTimeHarness;
+import combat.Character;
+import combat.Wound;
+import combat.WoundSeverity;
+import game.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless, virtual-time version of the MeleeCombatTestAutomated scenario.
+ *
+ * Runs the test_d.json melee scenario (SoldierAlpha vs SoldierBeta, bowie knives,
+ * 40 feet apart) through VirtualTimeHarness. Attack timing and frequency are
+ * checked from per-tick attack counters instead of by parsing captured console
+ * output, and no settle/pause sleeps are needed because the simulation only
+ * advances when the harness ticks it.
+ *
+ * SEED MANAGEMENT:
+ * mvn test -Dtest=HeadlessMeleeCombatTest                     # Random seed testing
+ * mvn test -Dtest=HeadlessMeleeCombatTest -Dtest.seed=54321   # Seed reproduction
+ */
+public class HeadlessMeleeCombatTest {
+
+    private static final char MELEE_COMBAT_SLOT = 'd';
+    private static final int MAX_COMBAT_TICKS = 60 * VirtualTimeHarness.TICKS_PER_SECOND;
+    private static final int MIN_TICKS_BETWEEN_ATTACKS = 10;
+    private static final int TICKS_PER_ALLOWED_ATTACK = 30;
+
+    private VirtualTimeHarness harness;
+
+    @BeforeEach
+    public void setUp() {
+        harness = VirtualTimeHarness.create(VirtualTimeHarness.generateOrExtractSeed());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (harness != null) {
+            harness.shutdown();
+        }
+    }
+
+    @Test
+    public void testMeleeCombatHeadless() {
+        harness.loadTestSlot(MELEE_COMBAT_SLOT);
+
+        Unit alphaUnit = harness.findUnit(TestCharacterFactory.SOLDIER_ALPHA_ID);
+        Unit betaUnit = harness.findUnit(TestCharacterFactory.SOLDIER_BETA_ID);
+        assertNotNull(alphaUnit, "Should find SoldierAlpha after save load");
+        assertNotNull(betaUnit, "Should find SoldierBeta after save load");
+
+        Character soldierAlpha = alphaUnit.character;
+        Character soldierBeta = betaUnit.character;
+        assertEquals(280.0, Math.abs(betaUnit.x - alphaUnit.x), 1.0, "Characters should be 280 pixels (40 feet) apart");
+        assertTrue(soldierAlpha.usesAutomaticTargeting, "SoldierAlpha should have auto-targeting enabled");
+        assertTrue(soldierBeta.usesAutomaticTargeting, "SoldierBeta should have auto-targeting enabled");
+        assertTrue(soldierAlpha.isMeleeCombatMode, "SoldierAlpha should have melee combat mode enabled");
+        assertTrue(soldierBeta.isMeleeCombatMode, "SoldierBeta should have melee combat mode enabled");
+
+        alphaUnit.combatTarget = betaUnit;
+        betaUnit.combatTarget = alphaUnit;
+
+        List<Long> alphaAttackTicks = new ArrayList<>();
+        List<Long> betaAttackTicks = new ArrayList<>();
+        int[] lastAttacks = {soldierAlpha.getAttacksAttempted(), soldierBeta.getAttacksAttempted()};
+
+        harness.unpause();
+        boolean combatComplete = harness.runUntil(() -> {
+            lastAttacks[0] = recordAttacks(soldierAlpha, lastAttacks[0], alphaAttackTicks);
+            lastAttacks[1] = recordAttacks(soldierBeta, lastAttacks[1], betaAttackTicks);
+            return soldierAlpha.isIncapacitated() || soldierBeta.isIncapacitated();
+        }, MAX_COMBAT_TICKS);
+        harness.pause();
+
+        harness.printSummary("HeadlessMeleeCombatTest");
+
+        assertTrue(combatComplete, "Combat should complete within " + MAX_COMBAT_TICKS + " ticks. Alpha health: "
+            + soldierAlpha.currentHealth + ", Beta health: " + soldierBeta.currentHealth);
+
+        int totalAttacks = soldierAlpha.getAttacksAttempted() + soldierBeta.getAttacksAttempted();
+        assertTrue(totalAttacks >= 1, "At least one attack should have been performed");
+
+        List<String> problems = new ArrayList<>();
+        validateWounds(soldierAlpha, "SoldierAlpha", problems);
+        validateWounds(soldierBeta, "SoldierBeta", problems);
+        validateHealth(soldierAlpha, "SoldierAlpha", problems);
+        validateHealth(soldierBeta, "SoldierBeta", problems);
+        validateAttackTiming(alphaAttackTicks, "SoldierAlpha", problems);
+        validateAttackTiming(betaAttackTicks, "SoldierBeta", problems);
+
+        assertTrue(problems.isEmpty(), "Combat system validation failed: " + problems);
+        System.out.println("Winner: " + (soldierAlpha.isIncapacitated() ? "SoldierBeta" : "SoldierAlpha"));
+    }
+
+    private int recordAttacks(Character character, int lastAttacks, List<Long> attackTicks) {
+        int attacks = character.getAttacksAttempted();
+        for (int i = lastAttacks; i < attacks; i++) {
+            attackTicks.add(harness.getCurrentTick());
+        }
+        return attacks;
+    }
+
+    private void validateWounds(Character character, String name, List<String> problems) {
+        int criticalWounds = 0;
+        boolean foundCritical = false;
+        for (Wound wound : character.getWounds()) {
+            if (wound.getSeverity() == WoundSeverity.CRITICAL) {
+                criticalWounds++;
+                foundCritical = true;
+            } else if (foundCritical) {
+                problems.add(name + " has a " + wound.getSeverity() + " wound after a critical wound");
+            }
+        }
+        if (criticalWounds > 1) {
+            problems.add(name + " has " + criticalWounds + " critical wounds - should have at most 1");
+        }
+    }
+
+    private void validateHealth(Character character, String name, List<String> problems) {
+        if (character.currentHealth < -59) {
+            problems.add(name + " has health " + character.currentHealth + " which is below the minimum threshold of -59");
+        }
+    }
+
+    private void validateAttackTiming(List<Long> attackTicks, String name, List<String> problems) {
+        for (int i = 1; i < attackTicks.size(); i++) {
+            long gap = attackTicks.get(i) - attackTicks.get(i - 1);
+            if (gap <= MIN_TICKS_BETWEEN_ATTACKS) {
+                problems.add(name + " made 2 attacks within " + gap + " ticks (at tick "
+                    + attackTicks.get(i - 1) + " and tick " + attackTicks.get(i) + ")");
+            }
+        }
+
+        long ticks = Math.max(harness.getTicksRun(), 1);
+        long maxAttacks = (ticks + TICKS_PER_ALLOWED_ATTACK - 1) / TICKS_PER_ALLOWED_ATTACK;
+        if (attackTicks.size() > maxAttacks) {
+            problems.add(name + " made " + attackTicks.size() + " attacks in " + ticks
+                + " ticks (expected maximum: " + maxAttacks + ")");
+        }
+    }
+}
\ No newline at end of file
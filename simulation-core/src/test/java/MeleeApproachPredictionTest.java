@@ -0,0 +1,101 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.openfields.testutils.TestCharacterFactory;
+import com.openfields.testutils.VirtualTimeHarness;
+import combat.MeleeCombatManager;
+import core.InputCommand;
+import game.Unit;
+
+/**
+ * Verifies that predicting the next melee range check does not change the
+ * fight: a seeded approach lands its first strike on the same tick, at the
+ * same place, as the same approach checked every tick, including when the
+ * target changes its movement target mid-approach.
+ */
+public class MeleeApproachPredictionTest {
+
+    private static final long SEED = 20240611L;
+    private static final char MELEE_COMBAT_SLOT = 'd';
+    private static final int MAX_APPROACH_TICKS = 60 * VirtualTimeHarness.TICKS_PER_SECOND;
+    private static final long TARGET_MOVE_TICK = 90;
+
+    @AfterEach
+    public void tearDown() {
+        MeleeCombatManager.setApproachPredictionEnabled(true);
+    }
+
+    @Test
+    public void mutualApproachStrikesOnTheSameTick() {
+        Strike predicted = runApproach(true, false);
+        Strike everyTick = runApproach(false, false);
+        assertSameStrike(everyTick, predicted);
+    }
+
+    @Test
+    public void targetChangingCourseMidApproachStrikesOnTheSameTick() {
+        Strike predicted = runApproach(true, true);
+        Strike everyTick = runApproach(false, true);
+        assertSameStrike(everyTick, predicted);
+    }
+
+    private void assertSameStrike(Strike expected, Strike actual) {
+        assertTrue(expected.tick >= 0, "Approach checked every tick should strike within " + MAX_APPROACH_TICKS + " ticks");
+        assertEquals(expected.tick, actual.tick, "Predicted approach should strike on the same tick");
+        assertEquals(expected.attackerX, actual.attackerX, "Attacker should strike from the same x");
+        assertEquals(expected.attackerY, actual.attackerY, "Attacker should strike from the same y");
+        assertEquals(expected.targetX, actual.targetX, "Target should be struck at the same x");
+        assertEquals(expected.targetY, actual.targetY, "Target should be struck at the same y");
+    }
+
+    /**
+     * Runs SoldierAlpha's approach on SoldierBeta until Alpha's first strike.
+     *
+     * @param prediction whether range checks wait for the predicted tick
+     * @param targetMoves if true Beta holds still, then walks off across Alpha's
+     *                    path at TARGET_MOVE_TICK; otherwise both close in
+     */
+    private Strike runApproach(boolean prediction, boolean targetMoves) {
+        MeleeCombatManager.setApproachPredictionEnabled(prediction);
+        VirtualTimeHarness harness = VirtualTimeHarness.create(SEED);
+        try {
+            harness.loadTestSlot(MELEE_COMBAT_SLOT);
+            Unit alpha = harness.findUnit(TestCharacterFactory.SOLDIER_ALPHA_ID);
+            Unit beta = harness.findUnit(TestCharacterFactory.SOLDIER_BETA_ID);
+            assertNotNull(alpha, "Should find SoldierAlpha after save load");
+            assertNotNull(beta, "Should find SoldierBeta after save load");
+            assertTrue(alpha.character.isMeleeCombatMode, "SoldierAlpha should be in melee combat mode");
+            if (targetMoves) {
+                beta.character.usesAutomaticTargeting = false;
+            }
+
+            harness.unpause();
+            Strike strike = new Strike();
+            int attacksBefore = alpha.character.getAttacksAttempted();
+            for (int i = 0; i < MAX_APPROACH_TICKS; i++) {
+                if (targetMoves && harness.getCurrentTick() == TARGET_MOVE_TICK) {
+                    harness.getEngine().applyCommand(new InputCommand(InputCommand.Type.MOVE_UNIT, beta.id, beta.x, beta.y + 140));
+                }
+                harness.tick();
+                if (alpha.character.getAttacksAttempted() > attacksBefore) {
+                    strike.tick = harness.getCurrentTick();
+                    strike.attackerX = alpha.x;
+                    strike.attackerY = alpha.y;
+                    strike.targetX = beta.x;
+                    strike.targetY = beta.y;
+                    break;
+                }
+            }
+            return strike;
+        } finally {
+            harness.shutdown();
+        }
+    }
+
+    private static class Strike {
+        long tick = -1;
+        double attackerX, attackerY;
+        double targetX, targetY;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import combat.Handedness;
+import combat.MovementType;
+import game.MovementKernel;
+import game.Unit;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the batched movement kernel moves units exactly as the per-unit
+ * Unit.update() movement does, on both its vector and scalar paths.
+ */
+public class MovementKernelTest {
+
+    private static final int UNIT_COUNT = 37; // Not a multiple of any vector width, so the scalar tail runs too
+    private static final int TICKS = 400;
+
+    @AfterEach
+    public void tearDown() {
+        MovementKernel.setEnabled(false);
+        MovementKernel.getInstance().setVectorizationEnabled(true);
+    }
+
+    @Test
+    public void scalarKernelMatchesPerUnitMovement() {
+        double[][] expected = simulate(false, false);
+        double[][] actual = simulate(true, false);
+        assertIdentical(expected, actual);
+    }
+
+    @Test
+    public void vectorKernelMatchesPerUnitMovement() {
+        System.out.println("Vector module available: " + MovementKernel.isVectorAvailable());
+        double[][] expected = simulate(false, false);
+        double[][] actual = simulate(true, true);
+        assertIdentical(expected, actual);
+    }
+
+    /**
+     * Runs a formation of units toward random targets, retargeting some of them
+     * along the way, and returns every unit's x, y and hasTarget after every tick.
+     */
+    private double[][] simulate(boolean kernel, boolean vectorized) {
+        MovementKernel.setEnabled(kernel);
+        MovementKernel.getInstance().setVectorizationEnabled(vectorized);
+
+        Random random = new Random(12345);
+        MovementType[] movementTypes = MovementType.values();
+        List<Unit> units = new ArrayList<>();
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            combat.Character character = new combat.Character("Mover" + i, 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+            character.setCurrentMovementType(movementTypes[i % movementTypes.length]);
+            Unit unit = new Unit(character, random.nextDouble() * 800, random.nextDouble() * 600, Color.BLUE, i + 1);
+            unit.setTarget(random.nextDouble() * 800, random.nextDouble() * 600);
+            units.add(unit);
+        }
+
+        double[][] trace = new double[TICKS][UNIT_COUNT * 3];
+        for (int tick = 1; tick <= TICKS; tick++) {
+            if (tick % 50 == 0) {
+                Unit unit = units.get(random.nextInt(UNIT_COUNT));
+                unit.setTarget(random.nextDouble() * 800, random.nextDouble() * 600);
+            }
+            for (Unit unit : units) {
+                unit.update(tick);
+            }
+            MovementKernel.getInstance().integratePending(units);
+
+            for (int i = 0; i < UNIT_COUNT; i++) {
+                Unit unit = units.get(i);
+                trace[tick - 1][i * 3] = unit.x;
+                trace[tick - 1][i * 3 + 1] = unit.y;
+                trace[tick - 1][i * 3 + 2] = unit.hasTarget ? 1 : 0;
+            }
+        }
+        return trace;
+    }
+
+    private void assertIdentical(double[][] expected, double[][] actual) {
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int j = 0; j < expected[tick].length; j++) {
+                assertEquals(Double.doubleToRawLongBits(expected[tick][j]), Double.doubleToRawLongBits(actual[tick][j]),
+                    "Mismatch at tick " + (tick + 1) + ", unit " + (j / 3) + ", field " + (j % 3));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+import org.junit.jupiter.api.Test;
+import platform.api.Color;
+import platform.api.RenderCommandBuffer;
+import platform.api.Renderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that a recorded frame replays every opcode in recording order with
+ * the operands it was recorded with, and that a reset buffer can be reused.
+ */
+public class RenderCommandBufferTest {
+
+    @Test
+    public void replaysEveryOpcodeInOrderWithItsOperands() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        record(buffer);
+
+        assertEquals(12, buffer.size());
+        byte[] expectedOpcodes = {
+            RenderCommandBuffer.CLEAR, RenderCommandBuffer.SET_TRANSFORM, RenderCommandBuffer.PUSH_TRANSFORM,
+            RenderCommandBuffer.DRAW_UNIT, RenderCommandBuffer.DRAW_HEALTH_BAR, RenderCommandBuffer.DRAW_TEXT,
+            RenderCommandBuffer.DRAW_LINE, RenderCommandBuffer.FILL_RECT, RenderCommandBuffer.DRAW_RECT,
+            RenderCommandBuffer.FILL_CIRCLE, RenderCommandBuffer.DRAW_CIRCLE, RenderCommandBuffer.POP_TRANSFORM
+        };
+        for (int i = 0; i < expectedOpcodes.length; i++) {
+            assertEquals(expectedOpcodes[i], buffer.getOpcode(i), "Opcode " + i);
+        }
+
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.replay(buffer);
+        assertEquals(expectedCalls(), renderer.calls);
+
+        // Replaying again walks the same operands from the start
+        renderer.calls.clear();
+        renderer.replay(buffer);
+        assertEquals(expectedCalls(), renderer.calls);
+    }
+
+    @Test
+    public void cursorReadsUnitIdAndFlags() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        record(buffer);
+
+        // The unit's id and flags are not passed to Renderer.drawUnit, so read them as a backend would
+        RenderCommandBuffer.Cursor c = buffer.cursor();
+        assertSame(Color.DARK_GRAY, c.color());
+        assertEquals(10, c.d());
+        assertEquals(20, c.d());
+        assertEquals(1.5, c.d());
+        assertEquals(100, c.d());
+        assertEquals(200, c.d());
+        assertEquals(7, c.d());
+        assertEquals(42, c.i());
+        assertEquals(RenderCommandBuffer.UNIT_SELECTED | RenderCommandBuffer.UNIT_INCAPACITATED, c.i());
+        assertSame(Color.RED, c.color());
+        assertEquals("Alpha", c.text());
+    }
+
+    @Test
+    public void resetBufferIsReusedAndGrows() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        record(buffer);
+        buffer.reset();
+        assertTrue(buffer.isEmpty());
+
+        // More commands than the initial capacity, with operands of every kind
+        for (int i = 0; i < 1000; i++) {
+            buffer.drawUnit(i, i, i + 0.5, 7, Color.BLUE, "U" + i, RenderCommandBuffer.UNIT_SELECTED);
+        }
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.replay(buffer);
+        assertEquals(1000, renderer.calls.size());
+        assertEquals("drawUnit 0.0 0.5 BLUE U0 7.0", renderer.calls.get(0));
+        assertEquals("drawUnit 999.0 999.5 BLUE U999 7.0", renderer.calls.get(999));
+    }
+
+    private void record(RenderCommandBuffer buffer) {
+        buffer.clear(Color.DARK_GRAY);
+        buffer.setTransform(10, 20, 1.5);
+        buffer.pushTransform();
+        buffer.drawUnit(42, 100, 200, 7, Color.RED, "Alpha", RenderCommandBuffer.UNIT_SELECTED | RenderCommandBuffer.UNIT_INCAPACITATED);
+        buffer.drawHealthBar(90, 185, 20, 3, 0.75, Color.BLACK, Color.GREEN, Color.GRAY);
+        buffer.drawText("Ready", 95, 215, Color.WHITE);
+        buffer.drawLine(100, 200, 300, 250, Color.YELLOW, 2);
+        buffer.fillRect(0, 0, 50, 40, Color.BLUE);
+        buffer.drawRect(5, 6, 70, 80, Color.CYAN, 3);
+        buffer.fillCircle(300, 250, 4, Color.ORANGE);
+        buffer.drawCircle(300, 250, 35, Color.PURPLE, 1);
+        buffer.popTransform();
+    }
+
+    private List<String> expectedCalls() {
+        return Arrays.asList(
+            "setColor DARK_GRAY",
+            "clear",
+            "setTransform 10.0 20.0 1.5",
+            "pushTransform",
+            "drawUnit 100.0 200.0 RED Alpha 7.0",
+            "drawHealthBar 90.0 185.0 20.0 3.0 0.75 BLACK GREEN GRAY",
+            "drawText Ready 95.0 215.0 WHITE",
+            "drawLine 100.0 200.0 300.0 250.0 YELLOW 2.0",
+            "fillRect 0.0 0.0 50.0 40.0 BLUE",
+            "drawRect 5.0 6.0 70.0 80.0 CYAN 3.0",
+            "fillCircle 300.0 250.0 4.0 ORANGE",
+            "drawCircle 300.0 250.0 35.0 PURPLE 1.0",
+            "popTransform");
+    }
+
+    private static String name(Color color) {
+        for (int i = 0; i < KNOWN_COLORS.length; i++) {
+            if (KNOWN_COLORS[i] == color) {
+                return KNOWN_NAMES[i];
+            }
+        }
+        return String.valueOf(color);
+    }
+
+    private static final Color[] KNOWN_COLORS = { Color.BLACK, Color.WHITE, Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW,
+                                                  Color.CYAN, Color.ORANGE, Color.PURPLE, Color.GRAY, Color.DARK_GRAY };
+    private static final String[] KNOWN_NAMES = { "BLACK", "WHITE", "RED", "GREEN", "BLUE", "YELLOW",
+                                                  "CYAN", "ORANGE", "PURPLE", "GRAY", "DARK_GRAY" };
+
+    /**
+     * Renderer that writes each primitive call, with its operands, to a list.
+     */
+    private static class RecordingRenderer implements Renderer {
+        final List<String> calls = new ArrayList<>();
+
+        private void call(Object... parts) {
+            StringBuilder line = new StringBuilder();
+            for (Object part : parts) {
+                if (line.length() > 0) {
+                    line.append(' ');
+                }
+                line.append(part instanceof Color ? name((Color) part) : String.valueOf(part));
+            }
+            calls.add(line.toString());
+        }
+
+        @Override public void clear() { call("clear"); }
+        @Override public void setColor(Color color) { call("setColor", color); }
+        @Override public void drawUnit(double x, double y, Color color, String label, double radius) { call("drawUnit", x, y, color, label, radius); }
+        @Override public void drawLine(double x1, double y1, double x2, double y2, Color color, double width) { call("drawLine", x1, y1, x2, y2, color, width); }
+        @Override public void drawText(String text, double x, double y, Color color) { call("drawText", text, x, y, color); }
+        @Override public void drawHealthBar(double x, double y, double width, double height, double healthPercentage,
+                                            Color borderColor, Color fillColor, Color backgroundColor) {
+            call("drawHealthBar", x, y, width, height, healthPercentage, borderColor, fillColor, backgroundColor);
+        }
+        @Override public void fillRect(double x, double y, double width, double height, Color color) { call("fillRect", x, y, width, height, color); }
+        @Override public void drawRect(double x, double y, double width, double height, Color color, double lineWidth) { call("drawRect", x, y, width, height, color, lineWidth); }
+        @Override public void fillCircle(double centerX, double centerY, double radius, Color color) { call("fillCircle", centerX, centerY, radius, color); }
+        @Override public void drawCircle(double centerX, double centerY, double radius, Color color, double lineWidth) { call("drawCircle", centerX, centerY, radius, color, lineWidth); }
+        @Override public void setTransform(double offsetX, double offsetY, double zoom) { call("setTransform", offsetX, offsetY, zoom); }
+        @Override public void pushTransform() { call("pushTransform"); }
+        @Override public void popTransform() { call("popTransform"); }
+        @Override public double getWidth() { return 800; }
+        @Override public double getHeight() { return 600; }
+        @Override public void present() { }
+        @Override public void beginFrame() { }
+        @Override public void endFrame() { }
+    }
+}
\ No newline at end of file
@@ -135,7 +135,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testReaimingStateTriggeredOnIncapacitation() {
         // Setup: Alice targets Drake and in aiming state
-        alice.currentTarget = drakeUnit;
+        alice.setCurrentTarget(drakeUnit);
         alice.hasProcessedTargetIncapacitation = false;
         alice.currentWeaponState = alice.weapon.getStateByName("aiming");
         
@@ -155,7 +155,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testReaimingStateFromPointedFromHip() {
         // Setup: Alice targets Drake and in pointedfromhip state
-        alice.currentTarget = drakeUnit;
+        alice.setCurrentTarget(drakeUnit);
         alice.hasProcessedTargetIncapacitation = false;
         alice.currentWeaponState = alice.weapon.getStateByName("pointedfromhip");
         
@@ -175,7 +175,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testFirstIncapacitationOnlyTriggersReaiming() {
         // Setup: Alice targets Drake, no reaiming active
-        alice.currentTarget = drakeUnit;
+        alice.setCurrentTarget(drakeUnit);
         alice.hasProcessedTargetIncapacitation = false;
         alice.currentWeaponState = alice.weapon.getStateByName("aiming");
         
@@ -197,7 +197,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testNonIncapacitationTargetChangesDoNotTriggerReaiming() {
         // Setup: Alice not targeting anyone initially
-        alice.currentTarget = null;
+        alice.setCurrentTarget(null);
         alice.hasProcessedTargetIncapacitation = false;
         alice.currentWeaponState = alice.weapon.getStateByName("aiming");
         
@@ -212,7 +212,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testWeaponStateResetOnTargetIncapacitation() {
         // Setup: Alice targeting Drake and in aiming state
-        alice.currentTarget = drakeUnit;
+        alice.setCurrentTarget(drakeUnit);
         alice.hasProcessedTargetIncapacitation = false;
         
         // Set Alice to be in aiming state (advanced weapon state)
@@ -240,7 +240,7 @@ public class TargetSwitchDelayTest {
     @Test
     public void testWeaponStateResetFromPointedFromHip() {
         // Setup: Alice targeting Drake and in pointedfromhip state
-        alice.currentTarget = drakeUnit;
+        alice.setCurrentTarget(drakeUnit);
         alice.hasProcessedTargetIncapacitation = false;
         
         // Set Alice to be in pointedfromhip state
@@ -294,6 +294,8 @@ public class TargetSwitchDelayTest {
         @Override public void playWeaponSound(combat.Weapon weapon) {}
         @Override public void scheduleProjectileImpact(Unit shooter, Unit target, combat.Weapon weapon, long fireTick, double distanceFeet) {}
         @Override public void scheduleMeleeImpact(Unit attacker, Unit target, combat.MeleeWeapon weapon, long attackTick) {}
+        @Override public void resolveProjectileImpact(Unit shooter, Unit target, combat.Weapon weapon, long impactTick, combat.HitResult hitResult) {}
+        @Override public void resolveMeleeImpact(Unit attacker, Unit target, combat.MeleeWeapon weapon, long attackTick) {}
         @Override public void applyFiringHighlight(Unit shooter, long fireTick) {}
         @Override public void addMuzzleFlash(Unit shooter, long fireTick) {}
         @Override public void removeAllEventsForOwner(int ownerId) {}
@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import combat.BodyPart;
+import combat.Handedness;
+import combat.Wound;
+import combat.WoundSeverity;
+import combat.managers.TargetingScheduler;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies when idle auto-targeting characters search for a target: on a
+ * period set by their reflexes, staggered by phase, at once after being hit,
+ * and before a hostile could close to weapon range at the units' own speeds.
+ */
+public class TargetingSchedulerTest {
+
+    private final TargetingScheduler scheduler = TargetingScheduler.getInstance();
+
+    @BeforeEach
+    public void setUp() {
+        scheduler.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.reset();
+    }
+
+    @Test
+    public void periodShortensWithReflexes() {
+        int min = scheduler.getMinPeriodTicks();
+        int max = scheduler.getMaxPeriodTicks();
+        assertEquals(max, scheduler.getPeriodTicks(character(1, 1)), "Worst reflexes should use the longest period");
+        assertEquals(min, scheduler.getPeriodTicks(character(2, 100)), "Best reflexes should use the shortest period");
+        assertEquals((min + max + 1) / 2, scheduler.getPeriodTicks(character(3, 50)));
+
+        int previous = Integer.MAX_VALUE;
+        for (int reflexes = 1; reflexes <= 100; reflexes++) {
+            int period = scheduler.getPeriodTicks(character(4, reflexes));
+            assertTrue(period <= previous, "Period should not grow with reflexes, grew at " + reflexes);
+            previous = period;
+        }
+    }
+
+    @Test
+    public void nextEvaluationFollowsPeriodAndPhase() {
+        combat.Character character = character(5, 50);
+        int period = scheduler.getPeriodTicks(character);
+        int phase = scheduler.getPhaseTicks(character);
+
+        scheduler.recordEvaluation(character, 100, Long.MAX_VALUE);
+        long due = 101;
+        while (!scheduler.isEvaluationDue(character, due)) {
+            due++;
+        }
+        assertTrue(due - 100 <= period, "Should search again within one period");
+        assertEquals(0, Math.floorMod(due + phase, period), "Should search again on its phase");
+
+        scheduler.recordEvaluation(character, due, Long.MAX_VALUE);
+        assertFalse(scheduler.isEvaluationDue(character, due + period - 1));
+        assertTrue(scheduler.isEvaluationDue(character, due + period));
+    }
+
+    @Test
+    public void equalReflexesAreStaggeredAcrossTicks() {
+        int period = scheduler.getPeriodTicks(character(0, 50));
+        Set<Long> dueTicks = new HashSet<>();
+        for (int id = 1; id <= period; id++) {
+            combat.Character character = character(id, 50);
+            scheduler.recordEvaluation(character, 100, Long.MAX_VALUE);
+            long due = 101;
+            while (!scheduler.isEvaluationDue(character, due)) {
+                due++;
+            }
+            dueTicks.add(due);
+        }
+        assertEquals(period, dueTicks.size(), "Each of " + period + " characters should search on its own tick");
+    }
+
+    @Test
+    public void hitCharacterRetargetsImmediately() {
+        combat.Character character = character(6, 50);
+        scheduler.recordEvaluation(character, 100, Long.MAX_VALUE);
+        assertFalse(scheduler.isEvaluationDue(character, 101));
+
+        character.addWound(new Wound(BodyPart.LEFT_ARM, WoundSeverity.LIGHT, "Bullet", "", 1));
+        assertTrue(scheduler.isEvaluationDue(character, 101), "A hit should make the character search at once");
+
+        scheduler.recordEvaluation(character, 101, Long.MAX_VALUE);
+        int period = scheduler.getPeriodTicks(character);
+        long nextOnPhase = 102;
+        while (Math.floorMod(nextOnPhase + scheduler.getPhaseTicks(character), period) != 0) {
+            nextOnPhase++;
+        }
+        assertFalse(scheduler.isEvaluationDue(character, nextOnPhase - 1), "The retarget request should be used up by the search");
+        assertTrue(scheduler.isEvaluationDue(character, nextOnPhase));
+    }
+
+    @Test
+    public void approachBoundUsesTheUnitsOwnSpeeds() {
+        combat.Character runner = character(7, 50);
+        combat.Character other = character(8, 50);
+        double closing = TargetingScheduler.getTopSpeedPixelsPerTick(runner) + TargetingScheduler.getTopSpeedPixelsPerTick(other);
+        assertEquals((long) (700 / closing), TargetingScheduler.ticksToClose(700, runner, other));
+
+        combat.Character slow = character(9, 50);
+        slow.baseMovementSpeed = runner.baseMovementSpeed / 2;
+        assertTrue(TargetingScheduler.ticksToClose(700, runner, slow) > TargetingScheduler.ticksToClose(700, runner, other),
+                   "A slower hostile should take longer to close");
+
+        combat.Character still = character(10, 50);
+        still.baseMovementSpeed = 0;
+        combat.Character stillToo = character(11, 50);
+        stillToo.baseMovementSpeed = 0;
+        assertEquals(Long.MAX_VALUE, TargetingScheduler.ticksToClose(700, still, stillToo));
+        assertEquals(1, TargetingScheduler.ticksToClose(0.5, runner, other));
+
+        // An approaching hostile brings the next search forward
+        scheduler.recordEvaluation(runner, 100, 2);
+        assertFalse(scheduler.isEvaluationDue(runner, 101));
+        assertTrue(scheduler.isEvaluationDue(runner, 102));
+    }
+
+    private combat.Character character(int id, int reflexes) {
+        combat.Character character = new combat.Character("Scout" + id, 50, 50, 50, 50, reflexes, Handedness.RIGHT_HANDED);
+        character.id = id;
+        return character;
+    }
+}
\ No newline at end of file
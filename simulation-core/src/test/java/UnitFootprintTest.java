@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import combat.Character;
+import combat.Handedness;
+import data.WeaponFactory;
+import game.Unit;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keeps the heap cost of an armed unit within budget, so that large battles
+ * (tens of thousands of units) stay well inside a desktop heap.
+ */
+public class UnitFootprintTest {
+
+    // An armed unit measures about 970 bytes with compressed oops
+    private static final long BYTES_PER_UNIT_BUDGET = 1100;
+    private static final int LARGE_BATTLE_UNITS = 50_000;
+    private static final long LARGE_BATTLE_HEAP_BUDGET = 256L * 1024 * 1024;
+
+    @Test
+    public void armedUnitStaysWithinBudget() {
+        // Measure the growth from N to 2N units, so data shared by every unit is not counted
+        int count = 1000;
+        long smaller = GraphLayout.parseInstance(createUnits(count, 0)).totalSize();
+        long larger = GraphLayout.parseInstance(createUnits(2 * count, 10_000)).totalSize();
+        long bytesPerUnit = (larger - smaller) / count;
+
+        System.out.println("Marginal footprint: " + bytesPerUnit + " bytes per unit");
+        assertTrue(bytesPerUnit <= BYTES_PER_UNIT_BUDGET,
+                   "Unit footprint " + bytesPerUnit + " bytes exceeds budget of " + BYTES_PER_UNIT_BUDGET);
+        assertTrue(bytesPerUnit * LARGE_BATTLE_UNITS <= LARGE_BATTLE_HEAP_BUDGET,
+                   LARGE_BATTLE_UNITS + " units would need " + bytesPerUnit * LARGE_BATTLE_UNITS + " bytes");
+    }
+
+    @Test
+    public void weaponsOfTheSameKindShareTheirStates() {
+        List<Unit> units = createUnits(2, 0);
+        assertSame(units.get(0).character.weapon.states, units.get(1).character.weapon.states);
+        assertThrows(UnsupportedOperationException.class,
+                     () -> units.get(0).character.weapon.states.clear());
+    }
+
+    private List<Unit> createUnits(int count, int firstId) {
+        List<Unit> units = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int id = firstId + i;
+            Character character = new Character(id, "Unit" + id, "First" + id, "Last" + id, new Date(), "test_theme",
+                                                50, 50, 50, 50, 50, Handedness.RIGHT_HANDED,
+                                                WeaponFactory.createWeapon("wpn_colt_peacemaker"));
+            units.add(new Unit(character, i * 10.0, 0, Color.BLUE, id));
+        }
+        return units;
+    }
+}
\ No newline at end of file
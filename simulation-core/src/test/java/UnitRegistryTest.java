@@ -0,0 +1,110 @@
+import org.junit.jupiter.api.Test;
+import combat.Handedness;
+import combat.managers.TargetManager;
+import game.Unit;
+import game.UnitRegistry;
+import platform.api.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that unit handles resolve while their unit is on the field and go
+ * stale once it leaves, even when its slot is reused, and that each game's
+ * registry is independent of the others.
+ */
+public class UnitRegistryTest {
+
+    private final List<Unit> units = new ArrayList<>();
+
+    @Test
+    public void handlesGoStaleWhenTheirUnitLeaves() {
+        UnitRegistry registry = new UnitRegistry();
+        Unit first = addUnit(9001);
+        Unit second = addUnit(9002);
+        registry.sync(units);
+
+        long firstHandle = registry.handleOf(first);
+        assertNotEquals(UnitRegistry.NO_HANDLE, firstHandle);
+        assertSame(first, registry.resolve(firstHandle));
+        assertSame(second, registry.getById(9002));
+
+        // The next unit to join may take the freed slot, but the old handle must not resolve to it
+        units.remove(first);
+        Unit replacement = addUnit(9003);
+        registry.sync(units);
+        assertNull(registry.resolve(firstHandle), "Handle to a removed unit should be stale");
+        assertNull(registry.getById(9001));
+        assertSame(replacement, registry.resolve(registry.handleOf(replacement)));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void targetsOfRemovedUnitsReadBackAsNull() {
+        UnitRegistry registry = new UnitRegistry();
+        Unit shooter = addUnit(9101);
+        Unit target = addUnit(9102);
+        registry.sync(units);
+
+        TargetManager targets = TargetManager.getInstance();
+        targets.setCurrentTarget(shooter.character.id, target);
+        assertSame(target, targets.getCurrentTarget(shooter.character.id));
+
+        units.remove(target);
+        registry.sync(units);
+        assertNull(targets.getCurrentTarget(shooter.character.id), "A target that left the field should not be returned");
+        targets.cleanupCharacter(shooter.character.id);
+    }
+
+    @Test
+    public void characterTargetsFollowTheirOwnGame() {
+        UnitRegistry registry = new UnitRegistry();
+        Unit shooter = addUnit(9201);
+        Unit target = addUnit(9202);
+        registry.sync(units);
+
+        shooter.character.setCurrentTarget(target);
+        shooter.character.setMeleeTarget(target);
+        assertSame(registry, shooter.character.getUnitRegistry());
+
+        // A second game with its own units must not disturb the first game's handles
+        UnitRegistry otherRegistry = new UnitRegistry();
+        List<Unit> otherUnits = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            combat.Character character = new combat.Character("Other" + id, 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+            otherUnits.add(new Unit(character, 0, 0, Color.RED, id));
+        }
+        otherRegistry.sync(otherUnits);
+        otherUnits.remove(0);
+        otherRegistry.sync(otherUnits);
+        assertSame(target, shooter.character.getCurrentTarget());
+        assertSame(target, shooter.character.getMeleeTarget());
+
+        units.remove(target);
+        registry.sync(units);
+        assertNull(shooter.character.getCurrentTarget(), "A target that left the field should not be returned");
+        assertNull(shooter.character.getMeleeTarget());
+    }
+
+    @Test
+    public void targetsSetBeforeRegistrationCarryOver() {
+        Unit shooter = addUnit(9301);
+        Unit target = addUnit(9302);
+        shooter.character.setCurrentTarget(target);
+        assertSame(target, shooter.character.getCurrentTarget());
+
+        UnitRegistry registry = new UnitRegistry();
+        registry.sync(units);
+        assertSame(registry, shooter.character.getUnitRegistry());
+        assertSame(target, shooter.character.getCurrentTarget());
+    }
+
+    private Unit addUnit(int id) {
+        combat.Character character = new combat.Character("Unit" + id, 50, 50, 50, 50, 50, Handedness.RIGHT_HANDED);
+        Unit unit = new Unit(character, 0, 0, Color.BLUE, id);
+        units.add(unit);
+        return unit;
+    }
+}
\ No newline at end of file